@@ -0,0 +1,83 @@
+package com.example.weightogo.benchmark;
+
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.DateTimeConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DateTimeConverter round trips, the conversions every DAO row read and write goes through.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateTimeConverterBenchmark {
+
+    private static final int ROWS = 365;
+
+    private final LocalDate[] dates = new LocalDate[ROWS];
+    private final LocalDateTime[] timestamps = new LocalDateTime[ROWS];
+    private final String[] dateStrings = new String[ROWS];
+    private final String[] timestampStrings = new String[ROWS];
+    private int row;
+
+    @Setup
+    public void setUp() {
+        List<WeightEntry> history = SyntheticHistory.create(ROWS, LocalDate.of(2025, 11, 26), 0.1, 0.2);
+        for (int i = 0; i < ROWS; i++) {
+            dates[i] = history.get(i).getWeightDate();
+            timestamps[i] = history.get(i).getCreatedAt();
+            dateStrings[i] = DateTimeConverter.toDateString(dates[i]);
+            timestampStrings[i] = DateTimeConverter.toTimestamp(timestamps[i]);
+        }
+    }
+
+    private int nextRow() {
+        row = row + 1 == ROWS ? 0 : row + 1;
+        return row;
+    }
+
+    @Benchmark
+    public String toDateString() {
+        return DateTimeConverter.toDateString(dates[nextRow()]);
+    }
+
+    @Benchmark
+    public LocalDate fromDateString() {
+        return DateTimeConverter.fromDateString(dateStrings[nextRow()]);
+    }
+
+    @Benchmark
+    public String toTimestamp() {
+        return DateTimeConverter.toTimestamp(timestamps[nextRow()]);
+    }
+
+    @Benchmark
+    public LocalDateTime fromTimestamp() {
+        return DateTimeConverter.fromTimestamp(timestampStrings[nextRow()]);
+    }
+
+    @Benchmark
+    public boolean isValidTimestamp() {
+        return DateTimeConverter.isValidTimestamp(timestampStrings[nextRow()]);
+    }
+
+    /**
+     * Invalid input takes the exception path.
+     */
+    @Benchmark
+    public boolean isValidTimestamp_invalid() {
+        return DateTimeConverter.isValidTimestamp(dateStrings[nextRow()]);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.weightogo.benchmark;
+
+import com.example.weightogo.utils.DateLabelCache;
+import com.example.weightogo.utils.WeightFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the app's former weight/date formatting (String.format, DateTimeFormatter per call)
+ * with WeightFormatter and DateLabelCache.
+ *
+ * Inputs model a weight history list: one entry per day for the past {@link #ROWS} days, with
+ * weights between 120 and 250. Each invocation formats the next row, so caches see the same
+ * hit pattern as a scrolling list. Run with the gc profiler to compare allocation per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormattingBenchmark {
+
+    private static final int ROWS = 365;
+
+    // Same patterns as DateUtils
+    private static final DateTimeFormatter SHORT_FORMAT = DateTimeFormatter.ofPattern("d MMM");
+    private static final DateTimeFormatter FULL_FORMAT = DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy");
+
+    private final double[] weights = new double[ROWS];
+    private final LocalDate[] dates = new LocalDate[ROWS];
+    private final StringBuilder buffer = new StringBuilder(32);
+    private DateLabelCache shortLabels;
+    private DateLabelCache fullLabels;
+    private int row;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < ROWS; i++) {
+            weights[i] = 120.0 + random.nextInt(1300) / 10.0 + random.nextDouble() / 100.0;
+            dates[i] = today.minusDays(i);
+        }
+        shortLabels = new DateLabelCache(SHORT_FORMAT, 512);
+        fullLabels = new DateLabelCache(FULL_FORMAT, 512);
+    }
+
+    private int nextRow() {
+        row = row + 1 == ROWS ? 0 : row + 1;
+        return row;
+    }
+
+    // ---------------------------------------------------------------- weights
+
+    @Benchmark
+    public String weight_stringFormat() {
+        return String.format("%.1f", weights[nextRow()]);
+    }
+
+    @Benchmark
+    public String weight_formatter() {
+        return WeightFormatter.format(weights[nextRow()]);
+    }
+
+    /**
+     * Appending into a reused buffer: the zero-allocation path.
+     */
+    @Benchmark
+    public int weight_formatterAppend() {
+        buffer.setLength(0);
+        return WeightFormatter.appendWeight(buffer, weights[nextRow()]).length();
+    }
+
+    @Benchmark
+    public String weightWithUnit_stringFormat() {
+        return String.format("%.1f %s", weights[nextRow()], "lbs");
+    }
+
+    @Benchmark
+    public String weightWithUnit_formatter() {
+        return WeightFormatter.formatWithUnit(weights[nextRow()], "lbs");
+    }
+
+    // ---------------------------------------------------------------- dates
+
+    @Benchmark
+    public String dateShort_dateTimeFormatter() {
+        return dates[nextRow()].format(SHORT_FORMAT);
+    }
+
+    @Benchmark
+    public String dateShort_cache() {
+        return shortLabels.format(dates[nextRow()]);
+    }
+
+    @Benchmark
+    public String dateFull_dateTimeFormatter() {
+        return dates[nextRow()].format(FULL_FORMAT);
+    }
+
+    @Benchmark
+    public String dateFull_cache() {
+        return fullLabels.format(dates[nextRow()]);
+    }
+}
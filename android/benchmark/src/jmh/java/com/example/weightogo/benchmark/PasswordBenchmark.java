@@ -0,0 +1,75 @@
+package com.example.weightogo.benchmark;
+
+import com.example.weightogo.utils.PasswordUtils;
+import com.example.weightogo.utils.PasswordUtilsV2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing and verification at login and registration.
+ *
+ * bcrypt (PasswordUtilsV2, cost 12) is deliberately slow, so it runs fewer, longer iterations
+ * and reports milliseconds; the legacy SHA-256 path is kept for comparison and migration cost.
+ * JVM numbers are a lower bound: phones are typically several times slower.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class PasswordBenchmark {
+
+    private static final String PASSWORD = "Correct-Horse-42";
+
+    private String salt;
+    private String sha256Hash;
+    private String bcryptHash;
+
+    @Setup
+    public void setUp() {
+        salt = PasswordUtils.generateSalt();
+        sha256Hash = PasswordUtils.hashPassword(PASSWORD, salt);
+        bcryptHash = PasswordUtilsV2.hashPasswordBcrypt(PASSWORD);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String sha256_hash() {
+        return PasswordUtils.hashPassword(PASSWORD, salt);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean sha256_verify() {
+        return PasswordUtils.verifyPassword(PASSWORD, salt, sha256Hash);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String sha256_generateSalt() {
+        return PasswordUtils.generateSalt();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1, time = 2)
+    @Measurement(iterations = 3, time = 5)
+    public String bcrypt_hash() {
+        return PasswordUtilsV2.hashPasswordBcrypt(PASSWORD);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1, time = 2)
+    @Measurement(iterations = 3, time = 5)
+    public boolean bcrypt_verify() {
+        return PasswordUtilsV2.verifyPasswordBcrypt(PASSWORD, bcryptHash);
+    }
+}
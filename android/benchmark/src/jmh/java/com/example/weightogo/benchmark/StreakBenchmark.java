@@ -0,0 +1,62 @@
+package com.example.weightogo.benchmark;
+
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.models.WeightSeries;
+import com.example.weightogo.utils.DateUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Day streak calculations over synthetic histories.
+ *
+ * "unbroken" histories walk the whole list (worst case); "gappy" histories skip roughly one day
+ * in ten, which is typical of real users. WeightSeries.getActiveStreak is the logic behind the
+ * STREAK_7/STREAK_30 achievements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StreakBenchmark {
+
+    @Param({"31", "365", "1825"})
+    public int entries;
+
+    @Param({"unbroken", "gappy"})
+    public String history;
+
+    private List<WeightEntry> weights;
+    private WeightSeries series;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        today = LocalDate.of(2025, 11, 26);
+        double gapProbability = "gappy".equals(history) ? 0.1 : 0.0;
+        weights = SyntheticHistory.create(entries, today, gapProbability, 0.2);
+        series = new WeightSeries();
+        for (int i = weights.size() - 1; i >= 0; i--) {  // Oldest first: appends
+            series.put(weights.get(i).getWeightDate(), weights.get(i).getWeightKg());
+        }
+    }
+
+    @Benchmark
+    public int calculateDayStreak() {
+        return DateUtils.calculateDayStreak(weights);
+    }
+
+    @Benchmark
+    public int getActiveStreak() {
+        return series.getActiveStreak(today);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.weightogo.benchmark;
+
+import com.example.weightogo.models.WeightEntry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic weight histories shaped like real user data.
+ *
+ * Weights follow a slow downward random walk from 185 lbs with day-to-day noise; some users
+ * switch to kg for part of their history and most skip the odd day. A fixed seed keeps inputs
+ * identical between runs, so results from different commits are comparable.
+ */
+final class SyntheticHistory {
+
+    static final long SEED = 20251126L;
+
+    private SyntheticHistory() {
+    }
+
+    /**
+     * Build a history sorted by date descending (newest first), as the DAO returns it.
+     *
+     * @param count          number of entries
+     * @param newest         date of the most recent entry
+     * @param gapProbability chance of skipping a day before each entry (0 = unbroken streak)
+     * @param kgShare        fraction of entries logged in kg
+     * @return entries with weight ids 1..count (1 = newest)
+     */
+    static List<WeightEntry> create(int count, LocalDate newest, double gapProbability, double kgShare) {
+        Random random = new Random(SEED);
+        List<WeightEntry> entries = new ArrayList<>(count);
+        LocalDate date = newest;
+        double weightLbs = 185.0 - count * 0.05;
+
+        for (int i = 0; i < count; i++) {
+            boolean kg = random.nextDouble() < kgShare;
+            double value = kg ? weightLbs * 0.453592 : weightLbs;
+
+            WeightEntry entry = new WeightEntry();
+            entry.setWeightId(i + 1);
+            entry.setUserId(1);
+            entry.setWeightValue(Math.round(value * 10) / 10.0);
+            entry.setWeightUnit(kg ? "kg" : "lbs");
+            entry.setWeightDate(date);
+            entry.setCreatedAt(date.atTime(6 + random.nextInt(4), random.nextInt(60)));
+            entry.setUpdatedAt(entry.getCreatedAt());
+            entries.add(entry);
+
+            // Walking back in time: weight was higher, with daily noise
+            weightLbs += 0.05 + (random.nextDouble() - 0.5) * 1.6;
+            date = date.minusDays(random.nextDouble() < gapProbability ? 2 + random.nextInt(3) : 1);
+        }
+        return entries;
+    }
+
+    /**
+     * Phone numbers, usernames and passwords in the mix the sign-up form sees (mostly valid).
+     */
+    static String[] phoneNumbers(int count) {
+        Random random = new Random(SEED);
+        String[] formats = {"(%03d) %03d-%04d", "%03d-%03d-%04d", "+1%03d%03d%04d", "%03d.%03d.%04d", "%03d %03d %04d"};
+        String[] numbers = new String[count];
+        for (int i = 0; i < count; i++) {
+            String format = formats[random.nextInt(formats.length)];
+            numbers[i] = String.format(format, 200 + random.nextInt(800), random.nextInt(1000), random.nextInt(10000));
+            if (random.nextInt(10) == 0) {
+                numbers[i] = numbers[i].substring(0, numbers[i].length() - 3);   // too short
+            }
+        }
+        return numbers;
+    }
+
+    static String[] usernames(int count) {
+        Random random = new Random(SEED);
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder name = new StringBuilder();
+            int length = 3 + random.nextInt(18);
+            for (int c = 0; c < length; c++) {
+                name.append((char) ('a' + random.nextInt(26)));
+            }
+            if (random.nextInt(10) == 0) {
+                name.append(" !");   // invalid characters
+            }
+            names[i] = name.toString();
+        }
+        return names;
+    }
+
+    static String[] passwords(int count) {
+        Random random = new Random(SEED);
+        String[] passwords = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder password = new StringBuilder();
+            int length = 4 + random.nextInt(16);
+            for (int c = 0; c < length; c++) {
+                password.append((char) (33 + random.nextInt(94)));
+            }
+            passwords[i] = password.toString();
+        }
+        return passwords;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.weightogo.benchmark;
+
+import com.example.weightogo.utils.ValidationUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Form validation run on every keystroke or submit in the login, registration and SMS screens.
+ * Inputs are about 90% valid, mixing the phone formats users type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationUtilsBenchmark {
+
+    private static final int INPUTS = 256;
+
+    private String[] usernames;
+    private String[] passwords;
+    private String[] phoneNumbers;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        usernames = SyntheticHistory.usernames(INPUTS);
+        passwords = SyntheticHistory.passwords(INPUTS);
+        phoneNumbers = SyntheticHistory.phoneNumbers(INPUTS);
+    }
+
+    private int next() {
+        index = (index + 1) & (INPUTS - 1);
+        return index;
+    }
+
+    @Benchmark
+    public boolean isValidUsername() {
+        return ValidationUtils.isValidUsername(usernames[next()]);
+    }
+
+    @Benchmark
+    public boolean isValidPassword() {
+        return ValidationUtils.isValidPassword(passwords[next()]);
+    }
+
+    @Benchmark
+    public boolean isValidPhoneNumber() {
+        return ValidationUtils.isValidPhoneNumber(phoneNumbers[next()]);
+    }
+
+    @Benchmark
+    public String formatPhoneE164() {
+        return ValidationUtils.formatPhoneE164(phoneNumbers[next()]);
+    }
+
+    @Benchmark
+    public String maskPhoneNumber() {
+        return ValidationUtils.maskPhoneNumber(phoneNumbers[next()]);
+    }
+}
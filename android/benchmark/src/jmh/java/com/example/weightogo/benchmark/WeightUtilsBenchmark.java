@@ -0,0 +1,77 @@
+package com.example.weightogo.benchmark;
+
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.WeightUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-value WeightUtils conversions and validation, cycling through a year of mixed-unit entries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WeightUtilsBenchmark {
+
+    private static final int ROWS = 365;
+
+    private final double[] values = new double[ROWS];
+    private final String[] units = new String[ROWS];
+    private int row;
+
+    @Setup
+    public void setUp() {
+        List<WeightEntry> history = SyntheticHistory.create(ROWS, LocalDate.of(2025, 11, 26), 0.1, 0.2);
+        for (int i = 0; i < ROWS; i++) {
+            values[i] = history.get(i).getWeightValue();
+            units[i] = history.get(i).getWeightUnit();
+        }
+    }
+
+    private int nextRow() {
+        row = row + 1 == ROWS ? 0 : row + 1;
+        return row;
+    }
+
+    @Benchmark
+    public double toKilograms() {
+        int i = nextRow();
+        return WeightUtils.toKilograms(values[i], units[i]);
+    }
+
+    @Benchmark
+    public double fromKilograms() {
+        int i = nextRow();
+        return WeightUtils.fromKilograms(values[i], units[i]);
+    }
+
+    /**
+     * Converts every value to lbs: kg rows convert, lbs rows hit the same-unit shortcut.
+     */
+    @Benchmark
+    public double convertBetweenUnits() {
+        int i = nextRow();
+        return WeightUtils.convertBetweenUnits(values[i], units[i], "lbs");
+    }
+
+    @Benchmark
+    public double roundToOneDecimal() {
+        return WeightUtils.roundToOneDecimal(values[nextRow()] * 0.453592);
+    }
+
+    @Benchmark
+    public boolean isValidWeight() {
+        int i = nextRow();
+        return WeightUtils.isValidWeight(values[i], units[i]);
+    }
+}
@@ -0,0 +1,14 @@
+package android.os;
+
+/**
+ * Stand-in for android.os.Build with the fields read by ValidationUtils.
+ */
+public final class Build {
+
+    public static final String FINGERPRINT = "jvm";
+    public static final String MODEL = "jvm";
+    public static final String PRODUCT = "jvm";
+
+    private Build() {
+    }
+}
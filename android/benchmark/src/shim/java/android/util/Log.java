@@ -0,0 +1,41 @@
+package android.util;
+
+/**
+ * No-op stand-in for android.util.Log so app utility classes run on a plain JVM.
+ *
+ * Message strings are still built by the callers, as on a device; only the write to logcat
+ * is skipped, so benchmarks exclude logcat I/O.
+ */
+public final class Log {
+
+    private Log() {
+    }
+
+    public static int v(String tag, String msg) {
+        return 0;
+    }
+
+    public static int d(String tag, String msg) {
+        return 0;
+    }
+
+    public static int i(String tag, String msg) {
+        return 0;
+    }
+
+    public static int w(String tag, String msg) {
+        return 0;
+    }
+
+    public static int w(String tag, String msg, Throwable tr) {
+        return 0;
+    }
+
+    public static int e(String tag, String msg) {
+        return 0;
+    }
+
+    public static int e(String tag, String msg, Throwable tr) {
+        return 0;
+    }
+}
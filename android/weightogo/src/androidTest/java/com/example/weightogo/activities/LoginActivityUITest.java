@@ -8,6 +8,8 @@ import static androidx.test.espresso.assertion.ViewAssertions.matches;
 import static androidx.test.espresso.matcher.ViewMatchers.isDisplayed;
 import static androidx.test.espresso.matcher.ViewMatchers.withId;
 import static androidx.test.espresso.matcher.ViewMatchers.withText;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 
 import android.content.Context;
 
@@ -20,6 +22,7 @@ import com.example.weightogo.R;
 import com.example.weightogo.database.UserDAO;
 import com.example.weightogo.database.WeighToGoDBHelper;
 import com.example.weightogo.models.User;
+import com.example.weightogo.utils.MainThreadGuard;
 import com.example.weightogo.utils.PasswordUtilsV2;
 import com.example.weightogo.utils.SessionManager;
 
@@ -29,6 +32,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Espresso UI tests for LoginActivity.
@@ -141,6 +145,45 @@ public class LoginActivityUITest {
         // Manual verification: User sees MainActivity dashboard
     }
 
+    /**
+     * Sign-in with MainThreadGuard in THROW mode: authentication and the last_login update run
+     * off the main thread, so no database access on it throws.
+     */
+    @Test
+    public void test_signIn_withStrictMainThreadGuard_updatesLastLoginOffMainThread() throws Exception {
+        // ARRANGE - Create the user and make main-thread database access throw
+        User existing = userDAO.getUserByUsername("strictuser");
+        if (existing != null) {
+            userDAO.deleteUser(existing.getUserId());
+        }
+        User user = createTestUser("strictuser", "Pass123");
+        MainThreadGuard.Mode previousMode = MainThreadGuard.getMode();
+        MainThreadGuard.reset();
+        MainThreadGuard.setMode(MainThreadGuard.Mode.THROW);
+        try {
+            scenario = ActivityScenario.launch(LoginActivity.class);
+
+            // ACT - Sign in
+            onView(withId(R.id.usernameEditText))
+                    .perform(typeText("strictuser"), closeSoftKeyboard());
+            onView(withId(R.id.passwordEditText))
+                    .perform(typeText("Pass123"), closeSoftKeyboard());
+            onView(withId(R.id.signInButton)).perform(click());
+
+            // ASSERT - last_login is written in the background without main-thread queries
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            User signedIn = userDAO.getUserById(user.getUserId());
+            while (signedIn.getLastLogin() == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+                signedIn = userDAO.getUserById(user.getUserId());
+            }
+            assertNotNull("last_login should be updated", signedIn.getLastLogin());
+            assertEquals(0, MainThreadGuard.getViolationCount(MainThreadGuard.Kind.DATABASE));
+        } finally {
+            MainThreadGuard.setMode(previousMode);
+        }
+    }
+
     /**
      * Test 3: Screen rotation during registration preserves input.
      *
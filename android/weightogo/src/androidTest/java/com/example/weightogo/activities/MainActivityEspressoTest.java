@@ -14,9 +14,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import android.app.Activity;
 import android.content.Context;
 import android.view.View;
 
+import androidx.lifecycle.Lifecycle;
+
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.test.core.app.ActivityScenario;
 import androidx.test.core.app.ApplicationProvider;
@@ -38,6 +41,7 @@ import com.example.weightogo.database.WeightEntryDAO;
 import com.example.weightogo.models.GoalWeight;
 import com.example.weightogo.models.User;
 import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.MainThreadGuard;
 import com.example.weightogo.utils.PasswordUtilsV2;
 import com.example.weightogo.utils.SessionManager;
 
@@ -52,6 +56,7 @@ import org.junit.runner.RunWith;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Espresso instrumented tests for MainActivity.
@@ -71,11 +76,12 @@ import java.time.LocalTime;
  * - Progress card display (2 tests)
  * - Quick stats calculation (2 tests)
  * - Delete entry workflow (4 tests - includes AlertDialog interaction tests, resolves GH #48)
+ * - Main thread access (1 test)
  * - Navigation behavior (3 tests)
  * - User info display (1 test)
  * - Progress calculations (2 tests)
  * <p>
- * Total: 25 tests (17 original + 2 AlertDialog + 6 time boundary)
+ * Total: 26 tests (17 original + 2 AlertDialog + 6 time boundary + 1 main thread access)
  */
 @RunWith(AndroidJUnit4.class)
 @LargeTest
@@ -583,7 +589,7 @@ public class MainActivityEspressoTest {
      * @see MainActivity#handleDeleteEntry(WeightEntry)
      */
     @Test
-    public void test_deleteEntryUI_clickConfirm_deletesEntry() {
+    public void test_deleteEntryUI_clickConfirm_deletesEntry() throws InterruptedException {
         // ARRANGE - Create a weight entry
         long entryId = createTestWeightEntry(170.0);
 
@@ -597,12 +603,50 @@ public class MainActivityEspressoTest {
         // AlertDialog should appear - Click "Delete" to confirm
         onView(withText("Delete")).perform(click());
 
-        // ASSERT - Verify entry is soft deleted
-        WeightEntry entry = weightEntryDAO.getWeightEntryById(entryId);
+        // ASSERT - Verify entry is soft deleted (the delete runs in the background)
+        WeightEntry entry = awaitSoftDeleted(entryId);
         assertNotNull("Entry should exist in database", entry);
         assertTrue("Entry should be soft deleted after confirmation", entry.isDeleted());
     }
 
+    // ============================================================
+    // MAIN THREAD ACCESS TESTS (1 test)
+    // ============================================================
+
+    /**
+     * Dashboard loads with MainThreadGuard in THROW mode: startup, resume, an entry result and
+     * a delete all query in the background, so no database access on the main thread throws.
+     */
+    @Test
+    public void test_dashboardRefresh_withStrictMainThreadGuard_queriesOffMainThread() throws Exception {
+        // ARRANGE - Relaunch with main-thread database access throwing
+        long entryId = createTestWeightEntry(170.0);
+        scenario.close();
+        MainThreadGuard.Mode previousMode = MainThreadGuard.getMode();
+        MainThreadGuard.reset();
+        MainThreadGuard.setMode(MainThreadGuard.Mode.THROW);
+        try {
+            // ACT - Startup, resume and entry result each refresh the dashboard
+            scenario = ActivityScenario.launch(MainActivity.class);
+            scenario.moveToState(Lifecycle.State.STARTED);
+            scenario.moveToState(Lifecycle.State.RESUMED);
+            scenario.onActivity(activity -> activity.onActivityResult(
+                    MainActivity.REQUEST_CODE_WEIGHT_ENTRY, Activity.RESULT_OK, null));
+            awaitItemCount(1);
+
+            // ACT - Delete the entry
+            onView(withId(R.id.weightRecyclerView))
+                    .perform(actionOnItemAtPosition(0, clickChildViewWithId(R.id.deleteButton)));
+            onView(withText("Delete")).perform(click());
+
+            // ASSERT
+            assertTrue("Entry should be soft deleted", awaitSoftDeleted(entryId).isDeleted());
+            assertEquals(0, MainThreadGuard.getViolationCount(MainThreadGuard.Kind.DATABASE));
+        } finally {
+            MainThreadGuard.setMode(previousMode);
+        }
+    }
+
     // ============================================================
     // NAVIGATION TESTS (3 tests)
     // ============================================================
@@ -865,6 +909,40 @@ public class MainActivityEspressoTest {
     // CUSTOM ESPRESSO MATCHERS
     // ============================================================
 
+    /**
+     * Wait for a background delete to soft-delete an entry.
+     *
+     * @param entryId entry ID
+     * @return the entry as last read
+     */
+    private WeightEntry awaitSoftDeleted(long entryId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        WeightEntry entry = weightEntryDAO.getWeightEntryById(entryId);
+        while (entry != null && !entry.isDeleted() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            entry = weightEntryDAO.getWeightEntryById(entryId);
+        }
+        return entry;
+    }
+
+    /**
+     * Wait for a background dashboard load to show the expected number of entries.
+     *
+     * @param expectedCount expected RecyclerView item count
+     */
+    private void awaitItemCount(int expectedCount) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        int[] count = new int[1];
+        do {
+            Thread.sleep(50);
+            scenario.onActivity(activity -> {
+                RecyclerView recyclerView = activity.findViewById(R.id.weightRecyclerView);
+                count[0] = recyclerView.getAdapter() != null ? recyclerView.getAdapter().getItemCount() : 0;
+            });
+        } while (count[0] != expectedCount && System.currentTimeMillis() < deadline);
+        assertEquals(expectedCount, count[0]);
+    }
+
     /**
      * Custom Espresso matcher to verify RecyclerView item count.
      * <p>
@@ -0,0 +1,67 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.util.Log;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.time.LocalDate;
+
+/**
+ * Seeds the installed app's database with {@link SyntheticDataGenerator} data for manual and
+ * performance testing on a device or emulator. Replaces the old SQL-generating Python script.
+ * <p>
+ * Does nothing unless started with instrumentation arguments, so regular
+ * connectedAndroidTest runs are unaffected. Use {@code am instrument} directly, because
+ * connectedAndroidTest uninstalls the app (and its data) when it finishes:
+ * <pre>
+ * ./gradlew installDebug installDebugAndroidTest
+ *
+ * # 3 new users (synth_&lt;seed&gt;_0..2, password Synthetic1!) with 365 entries each
+ * adb shell am instrument -w -e class com.example.weightogo.database.SyntheticDataSeeder \
+ *     -e users 3 -e entries 365 -e seed 42 \
+ *     com.example.weightogo.test/androidx.test.runner.AndroidJUnitRunner
+ *
+ * # 200 entries, goals and achievements for an existing (fresh) account
+ * adb shell am instrument -w -e class com.example.weightogo.database.SyntheticDataSeeder \
+ *     -e userId 1 -e entries 200 \
+ *     com.example.weightogo.test/androidx.test.runner.AndroidJUnitRunner
+ * </pre>
+ * <p>
+ * Arguments: {@code users} (new accounts), {@code userId} (existing account),
+ * {@code entries} (per user, default 100), {@code seed} (default 1).
+ */
+@RunWith(AndroidJUnit4.class)
+public class SyntheticDataSeeder {
+
+    private static final String TAG = "SyntheticDataSeeder";
+
+    @Test
+    public void seed() throws DatabaseException {
+        Bundle args = InstrumentationRegistry.getArguments();
+        assumeTrue("No seeding arguments given", args.containsKey("users") || args.containsKey("userId"));
+
+        Context context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        int entries = Integer.parseInt(args.getString("entries", "100"));
+        long seed = Long.parseLong(args.getString("seed", "1"));
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(WeighToGoDBHelper.getInstance(context), seed);
+
+        SyntheticDataGenerator.Result result;
+        if (args.containsKey("userId")) {
+            result = generator.generateForUser(Long.parseLong(args.getString("userId")), entries, LocalDate.now());
+        } else {
+            int users = Integer.parseInt(args.getString("users"));
+            result = generator.generateUsers(users, entries, LocalDate.now());
+            assertEquals(users, result.getUserIds().size());
+        }
+        Log.i(TAG, "seed: " + result);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.weightogo;
+
+import android.app.Application;
+
+import com.example.weightogo.utils.StartupPipeline;
+
+/**
+ * Application entry point. Starts the warm-start pipeline (database open, session load,
+ * password hashing calibration) in the background before the first activity is created.
+ */
+public class WeighToGoApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        StartupPipeline.start(this);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.weightogo.activities;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.database.GoalWeightDAO;
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.GoalWeight;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.WeightUtils;
+
+import java.util.List;
+
+/**
+ * Everything a {@link MainActivity} refresh reads: the weight history and the active goal.
+ *
+ * <p>The list, progress card and quick stats all render from one instance, so a refresh costs
+ * exactly two queries (held to that budget by DashboardDataTest).</p>
+ */
+final class DashboardData {
+
+    @NonNull private final List<WeightEntry> entries;
+    @Nullable private final GoalWeight activeGoal;
+
+    DashboardData(@NonNull List<WeightEntry> entries, @Nullable GoalWeight activeGoal) {
+        this.entries = entries;
+        this.activeGoal = activeGoal;
+    }
+
+    /**
+     * Load the dashboard data for a user.
+     *
+     * @param weightEntryDAO weight entry DAO
+     * @param goalWeightDAO  goal DAO
+     * @param userId         user ID
+     * @return entries (date descending) and the active goal
+     */
+    @NonNull
+    static DashboardData load(@NonNull WeightEntryDAO weightEntryDAO, @NonNull GoalWeightDAO goalWeightDAO,
+                              long userId) {
+        return new DashboardData(weightEntryDAO.getWeightEntriesForUser(userId),
+                goalWeightDAO.getActiveGoal(userId));
+    }
+
+    /**
+     * @return entries sorted by date descending (most recent first)
+     */
+    @NonNull
+    List<WeightEntry> getEntries() {
+        return entries;
+    }
+
+    @Nullable
+    GoalWeight getActiveGoal() {
+        return activeGoal;
+    }
+
+    /**
+     * An entry's weight in another unit, for comparing it with a goal. Entries logged in that
+     * unit keep their value as entered; others convert from the canonical kilograms.
+     *
+     * @param entry weight entry
+     * @param unit  "lbs" or "kg"
+     * @return the weight in the unit
+     */
+    static double weightIn(@NonNull WeightEntry entry, @NonNull String unit) {
+        return entry.getWeightUnit().equals(unit)
+                ? entry.getWeightValue()
+                : WeightUtils.fromKilograms(entry.getWeightKg(), unit);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.weightogo.activities;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.example.weightogo.database.GoalWeightDAO;
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.User;
+import com.example.weightogo.utils.BackgroundTask;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One-shot handoff of the dashboard data from {@link LoginActivity} to {@link MainActivity}.
+ *
+ * <p><strong>Flow:</strong> As soon as sign-in has found the user, LoginActivity starts loading
+ * the {@link DashboardData} on the background pool, in parallel with the ~300 ms bcrypt
+ * verification and the activity transition. MainActivity takes it in onCreate without waiting:
+ * a finished prefetch renders at once; one still running is handed over with
+ * {@link #takeWhenDone} and rendered when it finishes, while the screen shows the saved snapshot
+ * or its placeholders. If verification fails the prefetch is cancelled and dropped; it is only
+ * ever handed to the signed-in user's MainActivity.</p>
+ *
+ * <p><strong>Staleness:</strong> A prefetch is taken at most once, only for the same user and
+ * only within {@link #MAX_AGE_MILLIS}. Otherwise MainActivity loads the data itself.</p>
+ */
+final class DashboardPrefetch {
+
+    private static final String TAG = "DashboardPrefetch";
+
+    /** Prefetches older than this are dropped */
+    static final long MAX_AGE_MILLIS = 10_000;
+
+    private static final AtomicReference<Pending> PENDING = new AtomicReference<>();
+
+    private DashboardPrefetch() {
+        throw new AssertionError("DashboardPrefetch is a utility class and should not be instantiated");
+    }
+
+    /**
+     * The prefetched data and the user it was loaded for.
+     */
+    static final class Handoff {
+        @NonNull private final DashboardData data;
+        @NonNull private final User user;
+
+        Handoff(@NonNull DashboardData data, @NonNull User user) {
+            this.data = data;
+            this.user = user;
+        }
+
+        @NonNull
+        DashboardData getData() {
+            return data;
+        }
+
+        /**
+         * @return the user as read by sign-in (saves MainActivity's user query)
+         */
+        @NonNull
+        User getUser() {
+            return user;
+        }
+    }
+
+    private static final class Pending {
+        final long userId;
+        @NonNull final User user;
+        @NonNull final BackgroundTask.Task<DashboardData> future;
+        final long startedNanos = System.nanoTime();
+
+        Pending(@NonNull User user, @NonNull BackgroundTask.Task<DashboardData> future) {
+            this.userId = user.getUserId();
+            this.user = user;
+            this.future = future;
+        }
+    }
+
+    /**
+     * Start loading the dashboard for a user, replacing any earlier prefetch.
+     *
+     * @param weightEntryDAO weight entry DAO
+     * @param goalWeightDAO  goal DAO
+     * @param user           user found by sign-in (not yet verified)
+     */
+    static void start(@NonNull WeightEntryDAO weightEntryDAO, @NonNull GoalWeightDAO goalWeightDAO,
+                      @NonNull User user) {
+        long userId = user.getUserId();
+        BackgroundTask.Task<DashboardData> future = BackgroundTask.submit(
+                () -> DashboardData.load(weightEntryDAO, goalWeightDAO, userId));
+        Pending previous = PENDING.getAndSet(new Pending(user, future));
+        if (previous != null) {
+            previous.future.cancel(false);
+        }
+        Log.d(TAG, "start: Prefetching dashboard for user_id=" + userId);
+    }
+
+    /**
+     * Drop the prefetch for a user (e.g. the password did not verify).
+     *
+     * @param userId user ID
+     */
+    static void cancel(long userId) {
+        Pending pending = PENDING.get();
+        if (pending != null && pending.userId == userId && PENDING.compareAndSet(pending, null)) {
+            pending.future.cancel(false);
+            Log.d(TAG, "cancel: Dropped prefetch for user_id=" + userId);
+        }
+    }
+
+    /**
+     * Take the prefetch for a user if it has finished, without waiting. A prefetch still running
+     * for the user is left for {@link #takeWhenDone}; any other prefetch is removed.
+     *
+     * @param userId signed-in user ID
+     * @return the handoff, or null if there is none, it is for another user, too old, still
+     * running, or failed
+     */
+    @Nullable
+    static Handoff take(long userId) {
+        Pending pending = PENDING.get();
+        if (pending == null) {
+            return null;
+        }
+        boolean usable = pending.userId == userId && !isStale(pending);
+        if ((usable && !pending.future.isDone()) || !PENDING.compareAndSet(pending, null)) {
+            return null;
+        }
+        if (!usable) {
+            pending.future.cancel(false);
+            Log.d(TAG, "take: Dropped prefetch for user_id=" + pending.userId);
+            return null;
+        }
+
+        try {
+            return new Handoff(pending.future.get(), pending.user);
+        } catch (ExecutionException | CancellationException e) {
+            Log.w(TAG, "take: Prefetch failed, loading directly", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * Take the prefetch still running for a user and deliver it on the main thread once it
+     * finishes. Nothing waits for it: the prefetch task posts the callback when it completes.
+     *
+     * @param userId   signed-in user ID
+     * @param callback gets the handoff, or the error if the prefetch failed or was cancelled
+     * @return true if a prefetch was taken and the callback will be called; false if there is
+     * none for the user (the callback is not called)
+     */
+    static boolean takeWhenDone(long userId, @NonNull BackgroundTask.Callback<Handoff> callback) {
+        Pending pending = PENDING.get();
+        if (pending == null || pending.userId != userId || isStale(pending)
+                || !PENDING.compareAndSet(pending, null)) {
+            return false;
+        }
+        pending.future.whenDone(new BackgroundTask.Callback<DashboardData>() {
+            @Override
+            public void onResult(DashboardData data) {
+                callback.onResult(new Handoff(data, pending.user));
+            }
+
+            @Override
+            public void onError(Exception error) {
+                callback.onError(error);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * @return true if a prefetch for the user has finished loading
+     */
+    @VisibleForTesting
+    static boolean isReady(long userId) {
+        Pending pending = PENDING.get();
+        return pending != null && pending.userId == userId && pending.future.isDone();
+    }
+
+    private static boolean isStale(@NonNull Pending pending) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pending.startedNanos) > MAX_AGE_MILLIS;
+    }
+}
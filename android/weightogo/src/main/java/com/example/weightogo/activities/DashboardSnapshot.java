@@ -0,0 +1,304 @@
+package com.example.weightogo.activities;
+
+import android.content.Context;
+import android.util.AtomicFile;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+import com.example.weightogo.models.GoalWeight;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.BackgroundTask;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * What {@link MainActivity} last showed, persisted so a cold start paints the dashboard before
+ * any query runs.
+ *
+ * <p><strong>Contents:</strong> the greeting name, the active goal (progress card), the day
+ * streak (quick stats) and the most recent {@link #MAX_ENTRIES} entries - a screenful of rows
+ * plus the next older entry for the last row's trend badge. A few KB at most.</p>
+ *
+ * <p><strong>Lifecycle:</strong> MainActivity saves a snapshot whenever it renders live data,
+ * i.e. after every refresh that follows a change. On a cold start it renders the snapshot from
+ * a single file read, then reconciles against the database in the background. A snapshot is
+ * only used for the user it was saved for, and is deleted on logout.</p>
+ *
+ * <p><strong>Atomicity:</strong> Written with {@link AtomicFile}, so a crash mid-write leaves
+ * the previous snapshot. Saves are coalesced on the background pool: only the newest pending
+ * snapshot is written, and never before an older one. Reads and deletes wait for a write in
+ * progress, since AtomicFile discards an unfinished write when the file is opened.</p>
+ */
+public final class DashboardSnapshot {
+
+    private static final String TAG = "DashboardSnapshot";
+
+    @VisibleForTesting
+    static final String FILE_NAME = "dashboard_snapshot.bin";
+
+    /** Entries kept: a screenful of rows plus one for the last row's trend badge */
+    static final int MAX_ENTRIES = 16;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final AtomicReference<Pending> PENDING = new AtomicReference<>();
+    private static final Object WRITE_LOCK = new Object();
+
+    private final long userId;
+    @Nullable private final String displayName;
+    @NonNull private final List<WeightEntry> entries;
+    @Nullable private final GoalWeight activeGoal;
+    private final int dayStreak;
+
+    DashboardSnapshot(long userId, @Nullable String displayName, @NonNull List<WeightEntry> entries,
+                      @Nullable GoalWeight activeGoal, int dayStreak) {
+        this.userId = userId;
+        this.displayName = displayName;
+        this.entries = entries.size() > MAX_ENTRIES
+                ? new ArrayList<>(entries.subList(0, MAX_ENTRIES))
+                : new ArrayList<>(entries);
+        this.activeGoal = activeGoal;
+        this.dayStreak = dayStreak;
+    }
+
+    private static final class Pending {
+        @NonNull final Context context;
+        @NonNull final DashboardSnapshot snapshot;
+
+        Pending(@NonNull Context context, @NonNull DashboardSnapshot snapshot) {
+            this.context = context;
+            this.snapshot = snapshot;
+        }
+    }
+
+    @Nullable
+    String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @return the snapshot's entries and goal, for MainActivity to render like live data
+     */
+    @NonNull
+    DashboardData getData() {
+        return new DashboardData(Collections.unmodifiableList(entries), activeGoal);
+    }
+
+    /**
+     * @return the streak computed from the full history when the snapshot was saved
+     */
+    int getDayStreak() {
+        return dayStreak;
+    }
+
+    // =============================================================================================
+    // READ / WRITE
+    // =============================================================================================
+
+    /**
+     * Read the snapshot for a user.
+     *
+     * @param context any context
+     * @param userId  signed-in user ID
+     * @return the snapshot, or null if there is none, it belongs to another user, or it cannot
+     * be read
+     */
+    @Nullable
+    static DashboardSnapshot read(@NonNull Context context, long userId) {
+        try {
+            byte[] bytes;
+            synchronized (WRITE_LOCK) {
+                bytes = file(context).readFully();
+            }
+            DashboardSnapshot snapshot = decode(new DataInputStream(new ByteArrayInputStream(bytes)));
+            return snapshot != null && snapshot.userId == userId ? snapshot : null;
+        } catch (FileNotFoundException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            Log.w(TAG, "read: Ignoring unreadable snapshot", e);
+            return null;
+        }
+    }
+
+    /**
+     * Write this snapshot, replacing the previous one atomically.
+     *
+     * @param context any context
+     * @throws IOException if the file cannot be written (the previous snapshot is kept)
+     */
+    @WorkerThread
+    void write(@NonNull Context context) throws IOException {
+        AtomicFile file = file(context);
+        FileOutputStream out = file.startWrite();
+        try {
+            DataOutputStream data = new DataOutputStream(out);
+            encode(data);
+            data.flush();
+            file.finishWrite(out);
+        } catch (IOException | RuntimeException e) {
+            file.failWrite(out);
+            throw e;
+        }
+    }
+
+    /**
+     * Write this snapshot on the background pool. If several are saved before the pool gets to
+     * them, only the newest is written.
+     *
+     * @param context any context
+     */
+    void saveInBackground(@NonNull Context context) {
+        if (PENDING.getAndSet(new Pending(context.getApplicationContext(), this)) != null) {
+            return;  // The queued write will pick this one up
+        }
+        BackgroundTask.submit(() -> {
+            synchronized (WRITE_LOCK) {
+                Pending next;
+                while ((next = PENDING.getAndSet(null)) != null) {
+                    try {
+                        next.snapshot.write(next.context);
+                    } catch (IOException e) {
+                        Log.w(TAG, "saveInBackground: Snapshot not saved", e);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Delete the snapshot and drop any save still pending. Called on logout, so the signed-out
+     * user's weights do not stay on disk.
+     *
+     * @param context any context
+     */
+    public static void delete(@NonNull Context context) {
+        PENDING.set(null);
+        synchronized (WRITE_LOCK) {
+            file(context).delete();
+        }
+    }
+
+    @NonNull
+    private static AtomicFile file(@NonNull Context context) {
+        return new AtomicFile(new File(context.getFilesDir(), FILE_NAME));
+    }
+
+    // =============================================================================================
+    // ENCODING
+    // =============================================================================================
+
+    private void encode(@NonNull DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(userId);
+        writeNullableString(out, displayName);
+        out.writeInt(dayStreak);
+
+        out.writeBoolean(activeGoal != null);
+        if (activeGoal != null) {
+            out.writeLong(activeGoal.getGoalId());
+            out.writeDouble(activeGoal.getGoalWeight());
+            out.writeUTF(activeGoal.getGoalUnit());
+            out.writeDouble(activeGoal.getStartWeight());
+            out.writeBoolean(activeGoal.getTargetDate() != null);
+            if (activeGoal.getTargetDate() != null) {
+                out.writeLong(activeGoal.getTargetDate().toEpochDay());
+            }
+            writeDateTime(out, activeGoal.getCreatedAt());
+            writeDateTime(out, activeGoal.getUpdatedAt());
+        }
+
+        out.writeInt(entries.size());
+        for (WeightEntry entry : entries) {
+            out.writeLong(entry.getWeightId());
+            out.writeDouble(entry.getWeightValue());
+            out.writeUTF(entry.getWeightUnit());
+            out.writeLong(entry.getWeightDate().toEpochDay());
+            writeDateTime(out, entry.getCreatedAt());
+            writeDateTime(out, entry.getUpdatedAt());
+        }
+    }
+
+    @Nullable
+    private static DashboardSnapshot decode(@NonNull DataInputStream in) throws IOException {
+        if (in.readInt() != FORMAT_VERSION) {
+            return null;
+        }
+        long userId = in.readLong();
+        String displayName = readNullableString(in);
+        int dayStreak = in.readInt();
+
+        GoalWeight goal = null;
+        if (in.readBoolean()) {
+            goal = new GoalWeight();
+            goal.setGoalId(in.readLong());
+            goal.setUserId(userId);
+            goal.setGoalWeight(in.readDouble());
+            goal.setGoalUnit(in.readUTF());
+            goal.setStartWeight(in.readDouble());
+            if (in.readBoolean()) {
+                goal.setTargetDate(LocalDate.ofEpochDay(in.readLong()));
+            }
+            goal.setCreatedAt(readDateTime(in));
+            goal.setUpdatedAt(readDateTime(in));
+            goal.setActive(true);
+        }
+
+        int count = in.readInt();
+        if (count < 0 || count > MAX_ENTRIES) {
+            throw new IOException("Bad entry count " + count);
+        }
+        List<WeightEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            WeightEntry entry = new WeightEntry();
+            entry.setWeightId(in.readLong());
+            entry.setUserId(userId);
+            entry.setWeightValue(in.readDouble());
+            entry.setWeightUnit(in.readUTF());
+            entry.setWeightDate(LocalDate.ofEpochDay(in.readLong()));
+            entry.setCreatedAt(readDateTime(in));
+            entry.setUpdatedAt(readDateTime(in));
+            entries.add(entry);
+        }
+        return new DashboardSnapshot(userId, displayName, entries, goal, dayStreak);
+    }
+
+    private static void writeNullableString(@NonNull DataOutputStream out, @Nullable String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    @Nullable
+    private static String readNullableString(@NonNull DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeDateTime(@NonNull DataOutputStream out, @NonNull LocalDateTime value) throws IOException {
+        out.writeLong(value.toLocalDate().toEpochDay());
+        out.writeLong(value.toLocalTime().toNanoOfDay());
+    }
+
+    @NonNull
+    private static LocalDateTime readDateTime(@NonNull DataInputStream in) throws IOException {
+        return LocalDateTime.of(LocalDate.ofEpochDay(in.readLong()), LocalTime.ofNanoOfDay(in.readLong()));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.weightogo.activities;
+
+import android.util.Log;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.BackgroundTask;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sliding window of a user's entries around the date shown in {@link WeightEntryActivity}, so
+ * day-to-day navigation never queries the database on the main thread.
+ *
+ * <p><strong>Loading:</strong> {@link #start} loads {@link #INITIAL_DAYS} days ending at the
+ * start date with one range query, plus the newest entry before that range. When navigation
+ * gets within {@link #PREFETCH_MARGIN_DAYS} of an edge, the next {@link #EXTEND_DAYS} days in
+ * the direction of travel are loaded on the background pool. The window never extends past
+ * today, since entries cannot be logged for future dates.</p>
+ *
+ * <p><strong>Lookups:</strong> {@link #getLatestOnOrBefore} answers "last entry as of this
+ * day" from memory. For days not loaded yet it reports {@link #isLoaded} false; the listener
+ * is called after every load so the screen can update.</p>
+ *
+ * <p><strong>Threading:</strong> Main thread only; the queries run on BackgroundTask and their
+ * results are merged on the main thread.</p>
+ */
+@MainThread
+final class EntryDayWindow {
+
+    private static final String TAG = "EntryDayWindow";
+
+    /** Days loaded by {@link #start}, ending at the start date */
+    static final int INITIAL_DAYS = 31;
+
+    /** Days added per extension */
+    static final int EXTEND_DAYS = 31;
+
+    /** Extend when navigation gets this close to an edge of the loaded range */
+    static final int PREFETCH_MARGIN_DAYS = 7;
+
+    /**
+     * Called on the main thread after a load is merged.
+     */
+    interface Listener {
+        void onWindowLoaded();
+    }
+
+    @NonNull private final WeightEntryDAO weightEntryDAO;
+    private final long userId;
+    @NonNull private final Listener listener;
+
+    private final TreeMap<LocalDate, WeightEntry> entries = new TreeMap<>();
+    @Nullable private LocalDate from;  // First loaded date, null until the first load arrives
+    @Nullable private LocalDate to;    // Last loaded date
+    @Nullable private WeightEntry newestBeforeFrom;
+    private boolean loadingOlder;
+    private boolean loadingNewer;
+
+    EntryDayWindow(@NonNull WeightEntryDAO weightEntryDAO, long userId, @NonNull Listener listener) {
+        this.weightEntryDAO = weightEntryDAO;
+        this.userId = userId;
+        this.listener = listener;
+    }
+
+    /**
+     * Load the days ending at a date.
+     *
+     * @param date  last day to load (usually today)
+     * @param today today's date; the window never extends past it
+     */
+    void start(@NonNull LocalDate date, @NonNull LocalDate today) {
+        LocalDate end = date.isAfter(today) ? today : date;
+        loadingOlder = true;
+        loadingNewer = true;
+        load(end.minusDays(INITIAL_DAYS - 1), end, true, true);
+    }
+
+    /**
+     * Report that the screen moved to a date; extends the window ahead of the direction of
+     * travel when close to an edge.
+     *
+     * @param date  date now shown
+     * @param today today's date
+     */
+    void onNavigate(@NonNull LocalDate date, @NonNull LocalDate today) {
+        if (from == null || to == null) {
+            return;  // First load still running
+        }
+        if (!loadingOlder && !date.isAfter(from.plusDays(PREFETCH_MARGIN_DAYS))) {
+            loadingOlder = true;
+            load(from.minusDays(EXTEND_DAYS), from.minusDays(1), true, false);
+        }
+        if (!loadingNewer && to.isBefore(today) && !date.isBefore(to.minusDays(PREFETCH_MARGIN_DAYS))) {
+            LocalDate newTo = to.plusDays(EXTEND_DAYS);
+            loadingNewer = true;
+            load(to.plusDays(1), newTo.isAfter(today) ? today : newTo, false, true);
+        }
+    }
+
+    /**
+     * @return true if the window can answer lookups for the date
+     */
+    boolean isLoaded(@NonNull LocalDate date) {
+        return from != null && to != null && !date.isBefore(from) && !date.isAfter(to);
+    }
+
+    /**
+     * @param date a loaded date (see {@link #isLoaded})
+     * @return the newest entry on or before the date, or null if the user had none by then
+     */
+    @Nullable
+    WeightEntry getLatestOnOrBefore(@NonNull LocalDate date) {
+        Map.Entry<LocalDate, WeightEntry> floor = entries.floorEntry(date);
+        return floor != null ? floor.getValue() : newestBeforeFrom;
+    }
+
+    /**
+     * @param older true if this load moves the older edge (then it also fetches the newest
+     *              entry before loadFrom)
+     * @param newer true if this load moves the newer edge
+     */
+    private void load(@NonNull LocalDate loadFrom, @NonNull LocalDate loadTo, boolean older, boolean newer) {
+        BackgroundTask.execute(
+            () -> new Chunk(weightEntryDAO.getWeightEntriesBetween(userId, loadFrom, loadTo),
+                    older ? weightEntryDAO.getLatestWeightEntryBefore(userId, loadFrom) : null),
+            new BackgroundTask.Callback<Chunk>() {
+                @Override
+                public void onResult(Chunk chunk) {
+                    merge(loadFrom, loadTo, chunk);
+                    loadingOlder &= !older;
+                    loadingNewer &= !newer;
+                    listener.onWindowLoaded();
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    Log.e(TAG, "load: Failed to load " + loadFrom + ".." + loadTo, error);
+                    loadingOlder &= !older;
+                    loadingNewer &= !newer;
+                }
+            }
+        );
+    }
+
+    private void merge(@NonNull LocalDate loadFrom, @NonNull LocalDate loadTo, @NonNull Chunk chunk) {
+        for (WeightEntry entry : chunk.entries) {
+            entries.put(entry.getWeightDate(), entry);
+        }
+        if (from == null || loadFrom.isBefore(from)) {
+            from = loadFrom;
+            newestBeforeFrom = chunk.newestBefore;
+        }
+        if (to == null || loadTo.isAfter(to)) {
+            to = loadTo;
+        }
+    }
+
+    private static final class Chunk {
+        @NonNull final List<WeightEntry> entries;
+        @Nullable final WeightEntry newestBefore;
+
+        Chunk(@NonNull List<WeightEntry> entries, @Nullable WeightEntry newestBefore) {
+            this.entries = entries;
+            this.newestBefore = newestBefore;
+        }
+    }
+}
@@ -480,18 +480,9 @@ public class GoalsActivity extends AppCompatActivity
         if (latestEntry != null) {
             double currentWeight = latestEntry.getWeightValue();
 
-            // Convert if goal exists and units don't match
-            if (activeGoal != null) {
-                String entryUnit = latestEntry.getWeightUnit();
-                String goalUnit = activeGoal.getGoalUnit();
-
-                if (!entryUnit.equals(goalUnit)) {
-                    if ("kg".equals(goalUnit)) {
-                        currentWeight = WeightUtils.convertLbsToKg(currentWeight);
-                    } else {
-                        currentWeight = WeightUtils.convertKgToLbs(currentWeight);
-                    }
-                }
+            // Convert from canonical kg if goal exists and units don't match
+            if (activeGoal != null && !latestEntry.getWeightUnit().equals(activeGoal.getGoalUnit())) {
+                currentWeight = WeightUtils.fromKilograms(latestEntry.getWeightKg(), activeGoal.getGoalUnit());
             }
 
             return currentWeight;
@@ -7,24 +7,29 @@ import android.widget.TextView;
 import android.widget.Toast;
 
 import androidx.activity.EdgeToEdge;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
 import androidx.appcompat.app.AppCompatActivity;
 
 import com.example.weightogo.R;
 import com.google.android.material.snackbar.Snackbar;
 import com.example.weightogo.database.DatabaseException;
 import com.example.weightogo.database.DuplicateUsernameException;
+import com.example.weightogo.database.GoalWeightDAO;
 import com.example.weightogo.database.UserDAO;
 import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.database.WeightEntryDAO;
 import com.example.weightogo.models.User;
 import com.example.weightogo.utils.BackgroundTask;
 import com.example.weightogo.utils.PasswordUtils;
 import com.example.weightogo.utils.PasswordUtilsV2;
 import com.example.weightogo.utils.SessionManager;
+import com.example.weightogo.utils.Tracer;
 import com.example.weightogo.utils.ValidationUtils;
 
 import static com.example.weightogo.utils.PasswordUtilsV2.ALGORITHM_BCRYPT;
-import static com.example.weightogo.utils.PasswordUtilsV2.ALGORITHM_SHA256;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.textfield.TextInputEditText;
 import com.google.android.material.textfield.TextInputLayout;
@@ -82,6 +87,8 @@ public class LoginActivity extends AppCompatActivity {
 
     private WeighToGoDBHelper dbHelper;
     private UserDAO userDAO;
+    private WeightEntryDAO weightEntryDAO;
+    private GoalWeightDAO goalWeightDAO;
     private SessionManager sessionManager;
 
     // =============================================================================================
@@ -96,23 +103,25 @@ public class LoginActivity extends AppCompatActivity {
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-        Log.d(TAG, "onCreate: LoginActivity started");
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "LoginActivity.onCreate")) {
+            super.onCreate(savedInstanceState);
+            Log.d(TAG, "onCreate: LoginActivity started");
 
-        // Enable edge-to-edge display
-        EdgeToEdge.enable(this);
+            // Enable edge-to-edge display
+            EdgeToEdge.enable(this);
 
-        // Set content view
-        setContentView(R.layout.activity_login);
+            // Set content view
+            setContentView(R.layout.activity_login);
 
-        // Initialize data access and session management
-        initDataLayer();
+            // Initialize data access and session management
+            initDataLayer();
 
-        // Initialize UI components
-        initViews();
+            // Initialize UI components
+            initViews();
 
-        // Setup click listeners
-        setupClickListeners();
+            // Setup click listeners
+            setupClickListeners();
+        }
     }
 
     // =============================================================================================
@@ -130,6 +139,12 @@ public class LoginActivity extends AppCompatActivity {
         if (userDAO == null) {
             userDAO = new UserDAO(dbHelper);
         }
+        if (weightEntryDAO == null) {
+            weightEntryDAO = new WeightEntryDAO(dbHelper);
+        }
+        if (goalWeightDAO == null) {
+            goalWeightDAO = new GoalWeightDAO(dbHelper);
+        }
         if (sessionManager == null) {
             sessionManager = SessionManager.getInstance(this);
         }
@@ -304,101 +319,209 @@ public class LoginActivity extends AppCompatActivity {
 
     /**
      * Handle sign-in authentication flow.
-     * Queries database, verifies password, creates session, and navigates to MainActivity.
+     * Looks up the user and verifies the password on a background thread, then creates the
+     * session and navigates to MainActivity on the UI thread.
+     *
+     * <p><strong>Performance:</strong> bcrypt verification takes ~300 ms by design (more on
+     * low-end devices), so it runs on the BackgroundTask pool instead of the UI thread. The
+     * dashboard data is prefetched meanwhile (see DashboardPrefetch).</p>
      */
     private void handleSignIn() {
-        String username = usernameEditText.getText().toString().trim();
-        String password = passwordEditText.getText().toString();
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "LoginActivity.handleSignIn")) {
+            long signInStartedNanos = System.nanoTime();
+            String username = usernameEditText.getText().toString().trim();
+            String password = passwordEditText.getText().toString();
+
+            Log.d(TAG, "handleSignIn: Attempting authentication for username: " + username);
+
+            // Disable button to prevent double-submit while verifying
+            signInButton.setEnabled(false);
+            signInButton.setText("Signing in...");
+
+            BackgroundTask.execute(
+                () -> authenticate(username, password),
+                new BackgroundTask.Callback<User>() {
+                    @Override
+                    public void onResult(User user) {
+                        if (isDestroyed()) {
+                            return;
+                        }
+                        signInButton.setEnabled(true);
+                        signInButton.setText(R.string.btn_sign_in);
+
+                        if (user == null) {
+                            showAuthenticationError("Invalid username or password");
+                            return;
+                        }
+                        completeSignIn(user, password, signInStartedNanos);
+                    }
 
-        Log.d(TAG, "handleSignIn: Attempting authentication for username: " + username);
+                    @Override
+                    public void onError(Exception error) {
+                        Log.e(TAG, "handleSignIn: Authentication failed with exception", error);
+                        if (isDestroyed()) {
+                            return;
+                        }
+                        signInButton.setEnabled(true);
+                        signInButton.setText(R.string.btn_sign_in);
+                        showAuthenticationError("Sign in failed. Please try again.");
+                    }
+                }
+            );
+        }
+    }
 
-        // Query user from database
+    /**
+     * Look up the user and verify the password (background thread).
+     *
+     * @param username trimmed username
+     * @param password password as entered
+     * @return the user if the credentials are valid, null otherwise
+     */
+    @WorkerThread
+    @Nullable
+    private User authenticate(@NonNull String username, @NonNull String password) {
         User user = userDAO.getUserByUsername(username);
 
         if (user == null) {
             // User doesn't exist
-            Log.w(TAG, "handleSignIn: User not found with username: " + username);
-            showAuthenticationError("Invalid username or password");
-            return;
+            Log.w(TAG, "authenticate: User not found with username: " + username);
+            return null;
         }
 
+        // Load the dashboard in parallel with verification; dropped below if it fails
+        DashboardPrefetch.start(weightEntryDAO, goalWeightDAO, user);
+
         // Verify password using algorithm-specific verification (Phase 8.6 - bcrypt migration)
-        boolean passwordMatches = PasswordUtilsV2.verifyPassword(
-            password,
-            user.getPasswordAlgorithm(),
-            user.getPasswordHash(),
-            user.getSalt()
-        );
+        boolean passwordMatches;
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_HASH, "PasswordUtilsV2.verifyPassword")) {
+            passwordMatches = PasswordUtilsV2.verifyPassword(
+                password,
+                user.getPasswordAlgorithm(),
+                user.getPasswordHash(),
+                user.getSalt()
+            );
+        }
 
         if (!passwordMatches) {
             // Wrong password
-            Log.w(TAG, "handleSignIn: Password verification failed for username: " + username);
-            showAuthenticationError("Invalid username or password");
-            return;
+            Log.w(TAG, "authenticate: Password verification failed for username: " + username);
+            DashboardPrefetch.cancel(user.getUserId());
+            return null;
         }
+        return user;
+    }
 
+    /**
+     * Finish a successful sign-in: rehash if needed, update last_login, create the session and
+     * navigate to MainActivity.
+     *
+     * @param user authenticated user
+     * @param password password as entered (only used for rehashing)
+     * @param signInStartedNanos when the user tapped Sign In ({@code System.nanoTime()})
+     */
+    private void completeSignIn(@NonNull User user, @NonNull String password, long signInStartedNanos) {
         // Authentication successful
-        Log.i(TAG, "handleSignIn: Authentication successful for user_id: " + user.getUserId());
-
-        // LAZY MIGRATION: If user is still on SHA256, migrate to bcrypt (Phase 8.6)
-        if (ALGORITHM_SHA256.equals(user.getPasswordAlgorithm())) {
-            Log.i(TAG, "handleSignIn: Migrating user_id=" + user.getUserId() + " from SHA256 to bcrypt");
-
-            // Capture current hash to prevent race condition
-            final String oldPasswordHash = user.getPasswordHash();
-
-            // Hash password with bcrypt on background thread
-            BackgroundTask.execute(
-                () -> PasswordUtilsV2.hashPasswordBcrypt(password),
-                new BackgroundTask.Callback<String>() {
-                    @Override
-                    public void onResult(String bcryptHash) {
-                        if (bcryptHash != null && !bcryptHash.isEmpty()) {
-                            // Update database only if password hasn't changed (prevents race condition)
-                            boolean updated = userDAO.updatePasswordIfUnchanged(
-                                user.getUserId(),
-                                oldPasswordHash,  // Verify hash hasn't changed
-                                bcryptHash,
-                                "",  // bcrypt handles salt internally
-                                ALGORITHM_BCRYPT
-                            );
-
-                            if (updated) {
-                                Log.i(TAG, "handleSignIn: Successfully migrated user_id=" + user.getUserId() + " to bcrypt");
-                            } else {
-                                Log.w(TAG, "handleSignIn: Migration skipped - password changed for user_id=" + user.getUserId());
-                            }
-                        } else {
-                            Log.w(TAG, "handleSignIn: bcrypt hash is null or empty, migration skipped");
-                        }
-                    }
+        Log.i(TAG, "completeSignIn: Authentication successful for user_id: " + user.getUserId());
 
-                    @Override
-                    public void onError(Exception error) {
-                        Log.e(TAG, "handleSignIn: Failed to migrate password to bcrypt", error);
-                        // Don't block login - migration will retry next time
-                    }
-                }
-            );
+        // LAZY MIGRATION: SHA256 users move to bcrypt (Phase 8.6), and bcrypt users move to the
+        // device's calibrated cost
+        if (PasswordUtilsV2.needsRehash(user.getPasswordAlgorithm(), user.getPasswordHash())) {
+            rehashPassword(user, password);
         }
 
         // Update last_login timestamp
-        int rowsUpdated = userDAO.updateLastLogin(user.getUserId(), LocalDateTime.now());
-        if (rowsUpdated > 0) {
-            Log.d(TAG, "handleSignIn: Updated last_login for user_id: " + user.getUserId());
-        }
+        updateLastLogin(user.getUserId());
 
         // Create session
         sessionManager.createSession(user);
-        Log.d(TAG, "handleSignIn: Session created for user_id: " + user.getUserId());
+        Log.d(TAG, "completeSignIn: Session created for user_id: " + user.getUserId());
 
-        // Navigate to MainActivity
+        // Navigate to MainActivity (it measures sign-in to first dashboard frame)
         Intent intent = new Intent(this, MainActivity.class);
+        intent.putExtra(MainActivity.EXTRA_SIGN_IN_STARTED_NANOS, signInStartedNanos);
         startActivity(intent);
         finish();  // Prevent back button from returning to login
 
         Toast.makeText(this, "Welcome, " + (user.getDisplayName() != null ? user.getDisplayName() : user.getUsername()) + "!", Toast.LENGTH_SHORT).show();
-        Log.i(TAG, "handleSignIn: Navigated to MainActivity");
+        Log.i(TAG, "completeSignIn: Navigated to MainActivity");
+    }
+
+    /**
+     * Update the user's last_login timestamp (background thread). Sign-in never waits for it.
+     *
+     * @param userId signed-in user ID
+     */
+    private void updateLastLogin(long userId) {
+        LocalDateTime loginTime = LocalDateTime.now();
+        BackgroundTask.execute(
+            () -> userDAO.updateLastLogin(userId, loginTime),
+            new BackgroundTask.Callback<Integer>() {
+                @Override
+                public void onResult(Integer rowsUpdated) {
+                    if (rowsUpdated > 0) {
+                        Log.d(TAG, "updateLastLogin: Updated last_login for user_id: " + userId);
+                    }
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    Log.e(TAG, "updateLastLogin: Failed to update last_login", error);
+                }
+            }
+        );
+    }
+
+    /**
+     * Rehash the password with bcrypt at the current cost and store it (background thread).
+     * Login is never blocked; a failed rehash is retried on the next login.
+     *
+     * @param user authenticated user
+     * @param password password as entered
+     */
+    private void rehashPassword(@NonNull User user, @NonNull String password) {
+        Log.i(TAG, "rehashPassword: Rehashing user_id=" + user.getUserId() + " from " +
+                user.getPasswordAlgorithm() + " to bcrypt cost " + PasswordUtilsV2.getBcryptCost());
+
+        // Capture current hash to prevent race condition
+        final String oldPasswordHash = user.getPasswordHash();
+
+        BackgroundTask.execute(
+            () -> {
+                String bcryptHash;
+                try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_HASH, "PasswordUtilsV2.hashPasswordBcrypt")) {
+                    bcryptHash = PasswordUtilsV2.hashPasswordBcrypt(password);
+                }
+                if (bcryptHash == null || bcryptHash.isEmpty()) {
+                    Log.w(TAG, "rehashPassword: bcrypt hash is null or empty, rehash skipped");
+                    return false;
+                }
+                // Update database only if password hasn't changed (prevents race condition)
+                return userDAO.updatePasswordIfUnchanged(
+                    user.getUserId(),
+                    oldPasswordHash,  // Verify hash hasn't changed
+                    bcryptHash,
+                    "",  // bcrypt handles salt internally
+                    ALGORITHM_BCRYPT
+                );
+            },
+            new BackgroundTask.Callback<Boolean>() {
+                @Override
+                public void onResult(Boolean updated) {
+                    if (updated) {
+                        Log.i(TAG, "rehashPassword: Successfully rehashed user_id=" + user.getUserId());
+                    } else {
+                        Log.w(TAG, "rehashPassword: Rehash skipped for user_id=" + user.getUserId());
+                    }
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    Log.e(TAG, "rehashPassword: Failed to rehash password", error);
+                    // Don't block login - rehash will retry next time
+                }
+            }
+        );
     }
 
     // =============================================================================================
@@ -436,7 +559,9 @@ public class LoginActivity extends AppCompatActivity {
             // Background work
             () -> {
                 Log.d(TAG, "handleRegister: Hashing password with bcrypt on background thread");
-                return PasswordUtilsV2.hashPasswordBcrypt(password);
+                try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_HASH, "PasswordUtilsV2.hashPasswordBcrypt")) {
+                    return PasswordUtilsV2.hashPasswordBcrypt(password);
+                }
             },
             // UI thread callback
             new BackgroundTask.Callback<String>() {
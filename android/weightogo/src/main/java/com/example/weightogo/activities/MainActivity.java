@@ -2,8 +2,10 @@ package com.example.weightogo.activities;
 
 import android.content.Intent;
 import android.os.Bundle;
+import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.widget.ImageButton;
 import android.widget.LinearLayout;
 import android.widget.TextView;
@@ -17,6 +19,7 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.weightogo.R;
 import com.example.weightogo.adapters.WeightEntryAdapter;
+import com.example.weightogo.database.DataMigrationRunner;
 import com.example.weightogo.database.GoalWeightDAO;
 import com.example.weightogo.fragments.GoalDialogFragment;
 import com.example.weightogo.database.UserDAO;
@@ -25,10 +28,14 @@ import com.example.weightogo.database.WeightEntryDAO;
 import com.example.weightogo.models.GoalWeight;
 import com.example.weightogo.models.User;
 import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.BackgroundTask;
 import com.example.weightogo.utils.DateUtils;
 import com.example.weightogo.utils.SessionManager;
+import com.example.weightogo.utils.StartupPipeline;
+import com.example.weightogo.utils.Tracer;
 import com.example.weightogo.utils.ValidationUtils;
 import com.example.weightogo.utils.WeightUtils;
+import com.example.weightogo.workers.MaintenanceWorker;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
@@ -36,6 +43,7 @@ import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Main dashboard activity for WeightOgO app.
@@ -45,8 +53,13 @@ public class MainActivity extends AppCompatActivity
         implements WeightEntryAdapter.OnItemClickListener,
                    GoalDialogFragment.GoalDialogListener {
 
+    private static final String TAG = "MainActivity";
+
     // Request Codes
-    private static final int REQUEST_CODE_WEIGHT_ENTRY = 1001;
+    static final int REQUEST_CODE_WEIGHT_ENTRY = 1001;
+
+    /** Intent extra: {@code System.nanoTime()} when the user tapped Sign In */
+    static final String EXTRA_SIGN_IN_STARTED_NANOS = "sign_in_started_nanos";
 
     // UI Elements
     private TextView greetingText;
@@ -90,37 +103,59 @@ public class MainActivity extends AppCompatActivity
     private long currentUserId;
     private List<WeightEntry> weightEntries = new ArrayList<>();  // Initialized at declaration to prevent NPE
     private GoalWeight activeGoal;
+    private int dayStreak;
+    private String shownUserName;  // Saved with the dashboard snapshot
+    private boolean skipNextResumeRefresh;  // onCreate just loaded the data
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-
-        // Check authentication first
-        if (!checkAuthentication()) {
-            return; // Activity will finish in checkAuthentication()
-        }
-
-        setContentView(R.layout.activity_main);
-
-        // Initialize data layer
-        initDataLayer();
-
-        // Initialize UI
-        initViews();
-        setupRecyclerView();
-        setupFAB();
-        setupBottomNavigation();
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "MainActivity.onCreate")) {
+            super.onCreate(savedInstanceState);
+            // Check authentication first
+            if (!checkAuthentication()) {
+                return; // Activity will finish in checkAuthentication()
+            }
 
-        // Load data
-        loadWeightEntries();
-        updateProgressCard();
-        calculateQuickStats();
-        updateGreeting();
-        updateUserName();
+            setContentView(R.layout.activity_main);
+
+            // Initialize data layer
+            initDataLayer();
+
+            // Continue pending data migrations off the main thread; maintenance finishes the rest
+            DataMigrationRunner.startInBackground(dbHelper);
+
+            // Ensure nightly database maintenance is scheduled (no-op if already enqueued)
+            MaintenanceWorker.schedule(this);
+
+            // Initialize UI
+            initViews();
+            setupRecyclerView();
+            setupFAB();
+            setupBottomNavigation();
+
+            // Load data, from the sign-in prefetch when it has finished; otherwise paint the last
+            // saved snapshot (or the placeholders) and replace it with the prefetch once that
+            // finishes, or with the database contents loaded in the background
+            DashboardPrefetch.Handoff handoff = DashboardPrefetch.take(currentUserId);
+            if (handoff != null) {
+                renderHandoff(handoff);
+            } else {
+                DashboardSnapshot snapshot = DashboardSnapshot.read(this, currentUserId);
+                if (snapshot != null) {
+                    renderSnapshot(snapshot);
+                }
+                if (!awaitPrefetch(snapshot != null)) {
+                    loadDashboard(snapshot != null);
+                }
+            }
+            skipNextResumeRefresh = true;
+            updateGreeting();
+            reportDashboardDrawn(handoff != null);
 
-        // Check if we should show goal dialog (from GoalsActivity FAB)
-        if (getIntent().getBooleanExtra("SHOW_GOAL_DIALOG", false)) {
-            showSetGoalDialog();
+            // Check if we should show goal dialog (from GoalsActivity FAB)
+            if (getIntent().getBooleanExtra("SHOW_GOAL_DIALOG", false)) {
+                showSetGoalDialog();
+            }
         }
     }
 
@@ -333,24 +368,207 @@ public class MainActivity extends AppCompatActivity
     }
 
     /**
-     * Load weight entries from database and update UI.
+     * Reload entries and the active goal in the background, then update the list, progress card
+     * and quick stats. The card and stats render from the loaded data, so a refresh costs two
+     * queries, neither on the main thread.
+     */
+    private void refreshDashboard() {
+        long userId = currentUserId;
+        BackgroundTask.execute(
+            () -> {
+                try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "MainActivity.refreshDashboard")) {
+                    return DashboardData.load(weightEntryDAO, goalWeightDAO, userId);
+                }
+            },
+            new BackgroundTask.Callback<DashboardData>() {
+                @Override
+                public void onResult(DashboardData data) {
+                    if (isFinishing() || isDestroyed()) {
+                        return;
+                    }
+                    renderDashboard(data);
+                    saveSnapshot();
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    Log.e(TAG, "refreshDashboard: Keeping what is shown, load failed", error);
+                }
+            }
+        );
+    }
+
+    /**
+     * Render the sign-in prefetch and save it as the snapshot (no queries).
+     *
+     * @param handoff prefetched data and user
+     */
+    private void renderHandoff(DashboardPrefetch.Handoff handoff) {
+        showUserName(handoff.getUser());
+        renderDashboard(handoff.getData());
+        saveSnapshot();
+    }
+
+    /**
+     * Render the sign-in prefetch once it finishes, falling back to
+     * {@link #loadDashboard(boolean)} if it fails.
+     *
+     * @param snapshotShown whether a snapshot is painted meanwhile
+     * @return false if there is no prefetch running for the user
+     */
+    private boolean awaitPrefetch(boolean snapshotShown) {
+        return DashboardPrefetch.takeWhenDone(currentUserId,
+            new BackgroundTask.Callback<DashboardPrefetch.Handoff>() {
+                @Override
+                public void onResult(DashboardPrefetch.Handoff handoff) {
+                    if (!isFinishing() && !isDestroyed()) {
+                        renderHandoff(handoff);
+                    }
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    Log.w(TAG, "awaitPrefetch: Prefetch failed, loading directly", error);
+                    if (!isFinishing() && !isDestroyed()) {
+                        loadDashboard(snapshotShown);
+                    }
+                }
+            }
+        );
+    }
+
+    /**
+     * Load the dashboard without a prefetch: reconcile a painted snapshot in the background, or
+     * load in the background once the startup pipeline has opened the database.
+     *
+     * @param snapshotShown whether a snapshot is painted
+     */
+    private void loadDashboard(boolean snapshotShown) {
+        if (snapshotShown) {
+            reconcileDashboard();
+            return;
+        }
+        // Waits for the startup pipeline's database open instead of blocking first draw
+        StartupPipeline.runWhenReady(StartupPipeline.Stage.DATABASE, () -> {
+            if (!isFinishing() && !isDestroyed()) {
+                reconcileDashboard();
+            }
+        });
+    }
+
+    /**
+     * Load the live data and user in the background and render them over the snapshot or
+     * placeholders shown meanwhile (the list is diffed, so unchanged rows stay as they are).
      */
-    private void loadWeightEntries() {
-        weightEntries.clear();
-        List<WeightEntry> entries = weightEntryDAO.getWeightEntriesForUser(currentUserId);
-        weightEntries.addAll(entries);
-        adapter.notifyDataSetChanged();
+    private void reconcileDashboard() {
+        long userId = currentUserId;
+        BackgroundTask.execute(
+            () -> {
+                try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "MainActivity.reconcileDashboard")) {
+                    User user = userDAO.getUserById(userId);
+                    DashboardData data = DashboardData.load(weightEntryDAO, goalWeightDAO, userId);
+                    return user != null ? new DashboardPrefetch.Handoff(data, user) : null;
+                }
+            },
+            new BackgroundTask.Callback<DashboardPrefetch.Handoff>() {
+                @Override
+                public void onResult(DashboardPrefetch.Handoff live) {
+                    if (live == null || isFinishing() || isDestroyed()) {
+                        return;
+                    }
+                    showUserName(live.getUser());
+                    renderDashboard(live.getData());
+                    saveSnapshot();
+                }
 
+                @Override
+                public void onError(Exception error) {
+                    Log.e(TAG, "reconcileDashboard: Keeping what is shown, live load failed", error);
+                }
+            }
+        );
+    }
+
+    /**
+     * Paint a saved snapshot (no queries). Reconciled by {@link #reconcileDashboard()}.
+     *
+     * @param snapshot snapshot saved for the current user
+     */
+    private void renderSnapshot(DashboardSnapshot snapshot) {
+        if (snapshot.getDisplayName() != null) {
+            shownUserName = snapshot.getDisplayName();
+            userName.setText(shownUserName);
+        }
+        DashboardData data = snapshot.getData();
+        weightEntries = data.getEntries();
+        activeGoal = data.getActiveGoal();
+        dayStreak = snapshot.getDayStreak();
+
+        adapter.submitEntries(weightEntries, null);
         showEmptyState(weightEntries.isEmpty());
+        updateProgressCard();
+        calculateQuickStats();
+    }
+
+    /**
+     * Save what the dashboard shows now as the snapshot for the next cold start.
+     */
+    private void saveSnapshot() {
+        new DashboardSnapshot(currentUserId, shownUserName, weightEntries, activeGoal, dayStreak)
+                .saveInBackground(this);
+    }
+
+    /**
+     * Update the list, progress card and quick stats from loaded data (no queries).
+     *
+     * @param data entries and active goal
+     */
+    private void renderDashboard(DashboardData data) {
+        weightEntries = data.getEntries();
+        activeGoal = data.getActiveGoal();
+        dayStreak = DateUtils.calculateDayStreak(weightEntries);
+
+        adapter.submitEntries(weightEntries, null);  // Diffed off the main thread; only changed rows rebind
+        showEmptyState(weightEntries.isEmpty());
+        updateProgressCard();
+        calculateQuickStats();
+    }
+
+    /**
+     * After sign-in, log and trace the time from the Sign In tap to the first dashboard frame,
+     * and tell the system the activity is fully drawn.
+     *
+     * @param prefetched whether the dashboard rendered from the sign-in prefetch
+     */
+    private void reportDashboardDrawn(boolean prefetched) {
+        long signInStartedNanos = getIntent().getLongExtra(EXTRA_SIGN_IN_STARTED_NANOS, 0);
+        if (signInStartedNanos == 0) {
+            return;
+        }
+        View root = getWindow().getDecorView();
+        root.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                root.getViewTreeObserver().removeOnPreDrawListener(this);
+                // Runs after this frame is drawn
+                root.post(() -> {
+                    long durationNanos = System.nanoTime() - signInStartedNanos;
+                    Tracer.complete(Tracer.CATEGORY_ACTIVITY, "SignIn.toFirstDashboardFrame",
+                            signInStartedNanos, durationNanos);
+                    Log.i(TAG, "reportDashboardDrawn: Sign-in to first dashboard frame " +
+                            TimeUnit.NANOSECONDS.toMillis(durationNanos) + "ms (prefetched=" + prefetched + ")");
+                    reportFullyDrawn();
+                });
+                return true;
+            }
+        });
     }
 
     /**
      * Update progress card with goal data.
-     * Uses cached weightEntries to avoid redundant database query.
+     * Uses cached weightEntries and activeGoal to avoid redundant database queries.
      */
     private void updateProgressCard() {
-        activeGoal = goalWeightDAO.getActiveGoal(currentUserId);
-
         if (activeGoal == null) {
             progressCard.setVisibility(View.GONE);
             btnEditGoalFromCard.setVisibility(View.GONE);
@@ -366,18 +584,7 @@ public class MainActivity extends AppCompatActivity
         // Get current weight from most recent entry (use cached list)
         double current = activeGoal.getStartWeight();
         if (!weightEntries.isEmpty()) {
-            WeightEntry latestEntry = weightEntries.get(0);
-            current = latestEntry.getWeightValue();
-            String entryUnit = latestEntry.getWeightUnit();
-
-            // Convert if units don't match
-            if (!entryUnit.equals(goalUnit)) {
-                if ("kg".equals(goalUnit)) {
-                    current = WeightUtils.convertLbsToKg(current);
-                } else {
-                    current = WeightUtils.convertKgToLbs(current);
-                }
-            }
+            current = DashboardData.weightIn(weightEntries.get(0), goalUnit);
         }
 
         // Display weight values
@@ -428,13 +635,12 @@ public class MainActivity extends AppCompatActivity
 
     /**
      * Calculate and display quick stats.
-     * Uses cached weightEntries to avoid redundant database query.
+     * Uses cached weightEntries and activeGoal to avoid redundant database queries.
      */
     private void calculateQuickStats() {
-        activeGoal = goalWeightDAO.getActiveGoal(currentUserId);
-
         if (activeGoal != null && !weightEntries.isEmpty()) {
-            double current = weightEntries.get(0).getWeightValue();
+            // Latest entry in the goal's unit (entries may be logged in either unit)
+            double current = DashboardData.weightIn(weightEntries.get(0), activeGoal.getGoalUnit());
             double start = activeGoal.getStartWeight();
             double goal = activeGoal.getGoalWeight();
 
@@ -447,9 +653,8 @@ public class MainActivity extends AppCompatActivity
             lbsToGoalValue.setText(String.format("%.0f", lbsToGoal));
         }
 
-        // Day streak (use cached list)
-        int streak = DateUtils.calculateDayStreak(weightEntries);
-        dayStreakValue.setText(String.valueOf(streak));
+        // Day streak (computed when the entries were loaded)
+        dayStreakValue.setText(String.valueOf(dayStreak));
     }
 
     /**
@@ -495,18 +700,17 @@ public class MainActivity extends AppCompatActivity
     }
 
     /**
-     * Update user name display.
-     * Falls back to username if display_name is null or empty (defensive programming).
+     * Show a user's display name, falling back to the username.
+     *
+     * @param user the signed-in user
      */
-    private void updateUserName() {
-        User user = userDAO.getUserById(currentUserId);
-        if (user != null) {
-            String displayName = user.getDisplayName();
-            if (ValidationUtils.isNullOrEmpty(displayName)) {
-                displayName = user.getUsername();  // Fallback to username
-            }
-            userName.setText(displayName);
+    private void showUserName(User user) {
+        String displayName = user.getDisplayName();
+        if (ValidationUtils.isNullOrEmpty(displayName)) {
+            displayName = user.getUsername();  // Fallback to username
         }
+        shownUserName = displayName;
+        userName.setText(displayName);
     }
 
     /**
@@ -528,17 +732,37 @@ public class MainActivity extends AppCompatActivity
         new AlertDialog.Builder(this)
                 .setTitle("Delete Entry")
                 .setMessage("Are you sure you want to delete this weight entry?")
-                .setPositiveButton("Delete", (dialog, which) -> {
-                    weightEntryDAO.deleteWeightEntry(entry.getWeightId());
-                    Toast.makeText(this, "Entry deleted", Toast.LENGTH_SHORT).show();
-                    loadWeightEntries();
-                    updateProgressCard();
-                    calculateQuickStats();
-                })
+                .setPositiveButton("Delete", (dialog, which) -> deleteEntry(entry.getWeightId()))
                 .setNegativeButton("Cancel", null)
                 .show();
     }
 
+    /**
+     * Delete an entry in the background, then refresh the dashboard.
+     *
+     * @param weightId ID of the entry to delete
+     */
+    private void deleteEntry(long weightId) {
+        BackgroundTask.execute(
+            () -> weightEntryDAO.deleteWeightEntry(weightId),
+            new BackgroundTask.Callback<Integer>() {
+                @Override
+                public void onResult(Integer rowsDeleted) {
+                    if (isFinishing() || isDestroyed()) {
+                        return;
+                    }
+                    Toast.makeText(MainActivity.this, "Entry deleted", Toast.LENGTH_SHORT).show();
+                    refreshDashboard();
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    Log.e(TAG, "deleteEntry: Failed to delete weight_id: " + weightId, error);
+                }
+            }
+        );
+    }
+
     // ============================================================
     // Goal Setting Dialog
     // ============================================================
@@ -621,6 +845,7 @@ public class MainActivity extends AppCompatActivity
         // Refresh UI
         updateProgressCard();
         calculateQuickStats();
+        saveSnapshot();
     }
 
     @Override
@@ -657,11 +882,16 @@ public class MainActivity extends AppCompatActivity
      */
     @Override
     protected void onResume() {
-        super.onResume();
-        // Refresh all data from database
-        loadWeightEntries();
-        updateProgressCard();
-        calculateQuickStats();
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "MainActivity.onResume")) {
+            super.onResume();
+            if (skipNextResumeRefresh) {
+                // First resume right after onCreate loaded the data
+                skipNextResumeRefresh = false;
+                return;
+            }
+            // Refresh all data from database
+            refreshDashboard();
+        }
     }
 
     /**
@@ -674,9 +904,7 @@ public class MainActivity extends AppCompatActivity
 
         if (requestCode == REQUEST_CODE_WEIGHT_ENTRY && resultCode == RESULT_OK) {
             // Refresh all data from database
-            loadWeightEntries();
-            updateProgressCard();
-            calculateQuickStats();
+            refreshDashboard();
         }
     }
 }
@@ -1,10 +1,12 @@
 package com.example.weightogo.activities;
 
 import android.Manifest;
+import android.content.Intent;
 import android.content.pm.PackageManager;
 import android.os.Build;
 import android.os.Bundle;
 import android.util.Log;
+import android.view.View;
 import android.view.inputmethod.EditorInfo;
 import android.widget.Button;
 import android.widget.EditText;
@@ -22,18 +24,25 @@ import androidx.work.ExistingPeriodicWorkPolicy;
 import androidx.work.PeriodicWorkRequest;
 import androidx.work.WorkManager;
 
+import com.example.weightogo.BuildConfig;
 import com.example.weightogo.R;
 import com.example.weightogo.database.AchievementDAO;
+import com.example.weightogo.database.DaoMetrics;
 import com.example.weightogo.database.UserDAO;
 import com.example.weightogo.database.UserPreferenceDAO;
 import com.example.weightogo.database.WeighToGoDBHelper;
 import com.example.weightogo.models.User;
+import com.example.weightogo.utils.BackgroundTask;
 import com.example.weightogo.utils.SMSNotificationManager;
 import com.example.weightogo.utils.SessionManager;
+import com.example.weightogo.utils.Tracer;
 import com.example.weightogo.utils.ValidationUtils;
 import com.example.weightogo.workers.DailyReminderWorker;
 import androidx.appcompat.widget.SwitchCompat;
 
+import org.json.JSONException;
+
+import java.io.File;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -51,6 +60,7 @@ import java.util.concurrent.TimeUnit;
  * - Phone number management
  * - SMS preference toggles (master, goal alerts, milestone alerts, daily reminders)
  * - Test message functionality
+ * - Developer options in debug builds (DAO metrics export, span trace recording)
  *
  * Part of Phase 6.0.4: Global Weight Unit Preference System
  * Part of Phase 7.4: SMS Notification Management
@@ -78,6 +88,12 @@ public class SettingsActivity extends AppCompatActivity {
     private SwitchCompat switchDailyReminders;
     private Button sendTestMessageButton;
 
+    // UI Elements - Developer Options (debug builds only)
+    private View developerCard;
+    private Button exportDaoMetricsButton;
+    private SwitchCompat switchRecordTraces;
+    private Button exportTraceButton;
+
     // Permission Launcher
     private ActivityResultLauncher<String[]> permissionLauncher;
 
@@ -300,6 +316,15 @@ public class SettingsActivity extends AppCompatActivity {
         switchMilestoneAlerts = findViewById(R.id.switchMilestoneAlerts);
         switchDailyReminders = findViewById(R.id.switchDailyReminders);
         sendTestMessageButton = findViewById(R.id.sendTestMessageButton);
+
+        // Developer options
+        developerCard = findViewById(R.id.developerCard);
+        exportDaoMetricsButton = findViewById(R.id.exportDaoMetricsButton);
+        switchRecordTraces = findViewById(R.id.switchRecordTraces);
+        exportTraceButton = findViewById(R.id.exportTraceButton);
+        if (developerCard != null) {
+            developerCard.setVisibility(BuildConfig.DEBUG ? View.VISIBLE : View.GONE);
+        }
     }
 
     /**
@@ -350,6 +375,16 @@ public class SettingsActivity extends AppCompatActivity {
         if (sendTestMessageButton != null) {
             sendTestMessageButton.setOnClickListener(v -> handleSendTestMessage());
         }
+        if (BuildConfig.DEBUG && exportDaoMetricsButton != null) {
+            exportDaoMetricsButton.setOnClickListener(v -> handleExportDaoMetrics());
+        }
+        if (BuildConfig.DEBUG && switchRecordTraces != null) {
+            switchRecordTraces.setChecked(Tracer.isEnabled());
+            switchRecordTraces.setOnCheckedChangeListener((buttonView, isChecked) -> Tracer.setEnabled(isChecked));
+        }
+        if (BuildConfig.DEBUG && exportTraceButton != null) {
+            exportTraceButton.setOnClickListener(v -> handleExportTrace());
+        }
     }
 
     /**
@@ -832,4 +867,58 @@ public class SettingsActivity extends AppCompatActivity {
             Log.e(TAG, "handleSendTestMessage: Exception", e);
         }
     }
+
+    // =============================================================================================
+    // DEVELOPER OPTIONS
+    // =============================================================================================
+
+    /**
+     * Share a JSON snapshot of the DAO metrics (latency percentiles, row and exception counters,
+     * slow queries) through the system share sheet. Debug builds only.
+     */
+    private void handleExportDaoMetrics() {
+        String json;
+        try {
+            json = DaoMetrics.toJson().toString(2);
+        } catch (JSONException e) {
+            Log.e(TAG, "handleExportDaoMetrics: Exception", e);
+            return;
+        }
+        Log.i(TAG, "handleExportDaoMetrics: " + DaoMetrics.getMethods().size() + " methods, " +
+                DaoMetrics.getSlowQueries().size() + " slow queries");
+
+        Intent share = new Intent(Intent.ACTION_SEND);
+        share.setType("text/plain");
+        share.putExtra(Intent.EXTRA_SUBJECT, "WeighToGo DAO metrics");
+        share.putExtra(Intent.EXTRA_TEXT, json);
+        startActivity(Intent.createChooser(share, getString(R.string.export_dao_metrics_chooser)));
+    }
+
+    /**
+     * Write the recorded spans as a Chrome trace JSON file (opens in ui.perfetto.dev).
+     * The file goes to the app's external files dir so it can be pulled with adb:
+     * {@code adb pull /sdcard/Android/data/com.example.weightogo/files/traces/}. Debug builds only.
+     */
+    private void handleExportTrace() {
+        File externalDir = getExternalFilesDir("traces");
+        File directory = externalDir != null ? externalDir : new File(getFilesDir(), "traces");
+
+        BackgroundTask.execute(
+                () -> Tracer.dumpToFile(directory),
+                new BackgroundTask.Callback<File>() {
+                    @Override
+                    public void onResult(File file) {
+                        Toast.makeText(SettingsActivity.this,
+                                getString(R.string.trace_exported, file.getAbsolutePath()),
+                                Toast.LENGTH_LONG).show();
+                    }
+
+                    @Override
+                    public void onError(Exception error) {
+                        Log.e(TAG, "handleExportTrace: Exception", error);
+                        Toast.makeText(SettingsActivity.this, R.string.trace_export_failed,
+                                Toast.LENGTH_SHORT).show();
+                    }
+                });
+    }
 }
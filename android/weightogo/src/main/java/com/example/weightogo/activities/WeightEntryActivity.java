@@ -24,6 +24,7 @@ import com.example.weightogo.utils.AchievementManager;
 import com.example.weightogo.utils.DateUtils;
 import com.example.weightogo.utils.SMSNotificationManager;
 import com.example.weightogo.utils.SessionManager;
+import com.example.weightogo.utils.Tracer;
 import com.example.weightogo.utils.WeightUtils;
 
 import java.util.List;
@@ -129,6 +130,7 @@ public class WeightEntryActivity extends AppCompatActivity {
     private boolean isEditMode;
     private long editWeightId;
     private WeightEntry currentEntry;  // Cached entry for edit mode
+    private EntryDayWindow dayWindow;  // Entries around currentDate (add mode)
     private LocalDate currentDate;
     private String currentUnit = "lbs";
     private StringBuilder weightInput;
@@ -139,41 +141,43 @@ public class WeightEntryActivity extends AppCompatActivity {
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-        Log.d(TAG, "onCreate: WeightEntryActivity started");
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "WeightEntryActivity.onCreate")) {
+            super.onCreate(savedInstanceState);
+            Log.d(TAG, "onCreate: WeightEntryActivity started");
 
-        setContentView(R.layout.activity_weight_entry);
+            setContentView(R.layout.activity_weight_entry);
 
-        // Initialize weight input to "0.0" (allows saving immediately in add mode)
-        weightInput = new StringBuilder("0.0");
+            // Initialize weight input to "0.0" (allows saving immediately in add mode)
+            weightInput = new StringBuilder("0.0");
 
-        // Get intent extras
-        getIntentExtras();
+            // Get intent extras
+            getIntentExtras();
 
-        // Initialize data layer
-        initDataLayer();
+            // Initialize data layer
+            initDataLayer();
 
-        // Load user preferences (must be after initDataLayer, before initViews)
-        loadUserPreferences();
+            // Load user preferences (must be after initDataLayer, before initViews)
+            loadUserPreferences();
 
-        // Initialize UI
-        initViews();
-        setupClickListeners();
+            // Initialize UI
+            initViews();
+            setupClickListeners();
 
-        // Load data if edit mode
-        if (isEditMode) {
-            loadExistingEntry();
-        } else {
-            loadPreviousEntry();
-            // In add mode, ensure display shows 0.0 (overrides XML default of 172.0)
-            updateWeightDisplay();
-        }
+            // Initialize date to today
+            if (currentDate == null) {
+                currentDate = LocalDate.now();
+            }
 
-        // Initialize date to today
-        if (currentDate == null) {
-            currentDate = LocalDate.now();
+            // Load data if edit mode
+            if (isEditMode) {
+                loadExistingEntry();
+            } else {
+                loadPreviousEntry();
+                // In add mode, ensure display shows 0.0 (overrides XML default of 172.0)
+                updateWeightDisplay();
+            }
+            updateDateDisplay(currentDate);
         }
-        updateDateDisplay(currentDate);
     }
 
     // =============================================================================================
@@ -412,6 +416,7 @@ public class WeightEntryActivity extends AppCompatActivity {
 
         currentDate = currentDate.minusDays(1);
         updateDateDisplay(currentDate);
+        onDateNavigated();
         Log.d(TAG, "navigateToPreviousDay: Moved to " + currentDate);
     }
 
@@ -433,6 +438,7 @@ public class WeightEntryActivity extends AppCompatActivity {
         if (!tomorrow.isAfter(today)) {
             currentDate = tomorrow;
             updateDateDisplay(currentDate);
+            onDateNavigated();
             Log.d(TAG, "navigateToNextDay: Moved to " + currentDate);
         } else {
             Log.d(TAG, "navigateToNextDay: Cannot move to future date");
@@ -600,10 +606,41 @@ public class WeightEntryActivity extends AppCompatActivity {
     }
 
     /**
-     * Load previous entry to show as hint in add mode.
+     * Start loading the entries around the current date to show the last entry as a hint in
+     * add mode. The hint is filled in when the first load arrives (background, one range query).
      */
     private void loadPreviousEntry() {
-        WeightEntry lastEntry = weightEntryDAO.getLatestWeightEntry(userId);
+        lastEntryValue.setVisibility(View.INVISIBLE);
+        lastEntryDate.setVisibility(View.INVISIBLE);
+        dayWindow = new EntryDayWindow(weightEntryDAO, userId, () -> {
+            if (!isFinishing() && !isDestroyed()) {
+                dayWindow.onNavigate(currentDate, LocalDate.now());  // Keep extending if navigation outran a load
+                showPreviousEntry();
+            }
+        });
+        dayWindow.start(currentDate, LocalDate.now());
+    }
+
+    /**
+     * Date navigation: update the last entry hint from the window (no query) and let the
+     * window extend in the direction of travel.
+     */
+    private void onDateNavigated() {
+        if (dayWindow != null) {
+            dayWindow.onNavigate(currentDate, LocalDate.now());
+            showPreviousEntry();
+        }
+    }
+
+    /**
+     * Show the last entry on or before the current date as the hint. Keeps the current hint
+     * while the date is not loaded yet.
+     */
+    private void showPreviousEntry() {
+        if (!dayWindow.isLoaded(currentDate)) {
+            return;
+        }
+        WeightEntry lastEntry = dayWindow.getLatestOnOrBefore(currentDate);
 
         if (lastEntry != null) {
             String value = WeightUtils.formatWeightWithUnit(
@@ -614,11 +651,11 @@ public class WeightEntryActivity extends AppCompatActivity {
             String date = "on " + DateUtils.formatDateShort(lastEntry.getWeightDate());
             lastEntryDate.setText(date);
 
-            Log.d(TAG, "loadPreviousEntry: Loaded previous entry");
+            lastEntryValue.setVisibility(View.VISIBLE);
+            lastEntryDate.setVisibility(View.VISIBLE);
         } else {
             lastEntryValue.setVisibility(View.GONE);
             lastEntryDate.setVisibility(View.GONE);
-            Log.d(TAG, "loadPreviousEntry: No previous entry found");
         }
     }
 
@@ -677,43 +714,45 @@ public class WeightEntryActivity extends AppCompatActivity {
      * Allows 0 as a valid weight (can be deleted later via edit).
      */
     private void handleSave() {
-        String weightStr = weightInput.toString();
-
-        // Validate non-empty (allow "0" or "0.0" as valid)
-        if (weightStr.isEmpty()) {
-            Toast.makeText(this, "Please enter a weight value", Toast.LENGTH_SHORT).show();
-            Log.w(TAG, "handleSave: Empty weight value");
-            return;
-        }
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "WeightEntryActivity.handleSave")) {
+            String weightStr = weightInput.toString();
+
+            // Validate non-empty (allow "0" or "0.0" as valid)
+            if (weightStr.isEmpty()) {
+                Toast.makeText(this, "Please enter a weight value", Toast.LENGTH_SHORT).show();
+                Log.w(TAG, "handleSave: Empty weight value");
+                return;
+            }
 
-        double weight;
+            double weight;
 
-        try {
-            weight = Double.parseDouble(weightStr);
-        } catch (NumberFormatException e) {
-            Toast.makeText(this, "Invalid weight format", Toast.LENGTH_SHORT).show();
-            Log.w(TAG, "handleSave: Invalid number format: " + weightStr);
-            return;
-        }
-
-        // Validate range based on current unit (allow 0 for placeholder/deletion scenario)
-        double min = WeightUtils.MIN_WEIGHT;
-        double max = currentUnit.equals("lbs") ? WeightUtils.MAX_WEIGHT_LBS : WeightUtils.MAX_WEIGHT_KG;
+            try {
+                weight = Double.parseDouble(weightStr);
+            } catch (NumberFormatException e) {
+                Toast.makeText(this, "Invalid weight format", Toast.LENGTH_SHORT).show();
+                Log.w(TAG, "handleSave: Invalid number format: " + weightStr);
+                return;
+            }
 
-        if (weight < min || weight > max) {
-            String message = String.format("Weight must be between %s and %s",
-                    WeightUtils.formatWeightWithUnit(min, currentUnit),
-                    WeightUtils.formatWeightWithUnit(max, currentUnit));
-            Toast.makeText(this, message, Toast.LENGTH_LONG).show();
-            Log.w(TAG, "handleSave: Weight out of range: " + weight);
-            return;
-        }
+            // Validate range based on current unit (allow 0 for placeholder/deletion scenario)
+            double min = WeightUtils.MIN_WEIGHT;
+            double max = currentUnit.equals("lbs") ? WeightUtils.MAX_WEIGHT_LBS : WeightUtils.MAX_WEIGHT_KG;
+
+            if (weight < min || weight > max) {
+                String message = String.format("Weight must be between %s and %s",
+                        WeightUtils.formatWeightWithUnit(min, currentUnit),
+                        WeightUtils.formatWeightWithUnit(max, currentUnit));
+                Toast.makeText(this, message, Toast.LENGTH_LONG).show();
+                Log.w(TAG, "handleSave: Weight out of range: " + weight);
+                return;
+            }
 
-        // Call appropriate method based on mode
-        if (isEditMode) {
-            updateExistingEntry(weight);
-        } else {
-            createNewEntry(weight);
+            // Call appropriate method based on mode
+            if (isEditMode) {
+                updateExistingEntry(weight);
+            } else {
+                createNewEntry(weight);
+            }
         }
     }
 
@@ -738,7 +777,7 @@ public class WeightEntryActivity extends AppCompatActivity {
             Log.i(TAG, "createNewEntry: Successfully created weight entry: " + weightId);
 
             // Check for achievements (Phase 7.5)
-            List<Achievement> newAchievements = achievementManager.checkAchievements(userId, weight);
+            List<Achievement> newAchievements = achievementManager.checkAchievements(userId, weight, currentUnit);
 
             // Send SMS for each new achievement
             for (Achievement achievement : newAchievements) {
@@ -784,7 +823,7 @@ public class WeightEntryActivity extends AppCompatActivity {
             Log.i(TAG, "updateExistingEntry: Successfully updated weight entry: " + editWeightId);
 
             // Check for achievements (Phase 7.5)
-            List<Achievement> newAchievements = achievementManager.checkAchievements(userId, weight);
+            List<Achievement> newAchievements = achievementManager.checkAchievements(userId, weight, currentUnit);
 
             // Send SMS for each new achievement
             for (Achievement achievement : newAchievements) {
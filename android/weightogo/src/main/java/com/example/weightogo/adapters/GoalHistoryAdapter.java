@@ -7,6 +7,11 @@ import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.weightogo.R;
@@ -16,23 +21,68 @@ import com.example.weightogo.utils.WeightUtils;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * RecyclerView adapter for displaying goal history items.
  * Shows past goals with achievement status, stats, and dates.
+ *
+ * <p>{@link #updateGoals} diffs the new list against the current one on a background thread
+ * ({@link AsyncListDiffer}) and dispatches only the rows that changed. Items are identified by
+ * goal_id, which is also the stable item id.</p>
  */
 public class GoalHistoryAdapter extends RecyclerView.Adapter<GoalHistoryAdapter.ViewHolder> {
 
-    private final List<GoalWeight> goals;
+    /**
+     * Identity by goal_id; contents by the fields a row displays.
+     */
+    static final DiffUtil.ItemCallback<GoalWeight> DIFF_CALLBACK = new DiffUtil.ItemCallback<GoalWeight>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull GoalWeight oldItem, @NonNull GoalWeight newItem) {
+            return oldItem.getGoalId() == newItem.getGoalId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull GoalWeight oldItem, @NonNull GoalWeight newItem) {
+            return oldItem.getGoalWeight() == newItem.getGoalWeight()
+                    && oldItem.getStartWeight() == newItem.getStartWeight()
+                    && oldItem.isAchieved() == newItem.isAchieved()
+                    && Objects.equals(oldItem.getGoalUnit(), newItem.getGoalUnit())
+                    && Objects.equals(oldItem.getTargetDate(), newItem.getTargetDate())
+                    && Objects.equals(oldItem.getCreatedAt(), newItem.getCreatedAt())
+                    && Objects.equals(oldItem.getUpdatedAt(), newItem.getUpdatedAt());
+        }
+    };
+
+    private final AsyncListDiffer<GoalWeight> differ;
 
     /**
      * Constructor for GoalHistoryAdapter.
      *
-     * @param goals list of past goals to display
+     * @param goals initial list of past goals to display
      */
     public GoalHistoryAdapter(List<GoalWeight> goals) {
-        this.goals = goals;
+        this(goals, null);
+    }
+
+    /**
+     * Constructor with an explicit diff executor (tests use a synchronous one).
+     *
+     * @param goals        initial list of past goals to display
+     * @param diffExecutor executor for list diffing, or null for the shared background pool
+     */
+    GoalHistoryAdapter(List<GoalWeight> goals, @Nullable Executor diffExecutor) {
+        AsyncDifferConfig.Builder<GoalWeight> config = new AsyncDifferConfig.Builder<>(DIFF_CALLBACK);
+        if (diffExecutor != null) {
+            config.setBackgroundThreadExecutor(diffExecutor);
+        }
+        differ = new AsyncListDiffer<>(new AdapterListUpdateCallback(this), config.build());
+
+        setHasStableIds(true);
+        updateGoals(goals);
     }
 
     @NonNull
@@ -45,7 +95,7 @@ public class GoalHistoryAdapter extends RecyclerView.Adapter<GoalHistoryAdapter.
 
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        GoalWeight goal = goals.get(position);
+        GoalWeight goal = differ.getCurrentList().get(position);
 
         // Show/hide achievement badge
         if (goal.isAchieved()) {
@@ -93,22 +143,22 @@ public class GoalHistoryAdapter extends RecyclerView.Adapter<GoalHistoryAdapter.
 
     @Override
     public int getItemCount() {
-        return goals.size();
+        return differ.getCurrentList().size();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return differ.getCurrentList().get(position).getGoalId();
     }
 
     /**
-     * Update the adapter's data and notify of changes.
-     * More efficient than calling notifyDataSetChanged() externally.
+     * Update the adapter's data, dispatching only the rows that changed.
+     * The list is copied, so the caller may keep reusing the same list instance.
      *
-     * @param newGoals updated list of goals
+     * @param newGoals updated list of goals (null or empty clears the list)
      */
-    public void updateGoals(List<GoalWeight> newGoals) {
-        // Clear and update in place to maintain the same list reference
-        goals.clear();
-        if (newGoals != null && !newGoals.isEmpty()) {
-            goals.addAll(newGoals);
-        }
-        notifyDataSetChanged();  // For small lists this is acceptable; DiffUtil for larger lists
+    public void updateGoals(@Nullable List<GoalWeight> newGoals) {
+        differ.submitList(newGoals == null || newGoals.isEmpty() ? null : new ArrayList<>(newGoals));
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.example.weightogo.adapters;
 
+import android.os.Handler;
+import android.os.Looper;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -7,22 +9,35 @@ import android.widget.ImageButton;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
+import androidx.recyclerview.widget.AsyncDifferConfig;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.weightogo.R;
 import com.example.weightogo.models.WeightEntry;
-import com.example.weightogo.utils.DateUtils;
-import com.example.weightogo.utils.WeightUtils;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * RecyclerView adapter for displaying weight entry items.
  * Implements ViewHolder pattern for efficient list rendering.
+ *
+ * <p><strong>Row Models:</strong> Entries are turned into immutable {@link WeightEntryRow}s on
+ * a background thread, with every display string and the trend against the previous entry
+ * computed once. onBindViewHolder only assigns precomputed values; click listeners are
+ * attached once per ViewHolder.</p>
+ *
+ * <p><strong>Incremental Updates:</strong> New rows are diffed against the current rows on the
+ * same background thread ({@link AsyncListDiffer}) and only inserted, removed, moved and changed
+ * rows are dispatched. Rows are identified by weight_id, which is also the stable item id. A
+ * row's trend is part of its content, so the row above an insert or delete rebinds too.</p>
  */
 public class WeightEntryAdapter extends RecyclerView.Adapter<WeightEntryAdapter.ViewHolder> {
 
@@ -45,182 +60,156 @@ public class WeightEntryAdapter extends RecyclerView.Adapter<WeightEntryAdapter.
         void onDeleteClick(WeightEntry entry);
     }
 
-    private final List<WeightEntry> entries;
+    /**
+     * Identity by weight_id; contents by every displayed value (see {@link WeightEntryRow#equals}).
+     */
+    static final DiffUtil.ItemCallback<WeightEntryRow> DIFF_CALLBACK = new DiffUtil.ItemCallback<WeightEntryRow>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull WeightEntryRow oldItem, @NonNull WeightEntryRow newItem) {
+            return oldItem.getWeightId() == newItem.getWeightId();
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull WeightEntryRow oldItem, @NonNull WeightEntryRow newItem) {
+            return oldItem.equals(newItem);
+        }
+    };
+
+    /**
+     * Builds rows and diffs lists; one thread keeps submissions in order.
+     */
+    private static final Executor DEFAULT_BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    private final AsyncListDiffer<WeightEntryRow> differ;
     private final OnItemClickListener listener;
+    private final Executor backgroundExecutor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private int submitGeneration;
 
     /**
      * Constructor for WeightEntryAdapter.
      *
-     * @param entries list of weight entries to display (must not be null)
+     * @param entries initial weight entries to display (must not be null)
      * @param listener listener for item click events (must not be null)
      * @throws NullPointerException if entries or listener is null
      */
     public WeightEntryAdapter(@NonNull List<WeightEntry> entries, @NonNull OnItemClickListener listener) {
+        this(entries, listener, null);
+    }
+
+    /**
+     * Constructor with an explicit background executor (tests use a synchronous one).
+     *
+     * @param backgroundExecutor executor for row building and diffing, or null for the default
+     */
+    WeightEntryAdapter(@NonNull List<WeightEntry> entries, @NonNull OnItemClickListener listener,
+                       @Nullable Executor backgroundExecutor) {
         if (entries == null) {
             throw new NullPointerException("entries must not be null");
         }
         if (listener == null) {
             throw new NullPointerException("listener must not be null");
         }
-        this.entries = entries;
         this.listener = listener;
-    }
+        this.backgroundExecutor = backgroundExecutor != null ? backgroundExecutor : DEFAULT_BACKGROUND_EXECUTOR;
 
-    @NonNull
-    @Override
-    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
-        View view = LayoutInflater.from(parent.getContext())
-                .inflate(R.layout.item_weight_entry, parent, false);
-        return new ViewHolder(view);
-    }
-
-    @Override
-    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-        WeightEntry entry = entries.get(position);
-
-        // Bind date badge
-        bindDateBadge(holder, entry.getWeightDate());
-
-        // Bind weight value and unit
-        bindWeightValue(holder, entry.getWeightValue(), entry.getWeightUnit());
-
-        // Bind entry time
-        bindEntryTime(holder, entry.getWeightDate(), entry.getCreatedAt());
-
-        // Bind trend badge
-        bindTrendBadge(holder, position);
+        this.differ = new AsyncListDiffer<>(new AdapterListUpdateCallback(this),
+                new AsyncDifferConfig.Builder<>(DIFF_CALLBACK)
+                        .setBackgroundThreadExecutor(this.backgroundExecutor)
+                        .build());
 
-        // Set up click listeners
-        holder.editButton.setOnClickListener(v -> listener.onEditClick(entry));
-        holder.deleteButton.setOnClickListener(v -> listener.onDeleteClick(entry));
-    }
-
-    @Override
-    public int getItemCount() {
-        return entries.size();
-    }
-
-    /**
-     * Binds date badge (day number and month name).
-     *
-     * @param holder ViewHolder containing the views
-     * @param date the date to display
-     */
-    private void bindDateBadge(ViewHolder holder, LocalDate date) {
-        String shortDate = DateUtils.formatDateShort(date); // "26 Nov"
-        String[] parts = shortDate.split(" ");
+        setHasStableIds(true);
 
-        if (parts.length == 2) {
-            holder.dayNumber.setText(parts[0]); // "26"
-            holder.monthName.setText(parts[1].toUpperCase(Locale.US)); // "NOV"
+        // Initial list is built synchronously so the adapter is populated immediately
+        if (!entries.isEmpty()) {
+            differ.submitList(WeightEntryRow.fromEntries(entries, LocalDate.now()));
         }
     }
 
     /**
-     * Binds weight value and unit with 1 decimal place formatting.
+     * Display a new list of entries, dispatching only the rows that changed.
+     * Rows are built and diffed off the main thread; if another list is submitted before this
+     * one is displayed, this one is dropped. The list is copied, so the caller may reuse it.
      *
-     * @param holder ViewHolder containing the views
-     * @param weight the weight value to display
-     * @param unit the weight unit (lbs or kg)
+     * @param newEntries entries sorted by date descending (null or empty clears the list)
+     * @param commitCallback run on the main thread once the new list is displayed, or null
      */
-    private void bindWeightValue(ViewHolder holder, double weight, String unit) {
-        holder.weightValue.setText(WeightUtils.formatWeight(weight));
-        holder.weightUnit.setText(unit);
-    }
-
-    /**
-     * Binds entry time with smart formatting (Today, Yesterday, or full date).
-     *
-     * @param holder ViewHolder containing the views
-     * @param date the date of the entry
-     * @param createdAt the timestamp when the entry was created
-     */
-    private void bindEntryTime(ViewHolder holder, LocalDate date, LocalDateTime createdAt) {
-        String timeStr;
-
-        if (DateUtils.isToday(date)) {
-            timeStr = "Today, " + formatTime(createdAt);
-        } else if (isYesterday(date)) {
-            timeStr = "Yesterday, " + formatTime(createdAt);
-        } else {
-            timeStr = DateUtils.formatDateFull(date);
+    public void submitEntries(@Nullable List<WeightEntry> newEntries, @Nullable Runnable commitCallback) {
+        final int generation = ++submitGeneration;
+        if (newEntries == null || newEntries.isEmpty()) {
+            differ.submitList(null, commitCallback);
+            return;
         }
 
-        holder.entryTime.setText(timeStr);
+        final List<WeightEntry> snapshot = new ArrayList<>(newEntries);
+        final LocalDate today = LocalDate.now();
+        backgroundExecutor.execute(() -> {
+            List<WeightEntryRow> rows = WeightEntryRow.fromEntries(snapshot, today);
+            mainHandler.post(() -> {
+                if (generation == submitGeneration) {
+                    differ.submitList(rows, commitCallback);
+                }
+            });
+        });
     }
 
     /**
-     * Binds trend badge showing weight change from previous entry.
-     * Converts weights to current entry's unit before comparison.
-     *
-     * @param holder ViewHolder containing the views
-     * @param position position of the entry in the list
+     * @return rows currently displayed (read-only)
      */
-    private void bindTrendBadge(ViewHolder holder, int position) {
-        // If this is the last entry (no previous to compare), hide trend badge
-        if (position >= entries.size() - 1) {
-            holder.trendBadge.setVisibility(View.GONE);
-            return;
-        }
+    @NonNull
+    public List<WeightEntryRow> getCurrentRows() {
+        return differ.getCurrentList();
+    }
 
-        holder.trendBadge.setVisibility(View.VISIBLE);
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.item_weight_entry, parent, false);
+        ViewHolder holder = new ViewHolder(view);
 
-        WeightEntry current = entries.get(position);
-        WeightEntry previous = entries.get(position + 1); // List is sorted DESC (most recent first)
+        // Listeners read the holder's current row, so they are created once, not per bind
+        holder.editButton.setOnClickListener(v -> {
+            if (holder.row != null) {
+                listener.onEditClick(holder.row.getEntry());
+            }
+        });
+        holder.deleteButton.setOnClickListener(v -> {
+            if (holder.row != null) {
+                listener.onDeleteClick(holder.row.getEntry());
+            }
+        });
+        return holder;
+    }
 
-        // Normalize both weights to current entry's unit for accurate comparison
-        double currentWeight = current.getWeightValue();
-        double previousWeight = previous.getWeightValue();
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        WeightEntryRow row = differ.getCurrentList().get(position);
+        holder.row = row;
 
-        // Convert previous weight to current entry's unit if they differ
-        if (!current.getWeightUnit().equals(previous.getWeightUnit())) {
-            if (current.getWeightUnit().equals("lbs") && previous.getWeightUnit().equals("kg")) {
-                // Convert previous kg to lbs
-                previousWeight = WeightUtils.convertKgToLbs(previousWeight);
-            } else if (current.getWeightUnit().equals("kg") && previous.getWeightUnit().equals("lbs")) {
-                // Convert previous lbs to kg
-                previousWeight = WeightUtils.convertLbsToKg(previousWeight);
-            }
-        }
+        holder.dayNumber.setText(row.getDayNumber());
+        holder.monthName.setText(row.getMonthName());
+        holder.weightValue.setText(row.getWeightValue());
+        holder.weightUnit.setText(row.getWeightUnit());
+        holder.entryTime.setText(row.getEntryTime());
 
-        // Calculate trend: previous - current (positive = weight loss, negative = weight gain)
-        double diff = WeightUtils.roundToOneDecimal(previousWeight - currentWeight);
-        String unit = current.getWeightUnit(); // Trend shown in current entry's unit
-
-        if (Math.abs(diff) < 0.1) {
-            // No change
-            holder.trendBadge.setText("− 0.0 " + unit);
-            holder.trendBadge.setBackgroundResource(R.drawable.bg_badge_trend_same);
-        } else if (diff > 0) {
-            // Lost weight (previous was heavier)
-            holder.trendBadge.setText("↓ " + WeightUtils.formatWeightWithUnit(diff, unit));
-            holder.trendBadge.setBackgroundResource(R.drawable.bg_badge_trend_down);
+        if (row.getTrendText() == null) {
+            holder.trendBadge.setVisibility(View.GONE);
         } else {
-            // Gained weight
-            holder.trendBadge.setText("↑ " + WeightUtils.formatWeightWithUnit(Math.abs(diff), unit));
-            holder.trendBadge.setBackgroundResource(R.drawable.bg_badge_trend_up);
+            holder.trendBadge.setVisibility(View.VISIBLE);
+            holder.trendBadge.setText(row.getTrendText());
+            holder.trendBadge.setBackgroundResource(row.getTrendBackground());
         }
     }
 
-    /**
-     * Formats time as "h:mm a" (e.g., "7:32 AM").
-     *
-     * @param dateTime the datetime to format
-     * @return formatted time string
-     */
-    private String formatTime(LocalDateTime dateTime) {
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mm a");
-        return dateTime.format(timeFormatter);
+    @Override
+    public int getItemCount() {
+        return differ.getCurrentList().size();
     }
 
-    /**
-     * Checks if a date is yesterday.
-     *
-     * @param date the date to check
-     * @return true if the date is yesterday
-     */
-    private boolean isYesterday(LocalDate date) {
-        return date.equals(LocalDate.now().minusDays(1));
+    @Override
+    public long getItemId(int position) {
+        return differ.getCurrentList().get(position).getWeightId();
     }
 
     /**
@@ -235,6 +224,7 @@ public class WeightEntryAdapter extends RecyclerView.Adapter<WeightEntryAdapter.
         TextView trendBadge;
         ImageButton editButton;
         ImageButton deleteButton;
+        @Nullable WeightEntryRow row;
 
         public ViewHolder(@NonNull View itemView) {
             super(itemView);
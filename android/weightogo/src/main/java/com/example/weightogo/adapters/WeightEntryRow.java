@@ -0,0 +1,213 @@
+package com.example.weightogo.adapters;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.R;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.DateUtils;
+import com.example.weightogo.utils.WeightFormatter;
+import com.example.weightogo.utils.WeightUtils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Immutable display model for one row of {@link WeightEntryAdapter}.
+ *
+ * <p>All strings and the trend against the previous entry are computed once by
+ * {@link #fromEntries(List, LocalDate)}, off the main thread, so binding a row is plain field
+ * assignment. Equality covers every displayed value, which makes it the diff content check:
+ * a row whose neighbour changed gets a new trend and therefore rebinds.</p>
+ */
+public final class WeightEntryRow {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("h:mm a", Locale.US);
+
+    @NonNull private final WeightEntry entry;
+    @NonNull private final String dayNumber;
+    @NonNull private final String monthName;
+    @NonNull private final String weightValue;
+    @NonNull private final String weightUnit;
+    @NonNull private final String entryTime;
+    @Nullable private final String trendText;
+    @DrawableRes private final int trendBackground;
+
+    WeightEntryRow(@NonNull WeightEntry entry, @NonNull String dayNumber, @NonNull String monthName,
+                   @NonNull String weightValue, @NonNull String weightUnit, @NonNull String entryTime,
+                   @Nullable String trendText, @DrawableRes int trendBackground) {
+        this.entry = entry;
+        this.dayNumber = dayNumber;
+        this.monthName = monthName;
+        this.weightValue = weightValue;
+        this.weightUnit = weightUnit;
+        this.entryTime = entryTime;
+        this.trendText = trendText;
+        this.trendBackground = trendBackground;
+    }
+
+    /**
+     * Build rows for entries sorted by date descending (most recent first).
+     * Safe to call on any thread.
+     *
+     * @param entries entries in display order
+     * @param today   date used for the "Today"/"Yesterday" labels
+     * @return one row per entry, in the same order
+     */
+    @NonNull
+    public static List<WeightEntryRow> fromEntries(@NonNull List<WeightEntry> entries, @NonNull LocalDate today) {
+        List<WeightEntryRow> rows = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            WeightEntry previous = i + 1 < entries.size() ? entries.get(i + 1) : null;
+            rows.add(fromEntry(entries.get(i), previous, today));
+        }
+        return rows;
+    }
+
+    /**
+     * Build the row for one entry.
+     *
+     * @param entry    entry to display
+     * @param previous the next older entry (for the trend badge), or null if entry is the oldest
+     * @param today    date used for the "Today"/"Yesterday" labels
+     * @return row display model
+     */
+    @NonNull
+    static WeightEntryRow fromEntry(@NonNull WeightEntry entry, @Nullable WeightEntry previous,
+                                    @NonNull LocalDate today) {
+        // Date badge: "26 Nov" -> "26", "NOV"
+        String dayNumber = "";
+        String monthName = "";
+        String[] parts = DateUtils.formatDateShort(entry.getWeightDate()).split(" ");
+        if (parts.length == 2) {
+            dayNumber = parts[0];
+            monthName = parts[1].toUpperCase(Locale.US);
+        }
+
+        // Entry time: Today, Yesterday, or full date
+        LocalDate date = entry.getWeightDate();
+        String entryTime;
+        if (date.equals(today)) {
+            entryTime = "Today, " + entry.getCreatedAt().format(TIME_FORMAT);
+        } else if (date.equals(today.minusDays(1))) {
+            entryTime = "Yesterday, " + entry.getCreatedAt().format(TIME_FORMAT);
+        } else {
+            entryTime = DateUtils.formatDateFull(date);
+        }
+
+        // Trend badge: previous - current in the current entry's unit (positive = weight loss)
+        String trendText = null;
+        int trendBackground = 0;
+        if (previous != null) {
+            String unit = entry.getWeightUnit();
+            double previousWeight = previous.getWeightUnit().equals(unit)
+                    ? previous.getWeightValue()
+                    : WeightUtils.fromKilograms(previous.getWeightKg(), unit);
+            double diff = WeightUtils.roundToOneDecimal(previousWeight - entry.getWeightValue());
+
+            if (Math.abs(diff) < 0.1) {
+                trendText = "− 0.0 " + unit;
+                trendBackground = R.drawable.bg_badge_trend_same;
+            } else if (diff > 0) {
+                trendText = WeightFormatter.appendWeightWithUnit(new StringBuilder("↓ "), diff, unit).toString();
+                trendBackground = R.drawable.bg_badge_trend_down;
+            } else {
+                trendText = WeightFormatter.appendWeightWithUnit(new StringBuilder("↑ "), Math.abs(diff), unit).toString();
+                trendBackground = R.drawable.bg_badge_trend_up;
+            }
+        }
+
+        return new WeightEntryRow(entry, dayNumber, monthName,
+                WeightUtils.formatWeight(entry.getWeightValue()), entry.getWeightUnit(),
+                entryTime, trendText, trendBackground);
+    }
+
+    /**
+     * @return the entry this row displays (passed to click listeners)
+     */
+    @NonNull
+    public WeightEntry getEntry() {
+        return entry;
+    }
+
+    public long getWeightId() {
+        return entry.getWeightId();
+    }
+
+    @NonNull
+    public String getDayNumber() {
+        return dayNumber;
+    }
+
+    @NonNull
+    public String getMonthName() {
+        return monthName;
+    }
+
+    @NonNull
+    public String getWeightValue() {
+        return weightValue;
+    }
+
+    @NonNull
+    public String getWeightUnit() {
+        return weightUnit;
+    }
+
+    @NonNull
+    public String getEntryTime() {
+        return entryTime;
+    }
+
+    /**
+     * @return trend badge text, or null if the badge is hidden (oldest entry)
+     */
+    @Nullable
+    public String getTrendText() {
+        return trendText;
+    }
+
+    @DrawableRes
+    public int getTrendBackground() {
+        return trendBackground;
+    }
+
+    /**
+     * Equal if every displayed value is equal (the entry itself is compared by weight_id).
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WeightEntryRow)) return false;
+        WeightEntryRow that = (WeightEntryRow) o;
+        return getWeightId() == that.getWeightId()
+                && trendBackground == that.trendBackground
+                && dayNumber.equals(that.dayNumber)
+                && monthName.equals(that.monthName)
+                && weightValue.equals(that.weightValue)
+                && weightUnit.equals(that.weightUnit)
+                && entryTime.equals(that.entryTime)
+                && Objects.equals(trendText, that.trendText);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getWeightId(), dayNumber, monthName, weightValue, weightUnit, entryTime, trendText);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "WeightEntryRow{" +
+                "weightId=" + getWeightId() +
+                ", date=" + dayNumber + " " + monthName +
+                ", weight=" + weightValue + " " + weightUnit +
+                ", trend='" + trendText + '\'' +
+                '}';
+    }
+}
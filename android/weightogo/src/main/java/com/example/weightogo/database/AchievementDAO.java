@@ -9,11 +9,14 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.example.weightogo.models.Achievement;
+import com.example.weightogo.utils.AppLog;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Data Access Object for Achievement operations.
@@ -30,6 +33,7 @@ import java.util.List;
 public class AchievementDAO {
 
     private static final String TAG = "AchievementDAO";
+    private static final DaoMetrics.Group METRICS = DaoMetrics.group(TAG);
     private static final DateTimeFormatter ISO_DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     private final WeighToGoDBHelper dbHelper;
@@ -45,8 +49,7 @@ public class AchievementDAO {
      * @return achievement_id if successful, -1 on error (including foreign key constraint violations)
      */
     public long insertAchievement(@NonNull Achievement achievement) {
-        Log.d(TAG, "insertAchievement: Inserting achievement type=" + achievement.getAchievementType() +
-                " for user_id=" + achievement.getUserId());
+        AppLog.d(TAG, "insertAchievement: Inserting achievement type={} for user_id={}", achievement.getAchievementType(), achievement.getUserId());
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -68,10 +71,12 @@ public class AchievementDAO {
             values.put("value", achievement.getValue());
         }
 
-        try {
+        try (DaoMetrics.Scope scope =
+                 METRICS.open("insertAchievement", achievement.getUserId(), achievement.getAchievementType())) {
             long achievementId = db.insert(WeighToGoDBHelper.TABLE_ACHIEVEMENTS, null, values);
+            QueryCounter.onWrite(db, achievementId > 0 ? 1 : 0);
             if (achievementId > 0) {
-                Log.i(TAG, "insertAchievement: Successfully inserted achievement_id=" + achievementId);
+                AppLog.i(TAG, "insertAchievement: Successfully inserted achievement_id={}", achievementId);
             } else if (achievementId == -1) {
                 // Foreign key constraint violation (invalid user_id or goal_id)
                 Log.e(TAG, "insertAchievement: Foreign key constraint violated for user_id=" +
@@ -80,10 +85,45 @@ public class AchievementDAO {
             return achievementId;
         } catch (Exception e) {
             Log.e(TAG, "insertAchievement: Exception", e);
+            METRICS.swallowed("insertAchievement");
             return -1;
         }
     }
 
+    /**
+     * Inserts several achievements in one transaction (one commit instead of one per row).
+     * Rows that fail (e.g. foreign key violation) are skipped like in insertAchievement;
+     * each inserted achievement gets its achievement_id set.
+     *
+     * @param achievements achievements to insert
+     * @return number of achievements inserted
+     */
+    public int insertAchievements(@NonNull List<Achievement> achievements) {
+        if (achievements.isEmpty()) {
+            return 0;
+        }
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        int inserted = 0;
+        try (DaoMetrics.Scope scope = METRICS.open("insertAchievements", achievements.size())) {
+            QueryCounter.onBeginTransaction(db);
+            db.beginTransaction();
+            try {
+                for (Achievement achievement : achievements) {
+                    long achievementId = insertAchievement(achievement);
+                    if (achievementId > 0) {
+                        achievement.setAchievementId(achievementId);
+                        inserted++;
+                    }
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+        }
+        return inserted;
+    }
+
     /**
      * Gets all achievements for a user, ordered by achieved_at DESC (most recent first).
      *
@@ -92,12 +132,13 @@ public class AchievementDAO {
      */
     @NonNull
     public List<Achievement> getAchievementsForUser(long userId) {
-        Log.d(TAG, "getAchievementsForUser: user_id=" + userId);
+        AppLog.d(TAG, "getAchievementsForUser: user_id={}", userId);
 
         List<Achievement> achievements = new ArrayList<>();
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getAchievementsForUser", userId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_ACHIEVEMENTS,
             null,
             "user_id = ?",
@@ -108,9 +149,10 @@ public class AchievementDAO {
             while (cursor != null && cursor.moveToNext()) {
                 achievements.add(mapCursorToAchievement(cursor));
             }
-            Log.i(TAG, "getAchievementsForUser: Found " + achievements.size() + " achievements");
+            AppLog.i(TAG, "getAchievementsForUser: Found {} achievements", achievements.size());
         } catch (Exception e) {
             Log.e(TAG, "getAchievementsForUser: Exception", e);
+            METRICS.swallowed("getAchievementsForUser");
         }
 
         return achievements;
@@ -125,12 +167,13 @@ public class AchievementDAO {
      */
     @NonNull
     public List<Achievement> getAchievementsByType(long userId, @NonNull String achievementType) {
-        Log.d(TAG, "getAchievementsByType: user_id=" + userId + ", type=" + achievementType);
+        AppLog.d(TAG, "getAchievementsByType: user_id={}, type={}", userId, achievementType);
 
         List<Achievement> achievements = new ArrayList<>();
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getAchievementsByType", userId, achievementType);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_ACHIEVEMENTS,
             null,
             "user_id = ? AND achievement_type = ?",
@@ -141,10 +184,10 @@ public class AchievementDAO {
             while (cursor != null && cursor.moveToNext()) {
                 achievements.add(mapCursorToAchievement(cursor));
             }
-            Log.i(TAG, "getAchievementsByType: Found " + achievements.size() + " " +
-                    achievementType + " achievements");
+            AppLog.i(TAG, "getAchievementsByType: Found {} {} achievements", achievements.size(), achievementType);
         } catch (Exception e) {
             Log.e(TAG, "getAchievementsByType: Exception", e);
+            METRICS.swallowed("getAchievementsByType");
         }
 
         return achievements;
@@ -158,12 +201,13 @@ public class AchievementDAO {
      */
     @NonNull
     public List<Achievement> getUnnotifiedAchievements(long userId) {
-        Log.d(TAG, "getUnnotifiedAchievements: user_id=" + userId);
+        AppLog.d(TAG, "getUnnotifiedAchievements: user_id={}", userId);
 
         List<Achievement> achievements = new ArrayList<>();
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getUnnotifiedAchievements", userId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_ACHIEVEMENTS,
             null,
             "user_id = ? AND is_notified = 0",
@@ -174,10 +218,10 @@ public class AchievementDAO {
             while (cursor != null && cursor.moveToNext()) {
                 achievements.add(mapCursorToAchievement(cursor));
             }
-            Log.i(TAG, "getUnnotifiedAchievements: Found " + achievements.size() +
-                    " unnotified achievements");
+            AppLog.i(TAG, "getUnnotifiedAchievements: Found {} unnotified achievements", achievements.size());
         } catch (Exception e) {
             Log.e(TAG, "getUnnotifiedAchievements: Exception", e);
+            METRICS.swallowed("getUnnotifiedAchievements");
         }
 
         return achievements;
@@ -191,11 +235,12 @@ public class AchievementDAO {
      * @return true if achievement exists, false otherwise
      */
     public boolean hasAchievementType(long userId, @NonNull String achievementType) {
-        Log.d(TAG, "hasAchievementType: user_id=" + userId + ", type=" + achievementType);
+        AppLog.d(TAG, "hasAchievementType: user_id={}, type={}", userId, achievementType);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("hasAchievementType", userId, achievementType);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_ACHIEVEMENTS,
             new String[]{"achievement_id"},
             "user_id = ? AND achievement_type = ?",
@@ -204,14 +249,48 @@ public class AchievementDAO {
             "1"
         )) {
             boolean exists = cursor != null && cursor.getCount() > 0;
-            Log.d(TAG, "hasAchievementType: " + achievementType + " exists=" + exists);
+            AppLog.d(TAG, "hasAchievementType: {} exists={}", achievementType, exists);
             return exists;
         } catch (Exception e) {
             Log.e(TAG, "hasAchievementType: Exception", e);
+            METRICS.swallowed("hasAchievementType");
             return false;
         }
     }
 
+    /**
+     * Gets every achievement type a user has been awarded, in one query
+     * (instead of one hasAchievementType() call per type).
+     *
+     * @param userId User ID
+     * @return awarded types (empty set if none or on error)
+     */
+    @NonNull
+    public Set<String> getAchievementTypes(long userId) {
+        AppLog.d(TAG, "getAchievementTypes: user_id={}", userId);
+
+        Set<String> types = new HashSet<>();
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        try (DaoMetrics.Scope scope = METRICS.open("getAchievementTypes", userId);
+             Cursor cursor = db.query(
+            true,
+            WeighToGoDBHelper.TABLE_ACHIEVEMENTS,
+            new String[]{"achievement_type"},
+            "user_id = ?",
+            new String[]{String.valueOf(userId)},
+            null, null, null, null
+        )) {
+            while (cursor != null && cursor.moveToNext()) {
+                types.add(cursor.getString(0));
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "getAchievementTypes: Exception", e);
+            METRICS.swallowed("getAchievementTypes");
+        }
+        return types;
+    }
+
     /**
      * Updates the is_notified flag for an achievement.
      *
@@ -220,27 +299,29 @@ public class AchievementDAO {
      * @return Number of rows updated (1 if successful, 0 if not found)
      */
     public int updateIsNotified(long achievementId, boolean isNotified) {
-        Log.d(TAG, "updateIsNotified: achievement_id=" + achievementId + ", isNotified=" + isNotified);
+        AppLog.d(TAG, "updateIsNotified: achievement_id={}, isNotified={}", achievementId, String.valueOf(isNotified));
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
         ContentValues values = new ContentValues();
         values.put("is_notified", isNotified ? 1 : 0);
 
-        try {
+        try (DaoMetrics.Scope scope = METRICS.open("updateIsNotified", achievementId, isNotified)) {
             int rowsUpdated = db.update(
                 WeighToGoDBHelper.TABLE_ACHIEVEMENTS,
                 values,
                 "achievement_id = ?",
                 new String[]{String.valueOf(achievementId)}
             );
+            QueryCounter.onWrite(db, rowsUpdated);
 
             if (rowsUpdated > 0) {
-                Log.i(TAG, "updateIsNotified: Successfully updated achievement_id=" + achievementId);
+                AppLog.i(TAG, "updateIsNotified: Successfully updated achievement_id={}", achievementId);
             }
             return rowsUpdated;
         } catch (Exception e) {
             Log.e(TAG, "updateIsNotified: Exception", e);
+            METRICS.swallowed("updateIsNotified");
             return 0;
         }
     }
@@ -253,11 +334,12 @@ public class AchievementDAO {
      */
     @Nullable
     public Achievement getLatestAchievement(long userId) {
-        Log.d(TAG, "getLatestAchievement: user_id=" + userId);
+        AppLog.d(TAG, "getLatestAchievement: user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getLatestAchievement", userId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_ACHIEVEMENTS,
             null,
             "user_id = ?",
@@ -271,6 +353,7 @@ public class AchievementDAO {
             }
         } catch (Exception e) {
             Log.e(TAG, "getLatestAchievement: Exception", e);
+            METRICS.swallowed("getLatestAchievement");
         }
         return null;
     }
@@ -0,0 +1,495 @@
+package com.example.weightogo.database;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.example.weightogo.utils.MainThreadGuard;
+import com.example.weightogo.utils.Tracer;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics registry for DAO calls: a latency histogram per DAO method, counters for rows mapped
+ * and exceptions swallowed, and a ring buffer of the most recent slow calls.
+ *
+ * <p><strong>Instrumenting a DAO:</strong> Each DAO holds a {@link Group} and opens a
+ * {@link Scope} as the first resource of the method's try block, so the scope closes after the
+ * cursor and times the whole query and mapping:</p>
+ * <pre>
+ * try (DaoMetrics.Scope scope = METRICS.open("getActiveGoal", userId);
+ *      Cursor cursor = db.query(...)) {
+ *     ...
+ * } catch (Exception e) {
+ *     Log.e(TAG, "getActiveGoal: Exception", e);
+ *     METRICS.swallowed("getActiveGoal");
+ * }
+ * </pre>
+ *
+ * <p><strong>What Is Recorded:</strong></p>
+ * <ul>
+ *   <li>Latency: time from open to close of the scope, in microseconds</li>
+ *   <li>Rows mapped: rows returned by the cursors the call read (counted by the cursor factory
+ *       installed in {@link WeighToGoDBHelper})</li>
+ *   <li>Exceptions swallowed: catch blocks that log and return an empty result</li>
+ *   <li>Slow calls: calls at or over {@link #getSlowQueryThresholdMillis()}, with the SQL of the
+ *       last query they ran and the arguments passed to {@link Group#open}. Writes made through
+ *       insert/update/delete have no SQL text, only arguments. Never pass secrets as arguments.</li>
+ * </ul>
+ *
+ * <p><strong>Cost:</strong> Always on. A call costs two {@code System.nanoTime()} reads, a
+ * thread-local swap, a map lookup and a histogram update (lock-free, no allocation beyond the
+ * scope). Up to two integer arguments (ids, limits, counts) go through the primitive
+ * {@link Group#open} overloads and are kept unboxed; other arguments take the varargs overload.
+ * Arguments are only formatted for slow calls, and the slow-call buffer is only touched by them.
+ * While {@link Tracer} is on, each call is also recorded as a "dao" span.</p>
+ *
+ * <p>Read from tests with {@link #getMethod} and {@link #getSlowQueries()}; export with
+ * {@link #toJson()} (Settings developer options in debug builds).</p>
+ */
+public final class DaoMetrics {
+
+    /** Default slow-call threshold: a call this long on the main thread drops a frame */
+    public static final long DEFAULT_SLOW_QUERY_THRESHOLD_MS = 16;
+
+    /** Slow calls kept; older ones are overwritten */
+    static final int SLOW_QUERY_CAPACITY = 64;
+
+    private static final Map<String, Method> METHODS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final SlowQuery[] SLOW_QUERIES = new SlowQuery[SLOW_QUERY_CAPACITY];
+    private static int slowQueryNext;
+    private static long slowQueryTotal;
+    private static volatile long slowQueryThresholdNanos =
+            TimeUnit.MILLISECONDS.toNanos(DEFAULT_SLOW_QUERY_THRESHOLD_MS);
+
+    private DaoMetrics() {
+        throw new AssertionError("DaoMetrics is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Metrics of one DAO method.
+     */
+    public static final class Method {
+        private final String name;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rowsMapped = new LongAdder();
+        private final LongAdder exceptionsSwallowed = new LongAdder();
+
+        Method(@NonNull String name) {
+            this.name = name;
+        }
+
+        /**
+         * @return qualified name, e.g. "WeightEntryDAO.getWeightEntriesForUser"
+         */
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return latency histogram (microseconds); its count is the number of calls
+         */
+        @NonNull
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getRowsMapped() {
+            return rowsMapped.sum();
+        }
+
+        public long getExceptionsSwallowed() {
+            return exceptionsSwallowed.sum();
+        }
+
+        void reset() {
+            latency.reset();
+            rowsMapped.reset();
+            exceptionsSwallowed.reset();
+        }
+    }
+
+    /**
+     * The methods of one DAO; hold one per DAO class.
+     */
+    public static final class Group {
+        private final String dao;
+        private final Map<String, Method> methods = new ConcurrentHashMap<>();
+
+        private Group(@NonNull String dao) {
+            this.dao = dao;
+        }
+
+        /**
+         * Start timing a call. Open as the first resource of a try-with-resources block.
+         *
+         * @param method method name
+         * @return the open scope
+         */
+        @NonNull
+        public Scope open(@NonNull String method) {
+            return new Scope(method(method), 0, 0, 0, null);
+        }
+
+        /**
+         * @param method method name
+         * @param arg    identifying argument for the slow-call log (id, limit, count)
+         * @return the open scope
+         * @see #open(String)
+         */
+        @NonNull
+        public Scope open(@NonNull String method, long arg) {
+            return new Scope(method(method), 1, arg, 0, null);
+        }
+
+        /**
+         * @param method method name
+         * @param arg0   first identifying argument for the slow-call log
+         * @param arg1   second identifying argument
+         * @return the open scope
+         * @see #open(String)
+         */
+        @NonNull
+        public Scope open(@NonNull String method, long arg0, long arg1) {
+            return new Scope(method(method), 2, arg0, arg1, null);
+        }
+
+        /**
+         * @param method method name
+         * @param args   identifying arguments for the slow-call log (ids, dates, names)
+         * @return the open scope
+         * @see #open(String)
+         */
+        @NonNull
+        public Scope open(@NonNull String method, @Nullable Object... args) {
+            return new Scope(method(method), 0, 0, 0, args);
+        }
+
+        /**
+         * Count an exception a method caught and did not rethrow. Call from the catch block.
+         *
+         * @param method method name
+         */
+        public void swallowed(@NonNull String method) {
+            method(method).exceptionsSwallowed.increment();
+        }
+
+        @NonNull
+        private Method method(@NonNull String method) {
+            Method metrics = methods.get(method);
+            if (metrics == null) {
+                metrics = METHODS.computeIfAbsent(dao + "." + method, Method::new);
+                methods.put(method, metrics);
+            }
+            return metrics;
+        }
+    }
+
+    /**
+     * One timed DAO call. Not thread-safe; close on the thread that opened it.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Method method;
+        private final int longArgCount;
+        private final long arg0;
+        private final long arg1;
+        @Nullable private final Object[] args;
+        @Nullable private final Scope outer;
+        private final long startNanos;
+        private long rows;
+        @Nullable private Object lastQuery;
+        private boolean closed;
+
+        private Scope(@NonNull Method method, int longArgCount, long arg0, long arg1,
+                      @Nullable Object[] args) {
+            this.method = method;
+            this.longArgCount = longArgCount;
+            this.arg0 = arg0;
+            this.arg1 = arg1;
+            this.args = args;
+            this.outer = CURRENT.get();
+            CURRENT.set(this);
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Called by the cursor factory for each query run within this scope.
+         *
+         * @param query the query; its text is only read if the call turns out slow
+         */
+        void onQuery(@NonNull Object query) {
+            lastQuery = query;
+        }
+
+        void onRowsRead(long count) {
+            rows += count;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (outer != null) {
+                CURRENT.set(outer);
+            } else {
+                CURRENT.remove();
+            }
+
+            method.latency.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            method.rowsMapped.add(rows);
+            Tracer.complete(Tracer.CATEGORY_DAO, method.name, startNanos, elapsedNanos);
+            if (outer == null) {
+                MainThreadGuard.onMainThreadWork(MainThreadGuard.Kind.DATABASE, elapsedNanos);
+            }
+            if (elapsedNanos >= slowQueryThresholdNanos) {
+                addSlowQuery(new SlowQuery(method.name, TimeUnit.NANOSECONDS.toMicros(elapsedNanos),
+                        sqlOf(lastQuery), formatArgs(), rows, System.currentTimeMillis()));
+            }
+        }
+
+        /**
+         * @return the arguments as {@link Arrays#toString(Object[])} formats them
+         */
+        @NonNull
+        private String formatArgs() {
+            switch (longArgCount) {
+                case 1:
+                    return "[" + arg0 + "]";
+                case 2:
+                    return "[" + arg0 + ", " + arg1 + "]";
+                default:
+                    return args == null ? "[]" : Arrays.toString(args);
+            }
+        }
+    }
+
+    /**
+     * A call that took at least the slow-call threshold. Instances are immutable.
+     */
+    public static final class SlowQuery {
+        private final String method;
+        private final long durationMicros;
+        @Nullable private final String sql;
+        @Nullable private final String args;
+        private final long rowsMapped;
+        private final long timestampMillis;
+
+        SlowQuery(@NonNull String method, long durationMicros, @Nullable String sql,
+                  @Nullable String args, long rowsMapped, long timestampMillis) {
+            this.method = method;
+            this.durationMicros = durationMicros;
+            this.sql = sql;
+            this.args = args;
+            this.rowsMapped = rowsMapped;
+            this.timestampMillis = timestampMillis;
+        }
+
+        @NonNull
+        public String getMethod() {
+            return method;
+        }
+
+        public long getDurationMicros() {
+            return durationMicros;
+        }
+
+        /**
+         * @return SQL of the last query the call ran, or null if it ran none (writes)
+         */
+        @Nullable
+        public String getSql() {
+            return sql;
+        }
+
+        @Nullable
+        public String getArgs() {
+            return args;
+        }
+
+        public long getRowsMapped() {
+            return rowsMapped;
+        }
+
+        public long getTimestampMillis() {
+            return timestampMillis;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "SlowQuery{" + method + " " + durationMicros + "us, sql=" + sql + ", args=" + args + "}";
+        }
+    }
+
+    // =============================================================================================
+    // REGISTRY
+    // =============================================================================================
+
+    /**
+     * Get the metrics group of a DAO.
+     *
+     * @param dao DAO name (its log TAG)
+     * @return the group
+     */
+    @NonNull
+    public static Group group(@NonNull String dao) {
+        return new Group(dao);
+    }
+
+    /**
+     * @param name qualified method name, e.g. "WeightEntryDAO.getWeightEntriesForUser"
+     * @return the method's metrics, or null if it was never called
+     */
+    @Nullable
+    public static Method getMethod(@NonNull String name) {
+        return METHODS.get(name);
+    }
+
+    /**
+     * @return all methods called so far, sorted by name
+     */
+    @NonNull
+    public static List<Method> getMethods() {
+        return new ArrayList<>(new TreeMap<>(METHODS).values());
+    }
+
+    /**
+     * @return recorded slow calls, oldest first
+     */
+    @NonNull
+    public static synchronized List<SlowQuery> getSlowQueries() {
+        int size = (int) Math.min(slowQueryTotal, SLOW_QUERY_CAPACITY);
+        List<SlowQuery> result = new ArrayList<>(size);
+        int start = slowQueryTotal > SLOW_QUERY_CAPACITY ? slowQueryNext : 0;
+        for (int i = 0; i < size; i++) {
+            result.add(SLOW_QUERIES[(start + i) % SLOW_QUERY_CAPACITY]);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public static long getSlowQueryThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowQueryThresholdNanos);
+    }
+
+    /**
+     * @param thresholdMillis calls at or over this duration are logged as slow; 0 logs every call
+     */
+    public static void setSlowQueryThresholdMillis(long thresholdMillis) {
+        slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, thresholdMillis));
+    }
+
+    /**
+     * Clear all metrics and slow calls and restore the default threshold.
+     */
+    @VisibleForTesting
+    public static void reset() {
+        for (Method method : METHODS.values()) {
+            method.reset();
+        }
+        synchronized (DaoMetrics.class) {
+            Arrays.fill(SLOW_QUERIES, null);
+            slowQueryNext = 0;
+            slowQueryTotal = 0;
+        }
+        setSlowQueryThresholdMillis(DEFAULT_SLOW_QUERY_THRESHOLD_MS);
+    }
+
+    /**
+     * @return the scope open on this thread, or null
+     */
+    @Nullable
+    static Scope currentScope() {
+        return CURRENT.get();
+    }
+
+    private static synchronized void addSlowQuery(@NonNull SlowQuery slowQuery) {
+        SLOW_QUERIES[slowQueryNext] = slowQuery;
+        slowQueryNext = (slowQueryNext + 1) % SLOW_QUERY_CAPACITY;
+        slowQueryTotal++;
+    }
+
+    @Nullable
+    private static String sqlOf(@Nullable Object query) {
+        if (query == null) {
+            return null;
+        }
+        // SQLiteQuery.toString() is "SQLiteQuery: <sql>"
+        String text = query.toString();
+        int separator = text.indexOf(": ");
+        return separator >= 0 ? text.substring(separator + 2) : text;
+    }
+
+    // =============================================================================================
+    // EXPORT
+    // =============================================================================================
+
+    /**
+     * Export all metrics and slow calls as a JSON snapshot.
+     *
+     * @return JSON object with "methods" (latency percentiles in microseconds and counters) and
+     *         "slowQueries" (oldest first)
+     */
+    @NonNull
+    public static JSONObject toJson() {
+        try {
+            JSONObject root = new JSONObject();
+            root.put("capturedAt", Instant.now().toString());
+            root.put("slowQueryThresholdMs", getSlowQueryThresholdMillis());
+
+            JSONArray methods = new JSONArray();
+            for (Method method : getMethods()) {
+                LatencyHistogram latency = method.getLatency();
+                JSONObject latencyJson = new JSONObject();
+                latencyJson.put("p50", latency.getValueAtPercentile(50));
+                latencyJson.put("p90", latency.getValueAtPercentile(90));
+                latencyJson.put("p99", latency.getValueAtPercentile(99));
+                latencyJson.put("max", latency.getMax());
+                latencyJson.put("mean", Math.round(latency.getMean()));
+
+                JSONObject methodJson = new JSONObject();
+                methodJson.put("method", method.getName());
+                methodJson.put("calls", latency.getCount());
+                methodJson.put("rowsMapped", method.getRowsMapped());
+                methodJson.put("exceptionsSwallowed", method.getExceptionsSwallowed());
+                methodJson.put("latencyMicros", latencyJson);
+                methods.put(methodJson);
+            }
+            root.put("methods", methods);
+
+            JSONArray slowQueries = new JSONArray();
+            for (SlowQuery slowQuery : getSlowQueries()) {
+                JSONObject slowJson = new JSONObject();
+                slowJson.put("method", slowQuery.getMethod());
+                slowJson.put("durationMicros", slowQuery.getDurationMicros());
+                slowJson.put("sql", slowQuery.getSql() != null ? slowQuery.getSql() : JSONObject.NULL);
+                slowJson.put("args", slowQuery.getArgs() != null ? slowQuery.getArgs() : JSONObject.NULL);
+                slowJson.put("rowsMapped", slowQuery.getRowsMapped());
+                slowJson.put("at", Instant.ofEpochMilli(slowQuery.getTimestampMillis()).toString());
+                slowQueries.put(slowJson);
+            }
+            root.put("slowQueries", slowQueries);
+            return root;
+        } catch (JSONException e) {
+            // Only thrown for NaN/infinite numbers, which are never put
+            throw new IllegalStateException("Could not build DAO metrics JSON", e);
+        }
+    }
+}
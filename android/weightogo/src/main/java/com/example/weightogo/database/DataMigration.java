@@ -0,0 +1,58 @@
+package com.example.weightogo.database;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A data rewrite or backfill that runs in bounded batches after the database is open, instead of
+ * inside {@link WeighToGoDBHelper#onUpgrade}.
+ *
+ * <p><strong>Contract:</strong></p>
+ * <ul>
+ *   <li>The schema change the migration fills in (e.g. a new nullable column) is added by a
+ *       regular onUpgrade step; the DataMigration only moves data</li>
+ *   <li>Rows are visited in ascending order of an INTEGER key column, one key range per
+ *       batch. {@link DataMigrationRunner} persists the last processed key in data_migrations
+ *       inside the same transaction as the batch, so progress survives process death</li>
+ *   <li>{@link #migrateRange} must be idempotent: a range may be re-run if the process dies
+ *       between batches</li>
+ *   <li>Until the migration completes, readers must tolerate un-migrated rows (dual read, e.g.
+ *       {@code COALESCE(new_column, <derived from old columns>)}), and writers must populate
+ *       both representations</li>
+ * </ul>
+ *
+ * <p><strong>Ids:</strong> {@link #getId()} is the progress row's primary key and must never
+ * change once shipped. Register new migrations in {@link DataMigrationRunner#create}.</p>
+ */
+public interface DataMigration {
+
+    /**
+     * @return stable unique id, e.g. "2026_10_weight_kg_backfill"
+     */
+    @NonNull
+    String getId();
+
+    /**
+     * @return table whose rows this migration rewrites
+     */
+    @NonNull
+    String getTable();
+
+    /**
+     * @return INTEGER key column used for keyset batching (normally the primary key)
+     */
+    @NonNull
+    String getKeyColumn();
+
+    /**
+     * Migrate all rows with {@code fromKeyExclusive < key <= toKeyInclusive}.
+     * Called inside a transaction owned by the runner; do not begin or end transactions here.
+     *
+     * @param db               writable database
+     * @param fromKeyExclusive lower bound (exclusive)
+     * @param toKeyInclusive   upper bound (inclusive)
+     * @return number of rows changed
+     */
+    int migrateRange(@NonNull SQLiteDatabase db, long fromKeyExclusive, long toKeyInclusive);
+}
@@ -0,0 +1,304 @@
+package com.example.weightogo.database;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Executes registered {@link DataMigration}s in bounded, resumable batches.
+ *
+ * <p><strong>Batching:</strong> Each batch covers the next {@code batchSize} keys after the
+ * persisted last_key. The batch and its progress update commit in one transaction, so a crash
+ * either keeps or discards both. Between batches the write lock is released so UI reads and
+ * writes interleave with the migration.</p>
+ *
+ * <p><strong>When It Runs:</strong></p>
+ * <ul>
+ *   <li>{@link #startInBackground(WeighToGoDBHelper)} on app start, with a short budget</li>
+ *   <li>The nightly maintenance worker, which drains whatever is left</li>
+ * </ul>
+ * Both entry points serialize on one lock, so a migration never runs twice concurrently.
+ *
+ * <p><strong>Thread Safety:</strong> All public methods may be called from any background
+ * thread. Never call {@link #runPending} on the main thread.</p>
+ */
+public class DataMigrationRunner {
+
+    private static final String TAG = "DataMigrationRunner";
+    private static final DateTimeFormatter ISO_DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Rows per batch; small enough that a batch holds the write lock for a few milliseconds.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * Time budget for the app-start background run.
+     */
+    static final long STARTUP_BUDGET_MS = 2_000L;
+
+    private static final Object RUN_LOCK = new Object();
+    private static final ExecutorService BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor();
+
+    private final WeighToGoDBHelper dbHelper;
+    private final List<DataMigration> migrations;
+
+    /**
+     * Result of a {@link #runPending} call.
+     */
+    public static final class RunResult {
+        private final int batches;
+        private final long rowsMigrated;
+        private final boolean complete;
+
+        RunResult(int batches, long rowsMigrated, boolean complete) {
+            this.batches = batches;
+            this.rowsMigrated = rowsMigrated;
+            this.complete = complete;
+        }
+
+        public int getBatches() {
+            return batches;
+        }
+
+        public long getRowsMigrated() {
+            return rowsMigrated;
+        }
+
+        /**
+         * @return true if every registered migration has finished
+         */
+        public boolean isComplete() {
+            return complete;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "RunResult{batches=" + batches + ", rows=" + rowsMigrated + ", complete=" + complete + "}";
+        }
+    }
+
+    public DataMigrationRunner(@NonNull WeighToGoDBHelper dbHelper, @NonNull List<DataMigration> migrations) {
+        this.dbHelper = dbHelper;
+        this.migrations = Collections.unmodifiableList(new ArrayList<>(migrations));
+    }
+
+    /**
+     * Create a runner with all production migrations registered, in execution order.
+     *
+     * @param dbHelper database helper
+     * @return runner
+     */
+    @NonNull
+    public static DataMigrationRunner create(@NonNull WeighToGoDBHelper dbHelper) {
+        List<DataMigration> registry = new ArrayList<>();
+        // Register new DataMigrations here (never reorder or remove shipped ones)
+        registry.add(new WeightKgBackfillMigration());
+        return new DataMigrationRunner(dbHelper, registry);
+    }
+
+    /**
+     * Run pending migrations on a background thread with {@link #STARTUP_BUDGET_MS}.
+     * Whatever does not finish is picked up by the next call or by the maintenance worker.
+     *
+     * @param dbHelper database helper
+     */
+    public static void startInBackground(@NonNull WeighToGoDBHelper dbHelper) {
+        BACKGROUND_EXECUTOR.execute(() -> {
+            try {
+                RunResult result = create(dbHelper).runPending(STARTUP_BUDGET_MS);
+                Log.i(TAG, "startInBackground: " + result);
+            } catch (Exception e) {
+                Log.e(TAG, "startInBackground: Exception", e);
+            }
+        });
+    }
+
+    /**
+     * Run batches until all migrations complete or the budget is spent.
+     *
+     * @param budgetMs wall-clock budget; at least one batch runs even if it is zero
+     * @return run summary
+     */
+    @NonNull
+    public RunResult runPending(long budgetMs) {
+        long deadline = System.nanoTime() + budgetMs * 1_000_000L;
+        return runPending(DEFAULT_BATCH_SIZE, () -> System.nanoTime() >= deadline);
+    }
+
+    /**
+     * Run batches until all migrations complete or {@code shouldStop} returns true.
+     * The stop condition is checked after every batch.
+     *
+     * @param batchSize  keys per batch
+     * @param shouldStop stop condition (budget, worker stopped)
+     * @return run summary
+     */
+    @NonNull
+    public RunResult runPending(int batchSize, @NonNull BooleanSupplier shouldStop) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+
+        synchronized (RUN_LOCK) {
+            SQLiteDatabase db = dbHelper.getWritableDatabase();
+            int batches = 0;
+            long rows = 0;
+
+            for (DataMigration migration : migrations) {
+                boolean done = isComplete(db, migration.getId());
+                while (!done) {
+                    if (batches > 0 && shouldStop.getAsBoolean()) {
+                        Log.i(TAG, "runPending: Stopping with " + migration.getId() + " in progress");
+                        return new RunResult(batches, rows, false);
+                    }
+                    long[] outcome = runBatch(db, migration, batchSize);
+                    batches++;
+                    rows += outcome[1];
+                    done = outcome[0] == 1;
+                }
+            }
+            return new RunResult(batches, rows, true);
+        }
+    }
+
+    /**
+     * Check whether a migration has completed.
+     *
+     * @param migrationId migration id
+     * @return true if the migration finished all batches
+     */
+    public boolean isComplete(@NonNull String migrationId) {
+        return isComplete(dbHelper.getReadableDatabase(), migrationId);
+    }
+
+    /**
+     * @return true if every registered migration has completed
+     */
+    public boolean isAllComplete() {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        for (DataMigration migration : migrations) {
+            if (!isComplete(db, migration.getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // =============================================================================================
+    // BATCH EXECUTION
+    // =============================================================================================
+
+    /**
+     * Migrate the next key range and persist progress in the same transaction.
+     *
+     * @return {completed ? 1 : 0, rows changed}
+     */
+    private long[] runBatch(@NonNull SQLiteDatabase db, @NonNull DataMigration migration, int batchSize) {
+        String now = LocalDateTime.now().format(ISO_DATETIME_FORMATTER);
+        QueryCounter.onBeginTransaction(db);
+        db.beginTransaction();
+        try {
+            long lastKey = loadLastKey(db, migration.getId(), now);
+            Long endKey = findBatchEnd(db, migration, lastKey, batchSize);
+
+            ContentValues progress = new ContentValues();
+            progress.put("updated_at", now);
+            int changed = 0;
+            if (endKey == null) {
+                progress.put("completed_at", now);
+                Log.i(TAG, "runBatch: Migration " + migration.getId() + " completed");
+            } else {
+                changed = migration.migrateRange(db, lastKey, endKey);
+                progress.put("last_key", endKey);
+                db.execSQL("UPDATE " + WeighToGoDBHelper.TABLE_DATA_MIGRATIONS +
+                        " SET rows_migrated = rows_migrated + ? WHERE migration_id = ?",
+                        new Object[]{changed, migration.getId()});
+                QueryCounter.onWrite(db, 1);
+            }
+            db.update(WeighToGoDBHelper.TABLE_DATA_MIGRATIONS, progress,
+                    "migration_id = ?", new String[]{migration.getId()});
+            QueryCounter.onWrite(db, 1);
+
+            db.setTransactionSuccessful();
+            return new long[]{endKey == null ? 1 : 0, changed};
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    /**
+     * Read the migration's last processed key, creating its progress row on first use.
+     */
+    private long loadLastKey(@NonNull SQLiteDatabase db, @NonNull String migrationId, @NonNull String now) {
+        try (Cursor cursor = db.rawQuery(
+                "SELECT last_key FROM " + WeighToGoDBHelper.TABLE_DATA_MIGRATIONS + " WHERE migration_id = ?",
+                new String[]{migrationId})) {
+            if (cursor.moveToFirst()) {
+                return cursor.getLong(0);
+            }
+        }
+
+        ContentValues values = new ContentValues();
+        values.put("migration_id", migrationId);
+        values.put("last_key", 0);
+        values.put("rows_migrated", 0);
+        values.put("started_at", now);
+        values.put("updated_at", now);
+        db.insertOrThrow(WeighToGoDBHelper.TABLE_DATA_MIGRATIONS, null, values);
+        QueryCounter.onWrite(db, 1);
+        Log.i(TAG, "loadLastKey: Started migration " + migrationId);
+        return 0;
+    }
+
+    /**
+     * Find the inclusive upper key of the next batch.
+     *
+     * @return the key of the batchSize-th row after lastKey (or the last remaining key),
+     *         or null if no rows remain
+     */
+    @Nullable
+    private Long findBatchEnd(@NonNull SQLiteDatabase db, @NonNull DataMigration migration,
+                              long lastKey, int batchSize) {
+        String key = migration.getKeyColumn();
+        String table = migration.getTable();
+        String[] args = {String.valueOf(lastKey)};
+
+        try (Cursor cursor = db.rawQuery(
+                "SELECT " + key + " FROM " + table + " WHERE " + key + " > ? ORDER BY " + key +
+                " LIMIT 1 OFFSET " + (batchSize - 1), args)) {
+            if (cursor.moveToFirst()) {
+                return cursor.getLong(0);
+            }
+        }
+        try (Cursor cursor = db.rawQuery(
+                "SELECT MAX(" + key + ") FROM " + table + " WHERE " + key + " > ?", args)) {
+            if (cursor.moveToFirst() && !cursor.isNull(0)) {
+                return cursor.getLong(0);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isComplete(@NonNull SQLiteDatabase db, @NonNull String migrationId) {
+        try (Cursor cursor = db.rawQuery(
+                "SELECT completed_at FROM " + WeighToGoDBHelper.TABLE_DATA_MIGRATIONS + " WHERE migration_id = ?",
+                new String[]{migrationId})) {
+            return cursor.moveToFirst() && !cursor.isNull(0);
+        }
+    }
+}
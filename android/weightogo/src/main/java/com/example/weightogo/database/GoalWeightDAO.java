@@ -9,6 +9,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.example.weightogo.models.GoalWeight;
+import com.example.weightogo.utils.AppLog;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -34,6 +35,7 @@ import java.util.List;
 public class GoalWeightDAO {
 
     private static final String TAG = "GoalWeightDAO";
+    private static final DaoMetrics.Group METRICS = DaoMetrics.group(TAG);
     private static final DateTimeFormatter ISO_DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final DateTimeFormatter ISO_DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
@@ -47,7 +49,7 @@ public class GoalWeightDAO {
      * Inserts a new goal weight.
      */
     public long insertGoal(@NonNull GoalWeight goal) {
-        Log.d(TAG, "insertGoal: Inserting goal for user_id=" + goal.getUserId());
+        AppLog.d(TAG, "insertGoal: Inserting goal for user_id={}", goal.getUserId());
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -68,14 +70,16 @@ public class GoalWeightDAO {
             values.put("achieved_date", goal.getAchievedDate().format(ISO_DATE_FORMATTER));
         }
 
-        try {
+        try (DaoMetrics.Scope scope = METRICS.open("insertGoal", goal.getUserId())) {
             long goalId = db.insert(WeighToGoDBHelper.TABLE_GOAL_WEIGHTS, null, values);
+            QueryCounter.onWrite(db, goalId > 0 ? 1 : 0);
             if (goalId > 0) {
-                Log.i(TAG, "insertGoal: Successfully inserted goal_id=" + goalId);
+                AppLog.i(TAG, "insertGoal: Successfully inserted goal_id={}", goalId);
             }
             return goalId;
         } catch (Exception e) {
             Log.e(TAG, "insertGoal: Exception", e);
+            METRICS.swallowed("insertGoal");
             return -1;
         }
     }
@@ -85,11 +89,12 @@ public class GoalWeightDAO {
      */
     @Nullable
     public GoalWeight getActiveGoal(long userId) {
-        Log.d(TAG, "getActiveGoal: user_id=" + userId);
+        AppLog.d(TAG, "getActiveGoal: user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getActiveGoal", userId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_GOAL_WEIGHTS,
             null,
             "user_id = ? AND is_active = 1",
@@ -103,6 +108,7 @@ public class GoalWeightDAO {
             }
         } catch (Exception e) {
             Log.e(TAG, "getActiveGoal: Exception", e);
+            METRICS.swallowed("getActiveGoal");
         }
         return null;
     }
@@ -112,11 +118,12 @@ public class GoalWeightDAO {
      */
     @Nullable
     public GoalWeight getGoalById(long goalId) {
-        Log.d(TAG, "getGoalById: goal_id=" + goalId);
+        AppLog.d(TAG, "getGoalById: goal_id={}", goalId);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getGoalById", goalId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_GOAL_WEIGHTS,
             null,
             "goal_id = ?",
@@ -129,6 +136,7 @@ public class GoalWeightDAO {
             }
         } catch (Exception e) {
             Log.e(TAG, "getGoalById: Exception", e);
+            METRICS.swallowed("getGoalById");
         }
         return null;
     }
@@ -138,12 +146,13 @@ public class GoalWeightDAO {
      */
     @NonNull
     public List<GoalWeight> getGoalHistory(long userId) {
-        Log.d(TAG, "getGoalHistory: user_id=" + userId);
+        AppLog.d(TAG, "getGoalHistory: user_id={}", userId);
 
         List<GoalWeight> goals = new ArrayList<>();
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getGoalHistory", userId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_GOAL_WEIGHTS,
             null,
             "user_id = ?",
@@ -154,9 +163,10 @@ public class GoalWeightDAO {
             while (cursor != null && cursor.moveToNext()) {
                 goals.add(mapCursorToGoal(cursor));
             }
-            Log.i(TAG, "getGoalHistory: Found " + goals.size() + " goals");
+            AppLog.i(TAG, "getGoalHistory: Found {} goals", goals.size());
         } catch (Exception e) {
             Log.e(TAG, "getGoalHistory: Exception", e);
+            METRICS.swallowed("getGoalHistory");
         }
 
         return goals;
@@ -174,7 +184,7 @@ public class GoalWeightDAO {
      * <p>Callers should check the return value to distinguish between these cases.</p>
      */
     public int updateGoal(@NonNull GoalWeight goal) {
-        Log.d(TAG, "updateGoal: goal_id=" + goal.getGoalId());
+        AppLog.d(TAG, "updateGoal: goal_id={}", goal.getGoalId());
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -198,17 +208,19 @@ public class GoalWeightDAO {
             values.putNull("achieved_date");
         }
 
-        try {
+        try (DaoMetrics.Scope scope = METRICS.open("updateGoal", goal.getGoalId())) {
             int rows = db.update(
                 WeighToGoDBHelper.TABLE_GOAL_WEIGHTS,
                 values,
                 "goal_id = ?",
                 new String[]{String.valueOf(goal.getGoalId())}
             );
-            Log.i(TAG, "updateGoal: Updated " + rows + " rows");
+            QueryCounter.onWrite(db, rows);
+            AppLog.i(TAG, "updateGoal: Updated {} rows", rows);
             return rows;
         } catch (Exception e) {
             Log.e(TAG, "updateGoal: Exception", e);
+            METRICS.swallowed("updateGoal");
             return 0;
         }
     }
@@ -218,7 +230,7 @@ public class GoalWeightDAO {
      * Useful when user wants to set a new goal.
      */
     public int deactivateGoal(long goalId) {
-        Log.d(TAG, "deactivateGoal: goal_id=" + goalId);
+        AppLog.d(TAG, "deactivateGoal: goal_id={}", goalId);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -226,17 +238,19 @@ public class GoalWeightDAO {
         values.put("is_active", 0);
         values.put("updated_at", LocalDateTime.now().format(ISO_DATETIME_FORMATTER));
 
-        try {
+        try (DaoMetrics.Scope scope = METRICS.open("deactivateGoal", goalId)) {
             int rows = db.update(
                 WeighToGoDBHelper.TABLE_GOAL_WEIGHTS,
                 values,
                 "goal_id = ?",
                 new String[]{String.valueOf(goalId)}
             );
-            Log.i(TAG, "deactivateGoal: Deactivated " + rows + " rows");
+            QueryCounter.onWrite(db, rows);
+            AppLog.i(TAG, "deactivateGoal: Deactivated {} rows", rows);
             return rows;
         } catch (Exception e) {
             Log.e(TAG, "deactivateGoal: Exception", e);
+            METRICS.swallowed("deactivateGoal");
             return 0;
         }
     }
@@ -246,7 +260,7 @@ public class GoalWeightDAO {
      * Useful before setting a new active goal.
      */
     public int deactivateAllGoalsForUser(long userId) {
-        Log.d(TAG, "deactivateAllGoalsForUser: user_id=" + userId);
+        AppLog.d(TAG, "deactivateAllGoalsForUser: user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -254,17 +268,19 @@ public class GoalWeightDAO {
         values.put("is_active", 0);
         values.put("updated_at", LocalDateTime.now().format(ISO_DATETIME_FORMATTER));
 
-        try {
+        try (DaoMetrics.Scope scope = METRICS.open("deactivateAllGoalsForUser", userId)) {
             int rows = db.update(
                 WeighToGoDBHelper.TABLE_GOAL_WEIGHTS,
                 values,
                 "user_id = ? AND is_active = 1",
                 new String[]{String.valueOf(userId)}
             );
-            Log.i(TAG, "deactivateAllGoalsForUser: Deactivated " + rows + " goals");
+            QueryCounter.onWrite(db, rows);
+            AppLog.i(TAG, "deactivateAllGoalsForUser: Deactivated {} goals", rows);
             return rows;
         } catch (Exception e) {
             Log.e(TAG, "deactivateAllGoalsForUser: Exception", e);
+            METRICS.swallowed("deactivateAllGoalsForUser");
             return 0;
         }
     }
@@ -282,33 +298,37 @@ public class GoalWeightDAO {
      * @return goal_id of the newly inserted goal, or -1 if transaction failed
      */
     public long setNewActiveGoal(@NonNull GoalWeight newGoal) {
-        Log.d(TAG, "setNewActiveGoal: Setting new goal for user_id=" + newGoal.getUserId());
+        AppLog.d(TAG, "setNewActiveGoal: Setting new goal for user_id={}", newGoal.getUserId());
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
-        db.beginTransaction();
-
-        try {
-            // Step 1: Deactivate all existing goals for this user
-            int deactivated = deactivateAllGoalsForUser(newGoal.getUserId());
-            Log.d(TAG, "setNewActiveGoal: Deactivated " + deactivated + " existing goals");
-
-            // Step 2: Insert the new goal
-            long goalId = insertGoal(newGoal);
-
-            if (goalId > 0) {
-                db.setTransactionSuccessful();
-                Log.i(TAG, "setNewActiveGoal: Transaction successful, new goal_id=" + goalId);
-                return goalId;
-            } else {
-                Log.e(TAG, "setNewActiveGoal: Insert failed, transaction will rollback");
+        try (DaoMetrics.Scope scope = METRICS.open("setNewActiveGoal", newGoal.getUserId())) {
+            QueryCounter.onBeginTransaction(db);
+            db.beginTransaction();
+
+            try {
+                // Step 1: Deactivate all existing goals for this user
+                int deactivated = deactivateAllGoalsForUser(newGoal.getUserId());
+                AppLog.d(TAG, "setNewActiveGoal: Deactivated {} existing goals", deactivated);
+
+                // Step 2: Insert the new goal
+                long goalId = insertGoal(newGoal);
+
+                if (goalId > 0) {
+                    db.setTransactionSuccessful();
+                    AppLog.i(TAG, "setNewActiveGoal: Transaction successful, new goal_id={}", goalId);
+                    return goalId;
+                } else {
+                    Log.e(TAG, "setNewActiveGoal: Insert failed, transaction will rollback");
+                    return -1;
+                }
+
+            } catch (Exception e) {
+                Log.e(TAG, "setNewActiveGoal: Exception during transaction, rolling back", e);
+                METRICS.swallowed("setNewActiveGoal");
                 return -1;
+            } finally {
+                db.endTransaction();
             }
-
-        } catch (Exception e) {
-            Log.e(TAG, "setNewActiveGoal: Exception during transaction, rolling back", e);
-            return -1;
-        } finally {
-            db.endTransaction();
         }
     }
 
@@ -0,0 +1,123 @@
+package com.example.weightogo.database;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets, in microseconds.
+ *
+ * <p><strong>Buckets:</strong> Values below 16 µs get a bucket each. Above that, every power of
+ * two is split into 16 equal sub-buckets, so a reported percentile is at most 1/16 (6.25%) above
+ * the true value. Values are clamped at about 67 seconds; 368 buckets cover the whole range.</p>
+ *
+ * <p><strong>Cost:</strong> Recording is a few bit operations and four atomic updates, with no
+ * allocation or locking. Readers see a consistent enough view for monitoring; a snapshot taken
+ * while other threads record may be off by the values recorded meanwhile.</p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 25;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    /** Largest recordable value; larger values are counted in the last bucket */
+    static final long MAX_VALUE_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record one value.
+     *
+     * @param micros latency in microseconds; negative values are recorded as 0
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_VALUE_MICROS);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return mean latency in microseconds, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Latency at a percentile, reported as the highest value of its bucket (never above the
+     * recorded maximum).
+     *
+     * @param percentile percentile in [0, 100]
+     * @return latency in microseconds, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueInBucket(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clear all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lowest = (long) (SUB_BUCKETS + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount() + ", p50=" + getValueAtPercentile(50) +
+                ", p99=" + getValueAtPercentile(99) + ", max=" + getMax() + "}";
+    }
+}
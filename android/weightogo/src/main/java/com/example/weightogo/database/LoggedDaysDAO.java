@@ -0,0 +1,249 @@
+package com.example.weightogo.database;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.models.LoggedDays;
+import com.example.weightogo.utils.AppLog;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Data Access Object for the logged_days table: one bitmap per user and year of the days that
+ * have a live daily_weights entry.
+ *
+ * <p><strong>Layout:</strong> {@code days} is a {@link #YEAR_BYTES}-byte BLOB; bit n (byte n / 8,
+ * bit n % 8, the {@link BitSet#valueOf(byte[])} order) is day of year n + 1. A year of a user is
+ * 46 bytes however many entries it holds.</p>
+ *
+ * <p><strong>Maintenance:</strong> WeightEntryDAO updates the bit in the same transaction as
+ * each insert, date change and soft delete ({@link #setLogged}); batch inserts drop the years
+ * they touch instead ({@link #invalidateYear}). A year without a row is built from daily_weights
+ * the first time it is read, which is also how years written before schema v6 are filled in.
+ * Purging tombstones leaves the bitmap alone (tombstones are never logged days), and deleting
+ * a user cascades.</p>
+ *
+ * <p><strong>Database Lifecycle:</strong> This DAO uses a singleton WeighToGoDBHelper instance.
+ * The helper manages the database connection lifecycle, so individual methods do NOT close
+ * the SQLiteDatabase instance obtained via getReadableDatabase() or getWritableDatabase().</p>
+ */
+public class LoggedDaysDAO {
+
+    private static final String TAG = "LoggedDaysDAO";
+    private static final DaoMetrics.Group METRICS = DaoMetrics.group(TAG);
+
+    /** Bytes per year: 366 days rounded up to whole bytes */
+    static final int YEAR_BYTES = 46;
+
+    private final WeighToGoDBHelper dbHelper;
+
+    public LoggedDaysDAO(@NonNull WeighToGoDBHelper dbHelper) {
+        this.dbHelper = dbHelper;
+    }
+
+    /**
+     * Checks whether a user has a live entry on a date. Reads one 46-byte row by primary key.
+     *
+     * @param userId user ID
+     * @param date   date to check
+     * @return true if the date is logged; false if not, or on database error
+     */
+    public boolean isLogged(long userId, @NonNull LocalDate date) {
+        AppLog.d(TAG, "isLogged: user_id={}, date={}", userId, date);
+
+        try (DaoMetrics.Scope scope = METRICS.open("isLogged", userId, date)) {
+            byte[] days = readYear(dbHelper.getReadableDatabase(), userId, date.getYear());
+            if (days == null) {
+                days = buildYear(userId, date.getYear());
+            }
+            return testBit(days, date.getDayOfYear() - 1);
+        } catch (Exception e) {
+            Log.e(TAG, "isLogged: Exception", e);
+            METRICS.swallowed("isLogged");
+            return false;
+        }
+    }
+
+    /**
+     * Gets the logged days of a user between two dates (inclusive), for gap detection, streaks
+     * and calendar heatmaps. One query for the years in the range, plus a build for any year
+     * not yet materialized.
+     *
+     * @param userId user ID
+     * @param from   first date (inclusive)
+     * @param to     last date (inclusive)
+     * @return logged days in the range; empty if from is after to, none logged on database error
+     */
+    @NonNull
+    public LoggedDays getLoggedDays(long userId, @NonNull LocalDate from, @NonNull LocalDate to) {
+        AppLog.d(TAG, "getLoggedDays: user_id={}, from={}", userId, from);
+
+        if (from.isAfter(to)) {
+            return new LoggedDays(from, 0, new BitSet());
+        }
+        int length = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        BitSet bits = new BitSet(length);
+
+        try (DaoMetrics.Scope scope = METRICS.open("getLoggedDays", userId, from)) {
+            Map<Integer, byte[]> years = readYears(userId, from.getYear(), to.getYear());
+            for (int year = from.getYear(); year <= to.getYear(); year++) {
+                byte[] days = years.get(year);
+                if (days == null) {
+                    days = buildYear(userId, year);
+                }
+                long offset = LocalDate.ofYearDay(year, 1).toEpochDay() - from.toEpochDay();
+                BitSet yearBits = BitSet.valueOf(days);
+                for (int day = yearBits.nextSetBit(0); day >= 0; day = yearBits.nextSetBit(day + 1)) {
+                    long index = offset + day;
+                    if (index >= 0 && index < length) {
+                        bits.set((int) index);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "getLoggedDays: Exception", e);
+            METRICS.swallowed("getLoggedDays");
+            bits.clear();
+        }
+
+        LoggedDays loggedDays = new LoggedDays(from, length, bits);
+        AppLog.i(TAG, "getLoggedDays: {}", loggedDays);
+        return loggedDays;
+    }
+
+    // =============================================================================================
+    // MAINTENANCE (called by WeightEntryDAO inside its write transaction)
+    // =============================================================================================
+
+    /**
+     * Set or clear a day's bit. A year without a row is left alone: it is built from
+     * daily_weights, which already holds the caller's change, when first read.
+     *
+     * @param db     database, inside the caller's transaction
+     * @param userId user ID
+     * @param date   day whose entry was added or removed
+     * @param logged true if the day now has a live entry
+     */
+    static void setLogged(@NonNull SQLiteDatabase db, long userId, @NonNull LocalDate date, boolean logged) {
+        byte[] days = readYear(db, userId, date.getYear());
+        if (days == null || testBit(days, date.getDayOfYear() - 1) == logged) {
+            return;
+        }
+        int bit = date.getDayOfYear() - 1;
+        if (logged) {
+            days[bit >> 3] |= (byte) (1 << (bit & 7));
+        } else {
+            days[bit >> 3] &= (byte) ~(1 << (bit & 7));
+        }
+
+        ContentValues values = new ContentValues();
+        values.put("days", days);
+        int rows = db.update(WeighToGoDBHelper.TABLE_LOGGED_DAYS, values, "user_id = ? AND year = ?",
+                new String[]{String.valueOf(userId), String.valueOf(date.getYear())});
+        QueryCounter.onWrite(db, rows);
+    }
+
+    /**
+     * Drop a year's row so it is rebuilt on the next read (after writes touching many days).
+     *
+     * @param db     database, inside the caller's transaction
+     * @param userId user ID
+     * @param year   year to drop
+     */
+    static void invalidateYear(@NonNull SQLiteDatabase db, long userId, int year) {
+        int rows = db.delete(WeighToGoDBHelper.TABLE_LOGGED_DAYS, "user_id = ? AND year = ?",
+                new String[]{String.valueOf(userId), String.valueOf(year)});
+        QueryCounter.onWrite(db, rows);
+    }
+
+    // =============================================================================================
+    // HELPERS
+    // =============================================================================================
+
+    @Nullable
+    private static byte[] readYear(@NonNull SQLiteDatabase db, long userId, int year) {
+        try (Cursor cursor = db.query(
+            WeighToGoDBHelper.TABLE_LOGGED_DAYS,
+            new String[]{"days"},
+            "user_id = ? AND year = ?",
+            new String[]{String.valueOf(userId), String.valueOf(year)},
+            null, null, null
+        )) {
+            return cursor.moveToFirst() ? Arrays.copyOf(cursor.getBlob(0), YEAR_BYTES) : null;
+        }
+    }
+
+    @NonNull
+    private Map<Integer, byte[]> readYears(long userId, int fromYear, int toYear) {
+        Map<Integer, byte[]> years = new HashMap<>();
+        try (Cursor cursor = dbHelper.getReadableDatabase().query(
+            WeighToGoDBHelper.TABLE_LOGGED_DAYS,
+            new String[]{"year", "days"},
+            "user_id = ? AND year BETWEEN ? AND ?",
+            new String[]{String.valueOf(userId), String.valueOf(fromYear), String.valueOf(toYear)},
+            null, null, null
+        )) {
+            while (cursor.moveToNext()) {
+                years.put(cursor.getInt(0), Arrays.copyOf(cursor.getBlob(1), YEAR_BYTES));
+            }
+        }
+        return years;
+    }
+
+    /**
+     * Build a year's bitmap from daily_weights and store it. Runs in a write transaction so no
+     * entry write can land between the scan and the insert.
+     */
+    @NonNull
+    private byte[] buildYear(long userId, int year) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        QueryCounter.onBeginTransaction(db);
+        db.beginTransaction();
+        try {
+            byte[] days = readYear(db, userId, year);
+            if (days != null) {
+                db.setTransactionSuccessful();
+                return days;  // Built by another thread meanwhile
+            }
+
+            BitSet bits = new BitSet(YEAR_BYTES * 8);
+            long firstDay = LocalDate.ofYearDay(year, 1).toEpochDay();
+            try (Cursor cursor = db.rawQuery(
+                "SELECT " + WeightEntryDAO.EPOCH_DAY_SQL + " FROM " + WeighToGoDBHelper.TABLE_DAILY_WEIGHTS +
+                " WHERE user_id = ? AND weight_date BETWEEN ? AND ? AND is_deleted = 0",
+                new String[]{String.valueOf(userId), year + "-01-01", year + "-12-31"}
+            )) {
+                while (cursor.moveToNext()) {
+                    bits.set((int) (cursor.getLong(0) - firstDay));
+                }
+            }
+            days = Arrays.copyOf(bits.toByteArray(), YEAR_BYTES);
+
+            ContentValues values = new ContentValues();
+            values.put("user_id", userId);
+            values.put("year", year);
+            values.put("days", days);
+            long rowId = db.insert(WeighToGoDBHelper.TABLE_LOGGED_DAYS, null, values);
+            QueryCounter.onWrite(db, rowId > 0 ? 1 : 0);
+            db.setTransactionSuccessful();
+            AppLog.i(TAG, "buildYear: Built {} with {} logged days", year, bits.cardinality());
+            return days;
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    private static boolean testBit(@NonNull byte[] days, int bit) {
+        return (days[bit >> 3] & (1 << (bit & 7))) != 0;
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.weightogo.database;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteCursor;
+import android.database.sqlite.SQLiteCursorDriver;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteQuery;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the SQL work of one logical operation, so tests can hold use cases to a query budget
+ * (e.g. "checkAchievements: at most 3 queries and 1 write transaction").
+ *
+ * <p><strong>What Is Counted:</strong></p>
+ * <ul>
+ *   <li>Queries and rows read: every cursor opened through {@link WeighToGoDBHelper} is created
+ *       by {@link #CURSOR_FACTORY}; rows read is the row count of each query that ran</li>
+ *   <li>Write statements and rows written: reported by the DAOs through {@link #onWrite}</li>
+ *   <li>Write transactions: each outermost {@code beginTransaction()} (reported through
+ *       {@link #onBeginTransaction}) plus each write issued outside a transaction, which SQLite
+ *       commits on its own</li>
+ * </ul>
+ *
+ * <p><strong>Cost:</strong> Counting is off unless a recording is active; the hooks then cost a
+ * single volatile read. The cursor factory also feeds rows read to the open {@link DaoMetrics}
+ * scope, if any. A recording counts work on all threads, so record one operation at a
+ * time.</p>
+ */
+public final class QueryCounter {
+
+    @Nullable
+    private static volatile Recording active;
+
+    /**
+     * Cursor factory installed on every database opened by {@link WeighToGoDBHelper}.
+     */
+    static final SQLiteDatabase.CursorFactory CURSOR_FACTORY = QueryCounter::newCursor;
+
+    private QueryCounter() {
+        throw new AssertionError("QueryCounter is a utility class and should not be instantiated");
+    }
+
+    /**
+     * SQL work counted by a recording. Instances are immutable.
+     */
+    public static final class Stats {
+        private final int queries;
+        private final long rowsRead;
+        private final int writes;
+        private final long rowsWritten;
+        private final int writeTransactions;
+
+        Stats(int queries, long rowsRead, int writes, long rowsWritten, int writeTransactions) {
+            this.queries = queries;
+            this.rowsRead = rowsRead;
+            this.writes = writes;
+            this.rowsWritten = rowsWritten;
+            this.writeTransactions = writeTransactions;
+        }
+
+        public int getQueries() {
+            return queries;
+        }
+
+        public long getRowsRead() {
+            return rowsRead;
+        }
+
+        /**
+         * @return number of INSERT/UPDATE/DELETE statements
+         */
+        public int getWrites() {
+            return writes;
+        }
+
+        public long getRowsWritten() {
+            return rowsWritten;
+        }
+
+        public int getWriteTransactions() {
+            return writeTransactions;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Stats{queries=" + queries + ", rowsRead=" + rowsRead + ", writes=" + writes +
+                    ", rowsWritten=" + rowsWritten + ", writeTransactions=" + writeTransactions + "}";
+        }
+    }
+
+    /**
+     * An active recording; obtain with {@link #start()} and finish with {@link #stop()}.
+     */
+    public static final class Recording {
+        private final AtomicInteger queries = new AtomicInteger();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicInteger writes = new AtomicInteger();
+        private final AtomicLong rowsWritten = new AtomicLong();
+        private final AtomicInteger writeTransactions = new AtomicInteger();
+
+        private Recording() {
+        }
+
+        /**
+         * Stop counting.
+         *
+         * @return what was counted since {@link #start()}
+         */
+        @NonNull
+        public Stats stop() {
+            synchronized (QueryCounter.class) {
+                if (active == this) {
+                    active = null;
+                }
+            }
+            return new Stats(queries.get(), rowsRead.get(), writes.get(), rowsWritten.get(),
+                    writeTransactions.get());
+        }
+    }
+
+    /**
+     * Start counting.
+     *
+     * @return the recording
+     * @throws IllegalStateException if another recording is active
+     */
+    @NonNull
+    public static Recording start() {
+        synchronized (QueryCounter.class) {
+            if (active != null) {
+                throw new IllegalStateException("A QueryCounter recording is already active");
+            }
+            Recording recording = new Recording();
+            active = recording;
+            return recording;
+        }
+    }
+
+    /**
+     * Count the SQL work of one operation.
+     *
+     * @param operation operation to run on the calling thread
+     * @return what the operation did
+     */
+    @NonNull
+    public static Stats record(@NonNull Runnable operation) {
+        Recording recording = start();
+        Stats stats;
+        try {
+            operation.run();
+        } finally {
+            stats = recording.stop();
+        }
+        return stats;
+    }
+
+    // =============================================================================================
+    // HOOKS
+    // =============================================================================================
+
+    /**
+     * Report an INSERT/UPDATE/DELETE statement. Call after the statement ran.
+     *
+     * @param db          database the statement ran on
+     * @param rowsWritten rows changed (1 for a successful insert)
+     */
+    static void onWrite(@NonNull SQLiteDatabase db, long rowsWritten) {
+        Recording recording = active;
+        if (recording == null) {
+            return;
+        }
+        recording.writes.incrementAndGet();
+        recording.rowsWritten.addAndGet(Math.max(0, rowsWritten));
+        if (!db.inTransaction()) {
+            recording.writeTransactions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Report a transaction. Call right before {@code db.beginTransaction()}; nested
+     * transactions are not counted.
+     *
+     * @param db database the transaction is started on
+     */
+    static void onBeginTransaction(@NonNull SQLiteDatabase db) {
+        Recording recording = active;
+        if (recording != null && !db.inTransaction()) {
+            recording.writeTransactions.incrementAndGet();
+        }
+    }
+
+    @NonNull
+    private static Cursor newCursor(SQLiteDatabase db, SQLiteCursorDriver driver,
+                                    String editTable, SQLiteQuery query) {
+        Recording recording = active;
+        DaoMetrics.Scope scope = DaoMetrics.currentScope();
+        if (recording == null && scope == null) {
+            return new SQLiteCursor(driver, editTable, query);
+        }
+        if (recording != null) {
+            recording.queries.incrementAndGet();
+        }
+        if (scope != null) {
+            scope.onQuery(query);
+        }
+        return new CountingCursor(driver, editTable, query, recording, scope);
+    }
+
+    /**
+     * Adds its row count to the recording and the {@link DaoMetrics} scope it was opened under
+     * when closed. Only cursors whose query actually ran (the count was taken, which every move
+     * does) are counted, so closing never forces a query to run.
+     */
+    private static final class CountingCursor extends SQLiteCursor {
+        @Nullable private final Recording recording;
+        @Nullable private final DaoMetrics.Scope scope;
+        private boolean ran;
+        private boolean counted;
+
+        CountingCursor(SQLiteCursorDriver driver, String editTable, SQLiteQuery query,
+                       @Nullable Recording recording, @Nullable DaoMetrics.Scope scope) {
+            super(driver, editTable, query);
+            this.recording = recording;
+            this.scope = scope;
+        }
+
+        @Override
+        public int getCount() {
+            int count = super.getCount();
+            ran = true;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (ran && !counted) {
+                counted = true;
+                int count = getCount();
+                if (recording != null) {
+                    recording.rowsRead.addAndGet(count);
+                }
+                if (scope != null) {
+                    scope.onRowsRead(count);
+                }
+            }
+            super.close();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.example.weightogo.models.User;
+import com.example.weightogo.utils.AppLog;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -30,6 +31,7 @@ import java.time.format.DateTimeFormatter;
 public class UserDAO {
 
     private static final String TAG = "UserDAO";
+    private static final DaoMetrics.Group METRICS = DaoMetrics.group(TAG);
     private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     private final WeighToGoDBHelper dbHelper;
@@ -52,7 +54,7 @@ public class UserDAO {
      * @throws DatabaseException if database operation fails
      */
     public long insertUser(@NonNull User user) throws DuplicateUsernameException, DatabaseException {
-        Log.d(TAG, "insertUser: Inserting user with username=" + user.getUsername());
+        AppLog.d(TAG, "insertUser: Inserting user with username={}", user.getUsername());
 
         // Check for duplicate username first
         if (usernameExists(user.getUsername())) {
@@ -86,11 +88,13 @@ public class UserDAO {
             values.put("last_login", user.getLastLogin().format(ISO_FORMATTER));
         }
 
-        try {
+        DaoMetrics.Scope scope = METRICS.open("insertUser", "?");
+        try (scope) {
             long userId = db.insert(WeighToGoDBHelper.TABLE_USERS, null, values);
+            QueryCounter.onWrite(db, userId > 0 ? 1 : 0);
 
             if (userId > 0) {
-                Log.i(TAG, "insertUser: Successfully inserted user with user_id=" + userId);
+                AppLog.i(TAG, "insertUser: Successfully inserted user with user_id={}", userId);
                 return userId;
             } else {
                 throw new DatabaseException("Insert failed - database returned -1");
@@ -118,11 +122,13 @@ public class UserDAO {
      */
     @Nullable
     public User getUserById(long userId) {
-        Log.d(TAG, "getUserById: Querying user_id=" + userId);
+        AppLog.d(TAG, "getUserById: Querying user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        DaoMetrics.Scope scope = METRICS.open("getUserById", userId);
+        try (scope;
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_USERS,
             null,  // all columns
             "user_id = ?",
@@ -131,7 +137,7 @@ public class UserDAO {
         )) {
             if (cursor != null && cursor.moveToFirst()) {
                 User user = mapCursorToUser(cursor);
-                Log.i(TAG, "getUserById: Found user with username=" + user.getUsername());
+                AppLog.i(TAG, "getUserById: Found user with username={}", user.getUsername());
                 return user;
             } else {
                 Log.w(TAG, "getUserById: No user found with user_id=" + userId);
@@ -139,6 +145,7 @@ public class UserDAO {
             }
         } catch (Exception e) {
             Log.e(TAG, "getUserById: Exception querying user", e);
+            METRICS.swallowed("getUserById");
             return null;
         }
     }
@@ -199,11 +206,13 @@ public class UserDAO {
      */
     @Nullable
     public User getUserByUsername(@NonNull String username) {
-        Log.d(TAG, "getUserByUsername: Querying username=" + username);
+        AppLog.d(TAG, "getUserByUsername: Querying username={}", username);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        DaoMetrics.Scope scope = METRICS.open("getUserByUsername", "?");
+        try (scope;
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_USERS,
             null,  // all columns
             "username = ?",
@@ -212,7 +221,7 @@ public class UserDAO {
         )) {
             if (cursor != null && cursor.moveToFirst()) {
                 User user = mapCursorToUser(cursor);
-                Log.i(TAG, "getUserByUsername: Found user with user_id=" + user.getUserId());
+                AppLog.i(TAG, "getUserByUsername: Found user with user_id={}", user.getUserId());
                 return user;
             } else {
                 Log.w(TAG, "getUserByUsername: No user found with username=" + username);
@@ -220,6 +229,7 @@ public class UserDAO {
             }
         } catch (Exception e) {
             Log.e(TAG, "getUserByUsername: Exception querying user", e);
+            METRICS.swallowed("getUserByUsername");
             return null;
         }
     }
@@ -232,11 +242,13 @@ public class UserDAO {
      * @return true if username exists, false otherwise
      */
     public boolean usernameExists(@NonNull String username) {
-        Log.d(TAG, "usernameExists: Checking username=" + username);
+        AppLog.d(TAG, "usernameExists: Checking username={}", username);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        DaoMetrics.Scope scope = METRICS.open("usernameExists", "?");
+        try (scope;
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_USERS,
             new String[]{"user_id"},  // Only need to check existence
             "username = ?",
@@ -244,10 +256,11 @@ public class UserDAO {
             null, null, null
         )) {
             boolean exists = cursor != null && cursor.getCount() > 0;
-            Log.d(TAG, "usernameExists: Username '" + username + "' exists=" + exists);
+            AppLog.d(TAG, "usernameExists: Username '{}' exists={}", username, exists);
             return exists;
         } catch (Exception e) {
             Log.e(TAG, "usernameExists: Exception checking username", e);
+            METRICS.swallowed("usernameExists");
             return false;
         }
     }
@@ -261,23 +274,25 @@ public class UserDAO {
      * @return Number of rows updated (should be 1 if successful)
      */
     public int updateLastLogin(long userId, @NonNull LocalDateTime loginTime) {
-        Log.d(TAG, "updateLastLogin: Updating last_login for user_id=" + userId);
+        AppLog.d(TAG, "updateLastLogin: Updating last_login for user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
         ContentValues values = new ContentValues();
         values.put("last_login", loginTime.format(ISO_FORMATTER));
 
-        try {
+        DaoMetrics.Scope scope = METRICS.open("updateLastLogin", userId);
+        try (scope) {
             int rowsAffected = db.update(
                 WeighToGoDBHelper.TABLE_USERS,
                 values,
                 "user_id = ?",
                 new String[]{String.valueOf(userId)}
             );
+            QueryCounter.onWrite(db, rowsAffected);
 
             if (rowsAffected > 0) {
-                Log.i(TAG, "updateLastLogin: Successfully updated last_login for user_id=" + userId);
+                AppLog.i(TAG, "updateLastLogin: Successfully updated last_login for user_id={}", userId);
             } else {
                 Log.w(TAG, "updateLastLogin: No rows updated for user_id=" + userId);
             }
@@ -286,6 +301,7 @@ public class UserDAO {
 
         } catch (Exception e) {
             Log.e(TAG, "updateLastLogin: Exception updating last_login", e);
+            METRICS.swallowed("updateLastLogin");
             return 0;
         }
     }
@@ -314,7 +330,7 @@ public class UserDAO {
      * @return true if successful (1 row updated), false if user not found (0 rows)
      */
     public boolean updatePhoneNumber(long userId, @Nullable String phoneNumber) {
-        Log.d(TAG, "updatePhoneNumber: Updating phone for user_id=" + userId);
+        AppLog.d(TAG, "updatePhoneNumber: Updating phone for user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -323,25 +339,27 @@ public class UserDAO {
         // Handle null phone number (clear field)
         if (phoneNumber == null) {
             values.putNull("phone_number");
-            Log.d(TAG, "updatePhoneNumber: Clearing phone number for user_id=" + userId);
+            AppLog.d(TAG, "updatePhoneNumber: Clearing phone number for user_id={}", userId);
         } else {
             values.put("phone_number", phoneNumber);
-            Log.d(TAG, "updatePhoneNumber: Setting phone to " + phoneNumber + " for user_id=" + userId);
+            AppLog.d(TAG, "updatePhoneNumber: Setting phone to {} for user_id={}", AppLog.maskPhone(phoneNumber), userId);
         }
 
         // Always update the updated_at timestamp
         values.put("updated_at", LocalDateTime.now().format(ISO_FORMATTER));
 
-        try {
+        DaoMetrics.Scope scope = METRICS.open("updatePhoneNumber", userId);
+        try (scope) {
             int rowsAffected = db.update(
                 WeighToGoDBHelper.TABLE_USERS,
                 values,
                 "user_id = ?",
                 new String[]{String.valueOf(userId)}
             );
+            QueryCounter.onWrite(db, rowsAffected);
 
             if (rowsAffected > 0) {
-                Log.i(TAG, "updatePhoneNumber: Successfully updated phone for user_id=" + userId);
+                AppLog.i(TAG, "updatePhoneNumber: Successfully updated phone for user_id={}", userId);
                 return true;
             } else {
                 Log.w(TAG, "updatePhoneNumber: No rows updated for user_id=" + userId + " (user not found)");
@@ -350,6 +368,7 @@ public class UserDAO {
 
         } catch (Exception e) {
             Log.e(TAG, "updatePhoneNumber: Exception updating phone", e);
+            METRICS.swallowed("updatePhoneNumber");
             return false;
         }
     }
@@ -367,7 +386,7 @@ public class UserDAO {
      * @return true if successful, false if user not found
      */
     public boolean updatePassword(long userId, @NonNull String passwordHash, @NonNull String salt, @NonNull String algorithm) {
-        Log.d(TAG, "updatePassword: Updating password algorithm for user_id=" + userId + " to " + algorithm);
+        AppLog.d(TAG, "updatePassword: Updating password algorithm for user_id={} to {}", userId, algorithm);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -377,16 +396,18 @@ public class UserDAO {
         values.put("password_algorithm", algorithm);
         values.put("updated_at", LocalDateTime.now().format(ISO_FORMATTER));
 
-        try {
+        DaoMetrics.Scope scope = METRICS.open("updatePassword", userId);
+        try (scope) {
             int rowsAffected = db.update(
                 WeighToGoDBHelper.TABLE_USERS,
                 values,
                 "user_id = ?",
                 new String[]{String.valueOf(userId)}
             );
+            QueryCounter.onWrite(db, rowsAffected);
 
             if (rowsAffected > 0) {
-                Log.i(TAG, "updatePassword: Successfully migrated user_id=" + userId + " to " + algorithm);
+                AppLog.i(TAG, "updatePassword: Successfully migrated user_id={} to {}", userId, algorithm);
                 return true;
             } else {
                 Log.w(TAG, "updatePassword: No rows updated for user_id=" + userId);
@@ -395,6 +416,7 @@ public class UserDAO {
 
         } catch (Exception e) {
             Log.e(TAG, "updatePassword: Exception updating password", e);
+            METRICS.swallowed("updatePassword");
             return false;
         }
     }
@@ -416,7 +438,7 @@ public class UserDAO {
                                              @NonNull String newPasswordHash,
                                              @NonNull String newSalt,
                                              @NonNull String newAlgorithm) {
-        Log.d(TAG, "updatePasswordIfUnchanged: Checking hash for user_id=" + userId + " before migration");
+        AppLog.d(TAG, "updatePasswordIfUnchanged: Checking hash for user_id={} before migration", userId);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -426,7 +448,8 @@ public class UserDAO {
         values.put("password_algorithm", newAlgorithm);
         values.put("updated_at", LocalDateTime.now().format(ISO_FORMATTER));
 
-        try {
+        DaoMetrics.Scope scope = METRICS.open("updatePasswordIfUnchanged", userId);
+        try (scope) {
             // Update only if current password_hash matches the old one
             int rowsAffected = db.update(
                 WeighToGoDBHelper.TABLE_USERS,
@@ -434,9 +457,10 @@ public class UserDAO {
                 "user_id = ? AND password_hash = ?",
                 new String[]{String.valueOf(userId), oldPasswordHash}
             );
+            QueryCounter.onWrite(db, rowsAffected);
 
             if (rowsAffected > 0) {
-                Log.i(TAG, "updatePasswordIfUnchanged: Successfully migrated user_id=" + userId + " to " + newAlgorithm);
+                AppLog.i(TAG, "updatePasswordIfUnchanged: Successfully migrated user_id={} to {}", userId, newAlgorithm);
                 return true;
             } else {
                 Log.w(TAG, "updatePasswordIfUnchanged: Password hash changed, migration skipped for user_id=" + userId);
@@ -445,31 +469,36 @@ public class UserDAO {
 
         } catch (Exception e) {
             Log.e(TAG, "updatePasswordIfUnchanged: Exception updating password", e);
+            METRICS.swallowed("updatePasswordIfUnchanged");
             return false;
         }
     }
 
     /**
      * Deletes a user from the database.
-     * CASCADE DELETE will automatically remove associated weight_entries and goal_weights.
+     * CASCADE DELETE will automatically remove associated weight_entries and goal_weights;
+     * the user's in-memory weight series is dropped too.
      *
      * @param userId User ID to delete
      * @return Number of rows deleted (should be 1 if successful)
      */
     public int deleteUser(long userId) {
-        Log.d(TAG, "deleteUser: Deleting user_id=" + userId);
+        AppLog.d(TAG, "deleteUser: Deleting user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
-        try {
+        DaoMetrics.Scope scope = METRICS.open("deleteUser", userId);
+        try (scope) {
             int rowsDeleted = db.delete(
                 WeighToGoDBHelper.TABLE_USERS,
                 "user_id = ?",
                 new String[]{String.valueOf(userId)}
             );
+            QueryCounter.onWrite(db, rowsDeleted);
 
             if (rowsDeleted > 0) {
-                Log.i(TAG, "deleteUser: Successfully deleted user_id=" + userId);
+                dbHelper.getWeightSeriesCache().invalidate(userId);
+                AppLog.i(TAG, "deleteUser: Successfully deleted user_id={}", userId);
             } else {
                 Log.w(TAG, "deleteUser: No rows deleted for user_id=" + userId);
             }
@@ -478,6 +507,7 @@ public class UserDAO {
 
         } catch (Exception e) {
             Log.e(TAG, "deleteUser: Exception deleting user", e);
+            METRICS.swallowed("deleteUser");
             return 0;
         }
     }
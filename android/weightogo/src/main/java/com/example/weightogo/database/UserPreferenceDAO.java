@@ -8,6 +8,7 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 
 import com.example.weightogo.models.UserPreference;
+import com.example.weightogo.utils.AppLog;
 import com.example.weightogo.utils.DateTimeConverter;
 
 import java.time.LocalDateTime;
@@ -30,6 +31,7 @@ import java.util.List;
 public class UserPreferenceDAO {
 
     private static final String TAG = "UserPreferenceDAO";
+    private static final DaoMetrics.Group METRICS = DaoMetrics.group(TAG);
 
     // Query limits
     private static final String LIMIT_ONE = "1";
@@ -62,10 +64,11 @@ public class UserPreferenceDAO {
      */
     @NonNull
     public String getPreference(long userId, @NonNull String key, @NonNull String defaultValue) {
-        Log.d(TAG, "getPreference: user_id=" + userId + ", key=" + key);
+        AppLog.d(TAG, "getPreference: user_id={}, key={}", userId, key);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getPreference", userId, key);
+             Cursor cursor = db.query(
                 WeighToGoDBHelper.TABLE_USER_PREFERENCES,
                 new String[]{"pref_value"},
                 "user_id = ? AND pref_key = ?",
@@ -74,14 +77,15 @@ public class UserPreferenceDAO {
         )) {
             if (cursor != null && cursor.moveToFirst()) {
                 String value = cursor.getString(0);
-                Log.i(TAG, "getPreference: Found value for key=" + key);
+                AppLog.i(TAG, "getPreference: Found value for key={}", key);
                 return value;
             }
         } catch (Exception e) {
             Log.e(TAG, "getPreference: Exception", e);
+            METRICS.swallowed("getPreference");
         }
 
-        Log.d(TAG, "getPreference: Key not found, returning default");
+        AppLog.d(TAG, "getPreference: Key not found, returning default");
         return defaultValue;
     }
 
@@ -96,14 +100,15 @@ public class UserPreferenceDAO {
      * @return true if successful, false otherwise
      */
     public boolean setPreference(long userId, @NonNull String key, @NonNull String value) {
-        Log.d(TAG, "setPreference: user_id=" + userId + ", key=" + key);
+        AppLog.d(TAG, "setPreference: user_id={}, key={}", userId, key);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
         Cursor cursor = null;
 
         // Use transaction for atomicity
+        QueryCounter.onBeginTransaction(db);
         db.beginTransaction();
-        try {
+        try (DaoMetrics.Scope scope = METRICS.open("setPreference", userId, key)) {
             String now = DateTimeConverter.toTimestamp(LocalDateTime.now());
 
             // Check if preference already exists
@@ -133,10 +138,11 @@ public class UserPreferenceDAO {
                         "user_id = ? AND pref_key = ?",
                         new String[]{String.valueOf(userId), key}
                 );
+                QueryCounter.onWrite(db, rowsAffected);
 
                 if (rowsAffected > 0) {
                     db.setTransactionSuccessful();
-                    Log.i(TAG, "setPreference: Updated existing key=" + key);
+                    AppLog.i(TAG, "setPreference: Updated existing key={}", key);
                     return true;
                 }
             } else {
@@ -153,15 +159,17 @@ public class UserPreferenceDAO {
                         null,
                         insertValues
                 );
+                QueryCounter.onWrite(db, result > 0 ? 1 : 0);
 
                 if (result > 0) {
                     db.setTransactionSuccessful();
-                    Log.i(TAG, "setPreference: Inserted new key=" + key);
+                    AppLog.i(TAG, "setPreference: Inserted new key={}", key);
                     return true;
                 }
             }
         } catch (Exception e) {
             Log.e(TAG, "setPreference: Exception", e);
+            METRICS.swallowed("setPreference");
         } finally {
             db.endTransaction();
             if (cursor != null) {
@@ -181,7 +189,7 @@ public class UserPreferenceDAO {
      */
     @NonNull
     List<UserPreference> getAllPreferences(long userId) {
-        Log.d(TAG, "getAllPreferences: user_id=" + userId);
+        AppLog.d(TAG, "getAllPreferences: user_id={}", userId);
 
         List<UserPreference> preferences = new ArrayList<>();
         SQLiteDatabase db = dbHelper.getReadableDatabase();
@@ -232,7 +240,7 @@ public class UserPreferenceDAO {
      */
     @NonNull
     public String getWeightUnit(long userId) {
-        Log.d(TAG, "getWeightUnit: user_id=" + userId);
+        AppLog.d(TAG, "getWeightUnit: user_id={}", userId);
         return getPreference(userId, KEY_WEIGHT_UNIT, UNIT_LBS);
     }
 
@@ -245,7 +253,7 @@ public class UserPreferenceDAO {
      * @return true if successful, false if unit is invalid
      */
     public boolean setWeightUnit(long userId, @NonNull String unit) {
-        Log.d(TAG, "setWeightUnit: user_id=" + userId + ", unit=" + unit);
+        AppLog.d(TAG, "setWeightUnit: user_id={}, unit={}", userId, unit);
 
         // Validate input (case-sensitive)
         if (!UNIT_LBS.equals(unit) && !UNIT_KG.equals(unit)) {
@@ -1,10 +1,13 @@
 package com.example.weightogo.database;
 
 import android.content.Context;
+import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
 import android.util.Log;
 
+import com.example.weightogo.utils.MainThreadGuard;
+
 /**
  * SQLite database helper for Weigh to Go application.
  *
@@ -13,10 +16,14 @@ import android.util.Log;
  *
  * Database Schema (per WeighToGo_Database_Architecture.md):
  * - users: User authentication and profile data
- * - daily_weights: Daily weight tracking with soft delete support
+ * - daily_weights: Daily weight tracking with soft delete support; weight_kg holds the
+ *   canonical kilogram value used for aggregates (backfilled by WeightKgBackfillMigration)
  * - goal_weights: User goal weights and achievement tracking
  * - achievements: Milestone achievements and celebration events
  * - user_preferences: User settings and preferences (key-value store)
+ * - data_migrations: Progress of resumable data migrations (see DataMigrationRunner)
+ * - logged_days: Per-user, per-year bitmap of the days with a live daily_weights entry
+ *   (maintained by WeightEntryDAO, read through LoggedDaysDAO)
  *
  * Naming Convention:
  * - Database: snake_case (id, user_id, created_at) - Android/SQL convention
@@ -27,6 +34,9 @@ import android.util.Log;
  * Performance Optimization:
  * - Indexes on foreign key columns (user_id) for faster JOIN and WHERE queries
  * - Unique index on username for faster login lookups and uniqueness enforcement
+ * - daily_weights read indexes are partial (is_deleted = 0) so tombstones do not bloat them;
+ *   a separate tombstone index serves the retention purge
+ * - auto_vacuum=INCREMENTAL so space freed by the purge can be returned to the filesystem
  *
  * Security:
  * - Uses foreign keys for referential integrity
@@ -40,17 +50,33 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
     // Database configuration
     private static final String DATABASE_NAME = "weigh_to_go.db";
     public static final String DATABASE_TEST_NAME = "weigh_to_go_test.db";
-    private static final int DATABASE_VERSION = 2;  // Phase 8.6: bcrypt migration
+    private static final int DATABASE_VERSION = 6;  // logged_days bitmap table
 
     // Singleton instance
     private static WeighToGoDBHelper instance;
 
+    // Loaded weight histories, kept in step by WeightEntryDAO (dropped with this instance)
+    private final WeightSeriesCache weightSeriesCache = new WeightSeriesCache();
+
     // Table names
     public static final String TABLE_USERS = "users";
     public static final String TABLE_DAILY_WEIGHTS = "daily_weights";
     public static final String TABLE_GOAL_WEIGHTS = "goal_weights";
     public static final String TABLE_ACHIEVEMENTS = "achievements";
     public static final String TABLE_USER_PREFERENCES = "user_preferences";
+    public static final String TABLE_DATA_MIGRATIONS = "data_migrations";
+    public static final String TABLE_LOGGED_DAYS = "logged_days";
+
+    // SQL: daily_weights secondary indexes (shared by onCreate and upgradeToV3)
+    private static final String CREATE_INDEX_WEIGHTS_DATE =
+        "CREATE INDEX IF NOT EXISTS idx_weights_date ON " + TABLE_DAILY_WEIGHTS +
+            "(weight_date) WHERE is_deleted = 0";
+    private static final String CREATE_INDEX_WEIGHTS_USER_CREATED =
+        "CREATE INDEX IF NOT EXISTS idx_weights_user_created ON " + TABLE_DAILY_WEIGHTS +
+            "(user_id, created_at DESC) WHERE is_deleted = 0";
+    private static final String CREATE_INDEX_WEIGHTS_TOMBSTONES =
+        "CREATE INDEX IF NOT EXISTS idx_weights_tombstones ON " + TABLE_DAILY_WEIGHTS +
+            "(updated_at) WHERE is_deleted = 1";
 
     // SQL: Create users table
     private static final String CREATE_TABLE_USERS =
@@ -76,6 +102,7 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
             "user_id INTEGER NOT NULL, " +
             "weight_value REAL NOT NULL, " +
             "weight_unit TEXT NOT NULL, " +
+            "weight_kg REAL, " +
             "weight_date TEXT NOT NULL, " +
             "notes TEXT, " +
             "created_at TEXT NOT NULL, " +
@@ -130,13 +157,34 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
             "UNIQUE (user_id, pref_key)" +
         ")";
 
+    // SQL: Create data_migrations table (one row per DataMigration, keyset progress)
+    private static final String CREATE_TABLE_DATA_MIGRATIONS =
+        "CREATE TABLE IF NOT EXISTS " + TABLE_DATA_MIGRATIONS + " (" +
+            "migration_id TEXT PRIMARY KEY, " +
+            "last_key INTEGER NOT NULL DEFAULT 0, " +
+            "rows_migrated INTEGER NOT NULL DEFAULT 0, " +
+            "started_at TEXT NOT NULL, " +
+            "updated_at TEXT NOT NULL, " +
+            "completed_at TEXT" +
+        ")";
+
+    // SQL: Create logged_days table (bit n of days = day of year n + 1 has a live entry)
+    private static final String CREATE_TABLE_LOGGED_DAYS =
+        "CREATE TABLE IF NOT EXISTS " + TABLE_LOGGED_DAYS + " (" +
+            "user_id INTEGER NOT NULL, " +
+            "year INTEGER NOT NULL, " +
+            "days BLOB NOT NULL, " +
+            "PRIMARY KEY (user_id, year), " +
+            "FOREIGN KEY (user_id) REFERENCES " + TABLE_USERS + "(user_id) ON DELETE CASCADE" +
+        ")";
+
     /**
      * Private constructor to enforce Singleton pattern.
      *
      * @param context application context
      */
     private WeighToGoDBHelper(Context context) {
-        super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        super(context, DATABASE_NAME, QueryCounter.CURSOR_FACTORY, DATABASE_VERSION);
         Log.d(TAG, "WeighToGoDBHelper constructor called");
     }
 
@@ -147,7 +195,7 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
      * @param dbName the name of the database
      */
     private WeighToGoDBHelper(Context context, String dbName) {
-        super(context, dbName, null, DATABASE_VERSION);
+        super(context, dbName, QueryCounter.CURSOR_FACTORY, DATABASE_VERSION);
         Log.d(TAG, "WeighToGoDBHelper constructor called with dbName: " + dbName);
     }
 
@@ -179,6 +227,7 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
     public static synchronized WeighToGoDBHelper getInstance(Context context) {
         if (instance == null) {
             instance = new WeighToGoDBHelper(context.getApplicationContext());
+            MainThreadGuard.installForDebugBuild(context);
             Log.i(TAG, "Created new WeighToGoDBHelper instance for database: " + DATABASE_NAME);
         }
         return instance;
@@ -214,10 +263,43 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
         }
     }
 
+    /**
+     * @return this database's cache of loaded weight series (see WeightEntryDAO.getWeightSeries)
+     */
+    WeightSeriesCache getWeightSeriesCache() {
+        return weightSeriesCache;
+    }
+
+    /**
+     * Open the database for reading. Reports main-thread callers to MainThreadGuard (debug builds).
+     *
+     * @throws MainThreadGuard.MainThreadAccessException on the main thread in THROW mode
+     */
+    @Override
+    public SQLiteDatabase getReadableDatabase() {
+        MainThreadGuard.check(MainThreadGuard.Kind.DATABASE);
+        return super.getReadableDatabase();
+    }
+
+    /**
+     * Open the database for writing. Reports main-thread callers to MainThreadGuard (debug builds).
+     *
+     * @throws MainThreadGuard.MainThreadAccessException on the main thread in THROW mode
+     */
+    @Override
+    public SQLiteDatabase getWritableDatabase() {
+        MainThreadGuard.check(MainThreadGuard.Kind.DATABASE);
+        return super.getWritableDatabase();
+    }
+
     /**
      * Configure database before opening.
      * Enables foreign key constraints for referential integrity.
      *
+     * Also requests auto_vacuum=INCREMENTAL. The pragma only takes effect on a database that has
+     * no tables yet (i.e. right before onCreate); databases created before version 3 keep
+     * auto_vacuum=NONE until the maintenance purge task converts them with a one-time VACUUM.
+     *
      * @param db the database
      */
     @Override
@@ -225,6 +307,8 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
         super.onConfigure(db);
         db.setForeignKeyConstraintsEnabled(true);
         Log.d(TAG, "Foreign key constraints enabled");
+
+        db.execSQL("PRAGMA auto_vacuum = INCREMENTAL");
     }
 
     /**
@@ -258,6 +342,14 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
             db.execSQL(CREATE_TABLE_USER_PREFERENCES);
             Log.d(TAG, "Created table: " + TABLE_USER_PREFERENCES);
 
+            // Create data_migrations table
+            db.execSQL(CREATE_TABLE_DATA_MIGRATIONS);
+            Log.d(TAG, "Created table: " + TABLE_DATA_MIGRATIONS);
+
+            // Create logged_days table
+            db.execSQL(CREATE_TABLE_LOGGED_DAYS);
+            Log.d(TAG, "Created table: " + TABLE_LOGGED_DAYS);
+
             // ================================================================================
             // INDEXES (per WeighToGo_Database_Architecture.md lines 308-336)
             // ================================================================================
@@ -277,13 +369,15 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
                 "(user_id, weight_date) WHERE is_deleted = 0");
             Log.d(TAG, "Created index: idx_weights_user_date");
 
-            db.execSQL("CREATE INDEX IF NOT EXISTS idx_weights_date ON " + TABLE_DAILY_WEIGHTS + "(weight_date)");
+            db.execSQL(CREATE_INDEX_WEIGHTS_DATE);
             Log.d(TAG, "Created index: idx_weights_date");
 
-            db.execSQL("CREATE INDEX IF NOT EXISTS idx_weights_user_created ON " + TABLE_DAILY_WEIGHTS +
-                "(user_id, created_at DESC)");
+            db.execSQL(CREATE_INDEX_WEIGHTS_USER_CREATED);
             Log.d(TAG, "Created index: idx_weights_user_created");
 
+            db.execSQL(CREATE_INDEX_WEIGHTS_TOMBSTONES);
+            Log.d(TAG, "Created index: idx_weights_tombstones");
+
             // Goal weights table indexes
             db.execSQL("CREATE INDEX IF NOT EXISTS idx_goals_user_active ON " + TABLE_GOAL_WEIGHTS + "(user_id, is_active)");
             Log.d(TAG, "Created index: idx_goals_user_active");
@@ -323,6 +417,11 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
      * - Uses switch statement with fall-through for sequential upgrades
      * - Each version upgrade is a separate method for maintainability
      *
+     * Schema changes only: onUpgrade runs inside SQLiteOpenHelper's transaction before the
+     * database is returned to any caller, so its cost is paid on app start. Work proportional
+     * to history size (backfills, value rewrites) belongs in a DataMigration, which
+     * DataMigrationRunner executes in bounded batches after open.
+     *
      * @param db the database
      * @param oldVersion the old database version
      * @param newVersion the new database version
@@ -338,7 +437,19 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
                     upgradeToV2(db);  // Add password_algorithm column
                     // Fall through to next version when available
                 case 2:
-                    // Future: upgradeToV3(db);
+                    upgradeToV3(db);  // Partial daily_weights indexes + tombstone index
+                    // Fall through
+                case 3:
+                    upgradeToV4(db);  // data_migrations progress table
+                    // Fall through
+                case 4:
+                    upgradeToV5(db);  // weight_kg column (backfilled by WeightKgBackfillMigration)
+                    // Fall through
+                case 5:
+                    upgradeToV6(db);  // logged_days bitmap (built per year on first read)
+                    // Fall through
+                case 6:
+                    // Future: upgradeToV7(db);
                     // Fall through
                 default:
                     break;
@@ -378,4 +489,122 @@ public class WeighToGoDBHelper extends SQLiteOpenHelper {
             throw e;
         }
     }
+
+    /**
+     * Upgrade database from version 2 to version 3.
+     * Rebuilds the non-unique daily_weights indexes as partial indexes and adds a tombstone index.
+     *
+     * Migration Strategy:
+     * - idx_weights_date and idx_weights_user_created only cover live rows (is_deleted = 0),
+     *   which every read query already filters on
+     * - idx_weights_tombstones covers soft-deleted rows by updated_at for the retention purge
+     * - No data changes; auto_vacuum conversion is deferred to the maintenance worker because
+     *   VACUUM cannot run inside the upgrade transaction
+     *
+     * @param db the database
+     */
+    private void upgradeToV3(SQLiteDatabase db) {
+        Log.i(TAG, "Upgrading to version 3: Rebuilding daily_weights indexes as partial indexes");
+
+        try {
+            db.execSQL("DROP INDEX IF EXISTS idx_weights_date");
+            db.execSQL(CREATE_INDEX_WEIGHTS_DATE);
+
+            db.execSQL("DROP INDEX IF EXISTS idx_weights_user_created");
+            db.execSQL(CREATE_INDEX_WEIGHTS_USER_CREATED);
+
+            db.execSQL(CREATE_INDEX_WEIGHTS_TOMBSTONES);
+
+            Log.i(TAG, "Successfully rebuilt daily_weights indexes");
+
+        } catch (Exception e) {
+            Log.e(TAG, "Error upgrading to version 3", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Upgrade database from version 3 to version 4.
+     * Adds the data_migrations table used by DataMigrationRunner to persist batch progress.
+     *
+     * @param db the database
+     */
+    private void upgradeToV4(SQLiteDatabase db) {
+        Log.i(TAG, "Upgrading to version 4: Adding data_migrations table");
+
+        try {
+            db.execSQL(CREATE_TABLE_DATA_MIGRATIONS);
+            Log.i(TAG, "Successfully created data_migrations table");
+
+        } catch (Exception e) {
+            Log.e(TAG, "Error upgrading to version 4", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Upgrade database from version 4 to version 5.
+     * Adds the nullable weight_kg column to daily_weights.
+     *
+     * Migration Strategy:
+     * - Only the column is added here; existing rows are filled in batches after open by
+     *   WeightKgBackfillMigration (see DataMigrationRunner)
+     * - Until the backfill completes, readers use COALESCE(weight_kg, converted weight_value)
+     * - Writers populate weight_kg from this version on
+     *
+     * @param db the database
+     */
+    private void upgradeToV5(SQLiteDatabase db) {
+        Log.i(TAG, "Upgrading to version 5: Adding weight_kg column");
+
+        try {
+            if (!hasColumn(db, TABLE_DAILY_WEIGHTS, "weight_kg")) {
+                db.execSQL("ALTER TABLE " + TABLE_DAILY_WEIGHTS + " ADD COLUMN weight_kg REAL");
+            }
+            Log.i(TAG, "Successfully added weight_kg column to daily_weights table");
+
+        } catch (Exception e) {
+            Log.e(TAG, "Error upgrading to version 5", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Upgrade database from version 5 to version 6.
+     * Adds the logged_days table.
+     *
+     * Migration Strategy:
+     * - Only the table is created here; LoggedDaysDAO builds a user's year from daily_weights
+     *   the first time it is read, so no backfill runs on open
+     * - WeightEntryDAO keeps built years up to date from this version on
+     *
+     * @param db the database
+     */
+    private void upgradeToV6(SQLiteDatabase db) {
+        Log.i(TAG, "Upgrading to version 6: Adding logged_days table");
+
+        try {
+            db.execSQL(CREATE_TABLE_LOGGED_DAYS);
+            Log.i(TAG, "Successfully created logged_days table");
+
+        } catch (Exception e) {
+            Log.e(TAG, "Error upgrading to version 6", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Check whether a table already has a column (ALTER TABLE ADD COLUMN is not idempotent).
+     */
+    private static boolean hasColumn(SQLiteDatabase db, String table, String column) {
+        try (Cursor cursor = db.rawQuery("PRAGMA table_info(" + table + ")", null)) {
+            int nameIndex = cursor.getColumnIndexOrThrow("name");
+            while (cursor.moveToNext()) {
+                if (column.equals(cursor.getString(nameIndex))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
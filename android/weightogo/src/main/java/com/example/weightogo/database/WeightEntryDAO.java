@@ -3,18 +3,26 @@ package com.example.weightogo.database;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.models.WeightPoints;
+import com.example.weightogo.models.WeightSeries;
+import com.example.weightogo.models.WeightStats;
+import com.example.weightogo.utils.AppLog;
+import com.example.weightogo.utils.WeightUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Data Access Object for Weight Entry operations.
@@ -31,14 +39,39 @@ import java.util.List;
  * The singleton pattern ensures efficient connection pooling and prevents resource leaks.</p>
  *
  * <p><strong>Soft Delete:</strong> Uses soft delete (is_deleted flag) instead of hard delete
- * to preserve data and support undo functionality.</p>
+ * to preserve data and support undo functionality. Tombstones are hard-deleted after a retention
+ * period by the nightly maintenance purge (see purgeDeletedEntries()).</p>
+ *
+ * <p><strong>Logged Days:</strong> Inserts, date changes and soft deletes also update the
+ * logged_days bitmap in the same transaction (see {@link LoggedDaysDAO}).</p>
+ *
+ * <p><strong>Weight Series:</strong> Once loaded, a user's history is kept in memory as a
+ * {@link WeightSeries} (see {@link #getWeightSeries}). Committed writes through this DAO are
+ * applied to it; batch inserts drop it to be reloaded. Achievement checks read streaks and the
+ * lowest weight from the series rather than by separate queries.</p>
+ *
+ * <p><strong>Canonical Unit:</strong> Entries keep the unit they were logged in, and every write
+ * also stores weight_kg. Comparisons and aggregates (stats, trend) run in SQL over
+ * {@link #WEIGHT_KG_SQL}; callers convert the result to a display unit once.</p>
  */
 public class WeightEntryDAO {
 
     private static final String TAG = "WeightEntryDAO";
+    private static final DaoMetrics.Group METRICS = DaoMetrics.group(TAG);
     private static final DateTimeFormatter ISO_DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final DateTimeFormatter ISO_DATETIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    /**
+     * Canonical kilogram weight of a daily_weights row. Dual read: rows written before schema v5
+     * fall back to converting weight_value until WeightKgBackfillMigration reaches them.
+     */
+    static final String WEIGHT_KG_SQL =
+        "COALESCE(weight_kg, CASE WHEN weight_unit = 'lbs' THEN weight_value * " +
+        WeightUtils.LBS_TO_KG_CONVERSION + " ELSE weight_value END)";
+
+    /** Epoch day of a daily_weights row (julianday of 1970-01-01 is 2440587.5) */
+    static final String EPOCH_DAY_SQL = "CAST(julianday(weight_date) - 2440587.5 AS INTEGER)";
+
     private final WeighToGoDBHelper dbHelper;
 
     public WeightEntryDAO(@NonNull WeighToGoDBHelper dbHelper) {
@@ -49,7 +82,7 @@ public class WeightEntryDAO {
      * Inserts a new weight entry.
      */
     public long insertWeightEntry(@NonNull WeightEntry entry) {
-        Log.d(TAG, "insertWeightEntry: Inserting entry for user_id=" + entry.getUserId());
+        AppLog.d(TAG, "insertWeightEntry: Inserting entry for user_id={}", entry.getUserId());
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -57,6 +90,7 @@ public class WeightEntryDAO {
         values.put("user_id", entry.getUserId());
         values.put("weight_value", entry.getWeightValue());
         values.put("weight_unit", entry.getWeightUnit());
+        values.put("weight_kg", entry.getWeightKg());
         values.put("weight_date", entry.getWeightDate().format(ISO_DATE_FORMATTER));
         values.put("created_at", entry.getCreatedAt().format(ISO_DATETIME_FORMATTER));
         values.put("updated_at", entry.getUpdatedAt().format(ISO_DATETIME_FORMATTER));
@@ -66,29 +100,108 @@ public class WeightEntryDAO {
             values.put("notes", entry.getNotes());
         }
 
-        try {
-            long weightId = db.insert(WeighToGoDBHelper.TABLE_DAILY_WEIGHTS, null, values);
-            if (weightId > 0) {
-                Log.i(TAG, "insertWeightEntry: Successfully inserted weight_id=" + weightId);
+        try (DaoMetrics.Scope scope =
+                 METRICS.open("insertWeightEntry", entry.getUserId(), entry.getWeightDate())) {
+            long weightId;
+            QueryCounter.onBeginTransaction(db);
+            db.beginTransaction();
+            try {
+                weightId = db.insert(WeighToGoDBHelper.TABLE_DAILY_WEIGHTS, null, values);
+                QueryCounter.onWrite(db, weightId > 0 ? 1 : 0);
+                if (weightId > 0) {
+                    if (!entry.isDeleted()) {
+                        LoggedDaysDAO.setLogged(db, entry.getUserId(), entry.getWeightDate(), true);
+                    }
+                    AppLog.i(TAG, "insertWeightEntry: Successfully inserted weight_id={}", weightId);
+                }
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+            if (weightId > 0 && !entry.isDeleted()) {
+                dbHelper.getWeightSeriesCache().onPut(entry.getUserId(), entry.getWeightDate(), entry.getWeightKg());
             }
             return weightId;
         } catch (Exception e) {
             Log.e(TAG, "insertWeightEntry: Exception", e);
+            METRICS.swallowed("insertWeightEntry");
             return -1;
         }
     }
 
+    /**
+     * Inserts many weight entries in one transaction (imports, synthetic test data).
+     * Uses a single compiled statement, so each row costs a bind and a step instead of a
+     * ContentValues insert and its own implicit transaction. Each entry's weightId is set.
+     *
+     * @param entries entries to insert
+     * @return number of rows inserted, or 0 if the batch failed and was rolled back
+     */
+    public int insertWeightEntries(@NonNull List<WeightEntry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        try (DaoMetrics.Scope scope = METRICS.open("insertWeightEntries", entries.size())) {
+            Set<Long> touchedUsers = new HashSet<>();
+            QueryCounter.onBeginTransaction(db);
+            db.beginTransaction();
+            try (SQLiteStatement insert = db.compileStatement(
+                    "INSERT INTO " + WeighToGoDBHelper.TABLE_DAILY_WEIGHTS +
+                    " (user_id, weight_value, weight_unit, weight_kg, weight_date, notes," +
+                    " created_at, updated_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                Set<String> touchedYears = new HashSet<>();
+                for (WeightEntry entry : entries) {
+                    insert.bindLong(1, entry.getUserId());
+                    insert.bindDouble(2, entry.getWeightValue());
+                    insert.bindString(3, entry.getWeightUnit());
+                    insert.bindDouble(4, entry.getWeightKg());
+                    insert.bindString(5, entry.getWeightDate().format(ISO_DATE_FORMATTER));
+                    if (entry.getNotes() != null) {
+                        insert.bindString(6, entry.getNotes());
+                    } else {
+                        insert.bindNull(6);
+                    }
+                    insert.bindString(7, entry.getCreatedAt().format(ISO_DATETIME_FORMATTER));
+                    insert.bindString(8, entry.getUpdatedAt().format(ISO_DATETIME_FORMATTER));
+                    insert.bindLong(9, entry.isDeleted() ? 1 : 0);
+                    entry.setWeightId(insert.executeInsert());
+                    QueryCounter.onWrite(db, 1);
+                    touchedUsers.add(entry.getUserId());
+                    if (!entry.isDeleted()
+                            && touchedYears.add(entry.getUserId() + ":" + entry.getWeightDate().getYear())) {
+                        LoggedDaysDAO.invalidateYear(db, entry.getUserId(), entry.getWeightDate().getYear());
+                    }
+                }
+                db.setTransactionSuccessful();
+                AppLog.i(TAG, "insertWeightEntries: Inserted {} entries", entries.size());
+                return entries.size();
+            } catch (Exception e) {
+                Log.e(TAG, "insertWeightEntries: Exception, batch rolled back", e);
+                METRICS.swallowed("insertWeightEntries");
+                return 0;
+            } finally {
+                db.endTransaction();
+                for (long userId : touchedUsers) {
+                    dbHelper.getWeightSeriesCache().invalidate(userId);
+                }
+            }
+        }
+    }
+
     /**
      * Gets all non-deleted weight entries for a user, ordered by date descending.
      */
     @NonNull
     public List<WeightEntry> getWeightEntriesForUser(long userId) {
-        Log.d(TAG, "getWeightEntriesForUser: user_id=" + userId);
+        AppLog.d(TAG, "getWeightEntriesForUser: user_id={}", userId);
 
         List<WeightEntry> entries = new ArrayList<>();
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getWeightEntriesForUser", userId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
             null,
             "user_id = ? AND is_deleted = 0",
@@ -99,9 +212,10 @@ public class WeightEntryDAO {
             while (cursor != null && cursor.moveToNext()) {
                 entries.add(mapCursorToEntry(cursor));
             }
-            Log.i(TAG, "getWeightEntriesForUser: Found " + entries.size() + " entries");
+            AppLog.i(TAG, "getWeightEntriesForUser: Found {} entries", entries.size());
         } catch (Exception e) {
             Log.e(TAG, "getWeightEntriesForUser: Exception", e);
+            METRICS.swallowed("getWeightEntriesForUser");
         }
 
         return entries;
@@ -117,12 +231,13 @@ public class WeightEntryDAO {
      * @return list of recent weight entries, sorted by date descending
      */
     public List<WeightEntry> getRecentWeightEntriesForUser(long userId, int limit) {
-        Log.d(TAG, "getRecentWeightEntriesForUser: user_id=" + userId + ", limit=" + limit);
+        AppLog.d(TAG, "getRecentWeightEntriesForUser: user_id={}, limit={}", userId, limit);
 
         List<WeightEntry> entries = new ArrayList<>();
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getRecentWeightEntriesForUser", userId, limit);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
             null,
             "user_id = ? AND is_deleted = 0",
@@ -134,14 +249,130 @@ public class WeightEntryDAO {
             while (cursor != null && cursor.moveToNext()) {
                 entries.add(mapCursorToEntry(cursor));
             }
-            Log.i(TAG, "getRecentWeightEntriesForUser: Found " + entries.size() + " recent entries");
+            AppLog.i(TAG, "getRecentWeightEntriesForUser: Found {} recent entries", entries.size());
         } catch (Exception e) {
             Log.e(TAG, "getRecentWeightEntriesForUser: Exception", e);
+            METRICS.swallowed("getRecentWeightEntriesForUser");
         }
 
         return entries;
     }
 
+    /**
+     * Gets the non-deleted entries for a user between two dates (inclusive), ordered by date
+     * ascending. Uses the (user_id, weight_date) index.
+     *
+     * @param userId user ID
+     * @param from   first date (inclusive)
+     * @param to     last date (inclusive)
+     * @return entries in the range, oldest first; empty if none or from is after to
+     */
+    @NonNull
+    public List<WeightEntry> getWeightEntriesBetween(long userId, @NonNull LocalDate from, @NonNull LocalDate to) {
+        AppLog.d(TAG, "getWeightEntriesBetween: user_id={}, from={}", userId, from);
+
+        List<WeightEntry> entries = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return entries;
+        }
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        try (DaoMetrics.Scope scope = METRICS.open("getWeightEntriesBetween", userId, from);
+             Cursor cursor = db.query(
+            WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
+            null,
+            "user_id = ? AND weight_date BETWEEN ? AND ? AND is_deleted = 0",
+            new String[]{String.valueOf(userId), from.toString(), to.toString()},
+            null, null,
+            "weight_date ASC"
+        )) {
+            while (cursor != null && cursor.moveToNext()) {
+                entries.add(mapCursorToEntry(cursor));
+            }
+            AppLog.i(TAG, "getWeightEntriesBetween: Found {} entries", entries.size());
+        } catch (Exception e) {
+            Log.e(TAG, "getWeightEntriesBetween: Exception", e);
+            METRICS.swallowed("getWeightEntriesBetween");
+        }
+
+        return entries;
+    }
+
+    /**
+     * Gets the most recent non-deleted entry strictly before a date.
+     *
+     * @param userId user ID
+     * @param date   exclusive upper bound
+     * @return the newest entry before the date, or null if there is none
+     */
+    @Nullable
+    public WeightEntry getLatestWeightEntryBefore(long userId, @NonNull LocalDate date) {
+        AppLog.d(TAG, "getLatestWeightEntryBefore: user_id={}, date={}", userId, date);
+
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        try (DaoMetrics.Scope scope = METRICS.open("getLatestWeightEntryBefore", userId, date);
+             Cursor cursor = db.query(
+            WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
+            null,
+            "user_id = ? AND weight_date < ? AND is_deleted = 0",
+            new String[]{String.valueOf(userId), date.toString()},
+            null, null,
+            "weight_date DESC, created_at DESC",
+            "1"
+        )) {
+            if (cursor != null && cursor.moveToFirst()) {
+                return mapCursorToEntry(cursor);
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "getLatestWeightEntryBefore: Exception", e);
+            METRICS.swallowed("getLatestWeightEntryBefore");
+        }
+        return null;
+    }
+
+    /**
+     * Gets a user's whole history as a columnar series, for trend, statistics and chart code.
+     * The first call loads it with one projection query (epoch day and canonical kilograms
+     * through the (user_id, weight_date) index); the series is then kept in memory and in step
+     * with this DAO's writes, so later calls return it without touching the database.
+     *
+     * <p>Each call returns a copy of the cached series, so callers cannot change the cache.</p>
+     *
+     * @param userId user ID
+     * @return the user's live entries, oldest first; empty (and not cached) on database error
+     */
+    @NonNull
+    public WeightSeries getWeightSeries(long userId) {
+        WeightSeriesCache cache = dbHelper.getWeightSeriesCache();
+        WeightSeries cached = cache.get(userId);
+        if (cached != null) {
+            return cached.copy();
+        }
+        AppLog.d(TAG, "getWeightSeries: Loading user_id={}", userId);
+
+        long version = cache.version(userId);
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        try (DaoMetrics.Scope scope = METRICS.open("getWeightSeries", userId);
+             Cursor cursor = db.rawQuery(
+            "SELECT " + EPOCH_DAY_SQL + ", " + WEIGHT_KG_SQL +
+            " FROM " + WeighToGoDBHelper.TABLE_DAILY_WEIGHTS +
+            " WHERE user_id = ? AND is_deleted = 0" +
+            " ORDER BY weight_date ASC",
+            new String[]{String.valueOf(userId)}
+        )) {
+            WeightPoints points = readPoints(cursor);
+            AppLog.i(TAG, "getWeightSeries: Loaded {} points", points.size());
+            return cache.putIfCurrent(userId, version, WeightSeries.from(points)).copy();
+        } catch (Exception e) {
+            Log.e(TAG, "getWeightSeries: Exception", e);
+            METRICS.swallowed("getWeightSeries");
+        }
+
+        return new WeightSeries();
+    }
+
     /**
      * Gets a weight entry by ID.
      */
@@ -149,7 +380,8 @@ public class WeightEntryDAO {
     public WeightEntry getWeightEntryById(long weightId) {
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getWeightEntryById", weightId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
             null,
             "weight_id = ?",
@@ -161,6 +393,7 @@ public class WeightEntryDAO {
             }
         } catch (Exception e) {
             Log.e(TAG, "getWeightEntryById: Exception", e);
+            METRICS.swallowed("getWeightEntryById");
         }
         return null;
     }
@@ -175,11 +408,12 @@ public class WeightEntryDAO {
      */
     @Nullable
     public WeightEntry getWeightEntryForDate(long userId, java.time.LocalDate date) {
-        Log.d(TAG, "getWeightEntryForDate: user_id=" + userId + ", date=" + date);
+        AppLog.d(TAG, "getWeightEntryForDate: user_id={}, date={}", userId, date);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getWeightEntryForDate", userId, date);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
             null,
             "user_id = ? AND weight_date = ? AND is_deleted = 0",
@@ -188,46 +422,66 @@ public class WeightEntryDAO {
         )) {
             if (cursor != null && cursor.moveToFirst()) {
                 WeightEntry entry = mapCursorToEntry(cursor);
-                Log.d(TAG, "getWeightEntryForDate: Found entry weight_id=" + entry.getWeightId());
+                AppLog.d(TAG, "getWeightEntryForDate: Found entry weight_id={}", entry.getWeightId());
                 return entry;
             }
         } catch (Exception e) {
             Log.e(TAG, "getWeightEntryForDate: Exception", e);
+            METRICS.swallowed("getWeightEntryForDate");
         }
 
-        Log.d(TAG, "getWeightEntryForDate: No entry found for date");
+        AppLog.d(TAG, "getWeightEntryForDate: No entry found for date");
         return null;
     }
 
     /**
-     * Gets the minimum weight value for a user (optimized for NEW_LOW achievement).
-     * Uses SQL MIN() instead of fetching all entries.
+     * Gets count, min, max, average and trend of a user's weights in a single SQL aggregate,
+     * without loading the history (a loaded {@link WeightSeries} gives the same figures from
+     * memory).
+     *
+     * <p>The trend is the least-squares slope of weight_kg over weight_date (kg per day). Day
+     * offsets are taken from the user's first entry so the sums stay small enough for
+     * double precision.</p>
      *
      * @param userId user ID
-     * @return minimum weight value, or null if no entries exist
+     * @return statistics in kg, or null if no entries exist
      */
     @Nullable
-    public Double getMinWeightForUser(long userId) {
-        Log.d(TAG, "getMinWeightForUser: user_id=" + userId);
+    public WeightStats getWeightStatsForUser(long userId) {
+        AppLog.d(TAG, "getWeightStatsForUser: user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.rawQuery(
-            "SELECT MIN(weight_value) as min_weight FROM " + WeighToGoDBHelper.TABLE_DAILY_WEIGHTS +
-            " WHERE user_id = ? AND is_deleted = 0",
+        try (DaoMetrics.Scope scope = METRICS.open("getWeightStatsForUser", userId);
+             Cursor cursor = db.rawQuery(
+            "WITH w AS (" +
+                "SELECT julianday(weight_date) AS day, " + WEIGHT_KG_SQL + " AS kg" +
+                " FROM " + WeighToGoDBHelper.TABLE_DAILY_WEIGHTS +
+                " WHERE user_id = ? AND is_deleted = 0" +
+            "), origin AS (SELECT MIN(day) AS day0 FROM w) " +
+            "SELECT COUNT(*), MIN(kg), MAX(kg), AVG(kg), " +
+                "SUM(day - day0), SUM(kg), SUM((day - day0) * kg), SUM((day - day0) * (day - day0)) " +
+            "FROM w, origin",
             new String[]{String.valueOf(userId)}
         )) {
-            if (cursor != null && cursor.moveToFirst()) {
-                int columnIndex = cursor.getColumnIndex("min_weight");
-                if (columnIndex != -1 && !cursor.isNull(columnIndex)) {
-                    double minWeight = cursor.getDouble(columnIndex);
-                    Log.i(TAG, "getMinWeightForUser: Found min weight = " + minWeight);
-                    return minWeight;
-                }
+            if (cursor != null && cursor.moveToFirst() && cursor.getInt(0) > 0) {
+                int n = cursor.getInt(0);
+                double sumX = cursor.getDouble(4);
+                double sumY = cursor.getDouble(5);
+                double sumXY = cursor.getDouble(6);
+                double sumXX = cursor.getDouble(7);
+                double denominator = n * sumXX - sumX * sumX;
+                Double slope = denominator > 0 ? (n * sumXY - sumX * sumY) / denominator : null;
+
+                WeightStats stats = new WeightStats(n, cursor.getDouble(1), cursor.getDouble(2),
+                        cursor.getDouble(3), slope);
+                AppLog.i(TAG, "getWeightStatsForUser: {}", stats);
+                return stats;
             }
-            Log.i(TAG, "getMinWeightForUser: No entries found");
+            AppLog.i(TAG, "getWeightStatsForUser: No entries found");
         } catch (Exception e) {
-            Log.e(TAG, "getMinWeightForUser: Exception", e);
+            Log.e(TAG, "getWeightStatsForUser: Exception", e);
+            METRICS.swallowed("getWeightStatsForUser");
         }
 
         return null;
@@ -238,11 +492,12 @@ public class WeightEntryDAO {
      */
     @Nullable
     public WeightEntry getLatestWeightEntry(long userId) {
-        Log.d(TAG, "getLatestWeightEntry: user_id=" + userId);
+        AppLog.d(TAG, "getLatestWeightEntry: user_id={}", userId);
 
         SQLiteDatabase db = dbHelper.getReadableDatabase();
 
-        try (Cursor cursor = db.query(
+        try (DaoMetrics.Scope scope = METRICS.open("getLatestWeightEntry", userId);
+             Cursor cursor = db.query(
             WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
             null,
             "user_id = ? AND is_deleted = 0",
@@ -256,6 +511,7 @@ public class WeightEntryDAO {
             }
         } catch (Exception e) {
             Log.e(TAG, "getLatestWeightEntry: Exception", e);
+            METRICS.swallowed("getLatestWeightEntry");
         }
         return null;
     }
@@ -272,13 +528,14 @@ public class WeightEntryDAO {
      * <p>Callers should check the return value to distinguish between these cases.</p>
      */
     public int updateWeightEntry(@NonNull WeightEntry entry) {
-        Log.d(TAG, "updateWeightEntry: weight_id=" + entry.getWeightId());
+        AppLog.d(TAG, "updateWeightEntry: weight_id={}", entry.getWeightId());
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
         ContentValues values = new ContentValues();
         values.put("weight_value", entry.getWeightValue());
         values.put("weight_unit", entry.getWeightUnit());
+        values.put("weight_kg", entry.getWeightKg());
         values.put("weight_date", entry.getWeightDate().format(ISO_DATE_FORMATTER));
         values.put("updated_at", LocalDateTime.now().format(ISO_DATETIME_FORMATTER));
 
@@ -289,17 +546,40 @@ public class WeightEntryDAO {
             values.putNull("notes");
         }
 
-        try {
-            int rows = db.update(
-                WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
-                values,
-                "weight_id = ?",
-                new String[]{String.valueOf(entry.getWeightId())}
-            );
-            Log.i(TAG, "updateWeightEntry: Updated " + rows + " rows");
+        try (DaoMetrics.Scope scope = METRICS.open("updateWeightEntry", entry.getWeightId())) {
+            LiveDay before;
+            int rows;
+            QueryCounter.onBeginTransaction(db);
+            db.beginTransaction();
+            try {
+                before = findLiveDay(db, entry.getWeightId());
+                rows = db.update(
+                    WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
+                    values,
+                    "weight_id = ?",
+                    new String[]{String.valueOf(entry.getWeightId())}
+                );
+                QueryCounter.onWrite(db, rows);
+                if (rows > 0 && before != null && !before.date.equals(entry.getWeightDate())) {
+                    LoggedDaysDAO.setLogged(db, before.userId, before.date, false);
+                    LoggedDaysDAO.setLogged(db, before.userId, entry.getWeightDate(), true);
+                }
+                db.setTransactionSuccessful();
+                AppLog.i(TAG, "updateWeightEntry: Updated {} rows", rows);
+            } finally {
+                db.endTransaction();
+            }
+            if (rows > 0 && before != null) {
+                WeightSeriesCache cache = dbHelper.getWeightSeriesCache();
+                if (!before.date.equals(entry.getWeightDate())) {
+                    cache.onRemove(before.userId, before.date);
+                }
+                cache.onPut(before.userId, entry.getWeightDate(), entry.getWeightKg());
+            }
             return rows;
         } catch (Exception e) {
             Log.e(TAG, "updateWeightEntry: Exception", e);
+            METRICS.swallowed("updateWeightEntry");
             return 0;
         }
     }
@@ -308,7 +588,7 @@ public class WeightEntryDAO {
      * Soft deletes a weight entry (sets is_deleted = 1).
      */
     public int deleteWeightEntry(long weightId) {
-        Log.d(TAG, "deleteWeightEntry: weight_id=" + weightId);
+        AppLog.d(TAG, "deleteWeightEntry: weight_id={}", weightId);
 
         SQLiteDatabase db = dbHelper.getWritableDatabase();
 
@@ -316,21 +596,117 @@ public class WeightEntryDAO {
         values.put("is_deleted", 1);
         values.put("updated_at", LocalDateTime.now().format(ISO_DATETIME_FORMATTER));
 
-        try {
-            int rows = db.update(
+        try (DaoMetrics.Scope scope = METRICS.open("deleteWeightEntry", weightId)) {
+            LiveDay before;
+            int rows;
+            QueryCounter.onBeginTransaction(db);
+            db.beginTransaction();
+            try {
+                before = findLiveDay(db, weightId);
+                rows = db.update(
+                    WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
+                    values,
+                    "weight_id = ?",
+                    new String[]{String.valueOf(weightId)}
+                );
+                QueryCounter.onWrite(db, rows);
+                if (rows > 0 && before != null) {
+                    LoggedDaysDAO.setLogged(db, before.userId, before.date, false);
+                }
+                db.setTransactionSuccessful();
+                AppLog.i(TAG, "deleteWeightEntry: Soft deleted {} rows", rows);
+            } finally {
+                db.endTransaction();
+            }
+            if (rows > 0 && before != null) {
+                dbHelper.getWeightSeriesCache().onRemove(before.userId, before.date);
+            }
+            return rows;
+        } catch (Exception e) {
+            Log.e(TAG, "deleteWeightEntry: Exception", e);
+            METRICS.swallowed("deleteWeightEntry");
+            return 0;
+        }
+    }
+
+    /**
+     * Permanently deletes soft-deleted entries whose deletion is older than the cutoff.
+     *
+     * <p><strong>Bounded Work:</strong> At most {@code limit} rows are removed per call so the
+     * write lock is held briefly; callers loop until fewer than {@code limit} rows are returned.
+     * Candidate rows are located through the idx_weights_tombstones partial index, which relies
+     * on deleteWeightEntry() stamping updated_at at deletion time.</p>
+     *
+     * @param deletedBefore only tombstones with updated_at strictly before this time are purged
+     * @param limit         maximum number of rows to delete in this call
+     * @return number of rows deleted, or 0 on database error
+     */
+    public int purgeDeletedEntries(@NonNull LocalDateTime deletedBefore, int limit) {
+        AppLog.d(TAG, "purgeDeletedEntries: deleted_before={}, limit={}", deletedBefore, limit);
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+
+        try (DaoMetrics.Scope scope = METRICS.open("purgeDeletedEntries", deletedBefore, limit)) {
+            int rows = db.delete(
                 WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
-                values,
-                "weight_id = ?",
-                new String[]{String.valueOf(weightId)}
+                "weight_id IN (SELECT weight_id FROM " + WeighToGoDBHelper.TABLE_DAILY_WEIGHTS +
+                    " WHERE is_deleted = 1 AND updated_at < ? LIMIT ?)",
+                new String[]{deletedBefore.format(ISO_DATETIME_FORMATTER), String.valueOf(limit)}
             );
-            Log.i(TAG, "deleteWeightEntry: Soft deleted " + rows + " rows");
+            QueryCounter.onWrite(db, rows);
+            AppLog.i(TAG, "purgeDeletedEntries: Purged {} rows", rows);
             return rows;
         } catch (Exception e) {
-            Log.e(TAG, "deleteWeightEntry: Exception", e);
+            Log.e(TAG, "purgeDeletedEntries: Exception", e);
+            METRICS.swallowed("purgeDeletedEntries");
             return 0;
         }
     }
 
+    /**
+     * Read a projection cursor of (epoch day, kg) rows into points.
+     */
+    @NonNull
+    private static WeightPoints readPoints(@NonNull Cursor cursor) {
+        int count = cursor.getCount();
+        int[] epochDays = new int[count];
+        double[] weightsKg = new double[count];
+        for (int i = 0; i < count && cursor.moveToNext(); i++) {
+            epochDays[i] = cursor.getInt(0);
+            weightsKg[i] = cursor.getDouble(1);
+        }
+        return new WeightPoints(epochDays, weightsKg);
+    }
+
+    /**
+     * User and date of a live entry, read before a write that may move or remove its
+     * logged_days bit and series point.
+     */
+    private static final class LiveDay {
+        final long userId;
+        @NonNull final LocalDate date;
+
+        LiveDay(long userId, @NonNull LocalDate date) {
+            this.userId = userId;
+            this.date = date;
+        }
+    }
+
+    @Nullable
+    private static LiveDay findLiveDay(@NonNull SQLiteDatabase db, long weightId) {
+        try (Cursor cursor = db.query(
+            WeighToGoDBHelper.TABLE_DAILY_WEIGHTS,
+            new String[]{"user_id", "weight_date"},
+            "weight_id = ? AND is_deleted = 0",
+            new String[]{String.valueOf(weightId)},
+            null, null, null
+        )) {
+            return cursor.moveToFirst()
+                    ? new LiveDay(cursor.getLong(0), LocalDate.parse(cursor.getString(1), ISO_DATE_FORMATTER))
+                    : null;
+        }
+    }
+
     /**
      * Maps cursor to WeightEntry object.
      */
@@ -0,0 +1,51 @@
+package com.example.weightogo.database;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Fills daily_weights.weight_kg for rows written before schema version 5.
+ *
+ * <p>Rows that already have weight_kg (written by the DAO since v5, or by an earlier run of
+ * this range) are skipped, so re-running a range is harmless. The conversion matches
+ * {@link WeightEntryDAO#WEIGHT_KG_SQL}, which readers use for rows not yet migrated.</p>
+ */
+public class WeightKgBackfillMigration implements DataMigration {
+
+    static final String ID = "v5_weight_kg_backfill";
+
+    @NonNull
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @NonNull
+    @Override
+    public String getTable() {
+        return WeighToGoDBHelper.TABLE_DAILY_WEIGHTS;
+    }
+
+    @NonNull
+    @Override
+    public String getKeyColumn() {
+        return "weight_id";
+    }
+
+    @Override
+    public int migrateRange(@NonNull SQLiteDatabase db, long fromKeyExclusive, long toKeyInclusive) {
+        db.execSQL(
+            "UPDATE " + WeighToGoDBHelper.TABLE_DAILY_WEIGHTS +
+            " SET weight_kg = " + WeightEntryDAO.WEIGHT_KG_SQL +
+            " WHERE weight_id > ? AND weight_id <= ? AND weight_kg IS NULL",
+            new Object[]{fromKeyExclusive, toKeyInclusive}
+        );
+        try (Cursor cursor = db.rawQuery("SELECT changes()", null)) {
+            int changed = cursor.moveToFirst() ? cursor.getInt(0) : 0;
+            QueryCounter.onWrite(db, changed);
+            return changed;
+        }
+    }
+}
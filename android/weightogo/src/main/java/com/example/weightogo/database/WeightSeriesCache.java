@@ -0,0 +1,97 @@
+package com.example.weightogo.database;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.models.WeightSeries;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-memory {@link WeightSeries} of each user whose history has been loaded, owned by the
+ * WeighToGoDBHelper instance so it lives exactly as long as the database it mirrors.
+ *
+ * <p><strong>Consistency:</strong> WeightEntryDAO applies every committed entry write here
+ * ({@link #onPut}, {@link #onRemove}, {@link #invalidate}). Each of those also bumps the user's
+ * version, and a loaded series is only stored if no write landed since the load began
+ * ({@link #putIfCurrent}), so a load racing a write never caches the pre-write history.</p>
+ */
+final class WeightSeriesCache {
+
+    private final Map<Long, WeightSeries> series = new HashMap<>();
+    private final Map<Long, Long> versions = new HashMap<>();
+
+    /**
+     * @param userId user ID
+     * @return the user's cached series, or null if not loaded
+     */
+    @Nullable
+    synchronized WeightSeries get(long userId) {
+        return series.get(userId);
+    }
+
+    /**
+     * @param userId user ID
+     * @return the user's write version; read before loading and pass to {@link #putIfCurrent}
+     */
+    synchronized long version(long userId) {
+        Long version = versions.get(userId);
+        return version != null ? version : 0;
+    }
+
+    /**
+     * Store a loaded series unless the user's entries changed since the load began.
+     *
+     * @param userId  user ID
+     * @param version {@link #version} read before the load
+     * @param loaded  loaded series
+     * @return the series to use: the cached one if another load won, else the loaded one
+     */
+    @NonNull
+    synchronized WeightSeries putIfCurrent(long userId, long version, @NonNull WeightSeries loaded) {
+        WeightSeries cached = series.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        if (version(userId) == version) {
+            series.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * A live entry was added or changed.
+     */
+    synchronized void onPut(long userId, @NonNull LocalDate date, double weightKg) {
+        bump(userId);
+        WeightSeries cached = series.get(userId);
+        if (cached != null) {
+            cached.put(date, weightKg);
+        }
+    }
+
+    /**
+     * A live entry was deleted or moved away from a date.
+     */
+    synchronized void onRemove(long userId, @NonNull LocalDate date) {
+        bump(userId);
+        WeightSeries cached = series.get(userId);
+        if (cached != null) {
+            cached.remove(date);
+        }
+    }
+
+    /**
+     * Drop a user's series (after batch writes or deleting the user).
+     */
+    synchronized void invalidate(long userId) {
+        bump(userId);
+        series.remove(userId);
+    }
+
+    private void bump(long userId) {
+        versions.put(userId, version(userId) + 1);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.weightogo.models;
+
+import androidx.annotation.NonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Which days in a date range have a live weight entry, as one bit per day. Loaded from the
+ * logged_days bitmap, so "logged on X", gaps and calendar heatmaps are bit operations rather
+ * than queries over entries.
+ *
+ * Bit i is the day {@code getFrom().plusDays(i)}.
+ * Instances are immutable.
+ */
+public class LoggedDays {
+
+    /** First day of the range */
+    @NonNull private final LocalDate from;
+
+    /** Number of days in the range */
+    private final int length;
+
+    /** Set bits are logged days */
+    @NonNull private final BitSet days;
+
+    /**
+     * @param from   first day of the range
+     * @param length number of days in the range
+     * @param days   logged days, bit i being from + i days (bits at or past length are ignored)
+     */
+    public LoggedDays(@NonNull LocalDate from, int length, @NonNull BitSet days) {
+        this.from = from;
+        this.length = length;
+        this.days = days.get(0, length);
+    }
+
+    @NonNull
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    /**
+     * @return last day of the range
+     */
+    @NonNull
+    public LocalDate getTo() {
+        return from.plusDays(length - 1);
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @param date a date
+     * @return true if the date is in the range and has an entry
+     */
+    public boolean isLogged(@NonNull LocalDate date) {
+        long index = date.toEpochDay() - from.toEpochDay();
+        return index >= 0 && index < length && days.get((int) index);
+    }
+
+    /**
+     * @param index day offset from {@link #getFrom()}, for heatmap cells
+     * @return true if that day has an entry
+     */
+    public boolean isLogged(int index) {
+        return index >= 0 && index < length && days.get(index);
+    }
+
+    /**
+     * @return number of logged days in the range
+     */
+    public int getLoggedCount() {
+        return days.cardinality();
+    }
+
+    /**
+     * @return days in the range without an entry, oldest first
+     */
+    @NonNull
+    public List<LocalDate> getMissingDays() {
+        List<LocalDate> missing = new ArrayList<>(length - days.cardinality());
+        for (int i = days.nextClearBit(0); i < length; i = days.nextClearBit(i + 1)) {
+            missing.add(from.plusDays(i));
+        }
+        return missing;
+    }
+
+    /**
+     * @param date last day of the streak (must be in the range)
+     * @return number of consecutive logged days ending on the date, counted back no further
+     *         than the start of the range; 0 if the date is not logged
+     */
+    public int getStreakEndingOn(@NonNull LocalDate date) {
+        long end = date.toEpochDay() - from.toEpochDay();
+        if (end < 0 || end >= length || !days.get((int) end)) {
+            return 0;
+        }
+        int gap = days.previousClearBit((int) end);
+        return (int) end - gap;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "LoggedDays{" +
+                "from=" + from +
+                ", to=" + getTo() +
+                ", logged=" + days.cardinality() +
+                '}';
+    }
+}
@@ -3,6 +3,8 @@ package com.example.weightogo.models;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.example.weightogo.utils.WeightUtils;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -78,6 +80,14 @@ public class WeightEntry {
         this.weightUnit = weightUnit;
     }
 
+    /**
+     * Weight in canonical kilograms (full precision), as stored in daily_weights.weight_kg.
+     * Use this to compare entries logged in different units.
+     */
+    public double getWeightKg() {
+        return WeightUtils.toKilograms(weightValue, weightUnit);
+    }
+
     @NonNull
     public LocalDate getWeightDate() {
         return weightDate;
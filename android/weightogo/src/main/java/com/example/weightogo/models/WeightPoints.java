@@ -0,0 +1,106 @@
+package com.example.weightogo.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.utils.WeightUtils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Dates and canonical weights of a user's entries over a date range, as parallel primitive
+ * arrays. Loaded by a projection query for views that only plot or color days (calendar
+ * months, charts), so no WeightEntry objects are built.
+ *
+ * Days are epoch days (see {@link LocalDate#toEpochDay()}) in ascending order, at most one
+ * per date. The arrays are shared, not copied: callers must not modify them.
+ * Instances are immutable.
+ */
+public class WeightPoints {
+
+    private static final WeightPoints EMPTY = new WeightPoints(new int[0], new double[0]);
+
+    /** Epoch day of each entry, ascending */
+    @NonNull private final int[] epochDays;
+
+    /** Weight in kilograms of each entry, parallel to epochDays */
+    @NonNull private final double[] weightsKg;
+
+    public WeightPoints(@NonNull int[] epochDays, @NonNull double[] weightsKg) {
+        if (epochDays.length != weightsKg.length) {
+            throw new IllegalArgumentException("epochDays and weightsKg differ in length");
+        }
+        this.epochDays = epochDays;
+        this.weightsKg = weightsKg;
+    }
+
+    @NonNull
+    public static WeightPoints empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    @NonNull
+    public int[] getEpochDays() {
+        return epochDays;
+    }
+
+    @NonNull
+    public double[] getWeightsKg() {
+        return weightsKg;
+    }
+
+    @NonNull
+    public LocalDate getDate(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public double getWeightKg(int index) {
+        return weightsKg[index];
+    }
+
+    /**
+     * @param index entry index
+     * @param unit  display unit ("lbs" or "kg")
+     * @return the entry's weight in the unit, rounded for display
+     */
+    public double getWeight(int index, @NonNull String unit) {
+        return WeightUtils.fromKilograms(weightsKg[index], unit);
+    }
+
+    /**
+     * @param date a date
+     * @return the index of the date's entry, or -1 if there is none
+     */
+    public int indexOf(@NonNull LocalDate date) {
+        int index = Arrays.binarySearch(epochDays, (int) date.toEpochDay());
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * @param date a date
+     * @return the date's weight in kilograms, or null if there is no entry that day
+     */
+    @Nullable
+    public Double getWeightKgOn(@NonNull LocalDate date) {
+        int index = indexOf(date);
+        return index >= 0 ? weightsKg[index] : null;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "WeightPoints{" +
+                "size=" + epochDays.length +
+                (epochDays.length > 0 ? ", from=" + getDate(0) + ", to=" + getDate(epochDays.length - 1) : "") +
+                '}';
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.weightogo.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * A user's whole weight history as two primitive columns: epoch days (ascending, at most one
+ * per date) and canonical weights in kilograms. About 12 bytes per point, against several
+ * hundred for a WeightEntry with its dates and strings, so analytics can keep years of history
+ * in memory and scan it without allocating.
+ *
+ * <p><strong>Updates:</strong> {@link #put} appends in amortized constant time when the date is
+ * after the last one (the usual case: logging today), and otherwise replaces or inserts in
+ * place. {@link #remove} drops a date. WeightEntryDAO keeps the cached series of each user in
+ * step with its writes.</p>
+ *
+ * <p><strong>Reads:</strong> Range lookups binary-search the day column. {@link #slice} copies a
+ * range out as immutable {@link WeightPoints} (CalendarMonthCache); {@link #getStats} and
+ * {@link #getActiveStreak} scan the columns in one pass without queries (AchievementManager).</p>
+ *
+ * <p><strong>Thread Safety:</strong> All methods are synchronized; a slice is a consistent
+ * snapshot.</p>
+ */
+public class WeightSeries {
+
+    private static final int MIN_CAPACITY = 16;
+
+    @NonNull private int[] epochDays;
+    @NonNull private double[] weightsKg;
+    private int size;
+
+    public WeightSeries() {
+        this.epochDays = new int[MIN_CAPACITY];
+        this.weightsKg = new double[MIN_CAPACITY];
+    }
+
+    /**
+     * @param points initial points (copied)
+     * @return a series holding the points
+     */
+    @NonNull
+    public static WeightSeries from(@NonNull WeightPoints points) {
+        WeightSeries series = new WeightSeries();
+        int capacity = Math.max(MIN_CAPACITY, points.size() + points.size() / 4);
+        series.epochDays = Arrays.copyOf(points.getEpochDays(), capacity);
+        series.weightsKg = Arrays.copyOf(points.getWeightsKg(), capacity);
+        series.size = points.size();
+        return series;
+    }
+
+    /**
+     * @return an independent series holding the same points
+     */
+    @NonNull
+    public synchronized WeightSeries copy() {
+        WeightSeries copy = new WeightSeries();
+        int capacity = Math.max(MIN_CAPACITY, size + size / 4);
+        copy.epochDays = Arrays.copyOf(epochDays, capacity);
+        copy.weightsKg = Arrays.copyOf(weightsKg, capacity);
+        copy.size = size;
+        return copy;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the first date, or null if the series is empty
+     */
+    @Nullable
+    public synchronized LocalDate getFirstDate() {
+        return size > 0 ? LocalDate.ofEpochDay(epochDays[0]) : null;
+    }
+
+    /**
+     * @return the last date, or null if the series is empty
+     */
+    @Nullable
+    public synchronized LocalDate getLastDate() {
+        return size > 0 ? LocalDate.ofEpochDay(epochDays[size - 1]) : null;
+    }
+
+    /**
+     * @param date a date
+     * @return the date's weight in kilograms, or null if there is no entry that day
+     */
+    @Nullable
+    public synchronized Double getWeightKgOn(@NonNull LocalDate date) {
+        int index = Arrays.binarySearch(epochDays, 0, size, (int) date.toEpochDay());
+        return index >= 0 ? weightsKg[index] : null;
+    }
+
+    /**
+     * Consecutive logged days ending at the last date, counted only while the streak is current
+     * (backfilled history never starts a streak).
+     *
+     * @param today the current date
+     * @return the streak, or 0 if the series is empty or its last date is before yesterday
+     */
+    public synchronized int getActiveStreak(@NonNull LocalDate today) {
+        if (size == 0 || epochDays[size - 1] < today.toEpochDay() - 1) {
+            return 0;
+        }
+        int streak = 1;
+        for (int i = size - 1; i > 0 && epochDays[i - 1] == epochDays[i] - 1; i--) {
+            streak++;
+        }
+        return streak;
+    }
+
+    /**
+     * Add or replace the weight of a date.
+     *
+     * @param date     entry date
+     * @param weightKg weight in kilograms
+     */
+    public synchronized void put(@NonNull LocalDate date, double weightKg) {
+        int day = (int) date.toEpochDay();
+        if (size == 0 || day > epochDays[size - 1]) {
+            ensureCapacity(size + 1);
+            epochDays[size] = day;
+            weightsKg[size] = weightKg;
+            size++;
+            return;
+        }
+        int index = Arrays.binarySearch(epochDays, 0, size, day);
+        if (index >= 0) {
+            weightsKg[index] = weightKg;
+            return;
+        }
+        int insertAt = -index - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(epochDays, insertAt, epochDays, insertAt + 1, size - insertAt);
+        System.arraycopy(weightsKg, insertAt, weightsKg, insertAt + 1, size - insertAt);
+        epochDays[insertAt] = day;
+        weightsKg[insertAt] = weightKg;
+        size++;
+    }
+
+    /**
+     * @param date entry date
+     * @return true if the date had a weight
+     */
+    public synchronized boolean remove(@NonNull LocalDate date) {
+        int index = Arrays.binarySearch(epochDays, 0, size, (int) date.toEpochDay());
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(epochDays, index + 1, epochDays, index, size - index - 1);
+        System.arraycopy(weightsKg, index + 1, weightsKg, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * @param from first date (inclusive)
+     * @param to   last date (inclusive)
+     * @return a copy of the points in the range; empty if none or from is after to
+     */
+    @NonNull
+    public synchronized WeightPoints slice(@NonNull LocalDate from, @NonNull LocalDate to) {
+        int start = lowerBound((int) from.toEpochDay());
+        int end = lowerBound((int) to.toEpochDay() + 1);
+        if (start >= end) {
+            return WeightPoints.empty();
+        }
+        return new WeightPoints(Arrays.copyOfRange(epochDays, start, end),
+                Arrays.copyOfRange(weightsKg, start, end));
+    }
+
+    /**
+     * @return count, min, max, average and least-squares trend over the whole series, or null
+     *         if it is empty
+     */
+    @Nullable
+    public synchronized WeightStats getStats() {
+        return stats(0, size);
+    }
+
+    /**
+     * @param from first date (inclusive)
+     * @param to   last date (inclusive)
+     * @return statistics over the range, or null if it has no entries
+     */
+    @Nullable
+    public synchronized WeightStats getStats(@NonNull LocalDate from, @NonNull LocalDate to) {
+        return stats(lowerBound((int) from.toEpochDay()), lowerBound((int) to.toEpochDay() + 1));
+    }
+
+    /**
+     * The trend is the least-squares slope of kg over days, with days counted from the first
+     * point of the range so the sums stay small.
+     */
+    @Nullable
+    private WeightStats stats(int start, int end) {
+        int n = end - start;
+        if (n <= 0) {
+            return null;
+        }
+        int day0 = epochDays[start];
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        double sumX = 0;
+        double sumY = 0;
+        double sumXY = 0;
+        double sumXX = 0;
+        for (int i = start; i < end; i++) {
+            double x = epochDays[i] - day0;
+            double y = weightsKg[i];
+            min = Math.min(min, y);
+            max = Math.max(max, y);
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+        double denominator = n * sumXX - sumX * sumX;
+        Double slope = denominator > 0 ? (n * sumXY - sumX * sumY) / denominator : null;
+        return new WeightStats(n, min, max, sumY / n, slope);
+    }
+
+    /**
+     * @return index of the first day at or after the given day (size if none)
+     */
+    private int lowerBound(int day) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > epochDays.length) {
+            int newCapacity = Math.max(capacity, epochDays.length * 2);
+            epochDays = Arrays.copyOf(epochDays, newCapacity);
+            weightsKg = Arrays.copyOf(weightsKg, newCapacity);
+        }
+    }
+
+    @NonNull
+    @Override
+    public synchronized String toString() {
+        return "WeightSeries{" +
+                "size=" + size +
+                (size > 0 ? ", from=" + LocalDate.ofEpochDay(epochDays[0]) +
+                        ", to=" + LocalDate.ofEpochDay(epochDays[size - 1]) : "") +
+                '}';
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.weightogo.models;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.utils.WeightUtils;
+
+/**
+ * Aggregate weight statistics for a user, computed in SQL over the canonical weight_kg column
+ * (WeightEntryDAO.getWeightStatsForUser) or by WeightSeries from a loaded history.
+ *
+ * Values are stored in kilograms; the unit-taking getters convert once for display.
+ * Instances are immutable.
+ */
+public class WeightStats {
+
+    /** Number of live (non-deleted) entries */
+    private final int entryCount;
+
+    /** Lowest weight in kilograms */
+    private final double minKg;
+
+    /** Highest weight in kilograms */
+    private final double maxKg;
+
+    /** Mean weight in kilograms */
+    private final double averageKg;
+
+    /** Least-squares slope in kg per day; null if all entries share one date */
+    @Nullable private final Double trendKgPerDay;
+
+    public WeightStats(int entryCount, double minKg, double maxKg, double averageKg,
+                       @Nullable Double trendKgPerDay) {
+        this.entryCount = entryCount;
+        this.minKg = minKg;
+        this.maxKg = maxKg;
+        this.averageKg = averageKg;
+        this.trendKgPerDay = trendKgPerDay;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public double getMinKg() {
+        return minKg;
+    }
+
+    public double getMaxKg() {
+        return maxKg;
+    }
+
+    public double getAverageKg() {
+        return averageKg;
+    }
+
+    @Nullable
+    public Double getTrendKgPerDay() {
+        return trendKgPerDay;
+    }
+
+    public double getMin(@NonNull String unit) {
+        return WeightUtils.fromKilograms(minKg, unit);
+    }
+
+    public double getMax(@NonNull String unit) {
+        return WeightUtils.fromKilograms(maxKg, unit);
+    }
+
+    public double getAverage(@NonNull String unit) {
+        return WeightUtils.fromKilograms(averageKg, unit);
+    }
+
+    /**
+     * Trend converted to unit per week (negative = losing weight).
+     *
+     * @param unit display unit ("lbs" or "kg")
+     * @return weekly trend rounded to 1 decimal place, or null if there is no trend
+     */
+    @Nullable
+    public Double getTrendPerWeek(@NonNull String unit) {
+        if (trendKgPerDay == null) {
+            return null;
+        }
+        double weekly = trendKgPerDay * 7;
+        return Math.signum(weekly) * WeightUtils.fromKilograms(Math.abs(weekly), unit);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "WeightStats{" +
+                "entryCount=" + entryCount +
+                ", minKg=" + minKg +
+                ", maxKg=" + maxKg +
+                ", averageKg=" + averageKg +
+                ", trendKgPerDay=" + trendKgPerDay +
+                '}';
+    }
+}
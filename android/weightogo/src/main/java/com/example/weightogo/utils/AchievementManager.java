@@ -3,19 +3,21 @@ package com.example.weightogo.utils;
 import android.util.Log;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.example.weightogo.database.AchievementDAO;
 import com.example.weightogo.database.GoalWeightDAO;
 import com.example.weightogo.database.WeightEntryDAO;
 import com.example.weightogo.models.Achievement;
 import com.example.weightogo.models.GoalWeight;
-import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.models.WeightSeries;
+import com.example.weightogo.models.WeightStats;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Manager class for detecting and awarding user achievements.
@@ -55,35 +57,65 @@ public class AchievementManager {
      *
      * @param userId    User ID
      * @param newWeight New weight value just logged
+     * @param newUnit   Unit newWeight was logged in ("lbs" or "kg")
      * @return List of newly awarded achievements
      */
-    public List<Achievement> checkAchievements(long userId, double newWeight) {
-        Log.d(TAG, "checkAchievements: Checking achievements for user_id=" + userId + ", new_weight=" + newWeight);
-
-        List<Achievement> newAchievements = new ArrayList<>();
+    public List<Achievement> checkAchievements(long userId, double newWeight, @NonNull String newUnit) {
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_LOGIC, "AchievementManager.checkAchievements")) {
+            AppLog.d(TAG, "checkAchievements: Checking achievements for user_id={}, new_weight={}", userId, newWeight);
+
+            // Query budget: 2 reads plus the weight series (cached after its first load), then at
+            // most 1 write transaction (AchievementManagerTest)
+            Set<String> awarded = achievementDAO.getAchievementTypes(userId);
+            GoalWeight activeGoal = goalWeightDAO.getActiveGoal(userId);
+            WeightSeries series = weightEntryDAO.getWeightSeries(userId);
+
+            // Goal math runs in the goal's unit, whatever unit the entry was logged in
+            Double weightInGoalUnit = activeGoal == null ? null
+                    : inUnit(newWeight, newUnit, activeGoal.getGoalUnit());
+
+            // Check all achievement types
+            List<Achievement> candidates = new ArrayList<>();
+            checkGoalReached(userId, weightInGoalUnit, awarded, activeGoal, candidates);
+            checkFirstEntry(userId, awarded, series, candidates);
+            checkStreaks(userId, awarded, series, candidates);
+            checkMilestones(userId, weightInGoalUnit, awarded, activeGoal, candidates);
+            checkNewLow(userId, newWeight, newUnit, series, candidates);
+
+            achievementDAO.insertAchievements(candidates);
+            List<Achievement> newAchievements = new ArrayList<>(candidates.size());
+            for (Achievement achievement : candidates) {
+                if (achievement.getAchievementId() > 0) {
+                    newAchievements.add(achievement);
+                    AppLog.i(TAG, "checkAchievements: Awarded {} achievement", achievement.getAchievementType());
+                }
+            }
 
-        // Check all achievement types
-        checkGoalReached(userId, newWeight, newAchievements);
-        checkFirstEntry(userId, newAchievements);
-        checkStreaks(userId, newAchievements);
-        checkMilestones(userId, newWeight, newAchievements);
-        checkNewLow(userId, newWeight, newAchievements);
+            AppLog.i(TAG, "checkAchievements: Awarded {} new achievements", newAchievements.size());
+            return newAchievements;
+        }
+    }
 
-        Log.i(TAG, "checkAchievements: Awarded " + newAchievements.size() + " new achievements");
-        return newAchievements;
+    /**
+     * @return the weight in the target unit; unchanged if it is already in that unit
+     */
+    private static double inUnit(double weight, @NonNull String unit, @NonNull String targetUnit) {
+        return unit.equals(targetUnit)
+                ? weight
+                : WeightUtils.fromKilograms(WeightUtils.toKilograms(weight, unit), targetUnit);
     }
 
     /**
      * Check if user has reached their goal weight.
      */
-    private void checkGoalReached(long userId, double newWeight, List<Achievement> newAchievements) {
+    private void checkGoalReached(long userId, @Nullable Double newWeight, Set<String> awarded,
+                                  @Nullable GoalWeight activeGoal, List<Achievement> newAchievements) {
         // Skip if already awarded
-        if (achievementDAO.hasAchievementType(userId, "GOAL_REACHED")) {
+        if (awarded.contains("GOAL_REACHED")) {
             return;
         }
 
-        GoalWeight activeGoal = goalWeightDAO.getActiveGoal(userId);
-        if (activeGoal == null) {
+        if (activeGoal == null || newWeight == null) {
             return;
         }
 
@@ -101,28 +133,22 @@ public class AchievementManager {
             achievement.setAchievedAt(LocalDateTime.now());
             achievement.setNotified(false);
 
-            long achievementId = achievementDAO.insertAchievement(achievement);
-            if (achievementId > 0) {
-                achievement.setAchievementId(achievementId);
-                newAchievements.add(achievement);
-                Log.i(TAG, "checkGoalReached: Awarded GOAL_REACHED achievement");
-            }
+            newAchievements.add(achievement);
         }
     }
 
     /**
      * Check if this is user's first weight entry.
      */
-    private void checkFirstEntry(long userId, List<Achievement> newAchievements) {
+    private void checkFirstEntry(long userId, Set<String> awarded, WeightSeries series,
+                                 List<Achievement> newAchievements) {
         // Skip if already awarded
-        if (achievementDAO.hasAchievementType(userId, "FIRST_ENTRY")) {
+        if (awarded.contains("FIRST_ENTRY")) {
             return;
         }
 
-        List<WeightEntry> entries = weightEntryDAO.getWeightEntriesForUser(userId);
-
         // If no entries exist, this will be the first one
-        if (entries.isEmpty()) {
+        if (series.isEmpty()) {
             Achievement achievement = new Achievement();
             achievement.setUserId(userId);
             achievement.setAchievementType("FIRST_ENTRY");
@@ -131,33 +157,20 @@ public class AchievementManager {
             achievement.setAchievedAt(LocalDateTime.now());
             achievement.setNotified(false);
 
-            long achievementId = achievementDAO.insertAchievement(achievement);
-            if (achievementId > 0) {
-                achievement.setAchievementId(achievementId);
-                newAchievements.add(achievement);
-                Log.i(TAG, "checkFirstEntry: Awarded FIRST_ENTRY achievement");
-            }
+            newAchievements.add(achievement);
         }
     }
 
     /**
      * Check for consecutive day streaks (7-day and 30-day).
      */
-    private void checkStreaks(long userId, List<Achievement> newAchievements) {
-        // Optimization: Only fetch recent 31 entries instead of all entries
-        // This prevents N+1 query problem for users with many entries
-        List<WeightEntry> entries = weightEntryDAO.getRecentWeightEntriesForUser(userId, 31);
-
-        // Need at least 7 entries total for STREAK_7 (checkAchievements called after entry saved)
-        if (entries.size() < 7) {
-            return;
-        }
-
-        // Calculate current streak (new entry already saved to DB)
-        int currentStreak = calculateConsecutiveDaysIncludingToday(entries);
+    private void checkStreaks(long userId, Set<String> awarded, WeightSeries series,
+                              List<Achievement> newAchievements) {
+        // Calculate current streak (new entry already saved to DB, so already in the series)
+        int currentStreak = series.getActiveStreak(LocalDate.now());
 
         // Check STREAK_7
-        if (currentStreak >= 7 && !achievementDAO.hasAchievementType(userId, "STREAK_7")) {
+        if (currentStreak >= 7 && !awarded.contains("STREAK_7")) {
             Achievement achievement = new Achievement();
             achievement.setUserId(userId);
             achievement.setAchievementType("STREAK_7");
@@ -167,16 +180,11 @@ public class AchievementManager {
             achievement.setAchievedAt(LocalDateTime.now());
             achievement.setNotified(false);
 
-            long achievementId = achievementDAO.insertAchievement(achievement);
-            if (achievementId > 0) {
-                achievement.setAchievementId(achievementId);
-                newAchievements.add(achievement);
-                Log.i(TAG, "checkStreaks: Awarded STREAK_7 achievement");
-            }
+            newAchievements.add(achievement);
         }
 
         // Check STREAK_30
-        if (currentStreak >= 30 && !achievementDAO.hasAchievementType(userId, "STREAK_30")) {
+        if (currentStreak >= 30 && !awarded.contains("STREAK_30")) {
             Achievement achievement = new Achievement();
             achievement.setUserId(userId);
             achievement.setAchievementType("STREAK_30");
@@ -186,75 +194,16 @@ public class AchievementManager {
             achievement.setAchievedAt(LocalDateTime.now());
             achievement.setNotified(false);
 
-            long achievementId = achievementDAO.insertAchievement(achievement);
-            if (achievementId > 0) {
-                achievement.setAchievementId(achievementId);
-                newAchievements.add(achievement);
-                Log.i(TAG, "checkStreaks: Awarded STREAK_30 achievement");
-            }
+            newAchievements.add(achievement);
         }
     }
 
-    /**
-     * Calculate consecutive days with entries, including today.
-     * Called after the new entry has been saved to the database.
-     * Assumes entries are sorted by date descending.
-     *
-     * Note: Only counts streaks if there's an entry for today OR yesterday.
-     * Backfilled entries (older than yesterday) don't start/continue a streak.
-     */
-    private int calculateConsecutiveDaysIncludingToday(List<WeightEntry> entries) {
-        if (entries.isEmpty()) {
-            return 0; // No entries, no streak
-        }
-
-        LocalDate today = LocalDate.now();
-        LocalDate yesterday = today.minusDays(1);
-        LocalDate mostRecentDate = entries.get(0).getWeightDate();
-
-        // Check if most recent entry is from today or yesterday
-        // If it's older (backfilled), don't count as part of active streak
-        if (mostRecentDate.isBefore(yesterday)) {
-            // Most recent entry is older than yesterday - this is a backfilled entry
-            // Don't award streak achievements for backfilled data
-            return 0;
-        }
-
-        // Check the gap between most recent entry and today
-        long daysSinceLastEntry = ChronoUnit.DAYS.between(mostRecentDate, today);
-
-        if (daysSinceLastEntry > 1) {
-            // Streak is broken - gap of more than 1 day
-            return 0;
-        }
-
-        // Start counting streak from most recent entry (today or yesterday)
-        int streak = 1;
-        LocalDate previousDate = mostRecentDate;
-
-        for (int i = 1; i < entries.size(); i++) {
-            LocalDate currentDate = entries.get(i).getWeightDate();
-            long daysBetween = ChronoUnit.DAYS.between(currentDate, previousDate);
-
-            if (daysBetween == 1) {
-                // Consecutive day
-                streak++;
-                previousDate = currentDate;
-            } else {
-                // Streak broken
-                break;
-            }
-        }
-
-        return streak;
-    }
-
     /**
      * Check for weight loss milestones (5, 10, 25 lbs).
      */
-    private void checkMilestones(long userId, double newWeight, List<Achievement> newAchievements) {
-        GoalWeight activeGoal = goalWeightDAO.getActiveGoal(userId);
-        if (activeGoal == null) {
+    private void checkMilestones(long userId, @Nullable Double newWeight, Set<String> awarded,
+                                 @Nullable GoalWeight activeGoal, List<Achievement> newAchievements) {
+        if (activeGoal == null || newWeight == null) {
             return;
         }
 
@@ -277,97 +226,80 @@ public class AchievementManager {
         }
 
         // Check MILESTONE_5
-        if (progress >= 5.0 && !achievementDAO.hasAchievementType(userId, "MILESTONE_5")) {
+        if (progress >= 5.0 && !awarded.contains("MILESTONE_5")) {
             Achievement achievement = new Achievement();
             achievement.setUserId(userId);
             achievement.setGoalId(activeGoal.getGoalId());
             achievement.setAchievementType("MILESTONE_5");
             achievement.setTitle(isLossGoal
-                ? String.format("5 %s Lost!", unit)
-                : String.format("5 %s Gained!", unit));
+                ? "5 " + unit + " Lost!"
+                : "5 " + unit + " Gained!");
             achievement.setDescription(isLossGoal
-                ? String.format("You've lost 5 %s! You're making great progress!", unit)
-                : String.format("You've gained 5 %s! You're making great progress!", unit));
+                ? "You've lost 5 " + unit + "! You're making great progress!"
+                : "You've gained 5 " + unit + "! You're making great progress!");
             achievement.setValue(5.0);
             achievement.setAchievedAt(LocalDateTime.now());
             achievement.setNotified(false);
 
-            long achievementId = achievementDAO.insertAchievement(achievement);
-            if (achievementId > 0) {
-                achievement.setAchievementId(achievementId);
-                newAchievements.add(achievement);
-                Log.i(TAG, "checkMilestones: Awarded MILESTONE_5 achievement");
-            }
+            newAchievements.add(achievement);
         }
 
         // Check MILESTONE_10
-        if (progress >= 10.0 && !achievementDAO.hasAchievementType(userId, "MILESTONE_10")) {
+        if (progress >= 10.0 && !awarded.contains("MILESTONE_10")) {
             Achievement achievement = new Achievement();
             achievement.setUserId(userId);
             achievement.setGoalId(activeGoal.getGoalId());
             achievement.setAchievementType("MILESTONE_10");
             achievement.setTitle(isLossGoal
-                ? String.format("10 %s Lost!", unit)
-                : String.format("10 %s Gained!", unit));
+                ? "10 " + unit + " Lost!"
+                : "10 " + unit + " Gained!");
             achievement.setDescription(isLossGoal
-                ? String.format("Amazing! You've lost 10 %s!", unit)
-                : String.format("Amazing! You've gained 10 %s!", unit));
+                ? "Amazing! You've lost 10 " + unit + "!"
+                : "Amazing! You've gained 10 " + unit + "!");
             achievement.setValue(10.0);
             achievement.setAchievedAt(LocalDateTime.now());
             achievement.setNotified(false);
 
-            long achievementId = achievementDAO.insertAchievement(achievement);
-            if (achievementId > 0) {
-                achievement.setAchievementId(achievementId);
-                newAchievements.add(achievement);
-                Log.i(TAG, "checkMilestones: Awarded MILESTONE_10 achievement");
-            }
+            newAchievements.add(achievement);
         }
 
         // Check MILESTONE_25
-        if (progress >= 25.0 && !achievementDAO.hasAchievementType(userId, "MILESTONE_25")) {
+        if (progress >= 25.0 && !awarded.contains("MILESTONE_25")) {
             Achievement achievement = new Achievement();
             achievement.setUserId(userId);
             achievement.setGoalId(activeGoal.getGoalId());
             achievement.setAchievementType("MILESTONE_25");
             achievement.setTitle(isLossGoal
-                ? String.format("25 %s Lost!", unit)
-                : String.format("25 %s Gained!", unit));
+                ? "25 " + unit + " Lost!"
+                : "25 " + unit + " Gained!");
             achievement.setDescription(isLossGoal
-                ? String.format("Incredible! You've lost 25 %s! You're a superstar!", unit)
-                : String.format("Incredible! You've gained 25 %s! You're a superstar!", unit));
+                ? "Incredible! You've lost 25 " + unit + "! You're a superstar!"
+                : "Incredible! You've gained 25 " + unit + "! You're a superstar!");
             achievement.setValue(25.0);
             achievement.setAchievedAt(LocalDateTime.now());
             achievement.setNotified(false);
 
-            long achievementId = achievementDAO.insertAchievement(achievement);
-            if (achievementId > 0) {
-                achievement.setAchievementId(achievementId);
-                newAchievements.add(achievement);
-                Log.i(TAG, "checkMilestones: Awarded MILESTONE_25 achievement");
-            }
+            newAchievements.add(achievement);
         }
     }
 
     /**
      * Check if user reached a new lowest weight.
-     * Uses optimized SQL MIN() query instead of fetching all entries.
+     * Uses the minimum of the weight series, in canonical kilograms, so entries logged in
+     * different units compare correctly.
      */
-    private void checkNewLow(long userId, double newWeight, List<Achievement> newAchievements) {
-        // Optimized: Use SQL MIN() instead of loading all entries
-        Double minPreviousWeight = weightEntryDAO.getMinWeightForUser(userId);
+    private void checkNewLow(long userId, double newWeight, @NonNull String unit, WeightSeries series,
+                             List<Achievement> newAchievements) {
+        WeightStats stats = series.getStats();
 
-        if (minPreviousWeight == null) {
+        if (stats == null) {
             // This is the first entry, so it's automatically a new low
             // But we don't award NEW_LOW for the first entry (it's not meaningful)
             return;
         }
 
         // Check if new weight is lower than previous minimum
-        if (newWeight < minPreviousWeight) {
-            // Get unit from latest weight entry
-            WeightEntry latestEntry = weightEntryDAO.getLatestWeightEntry(userId);
-            String unit = (latestEntry != null) ? latestEntry.getWeightUnit() : "lbs";
+        if (WeightUtils.toKilograms(newWeight, unit) < stats.getMinKg()) {
 
             Achievement achievement = new Achievement();
             achievement.setUserId(userId);
@@ -379,12 +311,7 @@ public class AchievementManager {
             achievement.setAchievedAt(LocalDateTime.now());
             achievement.setNotified(false);
 
-            long achievementId = achievementDAO.insertAchievement(achievement);
-            if (achievementId > 0) {
-                achievement.setAchievementId(achievementId);
-                newAchievements.add(achievement);
-                Log.i(TAG, "checkNewLow: Awarded NEW_LOW achievement");
-            }
+            newAchievements.add(achievement);
         }
     }
 }
@@ -0,0 +1,221 @@
+package com.example.weightogo.utils;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.BuildConfig;
+
+/**
+ * Level-gated logging facade for debug and info messages on hot paths (DAOs, achievement checks).
+ *
+ * <p><strong>Usage:</strong></p>
+ * <pre>
+ * AppLog.d(TAG, "getWeightEntriesForUser: user_id={}", userId);
+ * AppLog.i(TAG, "getWeightEntriesForUser: Found {} entries", entries.size());
+ * </pre>
+ * Messages use "{}" placeholders and are only formatted when the level is enabled. Overloads
+ * take {@code long} and {@code double} arguments directly, so a disabled call does not box,
+ * concatenate or allocate anything.
+ *
+ * <p><strong>Gating:</strong> Release builds drop debug and info messages at compile time
+ * ({@code BuildConfig.DEBUG} is the constant {@code false} there, so R8 removes the bodies).
+ * Debug builds log from DEBUG up; {@link #setMinLevel} raises or lowers that at runtime.</p>
+ *
+ * <p><strong>PII:</strong> Never pass a phone number as an argument; pass
+ * {@link #maskPhone(String)} instead, which masks exactly like
+ * {@link ValidationUtils#maskPhoneNumber(String)}.</p>
+ *
+ * <p>Warnings and errors are always logged and keep using {@link Log} directly.</p>
+ */
+public final class AppLog {
+
+    private static final String PLACEHOLDER = "{}";
+
+    /** Lowest level logged in debug builds until changed with {@link #setMinLevel} */
+    public static final int DEFAULT_DEBUG_LEVEL = Log.DEBUG;
+
+    private static volatile int minLevel = DEFAULT_DEBUG_LEVEL;
+
+    private AppLog() {
+        throw new AssertionError("AppLog is a utility class and should not be instantiated");
+    }
+
+    // =============================================================================================
+    // LEVELS
+    // =============================================================================================
+
+    /**
+     * Set the lowest level logged (debug builds only; release builds never log below WARN).
+     *
+     * @param level one of the android.util.Log level constants
+     */
+    public static void setMinLevel(int level) {
+        minLevel = level;
+    }
+
+    public static int getMinLevel() {
+        return minLevel;
+    }
+
+    /**
+     * @return true if debug messages are logged; use it to guard work done only to build a
+     * log argument
+     */
+    public static boolean isDebugEnabled() {
+        return BuildConfig.DEBUG && minLevel <= Log.DEBUG;
+    }
+
+    public static boolean isInfoEnabled() {
+        return BuildConfig.DEBUG && minLevel <= Log.INFO;
+    }
+
+    // =============================================================================================
+    // DEBUG
+    // =============================================================================================
+
+    public static void d(@NonNull String tag, @NonNull String message) {
+        if (isDebugEnabled()) {
+            Log.d(tag, message);
+        }
+    }
+
+    public static void d(@NonNull String tag, @NonNull String format, long arg) {
+        if (isDebugEnabled()) {
+            Log.d(tag, format(format, Long.toString(arg), null));
+        }
+    }
+
+    public static void d(@NonNull String tag, @NonNull String format, double arg) {
+        if (isDebugEnabled()) {
+            Log.d(tag, format(format, Double.toString(arg), null));
+        }
+    }
+
+    public static void d(@NonNull String tag, @NonNull String format, @Nullable Object arg) {
+        if (isDebugEnabled()) {
+            Log.d(tag, format(format, String.valueOf(arg), null));
+        }
+    }
+
+    public static void d(@NonNull String tag, @NonNull String format, long arg1, long arg2) {
+        if (isDebugEnabled()) {
+            Log.d(tag, format(format, Long.toString(arg1), Long.toString(arg2)));
+        }
+    }
+
+    public static void d(@NonNull String tag, @NonNull String format, long arg1, double arg2) {
+        if (isDebugEnabled()) {
+            Log.d(tag, format(format, Long.toString(arg1), Double.toString(arg2)));
+        }
+    }
+
+    public static void d(@NonNull String tag, @NonNull String format, long arg1, @Nullable Object arg2) {
+        if (isDebugEnabled()) {
+            Log.d(tag, format(format, Long.toString(arg1), String.valueOf(arg2)));
+        }
+    }
+
+    public static void d(@NonNull String tag, @NonNull String format, @Nullable Object arg1, long arg2) {
+        if (isDebugEnabled()) {
+            Log.d(tag, format(format, String.valueOf(arg1), Long.toString(arg2)));
+        }
+    }
+
+    public static void d(@NonNull String tag, @NonNull String format, @Nullable Object arg1, @Nullable Object arg2) {
+        if (isDebugEnabled()) {
+            Log.d(tag, format(format, String.valueOf(arg1), String.valueOf(arg2)));
+        }
+    }
+
+    // =============================================================================================
+    // INFO
+    // =============================================================================================
+
+    public static void i(@NonNull String tag, @NonNull String message) {
+        if (isInfoEnabled()) {
+            Log.i(tag, message);
+        }
+    }
+
+    public static void i(@NonNull String tag, @NonNull String format, long arg) {
+        if (isInfoEnabled()) {
+            Log.i(tag, format(format, Long.toString(arg), null));
+        }
+    }
+
+    public static void i(@NonNull String tag, @NonNull String format, double arg) {
+        if (isInfoEnabled()) {
+            Log.i(tag, format(format, Double.toString(arg), null));
+        }
+    }
+
+    public static void i(@NonNull String tag, @NonNull String format, @Nullable Object arg) {
+        if (isInfoEnabled()) {
+            Log.i(tag, format(format, String.valueOf(arg), null));
+        }
+    }
+
+    public static void i(@NonNull String tag, @NonNull String format, long arg1, long arg2) {
+        if (isInfoEnabled()) {
+            Log.i(tag, format(format, Long.toString(arg1), Long.toString(arg2)));
+        }
+    }
+
+    public static void i(@NonNull String tag, @NonNull String format, long arg1, @Nullable Object arg2) {
+        if (isInfoEnabled()) {
+            Log.i(tag, format(format, Long.toString(arg1), String.valueOf(arg2)));
+        }
+    }
+
+    public static void i(@NonNull String tag, @NonNull String format, @Nullable Object arg1, long arg2) {
+        if (isInfoEnabled()) {
+            Log.i(tag, format(format, String.valueOf(arg1), Long.toString(arg2)));
+        }
+    }
+
+    public static void i(@NonNull String tag, @NonNull String format, @Nullable Object arg1, @Nullable Object arg2) {
+        if (isInfoEnabled()) {
+            Log.i(tag, format(format, String.valueOf(arg1), String.valueOf(arg2)));
+        }
+    }
+
+    // =============================================================================================
+    // FORMATTING
+    // =============================================================================================
+
+    /**
+     * Mask a phone number for a log argument.
+     *
+     * @param phoneNumber phone number, may be null
+     * @return the masked number, e.g. "***1234"
+     */
+    @NonNull
+    public static String maskPhone(@Nullable String phoneNumber) {
+        return ValidationUtils.maskPhoneNumber(phoneNumber);
+    }
+
+    /**
+     * Replace the first two "{}" placeholders. Extra placeholders are left as they are; extra
+     * arguments are ignored.
+     */
+    @NonNull
+    static String format(@NonNull String format, @NonNull String arg1, @Nullable String arg2) {
+        int first = format.indexOf(PLACEHOLDER);
+        if (first < 0) {
+            return format;
+        }
+        StringBuilder sb = new StringBuilder(format.length() + 32);
+        sb.append(format, 0, first).append(arg1);
+        int rest = first + PLACEHOLDER.length();
+        if (arg2 != null) {
+            int second = format.indexOf(PLACEHOLDER, rest);
+            if (second >= 0) {
+                sb.append(format, rest, second).append(arg2);
+                rest = second + PLACEHOLDER.length();
+            }
+        }
+        return sb.append(format, rest, format.length()).toString();
+    }
+}
@@ -4,9 +4,15 @@ import android.os.Handler;
 import android.os.Looper;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 
 /**
  * Utility class for executing background tasks with result callbacks on the UI thread.
@@ -85,4 +91,105 @@ public class BackgroundTask<R> {
             }
         });
     }
+
+    /**
+     * Execute work on background thread without a UI callback. The caller collects the result
+     * (or the exception) from the returned Task, e.g. a prefetch handed to the next screen,
+     * either directly once it is done or through {@link Task#whenDone}.
+     *
+     * @param work The work to execute in background
+     * @param <R> The type of result
+     * @return Task completed with the work's result
+     */
+    @NonNull
+    public static <R> Task<R> submit(@NonNull Work<R> work) {
+        Task<R> task = new Task<>(work);
+        EXECUTOR.execute(task);
+        return task;
+    }
+
+    /**
+     * Execute work on background thread once another task is done (successfully or not),
+     * without holding a pool thread while the prerequisite runs.
+     *
+     * @param prerequisite Task that must finish first
+     * @param work The work to execute in background
+     * @param <R> The type of result
+     * @return Task completed with the work's result
+     */
+    @NonNull
+    public static <R> Task<R> submitAfter(@NonNull Task<?> prerequisite, @NonNull Work<R> work) {
+        Task<R> task = new Task<>(work);
+        prerequisite.onDone(() -> EXECUTOR.execute(task));
+        return task;
+    }
+
+    /**
+     * Submitted background work whose completion can be observed without waiting for it:
+     * callbacks registered with {@link #whenDone} are posted to the UI thread when the work
+     * finishes, so no thread is held blocked in {@link #get()}.
+     *
+     * @param <R> The type of result
+     */
+    public static final class Task<R> extends FutureTask<R> {
+
+        /** Listeners waiting for completion; null once the task is done */
+        @Nullable private List<Runnable> waiting = new ArrayList<>();
+
+        private Task(@NonNull Work<R> work) {
+            super(work::execute);
+        }
+
+        /**
+         * Deliver the result (or the error, including cancellation) to a callback on the UI
+         * thread once the work finishes; posted at once if it already has.
+         *
+         * @param callback Callback for result (called on UI thread)
+         */
+        public void whenDone(@NonNull Callback<R> callback) {
+            onDone(() -> post(callback));
+        }
+
+        /**
+         * Run a listener on the thread that completes the task, or at once if it is done.
+         */
+        private void onDone(@NonNull Runnable listener) {
+            synchronized (this) {
+                if (waiting != null) {
+                    waiting.add(listener);
+                    return;
+                }
+            }
+            listener.run();
+        }
+
+        @Override
+        protected void done() {
+            List<Runnable> listeners;
+            synchronized (this) {
+                listeners = waiting;
+                waiting = null;
+            }
+            for (Runnable listener : listeners) {
+                listener.run();
+            }
+        }
+
+        private void post(@NonNull Callback<R> callback) {
+            MAIN_HANDLER.post(() -> {
+                R result;
+                try {
+                    result = get();  // Done: returns without blocking
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    callback.onError(cause instanceof Exception ? (Exception) cause : e);
+                    return;
+                } catch (CancellationException | InterruptedException e) {
+                    callback.onError(e);
+                    return;
+                }
+                callback.onResult(result);
+            });
+        }
+    }
 }
@@ -0,0 +1,139 @@
+package com.example.weightogo.utils;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Build;
+import android.text.TextUtils;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+/**
+ * Picks the bcrypt cost factor for this device: the highest cost whose hash time stays under
+ * a target latency.
+ *
+ * <p><strong>Benchmark:</strong> Hashes once at {@link PasswordUtilsV2#MIN_BCRYPT_COST} to warm
+ * up, then takes the faster of two timed hashes. Each cost step doubles the work, so the time
+ * at higher costs is extrapolated instead of measured (about 150 ms in total on a mid-range
+ * phone).</p>
+ *
+ * <p><strong>Persistence:</strong> The chosen cost is stored in SharedPreferences together
+ * with the target and the build fingerprint. It is recalibrated when the target changes or the
+ * OS is updated. Hashes record their own cost, so users hashed under an old cost are rehashed
+ * on their next login (see {@link PasswordUtilsV2#needsRehash}).</p>
+ *
+ * <p><strong>Usage:</strong> StartupPipeline runs {@link #calibrateIfNeeded(Context)} on the
+ * background pool at process start; once calibrated it only reads SharedPreferences.</p>
+ */
+public final class BcryptCalibrator {
+
+    private static final String TAG = "BcryptCalibrator";
+
+    /** Hash time to stay under; matches the documented cost of the previous fixed cost 12 */
+    public static final long DEFAULT_TARGET_MILLIS = 300;
+
+    private static final String PREF_NAME = "WeighToGoBcrypt";
+    private static final String KEY_COST = "cost";
+    private static final String KEY_TARGET_MILLIS = "target_millis";
+    private static final String KEY_FINGERPRINT = "fingerprint";
+
+    /** Benchmark input; any non-empty password works */
+    private static final String BENCHMARK_PASSWORD = "calibration-Passw0rd";
+
+    private BcryptCalibrator() {
+        throw new AssertionError("BcryptCalibrator is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Apply the stored cost, or benchmark the device and store a new one.
+     *
+     * @param context any context
+     * @return the cost now in use
+     */
+    @WorkerThread
+    public static int calibrateIfNeeded(@NonNull Context context) {
+        return calibrateIfNeeded(context, DEFAULT_TARGET_MILLIS);
+    }
+
+    /**
+     * Apply the stored cost for a target, or benchmark the device and store a new one.
+     *
+     * @param context      any context
+     * @param targetMillis hash time to stay under
+     * @return the cost now in use
+     */
+    @WorkerThread
+    public static int calibrateIfNeeded(@NonNull Context context, long targetMillis) {
+        SharedPreferences prefs = prefs(context);
+        int cost = getStoredCost(prefs, targetMillis);
+        if (cost < 0) {
+            long millis;
+            try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_HASH, "BcryptCalibrator.measure")) {
+                millis = measureMillisAtMinCost();
+            }
+            cost = chooseCost(millis, targetMillis);
+            prefs.edit()
+                    .putInt(KEY_COST, cost)
+                    .putLong(KEY_TARGET_MILLIS, targetMillis)
+                    .putString(KEY_FINGERPRINT, Build.FINGERPRINT)
+                    .apply();
+            Log.i(TAG, "calibrateIfNeeded: " + millis + "ms at cost " + PasswordUtilsV2.MIN_BCRYPT_COST +
+                    ", chose cost " + cost + " for target " + targetMillis + "ms");
+        }
+        PasswordUtilsV2.setBcryptCost(cost);
+        return cost;
+    }
+
+    /**
+     * Highest cost whose extrapolated hash time is at most the target. Never below
+     * MIN_BCRYPT_COST, even on devices too slow to meet the target.
+     *
+     * @param millisAtMinCost measured hash time at MIN_BCRYPT_COST
+     * @param targetMillis    hash time to stay under
+     * @return cost factor in [MIN_BCRYPT_COST, MAX_BCRYPT_COST]
+     */
+    @VisibleForTesting
+    static int chooseCost(long millisAtMinCost, long targetMillis) {
+        int cost = PasswordUtilsV2.MIN_BCRYPT_COST;
+        long millis = Math.max(1, millisAtMinCost);
+        while (cost < PasswordUtilsV2.MAX_BCRYPT_COST && millis * 2 <= targetMillis) {
+            millis *= 2;
+            cost++;
+        }
+        return cost;
+    }
+
+    /**
+     * Drop the stored calibration so the next {@link #calibrateIfNeeded} benchmarks again.
+     */
+    @VisibleForTesting
+    static void clear(@NonNull Context context) {
+        prefs(context).edit().clear().apply();
+    }
+
+    private static int getStoredCost(@NonNull SharedPreferences prefs, long targetMillis) {
+        if (prefs.getLong(KEY_TARGET_MILLIS, -1) != targetMillis ||
+                !TextUtils.equals(Build.FINGERPRINT, prefs.getString(KEY_FINGERPRINT, null))) {
+            return -1;
+        }
+        return prefs.getInt(KEY_COST, -1);
+    }
+
+    private static long measureMillisAtMinCost() {
+        PasswordUtilsV2.hashPasswordBcrypt(BENCHMARK_PASSWORD, PasswordUtilsV2.MIN_BCRYPT_COST);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            PasswordUtilsV2.hashPasswordBcrypt(BENCHMARK_PASSWORD, PasswordUtilsV2.MIN_BCRYPT_COST);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+
+    @NonNull
+    private static SharedPreferences prefs(@NonNull Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.weightogo.utils;
+
+import android.util.Log;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.WeightPoints;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-month weight points for a calendar view, loaded off the main thread with the months on
+ * either side of the shown one prefetched, so paging between months is served from memory.
+ *
+ * <p><strong>Loading:</strong> Each month is a binary-searched slice of the user's
+ * {@link WeightEntryDAO#getWeightSeries weight series}: the first load reads the history with
+ * one projection query, and every later month (and every reload after an entry write, which
+ * the DAO applies to the series) is served from memory. Months after the current one are
+ * never prefetched, since entries cannot be logged for future dates.</p>
+ *
+ * <p><strong>Retention:</strong> The {@link #MAX_MONTHS} most recently shown or prefetched
+ * months are kept. Call {@link #invalidate} after the user's entries change; it drops every
+ * month and reloads the shown one.</p>
+ *
+ * <p><strong>Threading:</strong> Main thread only; the queries run on BackgroundTask and
+ * results are delivered on the main thread. Loads started before an invalidate are
+ * discarded.</p>
+ */
+@MainThread
+public final class CalendarMonthCache {
+
+    private static final String TAG = "CalendarMonthCache";
+
+    /** Months kept in memory; a year of paging back and forth */
+    static final int MAX_MONTHS = 12;
+
+    /**
+     * Receives the shown month's points on the main thread.
+     */
+    public interface Listener {
+        void onMonthLoaded(@NonNull YearMonth month, @NonNull WeightPoints points);
+    }
+
+    @NonNull private final WeightEntryDAO weightEntryDAO;
+    private final long userId;
+
+    private final Map<YearMonth, WeightPoints> months =
+            new LinkedHashMap<YearMonth, WeightPoints>(MAX_MONTHS + 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<YearMonth, WeightPoints> eldest) {
+                    return size() > MAX_MONTHS;
+                }
+            };
+    private final Set<YearMonth> loading = new HashSet<>();
+    private int generation;
+
+    @Nullable private YearMonth shownMonth;
+    @Nullable private Listener listener;
+
+    public CalendarMonthCache(@NonNull WeightEntryDAO weightEntryDAO, long userId) {
+        this.weightEntryDAO = weightEntryDAO;
+        this.userId = userId;
+    }
+
+    /**
+     * Show a month. If it is in memory the listener is called before this returns; otherwise
+     * it is called once the month loads, unless another month is shown by then. Either way the
+     * neighbouring months are prefetched.
+     *
+     * @param month    month to show
+     * @param listener receives the month's points
+     */
+    public void show(@NonNull YearMonth month, @NonNull Listener listener) {
+        this.shownMonth = month;
+        this.listener = listener;
+
+        WeightPoints points = months.get(month);
+        if (points != null) {
+            listener.onMonthLoaded(month, points);
+        } else {
+            load(month);
+        }
+        prefetch(month.minusMonths(1));
+        prefetch(month.plusMonths(1));
+    }
+
+    /**
+     * @param month a month
+     * @return the month's points if in memory, else null
+     */
+    @Nullable
+    public WeightPoints getCachedMonth(@NonNull YearMonth month) {
+        return months.get(month);
+    }
+
+    /**
+     * Drop every month, e.g. after an entry was added, edited or deleted. The shown month and
+     * its neighbours are reloaded.
+     */
+    public void invalidate() {
+        months.clear();
+        loading.clear();
+        generation++;
+        if (shownMonth != null && listener != null) {
+            show(shownMonth, listener);
+        }
+    }
+
+    /**
+     * Stop delivering to the listener (e.g. when the screen is destroyed).
+     */
+    public void release() {
+        shownMonth = null;
+        listener = null;
+    }
+
+    @VisibleForTesting
+    int getCachedMonthCount() {
+        return months.size();
+    }
+
+    private void prefetch(@NonNull YearMonth month) {
+        if (!month.isAfter(YearMonth.now()) && !months.containsKey(month)) {
+            load(month);
+        }
+    }
+
+    private void load(@NonNull YearMonth month) {
+        if (!loading.add(month)) {
+            return;  // Already on its way
+        }
+        int loadGeneration = generation;
+        BackgroundTask.execute(
+            () -> weightEntryDAO.getWeightSeries(userId).slice(month.atDay(1), month.atEndOfMonth()),
+            new BackgroundTask.Callback<WeightPoints>() {
+                @Override
+                public void onResult(WeightPoints points) {
+                    if (loadGeneration != generation) {
+                        return;  // Invalidated while loading
+                    }
+                    loading.remove(month);
+                    months.put(month, points);
+                    if (month.equals(shownMonth) && listener != null) {
+                        listener.onMonthLoaded(month, points);
+                    }
+                }
+
+                @Override
+                public void onError(Exception error) {
+                    Log.e(TAG, "load: Failed to load " + month, error);
+                    if (loadGeneration == generation) {
+                        loading.remove(month);
+                    }
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.weightogo.utils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+/**
+ * Day-keyed cache of formatted date labels.
+ *
+ * A list shows the same few hundred dates over and over, so each label is formatted once and
+ * then served from a direct-mapped table indexed by epoch day. A slot holds one day; a
+ * colliding day (one capacity apart) simply replaces it. Hits allocate nothing.
+ *
+ * Formatters are locale-sensitive: a cache keeps the labels of the locale its formatter was
+ * built with, so create it with an explicit locale or call {@link #clear()} on locale change.
+ *
+ * This class has no Android dependencies so the benchmark module can compile it directly.
+ *
+ * **Thread Safety:** Thread-safe. Slots are immutable and replaced whole; a race can only
+ * cause a label to be formatted twice.
+ */
+public final class DateLabelCache {
+
+    private static final class Slot {
+        final long epochDay;
+        final String label;
+
+        Slot(long epochDay, String label) {
+            this.epochDay = epochDay;
+            this.label = label;
+        }
+    }
+
+    private final DateTimeFormatter formatter;
+    private final Slot[] slots;
+    private final int mask;
+
+    /**
+     * @param formatter formatter producing the labels
+     * @param capacity  number of slots; must be a power of two
+     * @throws IllegalArgumentException if capacity is not a positive power of two
+     */
+    public DateLabelCache(DateTimeFormatter formatter, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.formatter = formatter;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the label for date, formatting it on first use.
+     *
+     * @param date the date to format (non-null)
+     * @return formatted label
+     */
+    public String format(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        int index = (int) (epochDay & mask);
+        Slot slot = slots[index];
+        if (slot != null && slot.epochDay == epochDay) {
+            return slot.label;
+        }
+        String label = date.format(formatter);
+        slots[index] = new Slot(epochDay, label);
+        return label;
+    }
+
+    /**
+     * Discards all cached labels.
+     */
+    public void clear() {
+        Arrays.fill(slots, null);
+    }
+}
@@ -16,6 +16,13 @@ public final class DateUtils {
     private static final DateTimeFormatter SHORT_FORMAT = DateTimeFormatter.ofPattern("d MMM");
     private static final DateTimeFormatter FULL_FORMAT = DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy");
 
+    /**
+     * Label caches: lists and dialogs format the same dates repeatedly (512 days ≈ 17 months)
+     */
+    private static final int LABEL_CACHE_DAYS = 512;
+    private static final DateLabelCache SHORT_LABELS = new DateLabelCache(SHORT_FORMAT, LABEL_CACHE_DAYS);
+    private static final DateLabelCache FULL_LABELS = new DateLabelCache(FULL_FORMAT, LABEL_CACHE_DAYS);
+
     /**
      * Private constructor to prevent instantiation of utility class.
      */
@@ -33,7 +40,7 @@ public final class DateUtils {
         if (date == null) {
             return "";
         }
-        return date.format(SHORT_FORMAT);
+        return SHORT_LABELS.format(date);
     }
 
     /**
@@ -46,7 +53,7 @@ public final class DateUtils {
         if (date == null) {
             return "";
         }
-        return date.format(FULL_FORMAT);
+        return FULL_LABELS.format(date);
     }
 
     /**
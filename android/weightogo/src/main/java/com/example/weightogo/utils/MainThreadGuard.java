@@ -0,0 +1,332 @@
+package com.example.weightogo.utils;
+
+import android.content.Context;
+import android.content.pm.ApplicationInfo;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.example.weightogo.BuildConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Debug guard that detects database access and password hashing on the main thread.
+ *
+ * <p><strong>Hooks:</strong> WeighToGoDBHelper calls {@link #check} from getReadableDatabase /
+ * getWritableDatabase. PasswordUtilsV2 brackets hashing and verification with a hook this class
+ * installs when it is loaded (the guard cannot be on before that), so PasswordUtilsV2 itself
+ * stays free of Android classes. DaoMetrics reports how long each outermost DAO call took, so
+ * every violation carries the time the main thread was blocked.</p>
+ *
+ * <p><strong>Modes:</strong></p>
+ * <ul>
+ *   <li>OFF - default; {@link #check} is one volatile read</li>
+ *   <li>LOG - record the violation and log a warning with the call site</li>
+ *   <li>COUNT - record the violation silently</li>
+ *   <li>THROW - record the violation, then throw {@link MainThreadAccessException}</li>
+ * </ul>
+ *
+ * <p>{@link #installForDebugBuild} switches to LOG in debuggable debug builds. Tests set the
+ * mode themselves; under Robolectric the test thread is the main looper, so COUNT or THROW
+ * around a flow shows whether it still touches the database on the main thread.</p>
+ *
+ * <p>The call site is the first stack frame outside the database package, the password
+ * utilities and the framework, formatted as "MainActivity.refreshDashboard:412". Capturing it
+ * builds a stack trace, so it is only done once a violation is detected.</p>
+ */
+public final class MainThreadGuard {
+
+    private static final String TAG = "MainThreadGuard";
+
+    public enum Mode { OFF, LOG, COUNT, THROW }
+
+    public enum Kind { DATABASE, PASSWORD_HASH }
+
+    /** Frames from these packages are skipped when looking for the call site */
+    private static final String[] INTERNAL_PACKAGES = {
+            "com.example.weightogo.database.",
+            "java.", "javax.", "jdk.", "sun.", "android.", "androidx.", "com.android.", "dalvik.",
+            "org.robolectric.", "org.junit."
+    };
+
+    /** Frames from these classes (and their nested classes) are skipped as well */
+    private static final String[] INTERNAL_CLASSES = {
+            MainThreadGuard.class.getName(),
+            PasswordUtils.class.getName(),
+            PasswordUtilsV2.class.getName()
+    };
+
+    private static volatile Mode mode = Mode.OFF;
+
+    private static final Map<String, Violation> VIOLATIONS = new ConcurrentHashMap<>();
+
+    /** Site of the latest violation per kind; only written on the main thread */
+    private static final String[] lastSite = new String[Kind.values().length];
+
+    private MainThreadGuard() {
+        throw new AssertionError("MainThreadGuard is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Accumulated violations of one kind from one call site.
+     */
+    public static final class Violation {
+        private final Kind kind;
+        private final String callSite;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        Violation(@NonNull Kind kind, @NonNull String callSite) {
+            this.kind = kind;
+            this.callSite = callSite;
+        }
+
+        @NonNull
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return e.g. "MainActivity.refreshDashboard:412"
+         */
+        @NonNull
+        public String getCallSite() {
+            return callSite;
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * @return main-thread time spent in the guarded work, 0 if not yet reported
+         */
+        public long getTotalMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+        }
+
+        public long getMaxMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+        }
+
+        void addElapsed(long nanos) {
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Violation{" + kind + " at " + callSite + " x" + getCount() +
+                    ", total=" + getTotalMillis() + "ms, max=" + getMaxMillis() + "ms}";
+        }
+    }
+
+    /**
+     * Thrown in THROW mode when guarded work starts on the main thread.
+     */
+    public static final class MainThreadAccessException extends IllegalStateException {
+        MainThreadAccessException(@NonNull Kind kind, @NonNull String callSite) {
+            super(kind + " access on the main thread from " + callSite);
+        }
+    }
+
+    /**
+     * Times guarded work that is not a DAO call (password hashing). Close it on the thread that
+     * opened it.
+     */
+    public static final class Section implements PasswordUtilsV2.HashSection {
+        @Nullable private final Kind kind;
+        private final long startNanos;
+
+        private Section(@Nullable Kind kind, long startNanos) {
+            this.kind = kind;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (kind != null) {
+                onMainThreadWork(kind, System.nanoTime() - startNanos);
+            }
+        }
+    }
+
+    private static final Section NO_OP = new Section(null, 0);
+
+    static {
+        PasswordUtilsV2.setHashHook(() -> enter(Kind.PASSWORD_HASH));
+    }
+
+    // =============================================================================================
+    // CONFIGURATION
+    // =============================================================================================
+
+    @NonNull
+    public static Mode getMode() {
+        return mode;
+    }
+
+    public static void setMode(@NonNull Mode newMode) {
+        mode = newMode;
+        Log.i(TAG, "setMode: " + newMode);
+    }
+
+    /**
+     * Switch to LOG in debug builds of a debuggable app; no-op otherwise or if a mode is set.
+     *
+     * @param context any context
+     */
+    public static void installForDebugBuild(@NonNull Context context) {
+        if (!BuildConfig.DEBUG || mode != Mode.OFF) {
+            return;
+        }
+        if ((context.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0) {
+            setMode(Mode.LOG);
+        }
+    }
+
+    // =============================================================================================
+    // DETECTION
+    // =============================================================================================
+
+    /**
+     * Record a violation if called on the main thread while the guard is on.
+     *
+     * @param kind what is being accessed
+     * @throws MainThreadAccessException in THROW mode
+     */
+    public static void check(@NonNull Kind kind) {
+        Mode current = mode;
+        if (current == Mode.OFF || !isMainThread()) {
+            return;
+        }
+
+        String site = findCallSite(new Throwable().getStackTrace());
+        VIOLATIONS.computeIfAbsent(kind + "@" + site, key -> new Violation(kind, site)).count.increment();
+        lastSite[kind.ordinal()] = site;
+
+        if (current == Mode.LOG) {
+            Log.w(TAG, kind + " access on the main thread from " + site);
+        } else if (current == Mode.THROW) {
+            throw new MainThreadAccessException(kind, site);
+        }
+    }
+
+    /**
+     * {@link #check} and start timing the guarded work.
+     *
+     * @return the section to close when the work is done
+     * @throws MainThreadAccessException in THROW mode
+     */
+    @NonNull
+    public static Section enter(@NonNull Kind kind) {
+        if (mode == Mode.OFF || !isMainThread()) {
+            return NO_OP;
+        }
+        check(kind);
+        return new Section(kind, System.nanoTime());
+    }
+
+    /**
+     * Attribute main-thread time to the latest violation of a kind. Called by DaoMetrics when an
+     * outermost DAO call finishes; ignored off the main thread or while the guard is off.
+     *
+     * @param kind        what was accessed
+     * @param elapsedNanos how long it took
+     */
+    public static void onMainThreadWork(@NonNull Kind kind, long elapsedNanos) {
+        if (mode == Mode.OFF || !isMainThread()) {
+            return;
+        }
+        String site = lastSite[kind.ordinal()];
+        if (site == null) {
+            return;
+        }
+        Violation violation = VIOLATIONS.get(kind + "@" + site);
+        if (violation != null) {
+            violation.addElapsed(elapsedNanos);
+        }
+    }
+
+    // =============================================================================================
+    // REPORTING
+    // =============================================================================================
+
+    /**
+     * @return violations, most frequent first
+     */
+    @NonNull
+    public static List<Violation> getViolations() {
+        List<Violation> violations = new ArrayList<>(VIOLATIONS.values());
+        violations.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+        return Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * @return number of violations of a kind across all call sites
+     */
+    public static long getViolationCount(@NonNull Kind kind) {
+        long total = 0;
+        for (Violation violation : VIOLATIONS.values()) {
+            if (violation.getKind() == kind) {
+                total += violation.getCount();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Drop recorded violations; the mode is unchanged.
+     */
+    @VisibleForTesting
+    public static void reset() {
+        VIOLATIONS.clear();
+        for (int i = 0; i < lastSite.length; i++) {
+            lastSite[i] = null;
+        }
+    }
+
+    private static boolean isMainThread() {
+        Looper main = Looper.getMainLooper();
+        return main != null && main.getThread() == Thread.currentThread();
+    }
+
+    @NonNull
+    static String findCallSite(@NonNull StackTraceElement[] stack) {
+        for (StackTraceElement frame : stack) {
+            if (!isInternal(frame.getClassName())) {
+                String className = frame.getClassName();
+                String simpleName = className.substring(className.lastIndexOf('.') + 1);
+                return simpleName + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "unknown";
+    }
+
+    private static boolean isInternal(@NonNull String className) {
+        for (String prefix : INTERNAL_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for (String name : INTERNAL_CLASSES) {
+            if (className.equals(name) || className.startsWith(name + "$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
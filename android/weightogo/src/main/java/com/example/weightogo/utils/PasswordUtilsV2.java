@@ -17,36 +17,116 @@ import androidx.annotation.Nullable;
  * </p>
  *
  * <p><strong>Security:</strong>
- * - bcrypt cost factor: 12 (2^12 = 4096 iterations)
+ * - bcrypt cost factor: 12 (2^12 = 4096 iterations) until BcryptCalibrator picks one for the device
  * - Resistant to brute-force and GPU attacks
  * - Industry standard for password hashing
  * </p>
+ *
+ * <p><strong>Cost Upgrades:</strong>
+ * The cost is embedded in every bcrypt hash ("$2a$12$..."). After a successful login,
+ * {@link #needsRehash} reports hashes made with another cost (or with SHA256), and the caller
+ * rehashes them with the current cost.
+ * </p>
  */
 public class PasswordUtilsV2 {
 
     private static final String TAG = "PasswordUtilsV2";
-    private static final int BCRYPT_COST = 12;  // 2^12 iterations (~300ms on modern hardware)
+
+    /** Cost used until calibrated: 2^12 iterations (~300ms on modern hardware) */
+    public static final int DEFAULT_BCRYPT_COST = 12;
+
+    /** Calibration never goes below this cost (OWASP minimum for bcrypt) */
+    public static final int MIN_BCRYPT_COST = 10;
+
+    /** Calibration never goes above this cost */
+    public static final int MAX_BCRYPT_COST = 14;
+
+    private static volatile int bcryptCost = DEFAULT_BCRYPT_COST;
 
     // Password algorithm constants (public for use in LoginActivity and other components)
     public static final String ALGORITHM_SHA256 = "SHA256";
     public static final String ALGORITHM_BCRYPT = "BCRYPT";
 
+    /**
+     * Brackets hashing and verification. MainThreadGuard installs one when it is loaded; until
+     * then it is a no-op, so this class stays plain Java for the JVM benchmark module.
+     */
+    interface HashHook {
+        /**
+         * @return section to close when the hashing is done
+         * @throws RuntimeException to refuse the hashing (MainThreadGuard THROW mode)
+         */
+        @NonNull
+        HashSection enter();
+    }
+
+    /**
+     * Hashing bracketed by a {@link HashHook}.
+     */
+    interface HashSection extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final HashSection NO_SECTION = () -> { };
+
+    private static volatile HashHook hashHook = () -> NO_SECTION;
+
+    /**
+     * @return cost factor used for new bcrypt hashes
+     */
+    public static int getBcryptCost() {
+        return bcryptCost;
+    }
+
+    /**
+     * Set the cost factor for new bcrypt hashes (BcryptCalibrator). Clamped to
+     * [MIN_BCRYPT_COST, MAX_BCRYPT_COST].
+     *
+     * @param cost bcrypt cost factor (log2 of the iteration count)
+     */
+    public static void setBcryptCost(int cost) {
+        bcryptCost = Math.max(MIN_BCRYPT_COST, Math.min(MAX_BCRYPT_COST, cost));
+        Log.i(TAG, "setBcryptCost: Using cost " + bcryptCost);
+    }
+
+    /**
+     * @param hook hook to bracket every hash and verification with
+     */
+    static void setHashHook(@NonNull HashHook hook) {
+        hashHook = hook;
+    }
+
     /**
      * Hash password using bcrypt.
      * Salt is generated and embedded automatically by bcrypt.
      *
      * @param password Plain text password (never logged)
-     * @return bcrypt hash string (starts with $2a$12$), or null if hashing fails
+     * @return bcrypt hash string (starts with $2a$ and the current cost, e.g. $2a$12$), or null if hashing fails
      */
     @Nullable
     public static String hashPasswordBcrypt(@NonNull String password) {
+        return hashPasswordBcrypt(password, bcryptCost);
+    }
+
+    /**
+     * Hash password using bcrypt with an explicit cost factor.
+     *
+     * @param password Plain text password (never logged)
+     * @param cost bcrypt cost factor (4-31)
+     * @return bcrypt hash string, or null if hashing fails
+     */
+    @Nullable
+    static String hashPasswordBcrypt(@NonNull String password, int cost) {
         if (password == null || password.isEmpty()) {
             Log.w(TAG, "hashPasswordBcrypt: Empty password provided");
             return null;
         }
 
-        try {
-            String hash = BCrypt.withDefaults().hashToString(BCRYPT_COST, password.toCharArray());
+        // Outside the try so THROW mode is not swallowed by the catch below
+        HashSection guard = hashHook.enter();
+        try (guard) {
+            String hash = BCrypt.withDefaults().hashToString(cost, password.toCharArray());
             Log.d(TAG, "hashPasswordBcrypt: Successfully hashed password with bcrypt");
             return hash;
 
@@ -112,18 +192,63 @@ public class PasswordUtilsV2 {
                                          @NonNull String algorithm,
                                          @NonNull String storedHash,
                                          @NonNull String salt) {
-        Log.d(TAG, "verifyPassword: Verifying password with algorithm: " + algorithm);
+        HashSection guard = hashHook.enter();
+        try (guard) {
+            Log.d(TAG, "verifyPassword: Verifying password with algorithm: " + algorithm);
 
-        if (ALGORITHM_BCRYPT.equals(algorithm)) {
-            return verifyPasswordBcrypt(password, storedHash);
+            if (ALGORITHM_BCRYPT.equals(algorithm)) {
+                return verifyPasswordBcrypt(password, storedHash);
 
-        } else if (ALGORITHM_SHA256.equals(algorithm)) {
-            // Delegate to legacy SHA256 verification
-            return PasswordUtils.verifyPassword(password, salt, storedHash);
+            } else if (ALGORITHM_SHA256.equals(algorithm)) {
+                // Delegate to legacy SHA256 verification
+                return PasswordUtils.verifyPassword(password, salt, storedHash);
 
-        } else {
-            Log.w(TAG, "verifyPassword: Unknown algorithm: " + algorithm);
-            return false;
+            } else {
+                Log.w(TAG, "verifyPassword: Unknown algorithm: " + algorithm);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Read the cost factor embedded in a bcrypt hash.
+     *
+     * @param bcryptHash hash such as "$2a$12$..."
+     * @return the cost factor, or -1 if the hash is not a bcrypt hash
+     */
+    public static int getCostFromHash(@Nullable String bcryptHash) {
+        // Format: $<version>$<2-digit cost>$<22-char salt><31-char hash>
+        if (bcryptHash == null || bcryptHash.length() < 7 || bcryptHash.charAt(0) != '$') {
+            return -1;
+        }
+        int costStart = bcryptHash.indexOf('$', 1) + 1;
+        if (costStart <= 1 || costStart + 3 > bcryptHash.length() || bcryptHash.charAt(costStart + 2) != '$') {
+            return -1;
+        }
+        char tens = bcryptHash.charAt(costStart);
+        char ones = bcryptHash.charAt(costStart + 1);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /**
+     * Whether a verified password should be rehashed with the current bcrypt cost.
+     * True for SHA256 (legacy) hashes and for bcrypt hashes made with a different cost.
+     *
+     * @param algorithm 'SHA256' or 'BCRYPT'
+     * @param storedHash Hash from database
+     * @return true if the caller should rehash and store the password
+     */
+    public static boolean needsRehash(@Nullable String algorithm, @Nullable String storedHash) {
+        if (ALGORITHM_SHA256.equals(algorithm)) {
+            return true;
+        }
+        if (ALGORITHM_BCRYPT.equals(algorithm)) {
+            int cost = getCostFromHash(storedHash);
+            return cost > 0 && cost != bcryptCost;
         }
+        return false;
     }
 }
@@ -297,71 +297,73 @@ public class SMSNotificationManager {
      * @return true if SMS sent successfully, false if skipped/failed
      */
     public boolean sendAchievementSms(@NonNull Achievement achievement) {
-        Log.d(TAG, "sendAchievementSms: Processing achievement type=" + achievement.getAchievementType());
-
-        long userId = achievement.getUserId();
-        String achievementType = achievement.getAchievementType();
-        boolean smsSent = false;
-
-        // Handle different achievement types
-        switch (achievementType) {
-            case "GOAL_REACHED":
-                // Check goal alerts preference
-                String goalAlertsEnabled = userPreferenceDAO.getPreference(userId, KEY_GOAL_ALERTS, "true");
-                if ("true".equals(goalAlertsEnabled)) {
-                    Double goalWeight = achievement.getValue();
-                    if (goalWeight != null) {
-                        // Get user's weight unit preference (default to lbs)
-                        String unit = userPreferenceDAO.getPreference(userId, "weight_unit_preference", "lbs");
-                        smsSent = sendGoalAchievedSms(userId, goalWeight, unit);
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_LOGIC, "SMSNotificationManager.sendAchievementSms")) {
+            Log.d(TAG, "sendAchievementSms: Processing achievement type=" + achievement.getAchievementType());
+
+            long userId = achievement.getUserId();
+            String achievementType = achievement.getAchievementType();
+            boolean smsSent = false;
+
+            // Handle different achievement types
+            switch (achievementType) {
+                case "GOAL_REACHED":
+                    // Check goal alerts preference
+                    String goalAlertsEnabled = userPreferenceDAO.getPreference(userId, KEY_GOAL_ALERTS, "true");
+                    if ("true".equals(goalAlertsEnabled)) {
+                        Double goalWeight = achievement.getValue();
+                        if (goalWeight != null) {
+                            // Get user's weight unit preference (default to lbs)
+                            String unit = userPreferenceDAO.getPreference(userId, "weight_unit_preference", "lbs");
+                            smsSent = sendGoalAchievedSms(userId, goalWeight, unit);
+                        }
                     }
-                }
-                break;
-
-            case "MILESTONE_5":
-            case "MILESTONE_10":
-            case "MILESTONE_25":
-            case "MILESTONE_50":
-                // Check milestone alerts preference
-                String milestoneAlertsEnabled = userPreferenceDAO.getPreference(userId, KEY_MILESTONE_ALERTS, "true");
-                if ("true".equals(milestoneAlertsEnabled)) {
-                    Double milestoneValue = achievement.getValue();
-                    if (milestoneValue != null) {
-                        String unit = userPreferenceDAO.getPreference(userId, "weight_unit_preference", "lbs");
-                        smsSent = sendMilestoneSms(userId, milestoneValue.intValue(), unit);
+                    break;
+
+                case "MILESTONE_5":
+                case "MILESTONE_10":
+                case "MILESTONE_25":
+                case "MILESTONE_50":
+                    // Check milestone alerts preference
+                    String milestoneAlertsEnabled = userPreferenceDAO.getPreference(userId, KEY_MILESTONE_ALERTS, "true");
+                    if ("true".equals(milestoneAlertsEnabled)) {
+                        Double milestoneValue = achievement.getValue();
+                        if (milestoneValue != null) {
+                            String unit = userPreferenceDAO.getPreference(userId, "weight_unit_preference", "lbs");
+                            smsSent = sendMilestoneSms(userId, milestoneValue.intValue(), unit);
+                        }
                     }
-                }
-                break;
-
-            case "FIRST_ENTRY":
-            case "STREAK_7":
-            case "STREAK_30":
-            case "NEW_LOW":
-                // These use milestone alerts preference for now
-                // Could add separate preferences in future
-                String streakAlertsEnabled = userPreferenceDAO.getPreference(userId, KEY_MILESTONE_ALERTS, "true");
-                if ("true".equals(streakAlertsEnabled)) {
-                    // For now, skip SMS for these types (would need new message templates)
-                    Log.d(TAG, "sendAchievementSms: Skipping SMS for " + achievementType + " (no template)");
-                }
-                break;
+                    break;
+
+                case "FIRST_ENTRY":
+                case "STREAK_7":
+                case "STREAK_30":
+                case "NEW_LOW":
+                    // These use milestone alerts preference for now
+                    // Could add separate preferences in future
+                    String streakAlertsEnabled = userPreferenceDAO.getPreference(userId, KEY_MILESTONE_ALERTS, "true");
+                    if ("true".equals(streakAlertsEnabled)) {
+                        // For now, skip SMS for these types (would need new message templates)
+                        Log.d(TAG, "sendAchievementSms: Skipping SMS for " + achievementType + " (no template)");
+                    }
+                    break;
 
-            default:
-                Log.w(TAG, "sendAchievementSms: Unknown achievement type: " + achievementType);
-                break;
-        }
+                default:
+                    Log.w(TAG, "sendAchievementSms: Unknown achievement type: " + achievementType);
+                    break;
+            }
 
-        // Mark achievement as notified if SMS was sent
-        if (smsSent) {
-            int updated = achievementDAO.updateIsNotified(achievement.getAchievementId(), true);
-            if (updated > 0) {
-                Log.i(TAG, "sendAchievementSms: Marked achievement as notified: " + achievement.getAchievementId());
-            } else {
-                Log.w(TAG, "sendAchievementSms: Failed to mark achievement as notified");
+            // Mark achievement as notified if SMS was sent
+            if (smsSent) {
+                int updated = achievementDAO.updateIsNotified(achievement.getAchievementId(), true);
+                if (updated > 0) {
+                    Log.i(TAG, "sendAchievementSms: Marked achievement as notified: " + achievement.getAchievementId());
+                } else {
+                    Log.w(TAG, "sendAchievementSms: Failed to mark achievement as notified");
+                }
             }
-        }
 
-        return smsSent;
+            return smsSent;
+        }
     }
 
     /**
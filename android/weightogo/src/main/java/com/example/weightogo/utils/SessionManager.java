@@ -7,6 +7,7 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import com.example.weightogo.activities.DashboardSnapshot;
 import com.example.weightogo.models.User;
 
 import java.time.LocalDateTime;
@@ -44,7 +45,11 @@ import java.time.LocalDateTime;
  * sessionManager.logout();
  * </pre>
  *
- * **Thread Safety:** All methods are synchronized for thread-safe access.
+ * **Thread Safety:** The session is held in memory as an immutable {@link Session} snapshot
+ * published through a volatile field. Reads (isLoggedIn, getCurrentUserId, getSession) are
+ * lock-free and never touch SharedPreferences, so activities and workers can call them
+ * concurrently. Writes (createSession, logout) are synchronized so the snapshot and the
+ * asynchronous SharedPreferences write happen in the same order; they are rare.
  */
 public class SessionManager {
 
@@ -73,11 +78,74 @@ public class SessionManager {
      */
     private static SessionManager instance;
 
+    /**
+     * Application context, for clearing per-user caches on logout.
+     */
+    private final Context context;
+
     /**
      * SharedPreferences for session persistence.
      */
     private final SharedPreferences preferences;
 
+    /**
+     * Current session; replaced (never mutated) on login and logout.
+     */
+    private volatile Session session;
+
+    /**
+     * Immutable snapshot of the session data. Reading all fields from one snapshot gives a
+     * consistent view even while another thread logs in or out.
+     */
+    public static final class Session {
+
+        /** Snapshot when no one is logged in */
+        static final Session LOGGED_OUT = new Session(NO_SESSION_USER_ID, null, null, false);
+
+        private final long userId;
+        @Nullable private final String username;
+        @Nullable private final String displayName;
+        private final boolean loggedIn;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+
+        Session(long userId, @Nullable String username, @Nullable String displayName, boolean loggedIn) {
+            this.userId = userId;
+            this.username = username;
+            this.displayName = displayName;
+            this.loggedIn = loggedIn;
+        }
+
+        /**
+         * @return user ID, or -1 when logged out
+         */
+        public long getUserId() {
+            return userId;
+        }
+
+        @Nullable
+        public String getUsername() {
+            return username;
+        }
+
+        @Nullable
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        public boolean isLoggedIn() {
+            return loggedIn;
+        }
+
+        /**
+         * @return when this snapshot was created (login time, or process start for a restored
+         * session)
+         */
+        @NonNull
+        LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+
     /**
      * Private constructor to enforce Singleton pattern.
      *
@@ -88,8 +156,9 @@ public class SessionManager {
      */
     private SessionManager(Context context) {
         // Use Application context to prevent memory leaks
-        this.preferences = context.getApplicationContext()
-                .getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        this.context = context.getApplicationContext();
+        this.preferences = this.context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+        this.session = loadSession(preferences);
         Log.d(TAG, "SessionManager initialized");
     }
 
@@ -126,6 +195,8 @@ public class SessionManager {
      * @param user the authenticated user
      */
     public synchronized void createSession(@NonNull User user) {
+        session = new Session(user.getUserId(), user.getUsername(), user.getDisplayName(), true);
+
         SharedPreferences.Editor editor = preferences.edit();
 
         editor.putLong(KEY_USER_ID, user.getUserId());
@@ -159,46 +230,54 @@ public class SessionManager {
      * @return User object with session data if logged in, null otherwise
      */
     @Nullable
-    public synchronized User getCurrentUser() {
-        if (!isLoggedIn()) {
-            Log.d(TAG, "getCurrentUser: No active session");
+    public User getCurrentUser() {
+        Session current = session;
+        if (!current.isLoggedIn()) {
+            AppLog.d(TAG, "getCurrentUser: No active session");
             return null;
         }
 
-        long userId = preferences.getLong(KEY_USER_ID, NO_SESSION_USER_ID);
-        String username = preferences.getString(KEY_USERNAME, null);
-        String displayName = preferences.getString(KEY_DISPLAY_NAME, null);
-
-        if (userId == NO_SESSION_USER_ID || username == null) {
+        if (current.getUserId() == NO_SESSION_USER_ID || current.getUsername() == null) {
             Log.w(TAG, "getCurrentUser: Invalid session data");
             return null;
         }
 
         // Reconstruct partial User object (session data only)
         User user = new User();
-        user.setUserId(userId);
-        user.setUsername(username);
-        user.setDisplayName(displayName);
+        user.setUserId(current.getUserId());
+        user.setUsername(current.getUsername());
+        user.setDisplayName(current.getDisplayName());
 
         // Set dummy values for required @NonNull fields (not persisted in session)
         user.setPasswordHash("");
         user.setSalt("");
-        user.setCreatedAt(LocalDateTime.now());
-        user.setUpdatedAt(LocalDateTime.now());
+        user.setCreatedAt(current.getCreatedAt());
+        user.setUpdatedAt(current.getCreatedAt());
         user.setActive(true);
 
-        Log.d(TAG, "getCurrentUser: Retrieved user " + username);
+        AppLog.d(TAG, "getCurrentUser: Retrieved user {}", current.getUsername());
         return user;
     }
 
+    /**
+     * Get the current session snapshot. Prefer this over several separate getters when the
+     * values must belong together (e.g. user ID and username).
+     *
+     * @return the current session; {@link Session#isLoggedIn()} is false when logged out
+     */
+    @NonNull
+    public Session getSession() {
+        return session;
+    }
+
     /**
      * Get the current logged-in user's ID.
      *
      * @return user ID if session exists, -1 otherwise (sentinel value)
      */
-    public synchronized long getCurrentUserId() {
-        long userId = preferences.getLong(KEY_USER_ID, NO_SESSION_USER_ID);
-        Log.d(TAG, "getCurrentUserId: " + userId);
+    public long getCurrentUserId() {
+        long userId = session.getUserId();
+        AppLog.d(TAG, "getCurrentUserId: {}", userId);
         return userId;
     }
 
@@ -207,25 +286,40 @@ public class SessionManager {
      *
      * @return true if session exists, false otherwise
      */
-    public synchronized boolean isLoggedIn() {
-        boolean loggedIn = preferences.getBoolean(KEY_IS_LOGGED_IN, false);
-        Log.d(TAG, "isLoggedIn: " + loggedIn);
+    public boolean isLoggedIn() {
+        boolean loggedIn = session.isLoggedIn();
+        AppLog.d(TAG, "isLoggedIn: {}", String.valueOf(loggedIn));
         return loggedIn;
     }
 
     /**
      * Clear the current user session (logout).
      *
-     * Removes all session data from SharedPreferences.
+     * Removes all session data from SharedPreferences and deletes the dashboard snapshot.
      * User must login again to access protected features.
      */
     public synchronized void logout() {
-        String username = preferences.getString(KEY_USERNAME, "unknown");
+        String username = session.getUsername() != null ? session.getUsername() : "unknown";
+        session = Session.LOGGED_OUT;
 
         SharedPreferences.Editor editor = preferences.edit();
         editor.clear();  // Remove all session data
         editor.apply();  // Asynchronous write
+        DashboardSnapshot.delete(context);
 
         Log.i(TAG, "Session cleared for user: " + username);
     }
+
+    /**
+     * Read the persisted session (once, when the manager is created).
+     */
+    @NonNull
+    private static Session loadSession(@NonNull SharedPreferences preferences) {
+        if (!preferences.getBoolean(KEY_IS_LOGGED_IN, false)) {
+            return Session.LOGGED_OUT;
+        }
+        return new Session(preferences.getLong(KEY_USER_ID, NO_SESSION_USER_ID),
+                preferences.getString(KEY_USERNAME, null),
+                preferences.getString(KEY_DISPLAY_NAME, null), true);
+    }
 }
@@ -0,0 +1,228 @@
+package com.example.weightogo.utils;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warm-start pipeline run from WeighToGoApplication at process start.
+ *
+ * <p><strong>Stages:</strong> Each stage runs on the BackgroundTask pool:</p>
+ * <ul>
+ *   <li>DATABASE - create the WeighToGoDBHelper and open it (schema creation, upgrades and
+ *       index statements on first launch)</li>
+ *   <li>SESSION - create SessionManager, which loads its SharedPreferences; runs in parallel
+ *       with DATABASE</li>
+ *   <li>PASSWORD_HASHING - pick the bcrypt cost for this device (see BcryptCalibrator); queued
+ *       when DATABASE completes so its CPU-bound timing runs neither compete with nor are skewed
+ *       by the database open the first screen waits for. No pool thread waits meanwhile.</li>
+ * </ul>
+ * DAOs are plain wrappers around the helper and are not a stage; activities keep constructing
+ * them in onCreate.
+ *
+ * <p><strong>Readiness:</strong> {@link #getReadiness(Stage)} returns a Future per stage.
+ * Activities use {@link #runWhenReady(Stage, Runnable)}, which runs at once when the stage is
+ * done (or the pipeline was never started) and otherwise has the stage post the action to the
+ * main thread when it completes, so onCreate returns and the first frame draws without
+ * waiting. Actions are skipped (and the failure logged) when their stage failed.</p>
+ *
+ * <p><strong>Timings:</strong> Each stage is traced as a Tracer span in the "startup" category
+ * and logged with how long it ran and how long after process start it was ready.</p>
+ */
+public final class StartupPipeline {
+
+    private static final String TAG = "StartupPipeline";
+
+    public enum Stage { DATABASE, SESSION, PASSWORD_HASHING }
+
+    /**
+     * How long a stage ran and when it was ready. Instances are immutable.
+     */
+    public static final class StageTiming {
+        private final long durationNanos;
+        private final long readyAfterNanos;
+
+        StageTiming(long durationNanos, long readyAfterNanos) {
+            this.durationNanos = durationNanos;
+            this.readyAfterNanos = readyAfterNanos;
+        }
+
+        /**
+         * @return time spent running the stage
+         */
+        public long getDurationMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        }
+
+        /**
+         * @return time from pipeline start until the stage was ready (includes queueing)
+         */
+        public long getReadyAfterMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(readyAfterNanos);
+        }
+    }
+
+    private static final Map<Stage, BackgroundTask.Task<Object>> READINESS = new EnumMap<>(Stage.class);
+    private static final Map<Stage, StageTiming> TIMINGS = new ConcurrentHashMap<>();
+
+    private StartupPipeline() {
+        throw new AssertionError("StartupPipeline is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Start all stages in the background. Later calls do nothing.
+     *
+     * @param context any context; the application context is used
+     */
+    public static synchronized void start(@NonNull Context context) {
+        if (!READINESS.isEmpty()) {
+            return;
+        }
+        Context appContext = context.getApplicationContext();
+        long startedNanos = System.nanoTime();
+        submit(Stage.DATABASE, null, startedNanos, "Startup.database",
+                () -> WeighToGoDBHelper.getInstance(appContext).getWritableDatabase());
+        submit(Stage.SESSION, null, startedNanos, "Startup.session",
+                () -> SessionManager.getInstance(appContext));
+        submit(Stage.PASSWORD_HASHING, READINESS.get(Stage.DATABASE), startedNanos, "Startup.passwordHashing",
+                () -> BcryptCalibrator.calibrateIfNeeded(appContext));
+        Log.i(TAG, "start: Started " + READINESS.size() + " stages");
+    }
+
+    /**
+     * @param stage startup stage
+     * @return a Future completed when the stage is done (failed stages complete exceptionally),
+     * or null if the pipeline was not started
+     */
+    @Nullable
+    public static synchronized Future<?> getReadiness(@NonNull Stage stage) {
+        return READINESS.get(stage);
+    }
+
+    /**
+     * @param stage startup stage
+     * @return true if the stage finished (successfully or not) or the pipeline was not started
+     */
+    public static boolean isReady(@NonNull Stage stage) {
+        Future<?> readiness = getReadiness(stage);
+        return readiness == null || readiness.isDone();
+    }
+
+    /**
+     * Run an action on the main thread once a stage is done. Runs it immediately if the stage
+     * succeeded already or the pipeline was not started. If the stage failed the action is
+     * skipped and the failure logged.
+     *
+     * @param stage  stage the action needs
+     * @param action action to run on the main thread
+     */
+    public static void runWhenReady(@NonNull Stage stage, @NonNull Runnable action) {
+        BackgroundTask.Task<Object> readiness;
+        synchronized (StartupPipeline.class) {
+            readiness = READINESS.get(stage);
+        }
+        if (readiness == null || (readiness.isDone() && !hasFailed(readiness))) {
+            action.run();
+            return;
+        }
+        readiness.whenDone(new BackgroundTask.Callback<Object>() {
+            @Override
+            public void onResult(Object result) {
+                action.run();
+            }
+
+            @Override
+            public void onError(Exception error) {
+                Log.e(TAG, "runWhenReady: Skipping action, stage " + stage + " failed", error);
+            }
+        });
+    }
+
+    /**
+     * @param stage a completed stage
+     * @return true if the stage threw or was cancelled
+     */
+    private static boolean hasFailed(@NonNull Future<?> stage) {
+        try {
+            stage.get();  // Done: returns without blocking
+            return false;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @param stage startup stage
+     * @return the stage's timing, or null if it has not finished
+     */
+    @Nullable
+    public static StageTiming getTiming(@NonNull Stage stage) {
+        return TIMINGS.get(stage);
+    }
+
+    /**
+     * Forget the started stages and their timings so {@link #start} runs them again. Waits for
+     * running stages so they cannot record into the next run.
+     */
+    @VisibleForTesting
+    static void reset() {
+        Future<?>[] running;
+        synchronized (StartupPipeline.class) {
+            running = READINESS.values().toArray(new Future<?>[0]);
+            READINESS.clear();
+        }
+        for (Future<?> future : running) {
+            awaitQuietly(future);
+        }
+        TIMINGS.clear();
+    }
+
+    private static void awaitQuietly(@NonNull Future<?> stage) {
+        try {
+            stage.get();
+        } catch (Exception e) {
+            // Failed stages were already logged
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @param after stage the work is queued behind (it runs even if that stage failed), or null
+     */
+    private static void submit(@NonNull Stage stage, @Nullable BackgroundTask.Task<?> after,
+                               long pipelineStartedNanos, @NonNull String spanName,
+                               @NonNull BackgroundTask.Work<?> work) {
+        BackgroundTask.Work<Object> timed = () -> {
+            long start = System.nanoTime();
+            try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_STARTUP, spanName)) {
+                return work.execute();
+            } catch (Exception e) {
+                Log.e(TAG, "submit: Stage " + stage + " failed", e);
+                throw e;
+            } finally {
+                long end = System.nanoTime();
+                StageTiming timing = new StageTiming(end - start, end - pipelineStartedNanos);
+                TIMINGS.put(stage, timing);
+                Log.i(TAG, "submit: " + stage + " took " + timing.getDurationMillis() + "ms, ready after " +
+                        timing.getReadyAfterMillis() + "ms");
+            }
+        };
+        READINESS.put(stage, after != null ? BackgroundTask.submitAfter(after, timed) : BackgroundTask.submit(timed));
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.weightogo.utils;
+
+import android.os.Process;
+import android.util.JsonWriter;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lightweight span tracer for user flows (login → dashboard, save → achievements → SMS).
+ * Spans are kept in a lock-free ring buffer and exported as Chrome trace-event JSON, which
+ * opens in Perfetto (ui.perfetto.dev) and chrome://tracing.
+ *
+ * <p><strong>Usage:</strong></p>
+ * <pre>
+ * try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "LoginActivity.handleSignIn")) {
+ *     ...
+ * }
+ * </pre>
+ * Spans on one thread nest by time, so the trace viewer shows DAO calls and hashing inside the
+ * activity method that made them.
+ *
+ * <p><strong>Cost:</strong> Off by default. While off, {@link #begin} is one volatile read and
+ * returns a shared no-op span, so instrumented code allocates nothing. While on, each span
+ * costs two {@code System.nanoTime()} reads, one small allocation and one atomic increment.
+ * When the buffer is full the oldest spans are overwritten.</p>
+ *
+ * <p><strong>Categories:</strong> activity lifecycle and user actions, DAO calls (recorded by
+ * DaoMetrics), password hashing, background workers, and the startup pipeline.</p>
+ */
+public final class Tracer {
+
+    private static final String TAG = "Tracer";
+
+    public static final String CATEGORY_ACTIVITY = "activity";
+    public static final String CATEGORY_DAO = "dao";
+    public static final String CATEGORY_HASH = "hash";
+    public static final String CATEGORY_WORKER = "worker";
+    public static final String CATEGORY_LOGIC = "logic";
+    public static final String CATEGORY_STARTUP = "startup";
+
+    /** Spans kept before the oldest are overwritten */
+    public static final int DEFAULT_CAPACITY = 16_384;
+
+    private static final Span NO_OP = new Span(null, null, 0);
+
+    private static volatile boolean enabled;
+    private static volatile Ring ring = new Ring(DEFAULT_CAPACITY);
+
+    private Tracer() {
+        throw new AssertionError("Tracer is a utility class and should not be instantiated");
+    }
+
+    /**
+     * A recorded span or instant event. Instances are immutable.
+     */
+    public static final class Event {
+        private final String category;
+        private final String name;
+        private final long startNanos;
+        private final long durationNanos;
+        private final boolean instant;
+        private final long threadId;
+        private final String threadName;
+
+        Event(@NonNull String category, @NonNull String name, long startNanos, long durationNanos,
+              boolean instant, @NonNull Thread thread) {
+            this.category = category;
+            this.name = name;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.instant = instant;
+            this.threadId = thread.getId();
+            this.threadName = thread.getName();
+        }
+
+        @NonNull
+        public String getCategory() {
+            return category;
+        }
+
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * @return span duration, 0 for instant events
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public boolean isInstant() {
+            return instant;
+        }
+
+        public long getThreadId() {
+            return threadId;
+        }
+
+        @NonNull
+        public String getThreadName() {
+            return threadName;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Event{" + category + "/" + name + " " + durationNanos / 1000 + "us on " + threadName + "}";
+        }
+    }
+
+    /**
+     * An open span; close it (try-with-resources) on the thread that began it.
+     */
+    public static final class Span implements AutoCloseable {
+        @Nullable private final String category;
+        @Nullable private final String name;
+        private final long startNanos;
+        private boolean closed;
+
+        private Span(@Nullable String category, @Nullable String name, long startNanos) {
+            this.category = category;
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void close() {
+            if (this == NO_OP || closed) {
+                return;
+            }
+            closed = true;
+            complete(category, name, startNanos, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Lock-free ring: writers claim a slot with one atomic increment and publish an immutable
+     * event into it.
+     */
+    private static final class Ring {
+        private final AtomicReferenceArray<Event> slots;
+        private final AtomicLong next = new AtomicLong();
+
+        Ring(int capacity) {
+            slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        void add(@NonNull Event event) {
+            long index = next.getAndIncrement();
+            slots.set((int) (index % slots.length()), event);
+        }
+
+        @NonNull
+        List<Event> snapshot() {
+            long end = next.get();
+            long start = Math.max(0, end - slots.length());
+            List<Event> events = new ArrayList<>((int) (end - start));
+            for (long i = start; i < end; i++) {
+                Event event = slots.get((int) (i % slots.length()));
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+            return events;
+        }
+    }
+
+    // =============================================================================================
+    // RECORDING
+    // =============================================================================================
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn tracing on or off. Recorded spans are kept until {@link #clear()}.
+     */
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+        Log.i(TAG, "setEnabled: Tracing " + (enable ? "on" : "off"));
+    }
+
+    /**
+     * Begin a span.
+     *
+     * @param category one of the CATEGORY_ constants
+     * @param name     span name, e.g. "MainActivity.onCreate" (use constants, not built strings)
+     * @return the span to close, or a shared no-op span while tracing is off
+     */
+    @NonNull
+    public static Span begin(@NonNull String category, @NonNull String name) {
+        if (!enabled) {
+            return NO_OP;
+        }
+        return new Span(category, name, System.nanoTime());
+    }
+
+    /**
+     * Record a span the caller already timed (used by DaoMetrics, which times every DAO call).
+     *
+     * @param category      one of the CATEGORY_ constants
+     * @param name          span name
+     * @param startNanos    {@code System.nanoTime()} at the start
+     * @param durationNanos duration
+     */
+    public static void complete(@Nullable String category, @Nullable String name,
+                                long startNanos, long durationNanos) {
+        if (!enabled || category == null || name == null) {
+            return;
+        }
+        ring.add(new Event(category, name, startNanos, durationNanos, false, Thread.currentThread()));
+    }
+
+    /**
+     * Record an instant event, e.g. a navigation or a cache hit.
+     */
+    public static void instant(@NonNull String category, @NonNull String name) {
+        if (!enabled) {
+            return;
+        }
+        ring.add(new Event(category, name, System.nanoTime(), 0, true, Thread.currentThread()));
+    }
+
+    /**
+     * @return recorded events, oldest first
+     */
+    @NonNull
+    public static List<Event> getEvents() {
+        return Collections.unmodifiableList(ring.snapshot());
+    }
+
+    /**
+     * Drop all recorded events.
+     */
+    public static void clear() {
+        ring = new Ring(DEFAULT_CAPACITY);
+    }
+
+    // =============================================================================================
+    // EXPORT
+    // =============================================================================================
+
+    /**
+     * Write the recorded events as Chrome trace-event JSON ("X" complete events, "i" instant
+     * events and a thread_name metadata event per thread; timestamps in microseconds).
+     *
+     * @param out destination; not closed
+     * @return number of events written, excluding metadata
+     * @throws IOException if writing fails
+     */
+    public static int writeChromeTrace(@NonNull Writer out) throws IOException {
+        List<Event> events = ring.snapshot();
+        int pid = Process.myPid();
+
+        JsonWriter json = new JsonWriter(out);
+        json.beginObject();
+        json.name("displayTimeUnit").value("ms");
+        json.name("traceEvents").beginArray();
+
+        Map<Long, String> threads = new LinkedHashMap<>();
+        for (Event event : events) {
+            threads.putIfAbsent(event.getThreadId(), event.getThreadName());
+        }
+        for (Map.Entry<Long, String> thread : threads.entrySet()) {
+            json.beginObject();
+            json.name("name").value("thread_name");
+            json.name("ph").value("M");
+            json.name("pid").value(pid);
+            json.name("tid").value(thread.getKey());
+            json.name("args").beginObject().name("name").value(thread.getValue()).endObject();
+            json.endObject();
+        }
+
+        for (Event event : events) {
+            json.beginObject();
+            json.name("name").value(event.getName());
+            json.name("cat").value(event.getCategory());
+            json.name("ph").value(event.isInstant() ? "i" : "X");
+            json.name("ts").value(event.getStartNanos() / 1000.0);
+            if (event.isInstant()) {
+                json.name("s").value("t");
+            } else {
+                json.name("dur").value(event.getDurationNanos() / 1000.0);
+            }
+            json.name("pid").value(pid);
+            json.name("tid").value(event.getThreadId());
+            json.endObject();
+        }
+
+        json.endArray();
+        json.endObject();
+        json.flush();
+        return events.size();
+    }
+
+    /**
+     * Write the recorded events to a new trace file.
+     *
+     * @param directory directory to write into (created if missing), e.g.
+     *                  {@code getExternalFilesDir("traces")} so it can be pulled with adb
+     * @return the written file
+     * @throws IOException if the directory cannot be created or writing fails
+     */
+    @NonNull
+    public static File dumpToFile(@NonNull File directory) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        File file = new File(directory, "trace-" + System.currentTimeMillis() + ".json");
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            int count = writeChromeTrace(out);
+            Log.i(TAG, "dumpToFile: Wrote " + count + " events to " + file);
+        }
+        return file;
+    }
+}
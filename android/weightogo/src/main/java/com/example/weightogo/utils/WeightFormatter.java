@@ -0,0 +1,95 @@
+package com.example.weightogo.utils;
+
+/**
+ * Allocation-free fixed-point formatting of weights to one decimal place.
+ *
+ * Output matches {@code String.format(Locale.US, "%.1f", weight)} (half-up rounding, '.' as the
+ * decimal separator) without parsing a format string or creating a Formatter per call. The
+ * append methods write into a caller-owned buffer and allocate nothing; the String-returning
+ * methods reuse a per-thread buffer and allocate only the result.
+ *
+ * This class has no Android dependencies so the benchmark module can compile it directly.
+ *
+ * **Usage Example:**
+ * <pre>
+ * StringBuilder label = new StringBuilder();
+ * WeightFormatter.appendWeightWithUnit(label, 172.46, "lbs");  // "172.5 lbs"
+ * </pre>
+ *
+ * **Thread Safety:** All methods are static and thread-safe (buffers are per thread).
+ */
+public final class WeightFormatter {
+
+    /**
+     * Above this magnitude tenths no longer fit a long exactly; such values are not weights.
+     */
+    private static final double MAX_FIXED_POINT = 1e15;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(24));
+
+    /**
+     * Private constructor to prevent instantiation.
+     *
+     * @throws AssertionError if instantiation is attempted via reflection
+     */
+    private WeightFormatter() {
+        throw new AssertionError("WeightFormatter is a utility class and should not be instantiated");
+    }
+
+    /**
+     * Appends weight to 1 decimal place (e.g., "150.0").
+     *
+     * @param out    buffer to append to
+     * @param weight the weight value to format
+     * @return out, for chaining
+     */
+    public static StringBuilder appendWeight(StringBuilder out, double weight) {
+        if (Double.isNaN(weight) || Math.abs(weight) >= MAX_FIXED_POINT) {
+            return out.append(weight);
+        }
+
+        // Sign bit, not weight < 0, so -0.0 and values rounding to zero keep "-" like %.1f
+        if (Double.doubleToRawLongBits(weight) < 0) {
+            out.append('-');
+        }
+        long tenths = Math.round(Math.abs(weight) * 10);
+        return out.append(tenths / 10).append('.').append((char) ('0' + tenths % 10));
+    }
+
+    /**
+     * Appends weight to 1 decimal place followed by its unit (e.g., "150.0 lbs").
+     *
+     * @param out    buffer to append to
+     * @param weight the weight value to format
+     * @param unit   the weight unit ("lbs" or "kg")
+     * @return out, for chaining
+     */
+    public static StringBuilder appendWeightWithUnit(StringBuilder out, double weight, String unit) {
+        return appendWeight(out, weight).append(' ').append(unit);
+    }
+
+    /**
+     * Formats weight to 1 decimal place.
+     *
+     * @param weight the weight value to format
+     * @return formatted string (e.g., "150.0")
+     */
+    public static String format(double weight) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return appendWeight(buffer, weight).toString();
+    }
+
+    /**
+     * Formats weight to 1 decimal place with unit.
+     *
+     * @param weight the weight value to format
+     * @param unit   the weight unit ("lbs" or "kg")
+     * @return formatted string (e.g., "150.0 lbs")
+     */
+    public static String formatWithUnit(double weight, String unit) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        return appendWeightWithUnit(buffer, weight, unit).toString();
+    }
+}
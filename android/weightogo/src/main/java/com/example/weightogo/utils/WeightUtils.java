@@ -102,6 +102,32 @@ public final class WeightUtils {
         return rounded;
     }
 
+    /**
+     * Converts a weight to canonical kilograms without rounding.
+     * This is the value stored in daily_weights.weight_kg and used for comparisons and
+     * aggregates across entries logged in different units.
+     *
+     * @param value weight value
+     * @param unit  unit of value ("lbs" or "kg")
+     * @return weight in kilograms (full precision)
+     */
+    public static double toKilograms(double value, String unit) {
+        return "lbs".equals(unit) ? value * LBS_TO_KG_CONVERSION : value;
+    }
+
+    /**
+     * Converts a canonical kilogram weight to a display unit.
+     * Call once per displayed value, after any comparison or aggregation.
+     *
+     * @param weightKg weight in kilograms
+     * @param unit     display unit ("lbs" or "kg")
+     * @return weight in unit, rounded to 1 decimal place
+     */
+    public static double fromKilograms(double weightKg, String unit) {
+        double value = "lbs".equals(unit) ? weightKg / LBS_TO_KG_CONVERSION : weightKg;
+        return roundToOneDecimal(value);
+    }
+
     /**
      * Rounds a double value to one decimal place.
      *
@@ -115,12 +141,13 @@ public final class WeightUtils {
 
     /**
      * Formats weight value to 1 decimal place.
+     * Always uses '.' as the decimal separator (see {@link WeightFormatter}).
      *
      * @param weight the weight value to format
      * @return formatted string (e.g., "150.0")
      */
     public static String formatWeight(double weight) {
-        return String.format("%.1f", weight);
+        return WeightFormatter.format(weight);
     }
 
     /**
@@ -131,7 +158,7 @@ public final class WeightUtils {
      * @return formatted string with unit (e.g., "150.0 lbs")
      */
     public static String formatWeightWithUnit(double weight, String unit) {
-        return String.format("%.1f %s", weight, unit);
+        return WeightFormatter.formatWithUnit(weight, unit);
     }
 
     /**
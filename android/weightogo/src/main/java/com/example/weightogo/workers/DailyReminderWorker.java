@@ -8,13 +8,13 @@ import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
 import com.example.weightogo.database.AchievementDAO;
+import com.example.weightogo.database.LoggedDaysDAO;
 import com.example.weightogo.database.UserDAO;
 import com.example.weightogo.database.UserPreferenceDAO;
 import com.example.weightogo.database.WeighToGoDBHelper;
-import com.example.weightogo.database.WeightEntryDAO;
-import com.example.weightogo.models.WeightEntry;
 import com.example.weightogo.utils.SMSNotificationManager;
 import com.example.weightogo.utils.SessionManager;
+import com.example.weightogo.utils.Tracer;
 
 import java.time.LocalDate;
 
@@ -61,54 +61,54 @@ public class DailyReminderWorker extends Worker {
     @NonNull
     @Override
     public Result doWork() {
-        Context context = getApplicationContext();
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_WORKER, "DailyReminderWorker.doWork")) {
+            Context context = getApplicationContext();
+
+            Log.d(TAG, "doWork: Daily reminder worker started");
+
+            // Get user ID from input data (thread-safe, passed from SettingsActivity)
+            long userId = getInputData().getLong("USER_ID", -1);
+            if (userId == -1) {
+                Log.d(TAG, "doWork: No user ID provided, skipping reminder");
+                return Result.success();
+            }
+
+            Log.d(TAG, "doWork: Checking reminder for user_id=" + userId);
+
+            // Initialize managers
+            WeighToGoDBHelper dbHelper = WeighToGoDBHelper.getInstance(context);
+            LoggedDaysDAO loggedDaysDAO = new LoggedDaysDAO(dbHelper);
+            AchievementDAO achievementDAO = new AchievementDAO(dbHelper);
+            UserDAO userDAO = new UserDAO(dbHelper);
+            UserPreferenceDAO userPreferenceDAO = new UserPreferenceDAO(dbHelper);
+            SMSNotificationManager smsManager = SMSNotificationManager.getInstance(context,
+                    userDAO, userPreferenceDAO, achievementDAO);
+
+            // Check if user logged weight today (one bit of the logged_days bitmap)
+            LocalDate today = LocalDate.now();
+            if (loggedDaysDAO.isLogged(userId, today)) {
+                Log.d(TAG, "doWork: User already logged weight today, skipping reminder");
+                return Result.success();
+            }
+
+            Log.d(TAG, "doWork: User has not logged weight today, attempting to send reminder SMS");
+
+            // Send reminder SMS
+            // Note: sendDailyReminderSms() returns false if:
+            // - User has no phone number (configuration issue - don't retry)
+            // - Reminders are disabled (user preference - don't retry)
+            // - SMS notifications are disabled (user preference - don't retry)
+            // - Actual SMS send failed (could retry, but will be handled by next scheduled run)
+            // Always return success to avoid unnecessary retries
+            boolean sent = smsManager.sendDailyReminderSms(userId);
+
+            if (sent) {
+                Log.i(TAG, "doWork: Daily reminder SMS sent to user " + userId);
+            } else {
+                Log.d(TAG, "doWork: Daily reminder SMS not sent (user config or send failure)");
+            }
 
-        Log.d(TAG, "doWork: Daily reminder worker started");
-
-        // Get user ID from input data (thread-safe, passed from SettingsActivity)
-        long userId = getInputData().getLong("USER_ID", -1);
-        if (userId == -1) {
-            Log.d(TAG, "doWork: No user ID provided, skipping reminder");
-            return Result.success();
-        }
-
-        Log.d(TAG, "doWork: Checking reminder for user_id=" + userId);
-
-        // Initialize managers
-        WeighToGoDBHelper dbHelper = WeighToGoDBHelper.getInstance(context);
-        WeightEntryDAO weightEntryDAO = new WeightEntryDAO(dbHelper);
-        AchievementDAO achievementDAO = new AchievementDAO(dbHelper);
-        UserDAO userDAO = new UserDAO(dbHelper);
-        UserPreferenceDAO userPreferenceDAO = new UserPreferenceDAO(dbHelper);
-        SMSNotificationManager smsManager = SMSNotificationManager.getInstance(context,
-                userDAO, userPreferenceDAO, achievementDAO);
-
-        // Check if user logged weight today
-        LocalDate today = LocalDate.now();
-        WeightEntry todayEntry = weightEntryDAO.getWeightEntryForDate(userId, today);
-
-        if (todayEntry != null) {
-            Log.d(TAG, "doWork: User already logged weight today, skipping reminder");
             return Result.success();
         }
-
-        Log.d(TAG, "doWork: User has not logged weight today, attempting to send reminder SMS");
-
-        // Send reminder SMS
-        // Note: sendDailyReminderSms() returns false if:
-        // - User has no phone number (configuration issue - don't retry)
-        // - Reminders are disabled (user preference - don't retry)
-        // - SMS notifications are disabled (user preference - don't retry)
-        // - Actual SMS send failed (could retry, but will be handled by next scheduled run)
-        // Always return success to avoid unnecessary retries
-        boolean sent = smsManager.sendDailyReminderSms(userId);
-
-        if (sent) {
-            Log.i(TAG, "doWork: Daily reminder SMS sent to user " + userId);
-        } else {
-            Log.d(TAG, "doWork: Daily reminder SMS not sent (user config or send failure)");
-        }
-
-        return Result.success();
     }
 }
@@ -0,0 +1,63 @@
+package com.example.weightogo.workers;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.weightogo.database.DataMigrationRunner;
+
+/**
+ * Maintenance task that drains pending {@link com.example.weightogo.database.DataMigration}s.
+ *
+ * <p>App start only gives migrations a short budget; this task finishes large backfills overnight
+ * while the device is idle. Progress is persisted per batch by {@link DataMigrationRunner}, so no
+ * checkpoint is needed here.</p>
+ *
+ * <p><strong>Metrics:</strong> {@code batches} and {@code rows_migrated}.</p>
+ */
+public class DataMigrationTask implements MaintenanceTask {
+
+    private static final String TAG = "DataMigrationTask";
+
+    static final String NAME = "data_migration";
+
+    static final String METRIC_BATCHES = "batches";
+    static final String METRIC_ROWS_MIGRATED = "rows_migrated";
+
+    private static final long DEFAULT_TIME_BUDGET_MS = 60_000L;
+
+    private final int batchSize;
+    private final long timeBudgetMs;
+
+    public DataMigrationTask() {
+        this(DataMigrationRunner.DEFAULT_BATCH_SIZE, DEFAULT_TIME_BUDGET_MS);
+    }
+
+    DataMigrationTask(int batchSize, long timeBudgetMs) {
+        this.batchSize = batchSize;
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getTimeBudgetMs() {
+        return timeBudgetMs;
+    }
+
+    @Override
+    public boolean run(@NonNull MaintenanceSession session) {
+        DataMigrationRunner.RunResult result = DataMigrationRunner.create(session.getDbHelper())
+                .runPending(batchSize, () -> !session.hasTimeRemaining());
+
+        session.recordMetric(METRIC_BATCHES, result.getBatches());
+        session.recordMetric(METRIC_ROWS_MIGRATED, result.getRowsMigrated());
+        Log.i(TAG, "run: " + result);
+
+        return result.isComplete();
+    }
+}
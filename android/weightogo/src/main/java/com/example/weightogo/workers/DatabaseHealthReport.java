@@ -0,0 +1,193 @@
+package com.example.weightogo.workers;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of database size, statistics and integrity produced by
+ * {@link DatabaseHealthTask}.
+ *
+ * <p>Persisted as JSON so the latest report can be shown on a diagnostics screen and so the next
+ * run can compare row counts to decide whether planner statistics need a full ANALYZE.</p>
+ */
+public final class DatabaseHealthReport {
+
+    /**
+     * quick_check result when the check did not run (budget exhausted).
+     */
+    public static final String QUICK_CHECK_SKIPPED = "skipped";
+
+    /**
+     * quick_check result when the database passed.
+     */
+    public static final String QUICK_CHECK_OK = "ok";
+
+    private static final String KEY_CREATED_AT_MS = "created_at_ms";
+    private static final String KEY_PAGE_SIZE = "page_size";
+    private static final String KEY_PAGE_COUNT = "page_count";
+    private static final String KEY_FREELIST_COUNT = "freelist_count";
+    private static final String KEY_ANALYZED = "analyzed";
+    private static final String KEY_QUICK_CHECK = "quick_check";
+    private static final String KEY_ROW_COUNTS = "row_counts";
+    private static final String KEY_OBJECT_PAGES = "object_pages";
+
+    private final long createdAtMs;
+    private final long pageSize;
+    private final long pageCount;
+    private final long freelistCount;
+    private final boolean analyzed;
+    private final String quickCheckResult;
+    private final Map<String, Long> rowCounts;
+    private final Map<String, Long> objectPages;
+
+    DatabaseHealthReport(long createdAtMs, long pageSize, long pageCount, long freelistCount,
+                         boolean analyzed, @NonNull String quickCheckResult,
+                         @NonNull Map<String, Long> rowCounts,
+                         @NonNull Map<String, Long> objectPages) {
+        this.createdAtMs = createdAtMs;
+        this.pageSize = pageSize;
+        this.pageCount = pageCount;
+        this.freelistCount = freelistCount;
+        this.analyzed = analyzed;
+        this.quickCheckResult = quickCheckResult;
+        this.rowCounts = Collections.unmodifiableMap(new LinkedHashMap<>(rowCounts));
+        this.objectPages = Collections.unmodifiableMap(new LinkedHashMap<>(objectPages));
+    }
+
+    public long getCreatedAtMs() {
+        return createdAtMs;
+    }
+
+    public long getPageSize() {
+        return pageSize;
+    }
+
+    public long getPageCount() {
+        return pageCount;
+    }
+
+    public long getFreelistCount() {
+        return freelistCount;
+    }
+
+    /**
+     * @return database file size implied by page_count x page_size
+     */
+    public long getDatabaseSizeBytes() {
+        return pageCount * pageSize;
+    }
+
+    /**
+     * @return true if this run executed a full ANALYZE (rather than only PRAGMA optimize)
+     */
+    public boolean isAnalyzed() {
+        return analyzed;
+    }
+
+    /**
+     * @return {@link #QUICK_CHECK_OK}, {@link #QUICK_CHECK_SKIPPED}, or the first error reported
+     *         by PRAGMA quick_check
+     */
+    @NonNull
+    public String getQuickCheckResult() {
+        return quickCheckResult;
+    }
+
+    public boolean isQuickCheckPassed() {
+        return QUICK_CHECK_OK.equals(quickCheckResult);
+    }
+
+    /**
+     * @return row count per table
+     */
+    @NonNull
+    public Map<String, Long> getRowCounts() {
+        return rowCounts;
+    }
+
+    /**
+     * @return pages used per table/index from the dbstat virtual table; empty when the SQLite
+     *         build does not include dbstat
+     */
+    @NonNull
+    public Map<String, Long> getObjectPages() {
+        return objectPages;
+    }
+
+    /**
+     * Serialize to JSON for persistence and diagnostics export.
+     *
+     * @return JSON string
+     */
+    @NonNull
+    public String toJson() {
+        try {
+            JSONObject json = new JSONObject();
+            json.put(KEY_CREATED_AT_MS, createdAtMs);
+            json.put(KEY_PAGE_SIZE, pageSize);
+            json.put(KEY_PAGE_COUNT, pageCount);
+            json.put(KEY_FREELIST_COUNT, freelistCount);
+            json.put(KEY_ANALYZED, analyzed);
+            json.put(KEY_QUICK_CHECK, quickCheckResult);
+            json.put(KEY_ROW_COUNTS, new JSONObject(rowCounts));
+            json.put(KEY_OBJECT_PAGES, new JSONObject(objectPages));
+            return json.toString();
+        } catch (JSONException e) {
+            // Only thrown for non-finite numbers, which this report never contains
+            throw new IllegalStateException("Failed to serialize health report", e);
+        }
+    }
+
+    /**
+     * Parse a report previously produced by {@link #toJson()}.
+     *
+     * @param json JSON string, may be null
+     * @return parsed report, or null if json is null or malformed
+     */
+    @Nullable
+    public static DatabaseHealthReport fromJson(@Nullable String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            JSONObject obj = new JSONObject(json);
+            return new DatabaseHealthReport(
+                    obj.getLong(KEY_CREATED_AT_MS),
+                    obj.getLong(KEY_PAGE_SIZE),
+                    obj.getLong(KEY_PAGE_COUNT),
+                    obj.getLong(KEY_FREELIST_COUNT),
+                    obj.getBoolean(KEY_ANALYZED),
+                    obj.getString(KEY_QUICK_CHECK),
+                    toLongMap(obj.getJSONObject(KEY_ROW_COUNTS)),
+                    toLongMap(obj.getJSONObject(KEY_OBJECT_PAGES)));
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Long> toLongMap(@NonNull JSONObject obj) throws JSONException {
+        Map<String, Long> map = new LinkedHashMap<>();
+        Iterator<String> keys = obj.keys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            map.put(key, obj.getLong(key));
+        }
+        return map;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "DatabaseHealthReport{size=" + getDatabaseSizeBytes() + "B, freelist=" + freelistCount
+                + ", analyzed=" + analyzed + ", quick_check=" + quickCheckResult
+                + ", rows=" + rowCounts + "}";
+    }
+}
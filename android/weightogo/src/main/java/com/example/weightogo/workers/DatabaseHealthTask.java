@@ -0,0 +1,227 @@
+package com.example.weightogo.workers;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteException;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maintenance task that keeps planner statistics fresh, checks integrity and records database
+ * size metrics.
+ *
+ * <p><strong>Steps:</strong></p>
+ * <ol>
+ *   <li>Count rows per table and compare with the previous report</li>
+ *   <li>Run a full {@code ANALYZE} when there are no statistics yet or row churn since the last
+ *       report exceeds {@link #CHURN_THRESHOLD_FRACTION} (minimum {@link #MIN_CHURN_ROWS});
+ *       otherwise only {@code PRAGMA optimize}, which is cheap and refreshes stale statistics
+ *       itself</li>
+ *   <li>Run {@code PRAGMA quick_check} if budget remains (skipped otherwise; the task then
+ *       reports PARTIAL so the check runs next time)</li>
+ *   <li>Record page_size, page_count, freelist_count and, where the SQLite build has dbstat,
+ *       pages per table/index</li>
+ * </ol>
+ *
+ * <p>The resulting {@link DatabaseHealthReport} is saved as JSON and available through
+ * {@link #getLastReport(Context)} for diagnostics.</p>
+ */
+public class DatabaseHealthTask implements MaintenanceTask {
+
+    private static final String TAG = "DatabaseHealthTask";
+
+    static final String NAME = "database_health";
+
+    /**
+     * Fraction of total rows inserted/deleted since the last report that triggers a full ANALYZE.
+     */
+    static final double CHURN_THRESHOLD_FRACTION = 0.10;
+
+    /**
+     * Absolute churn floor so small databases are not re-analyzed for a handful of rows.
+     */
+    static final long MIN_CHURN_ROWS = 200;
+
+    /**
+     * Maximum number of quick_check error rows read.
+     */
+    private static final int QUICK_CHECK_MAX_ERRORS = 10;
+
+    private static final long DEFAULT_TIME_BUDGET_MS = 15_000L;
+
+    private final long timeBudgetMs;
+
+    public DatabaseHealthTask() {
+        this(DEFAULT_TIME_BUDGET_MS);
+    }
+
+    DatabaseHealthTask(long timeBudgetMs) {
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getTimeBudgetMs() {
+        return timeBudgetMs;
+    }
+
+    @Override
+    public boolean run(@NonNull MaintenanceSession session) {
+        SQLiteDatabase db = session.getDatabase();
+        DatabaseHealthReport previous = DatabaseHealthReport.fromJson(session.getLastReport());
+
+        // Step 1: row counts and churn
+        Map<String, Long> rowCounts = countRows(db);
+
+        // Step 2: planner statistics
+        boolean analyze = shouldAnalyze(previous, rowCounts, hasStatistics(db));
+        if (analyze) {
+            Log.i(TAG, "run: Running ANALYZE");
+            db.execSQL("ANALYZE");
+        }
+        drainPragma(db, "optimize");
+
+        // Step 3: integrity
+        String quickCheck = session.hasTimeRemaining()
+                ? runQuickCheck(db)
+                : DatabaseHealthReport.QUICK_CHECK_SKIPPED;
+        if (!DatabaseHealthReport.QUICK_CHECK_OK.equals(quickCheck)
+                && !DatabaseHealthReport.QUICK_CHECK_SKIPPED.equals(quickCheck)) {
+            Log.e(TAG, "run: quick_check failed: " + quickCheck);
+        }
+
+        // Step 4: size metrics
+        DatabaseHealthReport report = new DatabaseHealthReport(
+                System.currentTimeMillis(),
+                MaintenanceSession.queryPragma(db, "page_size"),
+                MaintenanceSession.queryPragma(db, "page_count"),
+                MaintenanceSession.queryPragma(db, "freelist_count"),
+                analyze,
+                quickCheck,
+                rowCounts,
+                countObjectPages(db));
+
+        session.saveReport(report.toJson());
+        session.recordMetric("page_count", report.getPageCount());
+        session.recordMetric("freelist_count", report.getFreelistCount());
+        session.recordMetric("analyzed", analyze ? 1 : 0);
+        session.recordMetric("quick_check_ok", report.isQuickCheckPassed() ? 1 : 0);
+        Log.i(TAG, "run: " + report);
+
+        return !DatabaseHealthReport.QUICK_CHECK_SKIPPED.equals(quickCheck);
+    }
+
+    /**
+     * Get the report saved by the most recent run.
+     *
+     * @param context any context
+     * @return latest report, or null if the task has not run yet
+     */
+    @Nullable
+    public static DatabaseHealthReport getLastReport(@NonNull Context context) {
+        return DatabaseHealthReport.fromJson(new MaintenanceCheckpointStore(context).getReport(NAME));
+    }
+
+    /**
+     * Decide whether planner statistics need a full rebuild.
+     *
+     * @param previous      last saved report, or null on first run
+     * @param rowCounts     current row counts per table
+     * @param hasStatistics whether sqlite_stat1 already has rows
+     * @return true if ANALYZE should run
+     */
+    static boolean shouldAnalyze(@Nullable DatabaseHealthReport previous,
+                                 @NonNull Map<String, Long> rowCounts,
+                                 boolean hasStatistics) {
+        if (previous == null || !hasStatistics) {
+            return true;
+        }
+
+        long previousTotal = 0;
+        long churn = 0;
+        for (Map.Entry<String, Long> entry : rowCounts.entrySet()) {
+            Long before = previous.getRowCounts().get(entry.getKey());
+            long beforeCount = before != null ? before : 0;
+            previousTotal += beforeCount;
+            churn += Math.abs(entry.getValue() - beforeCount);
+        }
+        long threshold = Math.max(MIN_CHURN_ROWS, (long) (previousTotal * CHURN_THRESHOLD_FRACTION));
+        return churn >= threshold;
+    }
+
+    private static Map<String, Long> countRows(@NonNull SQLiteDatabase db) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        try (Cursor tables = db.rawQuery(
+                "SELECT name FROM sqlite_master WHERE type = 'table'" +
+                " AND name NOT LIKE 'sqlite_%' AND name NOT LIKE 'android_%' ORDER BY name",
+                null)) {
+            while (tables.moveToNext()) {
+                String table = tables.getString(0);
+                try (Cursor count = db.rawQuery("SELECT COUNT(*) FROM \"" + table + "\"", null)) {
+                    counts.put(table, count.moveToFirst() ? count.getLong(0) : 0L);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static boolean hasStatistics(@NonNull SQLiteDatabase db) {
+        try (Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM sqlite_stat1", null)) {
+            return cursor.moveToFirst() && cursor.getLong(0) > 0;
+        } catch (SQLiteException e) {
+            // sqlite_stat1 does not exist until the first ANALYZE
+            return false;
+        }
+    }
+
+    /**
+     * @return "ok", or the first reported problem
+     */
+    private static String runQuickCheck(@NonNull SQLiteDatabase db) {
+        try (Cursor cursor = db.rawQuery("PRAGMA quick_check(" + QUICK_CHECK_MAX_ERRORS + ")", null)) {
+            if (cursor.moveToFirst()) {
+                return cursor.getString(0);
+            }
+            return DatabaseHealthReport.QUICK_CHECK_OK;
+        }
+    }
+
+    /**
+     * @return pages per table/index, or an empty map when dbstat is not compiled in
+     */
+    private static Map<String, Long> countObjectPages(@NonNull SQLiteDatabase db) {
+        Map<String, Long> pages = new LinkedHashMap<>();
+        try (Cursor cursor = db.rawQuery(
+                "SELECT name, COUNT(*) FROM dbstat GROUP BY name ORDER BY name", null)) {
+            while (cursor.moveToNext()) {
+                pages.put(cursor.getString(0), cursor.getLong(1));
+            }
+        } catch (SQLiteException e) {
+            Log.d(TAG, "countObjectPages: dbstat not available");
+            pages.clear();
+        }
+        return pages;
+    }
+
+    /**
+     * Run a PRAGMA that returns rows and drain its cursor.
+     */
+    private static void drainPragma(@NonNull SQLiteDatabase db, @NonNull String pragma) {
+        try (Cursor cursor = db.rawQuery("PRAGMA " + pragma, null)) {
+            while (cursor.moveToNext()) {
+                // Drain
+            }
+        }
+    }
+}
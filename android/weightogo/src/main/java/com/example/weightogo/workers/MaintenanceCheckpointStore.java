@@ -0,0 +1,73 @@
+package com.example.weightogo.workers;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Persists resume checkpoints, last-run timestamps and latest reports for maintenance tasks.
+ *
+ * <p>Backed by a dedicated SharedPreferences file so checkpoints survive process death and are
+ * independent of the user session (logout does not reset maintenance progress).</p>
+ */
+public class MaintenanceCheckpointStore {
+
+    /**
+     * SharedPreferences file name for maintenance state.
+     */
+    static final String PREF_NAME = "WeighToGoMaintenance";
+
+    private static final String KEY_CHECKPOINT_PREFIX = "checkpoint_";
+    private static final String KEY_LAST_RUN_PREFIX = "last_run_";
+    private static final String KEY_REPORT_PREFIX = "report_";
+
+    private final SharedPreferences preferences;
+
+    /**
+     * Create a checkpoint store.
+     *
+     * @param context any context (application context is used internally)
+     */
+    public MaintenanceCheckpointStore(@NonNull Context context) {
+        this.preferences = context.getApplicationContext()
+                .getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    @Nullable
+    public String getCheckpoint(@NonNull String taskName) {
+        return preferences.getString(KEY_CHECKPOINT_PREFIX + taskName, null);
+    }
+
+    public void saveCheckpoint(@NonNull String taskName, @NonNull String checkpoint) {
+        preferences.edit().putString(KEY_CHECKPOINT_PREFIX + taskName, checkpoint).apply();
+    }
+
+    public void clearCheckpoint(@NonNull String taskName) {
+        preferences.edit().remove(KEY_CHECKPOINT_PREFIX + taskName).apply();
+    }
+
+    /**
+     * @return epoch millis of the task's last completed run, or 0 if it never completed
+     */
+    public long getLastCompletedRun(@NonNull String taskName) {
+        return preferences.getLong(KEY_LAST_RUN_PREFIX + taskName, 0L);
+    }
+
+    public void setLastCompletedRun(@NonNull String taskName, long timestampMs) {
+        preferences.edit().putLong(KEY_LAST_RUN_PREFIX + taskName, timestampMs).apply();
+    }
+
+    /**
+     * @return the task's latest serialized report, or null if it never produced one
+     */
+    @Nullable
+    public String getReport(@NonNull String taskName) {
+        return preferences.getString(KEY_REPORT_PREFIX + taskName, null);
+    }
+
+    public void saveReport(@NonNull String taskName, @NonNull String report) {
+        preferences.edit().putString(KEY_REPORT_PREFIX + taskName, report).apply();
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.weightogo.workers;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.utils.Tracer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Ordered list of {@link MaintenanceTask}s executed in a single database session.
+ *
+ * <p><strong>Execution Model:</strong></p>
+ * <ul>
+ *   <li>The writable database is opened once and shared by every task</li>
+ *   <li>Each task gets its own deadline derived from {@link MaintenanceTask#getTimeBudgetMs()}</li>
+ *   <li>A task that throws is reported as {@link Status#FAILED}; later tasks still run</li>
+ *   <li>Once the stop signal fires, remaining tasks are reported as {@link Status#SKIPPED}</li>
+ * </ul>
+ *
+ * <p>The pipeline itself has no Android scheduling dependencies so it can be exercised directly
+ * from unit tests; {@link MaintenanceWorker} is the production entry point.</p>
+ */
+public class MaintenancePipeline {
+
+    private static final String TAG = "MaintenancePipeline";
+
+    /**
+     * Outcome of a single task within a run.
+     */
+    public enum Status {
+        /** Task finished all pending work. */
+        COMPLETED,
+        /** Task ran out of budget and saved a checkpoint to resume from. */
+        PARTIAL,
+        /** Task threw an exception. */
+        FAILED,
+        /** Task was not started because the worker was stopped. */
+        SKIPPED
+    }
+
+    /**
+     * Per-task timing and outcome reported by {@link #run}.
+     */
+    public static final class TaskReport {
+        private final String taskName;
+        private final Status status;
+        private final long durationMs;
+        private final Map<String, Long> metrics;
+
+        TaskReport(@NonNull String taskName, @NonNull Status status, long durationMs,
+                   @NonNull Map<String, Long> metrics) {
+            this.taskName = taskName;
+            this.status = status;
+            this.durationMs = durationMs;
+            this.metrics = Collections.unmodifiableMap(metrics);
+        }
+
+        @NonNull
+        public String getTaskName() {
+            return taskName;
+        }
+
+        @NonNull
+        public Status getStatus() {
+            return status;
+        }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        /**
+         * @return metrics recorded by the task via {@link MaintenanceSession#recordMetric}
+         */
+        @NonNull
+        public Map<String, Long> getMetrics() {
+            return metrics;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return taskName + "=" + status + " (" + durationMs + " ms)"
+                    + (metrics.isEmpty() ? "" : " " + metrics);
+        }
+    }
+
+    private final List<MaintenanceTask> tasks = new ArrayList<>();
+
+    /**
+     * Register a task. Tasks run in registration order.
+     *
+     * @param task the task to add
+     * @return this pipeline, for chaining
+     * @throws IllegalArgumentException if a task with the same name is already registered
+     */
+    @NonNull
+    public MaintenancePipeline addTask(@NonNull MaintenanceTask task) {
+        for (MaintenanceTask existing : tasks) {
+            if (existing.getName().equals(task.getName())) {
+                throw new IllegalArgumentException("Duplicate maintenance task: " + task.getName());
+            }
+        }
+        tasks.add(task);
+        return this;
+    }
+
+    /**
+     * @return registered tasks in execution order (unmodifiable)
+     */
+    @NonNull
+    public List<MaintenanceTask> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+
+    /**
+     * Run every registered task against one database session.
+     *
+     * @param dbHelper        database helper; its writable database is opened once for the run
+     * @param checkpointStore resume checkpoint storage
+     * @param stopSignal      returns true when the run should stop (e.g. worker stopped)
+     * @return one report per registered task, in execution order
+     */
+    @NonNull
+    public List<TaskReport> run(@NonNull WeighToGoDBHelper dbHelper,
+                                @NonNull MaintenanceCheckpointStore checkpointStore,
+                                @NonNull BooleanSupplier stopSignal) {
+        List<TaskReport> reports = new ArrayList<>(tasks.size());
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+
+        for (MaintenanceTask task : tasks) {
+            String name = task.getName();
+            if (stopSignal.getAsBoolean()) {
+                Log.w(TAG, "run: Stopped before task " + name);
+                reports.add(new TaskReport(name, Status.SKIPPED, 0, Collections.emptyMap()));
+                continue;
+            }
+
+            long start = now();
+            MaintenanceSession session = new MaintenanceSession(dbHelper, db, checkpointStore,
+                    name, start + task.getTimeBudgetMs(), stopSignal);
+            Status status;
+            try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_WORKER, name)) {
+                boolean completed = task.run(session);
+                status = completed ? Status.COMPLETED : Status.PARTIAL;
+                if (completed) {
+                    checkpointStore.setLastCompletedRun(name, System.currentTimeMillis());
+                }
+            } catch (Exception e) {
+                Log.e(TAG, "run: Task " + name + " failed", e);
+                status = Status.FAILED;
+            }
+
+            TaskReport report = new TaskReport(name, status, now() - start, session.getMetrics());
+            Log.i(TAG, "run: " + report);
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    /**
+     * Monotonic clock in milliseconds. Not SystemClock so budgets behave the same under
+     * Robolectric's paused looper.
+     */
+    static long now() {
+        return System.nanoTime() / 1_000_000L;
+    }
+}
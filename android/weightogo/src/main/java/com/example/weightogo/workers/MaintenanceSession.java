@@ -0,0 +1,148 @@
+package com.example.weightogo.workers;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Per-task view of a maintenance run handed to {@link MaintenanceTask#run(MaintenanceSession)}.
+ *
+ * <p>Exposes the shared database connection, the task's deadline and its resume checkpoint.
+ * A new session is created for every task by {@link MaintenancePipeline}; the underlying
+ * {@link SQLiteDatabase} is the same for all tasks in a run.</p>
+ */
+public class MaintenanceSession {
+
+    private final WeighToGoDBHelper dbHelper;
+    private final SQLiteDatabase database;
+    private final MaintenanceCheckpointStore checkpointStore;
+    private final String taskName;
+    private final long deadlineMs;
+    private final BooleanSupplier stopSignal;
+    private final Map<String, Long> metrics = new LinkedHashMap<>();
+
+    MaintenanceSession(@NonNull WeighToGoDBHelper dbHelper,
+                       @NonNull SQLiteDatabase database,
+                       @NonNull MaintenanceCheckpointStore checkpointStore,
+                       @NonNull String taskName,
+                       long deadlineMs,
+                       @NonNull BooleanSupplier stopSignal) {
+        this.dbHelper = dbHelper;
+        this.database = database;
+        this.checkpointStore = checkpointStore;
+        this.taskName = taskName;
+        this.deadlineMs = deadlineMs;
+        this.stopSignal = stopSignal;
+    }
+
+    /**
+     * @return database helper, for tasks that work through the DAOs
+     */
+    @NonNull
+    public WeighToGoDBHelper getDbHelper() {
+        return dbHelper;
+    }
+
+    /**
+     * @return writable database opened once for the whole maintenance run
+     */
+    @NonNull
+    public SQLiteDatabase getDatabase() {
+        return database;
+    }
+
+    /**
+     * Check whether the task may start another chunk of work.
+     *
+     * @return false once the task's time budget is spent or WorkManager stopped the worker
+     */
+    public boolean hasTimeRemaining() {
+        return !stopSignal.getAsBoolean() && MaintenancePipeline.now() < deadlineMs;
+    }
+
+    /**
+     * @return milliseconds left in the task's time budget; 0 once it is spent or WorkManager
+     *         stopped the worker
+     */
+    public long getRemainingMillis() {
+        return hasTimeRemaining() ? deadlineMs - MaintenancePipeline.now() : 0L;
+    }
+
+    /**
+     * @return checkpoint saved by a previous run of this task, or null if none
+     */
+    @Nullable
+    public String getCheckpoint() {
+        return checkpointStore.getCheckpoint(taskName);
+    }
+
+    /**
+     * Persist the task's resume position.
+     *
+     * @param checkpoint opaque task-defined position (e.g. last processed row id)
+     */
+    public void saveCheckpoint(@NonNull String checkpoint) {
+        checkpointStore.saveCheckpoint(taskName, checkpoint);
+    }
+
+    /**
+     * Record a numeric result of this run (e.g. rows purged). Metrics are logged and exported in
+     * the worker's output data as {@code <task>_<key>}.
+     *
+     * @param key   metric name (lowercase, underscore separated)
+     * @param value metric value; recording the same key again overwrites it
+     */
+    public void recordMetric(@NonNull String key, long value) {
+        metrics.put(key, value);
+    }
+
+    @NonNull
+    Map<String, Long> getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return this task's report saved by a previous run, or null if none
+     */
+    @Nullable
+    public String getLastReport() {
+        return checkpointStore.getReport(taskName);
+    }
+
+    /**
+     * Persist this run's report (e.g. JSON) for diagnostics and for the next run to compare with.
+     *
+     * @param report serialized report
+     */
+    public void saveReport(@NonNull String report) {
+        checkpointStore.saveReport(taskName, report);
+    }
+
+    /**
+     * Remove the task's checkpoint so the next run starts from the beginning.
+     */
+    public void clearCheckpoint() {
+        checkpointStore.clearCheckpoint(taskName);
+    }
+
+    /**
+     * Read a single integer PRAGMA value (e.g. page_count, freelist_count).
+     *
+     * @param db     database
+     * @param pragma pragma name, optionally with arguments
+     * @return the value, or 0 if the pragma returned no row
+     */
+    static long queryPragma(@NonNull SQLiteDatabase db, @NonNull String pragma) {
+        try (Cursor cursor = db.rawQuery("PRAGMA " + pragma, null)) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0L;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.weightogo.workers;
+
+import androidx.annotation.NonNull;
+
+/**
+ * A single unit of periodic database housekeeping run by {@link MaintenanceWorker}.
+ *
+ * <p>Tasks are registered with a {@link MaintenancePipeline} instead of being scheduled as
+ * separate WorkManager jobs, so every task shares one device wakeup and one open database
+ * session.</p>
+ *
+ * <p><strong>Time Budget:</strong> Each task declares how long it may run per invocation.
+ * Long-running tasks should process their work in small chunks, check
+ * {@link MaintenanceSession#hasTimeRemaining()} between chunks, and persist their position with
+ * {@link MaintenanceSession#saveCheckpoint(String)} so the next run resumes where this one
+ * stopped.</p>
+ *
+ * <p><strong>Threading:</strong> Tasks always run on the WorkManager background thread.</p>
+ */
+public interface MaintenanceTask {
+
+    /**
+     * Stable task name. Used as the checkpoint key and in the worker's output data, so it must
+     * not change between releases.
+     *
+     * @return task name (lowercase, underscore separated)
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * Maximum wall-clock time this task may spend per run.
+     *
+     * @return time budget in milliseconds
+     */
+    long getTimeBudgetMs();
+
+    /**
+     * Execute the task.
+     *
+     * @param session shared database session, time budget and checkpoint access
+     * @return true if all pending work is done, false if the task stopped early and should be
+     *         resumed from its checkpoint on the next run
+     * @throws Exception if the task fails; the pipeline logs it and continues with the next task
+     */
+    boolean run(@NonNull MaintenanceSession session) throws Exception;
+}
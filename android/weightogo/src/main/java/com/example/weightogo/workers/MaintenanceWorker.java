@@ -0,0 +1,153 @@
+package com.example.weightogo.workers;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.Data;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.utils.Tracer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WorkManager Worker that runs all periodic database maintenance in one job.
+ *
+ * <p>Instead of scheduling a separate job (and device wakeup, and database open) per
+ * housekeeping chore, every chore is a {@link MaintenanceTask} registered in
+ * {@link #createPipeline(Context)} and executed by a single {@link MaintenancePipeline}.</p>
+ *
+ * <p><strong>Output Data:</strong></p>
+ * <ul>
+ *   <li>{@link #KEY_TOTAL_DURATION_MS} - wall-clock time of the whole run</li>
+ *   <li>{@code <task>_duration_ms} - per-task duration</li>
+ *   <li>{@code <task>_status} - per-task {@link MaintenancePipeline.Status} name</li>
+ *   <li>{@code <task>_<metric>} - task-specific metrics (e.g. bytes reclaimed)</li>
+ * </ul>
+ *
+ * <p><strong>Scheduling:</strong> Unique periodic work ({@link #WORK_NAME}, 24 hour interval)
+ * that only runs while the device is idle and the battery is not low. Enqueued with
+ * {@link ExistingPeriodicWorkPolicy#KEEP} so calling {@link #schedule(Context)} on every launch
+ * does not reset the period.</p>
+ */
+public class MaintenanceWorker extends Worker {
+
+    private static final String TAG = "MaintenanceWorker";
+
+    /**
+     * Unique work name for the nightly maintenance job.
+     */
+    public static final String WORK_NAME = "nightly_maintenance";
+
+    /**
+     * Output data key for total run duration.
+     */
+    public static final String KEY_TOTAL_DURATION_MS = "total_duration_ms";
+
+    static final String SUFFIX_DURATION_MS = "_duration_ms";
+    static final String SUFFIX_STATUS = "_status";
+
+    /**
+     * Constructor required by WorkManager.
+     *
+     * @param context Application context
+     * @param params  Worker parameters
+     */
+    public MaintenanceWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    /**
+     * Run every registered maintenance task in one database session.
+     *
+     * @return Result.success() with per-task durations; failed tasks are retried on the next
+     *         scheduled run rather than through WorkManager backoff
+     */
+    @NonNull
+    @Override
+    public Result doWork() {
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_WORKER, "MaintenanceWorker.doWork")) {
+            Context context = getApplicationContext();
+            Log.d(TAG, "doWork: Maintenance run started");
+
+            long start = MaintenancePipeline.now();
+            List<MaintenancePipeline.TaskReport> reports = createPipeline(context).run(
+                    WeighToGoDBHelper.getInstance(context),
+                    new MaintenanceCheckpointStore(context),
+                    this::isStopped);
+            long totalMs = MaintenancePipeline.now() - start;
+
+            Log.i(TAG, "doWork: Maintenance run finished in " + totalMs + " ms: " + reports);
+            return Result.success(toOutputData(reports, totalMs));
+        }
+    }
+
+    /**
+     * Build the pipeline of maintenance tasks, in execution order.
+     *
+     * @param context application context
+     * @return pipeline with all production tasks registered
+     */
+    @NonNull
+    static MaintenancePipeline createPipeline(@NonNull Context context) {
+        return new MaintenancePipeline()
+                .addTask(new DataMigrationTask())
+                .addTask(new SoftDeletePurgeTask())
+                .addTask(new DatabaseHealthTask());  // After the purge so stats reflect it
+    }
+
+    /**
+     * Convert task reports into WorkManager output data.
+     *
+     * @param reports per-task reports
+     * @param totalMs total run duration
+     * @return output data
+     */
+    @NonNull
+    static Data toOutputData(@NonNull List<MaintenancePipeline.TaskReport> reports, long totalMs) {
+        Data.Builder builder = new Data.Builder().putLong(KEY_TOTAL_DURATION_MS, totalMs);
+        for (MaintenancePipeline.TaskReport report : reports) {
+            builder.putLong(report.getTaskName() + SUFFIX_DURATION_MS, report.getDurationMs());
+            builder.putString(report.getTaskName() + SUFFIX_STATUS, report.getStatus().name());
+            for (Map.Entry<String, Long> metric : report.getMetrics().entrySet()) {
+                builder.putLong(report.getTaskName() + "_" + metric.getKey(), metric.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Enqueue the nightly maintenance job if it is not already scheduled.
+     *
+     * @param context any context
+     */
+    public static void schedule(@NonNull Context context) {
+        Constraints constraints = new Constraints.Builder()
+                .setRequiresBatteryNotLow(true)
+                .setRequiresDeviceIdle(true)
+                .build();
+
+        PeriodicWorkRequest maintenanceWork = new PeriodicWorkRequest.Builder(
+                MaintenanceWorker.class,
+                24, TimeUnit.HOURS
+        )
+        .setConstraints(constraints)
+        .build();
+
+        WorkManager.getInstance(context).enqueueUniquePeriodicWork(
+                WORK_NAME,
+                ExistingPeriodicWorkPolicy.KEEP,
+                maintenanceWork
+        );
+        Log.d(TAG, "schedule: Nightly maintenance enqueued (KEEP)");
+    }
+}
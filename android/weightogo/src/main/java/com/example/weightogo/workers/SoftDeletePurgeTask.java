@@ -0,0 +1,169 @@
+package com.example.weightogo.workers;
+
+import android.database.Cursor;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import com.example.weightogo.database.WeightEntryDAO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Maintenance task that hard-deletes old weight entry tombstones and returns the freed pages to
+ * the filesystem.
+ *
+ * <p><strong>Retention:</strong> Entries soft-deleted more than {@link #DEFAULT_RETENTION_DAYS}
+ * days ago are removed in chunks of {@link #DEFAULT_CHUNK_SIZE} rows, re-checking the time budget
+ * between chunks. The purge is idempotent, so an interrupted run simply continues on the next
+ * night without a checkpoint.</p>
+ *
+ * <p><strong>Vacuum:</strong> Deleting rows only moves pages to the SQLite freelist. After the
+ * purge finishes the task runs {@code PRAGMA incremental_vacuum} in bounded passes. Databases
+ * created before schema version 3 still have auto_vacuum=NONE; those are converted once with a
+ * full {@code VACUUM} (which also compacts the file). That VACUUM rewrites the whole file under
+ * an exclusive lock and cannot be interrupted, so it only starts when the remaining budget
+ * covers its estimated time ({@link #VACUUM_BYTES_PER_MS}); otherwise reclaiming is skipped and
+ * retried in the next maintenance window.</p>
+ *
+ * <p><strong>Metrics:</strong> {@code rows_purged} and {@code bytes_reclaimed} (file shrink,
+ * computed as page_count delta x page_size).</p>
+ */
+public class SoftDeletePurgeTask implements MaintenanceTask {
+
+    private static final String TAG = "SoftDeletePurgeTask";
+
+    static final String NAME = "soft_delete_purge";
+
+    /**
+     * Days a soft-deleted entry is kept before it is permanently removed.
+     */
+    public static final int DEFAULT_RETENTION_DAYS = 30;
+
+    /**
+     * Rows deleted per statement; keeps each write transaction short.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * Freelist pages released per incremental_vacuum pass.
+     */
+    static final int VACUUM_PAGES_PER_PASS = 256;
+
+    /**
+     * Conservative full-VACUUM throughput (4 MB/s) for estimating the one-time conversion;
+     * VACUUM writes the database twice (temporary copy and journal) on slow flash storage.
+     */
+    static final long VACUUM_BYTES_PER_MS = 4L * 1024;
+
+    private static final long DEFAULT_TIME_BUDGET_MS = 10_000L;
+
+    // PRAGMA auto_vacuum values
+    private static final int AUTO_VACUUM_INCREMENTAL = 2;
+
+    static final String METRIC_ROWS_PURGED = "rows_purged";
+    static final String METRIC_BYTES_RECLAIMED = "bytes_reclaimed";
+
+    private final int retentionDays;
+    private final int chunkSize;
+    private final long timeBudgetMs;
+
+    public SoftDeletePurgeTask() {
+        this(DEFAULT_RETENTION_DAYS, DEFAULT_CHUNK_SIZE, DEFAULT_TIME_BUDGET_MS);
+    }
+
+    SoftDeletePurgeTask(int retentionDays, int chunkSize, long timeBudgetMs) {
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.timeBudgetMs = timeBudgetMs;
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public long getTimeBudgetMs() {
+        return timeBudgetMs;
+    }
+
+    @Override
+    public boolean run(@NonNull MaintenanceSession session) {
+        SQLiteDatabase db = session.getDatabase();
+        WeightEntryDAO weightEntryDAO = new WeightEntryDAO(session.getDbHelper());
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        long pageSize = MaintenanceSession.queryPragma(db, "page_size");
+        long pagesBefore = MaintenanceSession.queryPragma(db, "page_count");
+
+        // Phase 1: purge tombstones in bounded chunks
+        int totalPurged = 0;
+        boolean purgeDone = false;
+        do {
+            int purged = weightEntryDAO.purgeDeletedEntries(cutoff, chunkSize);
+            totalPurged += purged;
+            if (purged < chunkSize) {
+                purgeDone = true;
+                break;
+            }
+        } while (session.hasTimeRemaining());
+
+        // Phase 2: give freed pages back to the filesystem
+        boolean vacuumDone = purgeDone && session.hasTimeRemaining() && reclaimSpace(db, session);
+
+        long pagesAfter = MaintenanceSession.queryPragma(db, "page_count");
+        long bytesReclaimed = Math.max(0, (pagesBefore - pagesAfter) * pageSize);
+        session.recordMetric(METRIC_ROWS_PURGED, totalPurged);
+        session.recordMetric(METRIC_BYTES_RECLAIMED, bytesReclaimed);
+        Log.i(TAG, "run: Purged " + totalPurged + " tombstones older than " + cutoff
+                + ", reclaimed " + bytesReclaimed + " bytes");
+
+        return vacuumDone;
+    }
+
+    /**
+     * Release freelist pages, converting the database to incremental auto_vacuum if needed.
+     *
+     * @return true if the freelist was fully drained
+     */
+    private boolean reclaimSpace(@NonNull SQLiteDatabase db, @NonNull MaintenanceSession session) {
+        try {
+            if (MaintenanceSession.queryPragma(db, "auto_vacuum") != AUTO_VACUUM_INCREMENTAL) {
+                // Pre-v3 database: auto_vacuum can only change through a full VACUUM
+                long databaseBytes = MaintenanceSession.queryPragma(db, "page_count")
+                        * MaintenanceSession.queryPragma(db, "page_size");
+                long estimatedMs = databaseBytes / VACUUM_BYTES_PER_MS;
+                if (estimatedMs > session.getRemainingMillis()) {
+                    Log.i(TAG, "reclaimSpace: Conversion VACUUM of " + databaseBytes + " bytes needs ~"
+                            + estimatedMs + "ms, more than the budget left; retrying next run");
+                    return false;
+                }
+                Log.i(TAG, "reclaimSpace: Converting database to auto_vacuum=INCREMENTAL");
+                db.execSQL("PRAGMA auto_vacuum = INCREMENTAL");
+                db.execSQL("VACUUM");
+                return true;
+            }
+
+            while (MaintenanceSession.queryPragma(db, "freelist_count") > 0) {
+                if (!session.hasTimeRemaining()) {
+                    return false;
+                }
+                // incremental_vacuum frees one page per step, so the cursor must be drained
+                try (Cursor cursor = db.rawQuery(
+                        "PRAGMA incremental_vacuum(" + VACUUM_PAGES_PER_PASS + ")", null)) {
+                    while (cursor.moveToNext()) {
+                        // Drain
+                    }
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            Log.w(TAG, "reclaimSpace: Vacuum failed, will retry next run", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.example.weightogo.database;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.example.weightogo.models.Achievement;
+import com.example.weightogo.models.GoalWeight;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.PasswordUtils;
+import com.example.weightogo.utils.WeightUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible, realistic user histories for tests, benchmarks and manual testing.
+ *
+ * <p><strong>Determinism:</strong> Every value is drawn from a {@link Random} derived from the
+ * seed and the user's position (or user_id), so the same seed, sizes and {@code today} always
+ * produce the same rows. Only the updated_at columns the DAOs stamp themselves differ.</p>
+ *
+ * <p><strong>Per-user profile:</strong></p>
+ * <ul>
+ *   <li>Units: lbs only (50%), kg only (20%) or mixed lbs/kg entries (30%)</li>
+ *   <li>Gaps: each user skips 1-7 days with a 2-30% chance after any entry, so histories
+ *       contain both long streaks and broken ones</li>
+ *   <li>Recency: most users logged today or yesterday; the rest lapsed 2-10 days ago</li>
+ *   <li>Weight: random walk with a per-user drift (mostly losing)</li>
+ *   <li>Goals: 0-4 finished goals plus one active goal</li>
+ *   <li>Achievements derived from the history (first entry, streaks, milestones, new low,
+ *       goal reached), the older ones already notified</li>
+ *   <li>Weight unit preference set to the user's dominant unit</li>
+ * </ul>
+ *
+ * <p><strong>Speed:</strong> Weight entries go through
+ * {@link WeightEntryDAO#insertWeightEntries(List)} and each user is written in one transaction,
+ * so millions of rows take seconds rather than minutes.</p>
+ *
+ * <p>Generated accounts are named {@code synth_<seed>_<n>} and use {@link #PASSWORD}, stored as
+ * SHA256 so they can sign in (and migrate to bcrypt) like any legacy account.</p>
+ */
+public class SyntheticDataGenerator {
+
+    private static final String TAG = "SyntheticDataGenerator";
+
+    /**
+     * Password of every generated account.
+     */
+    public static final String PASSWORD = "Synthetic1!";
+
+    private static final long SEED_MIX = 0x9E3779B97F4A7C15L;
+    private static final String[] NOTES = {
+            "After workout", "Before breakfast", "Felt bloated", "Weekend", "Travel day"
+    };
+
+    private final WeighToGoDBHelper dbHelper;
+    private final long seed;
+    private final UserDAO userDAO;
+    private final WeightEntryDAO weightEntryDAO;
+    private final GoalWeightDAO goalWeightDAO;
+    private final AchievementDAO achievementDAO;
+    private final UserPreferenceDAO userPreferenceDAO;
+
+    /**
+     * Totals of a generation run.
+     */
+    public static final class Result {
+        private final List<Long> userIds = new ArrayList<>();
+        private long entryCount;
+        private int goalCount;
+        private int achievementCount;
+
+        /**
+         * @return ids of the users that received data, in generation order
+         */
+        @NonNull
+        public List<Long> getUserIds() {
+            return Collections.unmodifiableList(userIds);
+        }
+
+        public long getEntryCount() {
+            return entryCount;
+        }
+
+        public int getGoalCount() {
+            return goalCount;
+        }
+
+        public int getAchievementCount() {
+            return achievementCount;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Result{users=" + userIds.size() + ", entries=" + entryCount +
+                    ", goals=" + goalCount + ", achievements=" + achievementCount + "}";
+        }
+    }
+
+    public SyntheticDataGenerator(@NonNull WeighToGoDBHelper dbHelper, long seed) {
+        this.dbHelper = dbHelper;
+        this.seed = seed;
+        this.userDAO = new UserDAO(dbHelper);
+        this.weightEntryDAO = new WeightEntryDAO(dbHelper);
+        this.goalWeightDAO = new GoalWeightDAO(dbHelper);
+        this.achievementDAO = new AchievementDAO(dbHelper);
+        this.userPreferenceDAO = new UserPreferenceDAO(dbHelper);
+    }
+
+    /**
+     * Create users and give each a full history.
+     *
+     * @param userCount      number of users to create
+     * @param entriesPerUser weight entries per user
+     * @param today          date the histories end at (or lapse before)
+     * @return generation totals
+     * @throws DuplicateUsernameException if this seed was already generated into the database
+     * @throws DatabaseException          if a write fails; the failing user is rolled back
+     */
+    @NonNull
+    public Result generateUsers(int userCount, int entriesPerUser, @NonNull LocalDate today)
+            throws DatabaseException {
+        if (userCount < 0 || entriesPerUser < 0) {
+            throw new IllegalArgumentException("userCount and entriesPerUser must not be negative");
+        }
+
+        Result result = new Result();
+        long start = System.nanoTime();
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        for (int n = 0; n < userCount; n++) {
+            Random random = new Random(seed + (n + 1) * SEED_MIX);
+            QueryCounter.onBeginTransaction(db);
+            db.beginTransaction();
+            try {
+                long userId = userDAO.insertUser(createUser(random, n, today, entriesPerUser));
+                generateHistory(random, userId, entriesPerUser, today, result);
+                db.setTransactionSuccessful();
+                result.userIds.add(userId);
+            } finally {
+                db.endTransaction();
+            }
+        }
+        Log.i(TAG, "generateUsers: " + result + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return result;
+    }
+
+    /**
+     * Give an existing user a history (e.g. the account used for manual testing).
+     * Entries are added next to any existing ones, so use a fresh account to avoid two
+     * entries on one date.
+     *
+     * @param userId     user to seed
+     * @param entryCount weight entries to create
+     * @param today      date the history ends at (or lapses before)
+     * @return generation totals
+     * @throws DatabaseException if a write fails; nothing is written in that case
+     */
+    @NonNull
+    public Result generateForUser(long userId, int entryCount, @NonNull LocalDate today)
+            throws DatabaseException {
+        if (entryCount < 0) {
+            throw new IllegalArgumentException("entryCount must not be negative");
+        }
+
+        Result result = new Result();
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        QueryCounter.onBeginTransaction(db);
+        db.beginTransaction();
+        try {
+            generateHistory(new Random(seed ^ userId * SEED_MIX), userId, entryCount, today, result);
+            db.setTransactionSuccessful();
+            result.userIds.add(userId);
+        } finally {
+            db.endTransaction();
+        }
+        Log.i(TAG, "generateForUser: user_id=" + userId + " " + result);
+        return result;
+    }
+
+    // =============================================================================================
+    // GENERATION
+    // =============================================================================================
+
+    @NonNull
+    private User createUser(@NonNull Random random, int n, @NonNull LocalDate today, int entries) {
+        byte[] saltBytes = new byte[16];
+        random.nextBytes(saltBytes);
+        String salt = Base64.getEncoder().encodeToString(saltBytes);
+
+        User user = new User();
+        user.setUsername("synth_" + Long.toHexString(seed & 0xFFFFL) + "_" + n);
+        user.setDisplayName("Synthetic " + n);
+        user.setPasswordHash(PasswordUtils.hashPassword(PASSWORD, salt));
+        user.setSalt(salt);
+        user.setPasswordAlgorithm("SHA256");
+        user.setCreatedAt(today.minusDays(entries + 30L).atTime(9, 0));
+        user.setUpdatedAt(user.getCreatedAt());
+        user.setActive(true);
+        return user;
+    }
+
+    private void generateHistory(@NonNull Random random, long userId, int entryCount,
+                                 @NonNull LocalDate today, @NonNull Result result) throws DatabaseException {
+        // Profile
+        double unitRoll = random.nextDouble();
+        boolean kgOnly = unitRoll >= 0.5 && unitRoll < 0.7;
+        boolean mixed = unitRoll >= 0.7;
+        String dominantUnit = kgOnly ? "kg" : "lbs";
+        double gapChance = 0.02 + random.nextDouble() * 0.28;
+        LocalDate newest = random.nextDouble() < 0.8
+                ? today.minusDays(random.nextInt(2))
+                : today.minusDays(2 + random.nextInt(9));
+        double driftLbs = random.nextDouble() < 0.75
+                ? -(0.02 + random.nextDouble() * 0.08)
+                : 0.01 + random.nextDouble() * 0.03;
+
+        // Dates, newest first, then reversed so rows are written oldest first like real use
+        List<LocalDate> dates = new ArrayList<>(entryCount);
+        LocalDate date = newest;
+        for (int i = 0; i < entryCount; i++) {
+            dates.add(date);
+            int step = random.nextDouble() < gapChance ? 2 + random.nextInt(7) : 1;
+            date = date.minusDays(step);
+        }
+        Collections.reverse(dates);
+
+        List<WeightEntry> entries = new ArrayList<>(entryCount);
+        double lbs = 150.0 + random.nextDouble() * 90.0;
+        for (LocalDate day : dates) {
+            lbs = Math.max(90.0, Math.min(450.0, lbs + driftLbs + (random.nextDouble() - 0.5) * 1.6));
+            String unit = kgOnly || (mixed && random.nextDouble() < 0.3) ? "kg" : "lbs";
+            LocalDateTime createdAt = day.atTime(6 + random.nextInt(4), random.nextInt(60));
+
+            WeightEntry entry = new WeightEntry();
+            entry.setUserId(userId);
+            entry.setWeightValue(WeightUtils.roundToOneDecimal(WeightUtils.convertBetweenUnits(lbs, "lbs", unit)));
+            entry.setWeightUnit(unit);
+            entry.setWeightDate(day);
+            entry.setNotes(random.nextDouble() < 0.05 ? NOTES[random.nextInt(NOTES.length)] : null);
+            entry.setCreatedAt(createdAt);
+            entry.setUpdatedAt(createdAt);
+            entries.add(entry);
+        }
+
+        if (weightEntryDAO.insertWeightEntries(entries) != entries.size()) {
+            throw new DatabaseException("Weight entry batch failed for user_id=" + userId);
+        }
+        result.entryCount += entries.size();
+
+        if (!userPreferenceDAO.setWeightUnit(userId, dominantUnit)) {
+            throw new DatabaseException("Weight unit preference failed for user_id=" + userId);
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        long activeGoalId = generateGoals(random, userId, entries, dominantUnit, result);
+        generateAchievements(random, userId, entries, dominantUnit, activeGoalId, newest, result);
+    }
+
+    /**
+     * Split the history into one segment per goal; every goal but the last is finished.
+     *
+     * @return id of the active goal
+     */
+    private long generateGoals(@NonNull Random random, long userId, @NonNull List<WeightEntry> entries,
+                               @NonNull String unit, @NonNull Result result) throws DatabaseException {
+        int goals = Math.min(1 + random.nextInt(5), entries.size());
+        int segment = entries.size() / goals;
+        boolean reached = false;
+        long goalId = -1;
+
+        for (int g = 0; g < goals; g++) {
+            boolean active = g == goals - 1;
+            WeightEntry first = entries.get(g * segment);
+            WeightEntry last = active ? entries.get(entries.size() - 1) : entries.get((g + 1) * segment - 1);
+            double startWeight = WeightUtils.roundToOneDecimal(WeightUtils.fromKilograms(first.getWeightKg(), unit));
+            boolean achieved = !active && random.nextBoolean();
+
+            GoalWeight goal = new GoalWeight();
+            goal.setUserId(userId);
+            goal.setGoalWeight(startWeight - (5 + random.nextInt(26)));
+            goal.setGoalUnit(unit);
+            goal.setStartWeight(startWeight);
+            goal.setTargetDate(first.getWeightDate().plusDays(90 + random.nextInt(275)));
+            goal.setAchieved(achieved);
+            goal.setAchievedDate(achieved ? last.getWeightDate() : null);
+            goal.setCreatedAt(first.getCreatedAt());
+            goal.setUpdatedAt(last.getCreatedAt());
+            goal.setActive(active);
+
+            goalId = goalWeightDAO.insertGoal(goal);
+            if (goalId <= 0) {
+                throw new DatabaseException("Goal insert failed for user_id=" + userId);
+            }
+            result.goalCount++;
+            if (achieved && !reached) {
+                reached = true;
+                insertAchievement(userId, goalId, "GOAL_REACHED", "Goal Reached!",
+                        goal.getGoalWeight(), last.getCreatedAt(), true, result);
+            }
+        }
+        return goalId;
+    }
+
+    /**
+     * Award what {@code AchievementManager} would have awarded over this history, at the entry
+     * that earned it. Achievements from the last two days are left unnotified half the time.
+     */
+    private void generateAchievements(@NonNull Random random, long userId, @NonNull List<WeightEntry> entries,
+                                      @NonNull String unit, long activeGoalId,
+                                      @NonNull LocalDate newest, @NonNull Result result) throws DatabaseException {
+        LocalDate notifiedBefore = newest.minusDays(1);
+        WeightEntry firstEntry = entries.get(0);
+        insertAchievement(userId, null, "FIRST_ENTRY", "First Entry!", null,
+                firstEntry.getCreatedAt(), true, result);
+
+        double startWeight = WeightUtils.fromKilograms(firstEntry.getWeightKg(), unit);
+        int[] milestones = {5, 10, 25};
+        int nextMilestone = 0;
+        boolean streak7 = false;
+        boolean streak30 = false;
+        int run = 1;
+        WeightEntry lowest = firstEntry;
+
+        for (int i = 1; i < entries.size(); i++) {
+            WeightEntry entry = entries.get(i);
+            run = entry.getWeightDate().minusDays(1).equals(entries.get(i - 1).getWeightDate()) ? run + 1 : 1;
+            boolean notified = entry.getWeightDate().isBefore(notifiedBefore) || random.nextBoolean();
+
+            if (!streak7 && run >= 7) {
+                streak7 = true;
+                insertAchievement(userId, null, "STREAK_7", "7-Day Streak!", 7.0, entry.getCreatedAt(), notified, result);
+            }
+            if (!streak30 && run >= 30) {
+                streak30 = true;
+                insertAchievement(userId, null, "STREAK_30", "30-Day Streak!", 30.0, entry.getCreatedAt(), notified, result);
+            }
+
+            double loss = startWeight - WeightUtils.fromKilograms(entry.getWeightKg(), unit);
+            while (nextMilestone < milestones.length && loss >= milestones[nextMilestone]) {
+                int milestone = milestones[nextMilestone++];
+                insertAchievement(userId, activeGoalId, "MILESTONE_" + milestone,
+                        milestone + " " + unit + " Lost!", (double) milestone, entry.getCreatedAt(), notified, result);
+            }
+            if (entry.getWeightKg() < lowest.getWeightKg()) {
+                lowest = entry;
+            }
+        }
+
+        if (lowest != firstEntry) {
+            boolean notified = lowest.getWeightDate().isBefore(notifiedBefore) || random.nextBoolean();
+            insertAchievement(userId, null, "NEW_LOW", "New Low!",
+                    WeightUtils.fromKilograms(lowest.getWeightKg(), unit), lowest.getCreatedAt(), notified, result);
+        }
+    }
+
+    private void insertAchievement(long userId, @Nullable Long goalId, @NonNull String type, @NonNull String title,
+                                   @Nullable Double value, @NonNull LocalDateTime achievedAt, boolean notified,
+                                   @NonNull Result result) throws DatabaseException {
+        Achievement achievement = new Achievement();
+        achievement.setUserId(userId);
+        achievement.setGoalId(goalId);
+        achievement.setAchievementType(type);
+        achievement.setTitle(title);
+        achievement.setValue(value);
+        achievement.setAchievedAt(achievedAt);
+        achievement.setNotified(notified);
+        if (achievementDAO.insertAchievement(achievement) <= 0) {
+            throw new DatabaseException("Achievement " + type + " insert failed for user_id=" + userId);
+        }
+        result.achievementCount++;
+    }
+}
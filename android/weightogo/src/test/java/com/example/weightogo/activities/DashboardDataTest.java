@@ -0,0 +1,164 @@
+package com.example.weightogo.activities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import com.example.weightogo.database.DatabaseException;
+import com.example.weightogo.database.GoalWeightDAO;
+import com.example.weightogo.database.QueryBudget;
+import com.example.weightogo.database.UserDAO;
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.GoalWeight;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for DashboardData, the data behind a MainActivity refresh.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DashboardDataTest {
+
+    private WeightEntryDAO weightEntryDAO;
+    private GoalWeightDAO goalWeightDAO;
+    private UserDAO userDAO;
+    private long testUserId;
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        WeighToGoDBHelper dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        goalWeightDAO = new GoalWeightDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+
+        User testUser = new User();
+        testUser.setUsername("dashboard_" + System.nanoTime() % 100_000);
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+        testUserId = userDAO.insertUser(testUser);
+    }
+
+    @After
+    public void tearDown() {
+        if (testUserId > 0) {
+            userDAO.deleteUser(testUserId);
+        }
+    }
+
+    @Test
+    public void test_load_withEntriesAndGoal_returnsBoth() {
+        // ARRANGE
+        insertEntries(3);
+        goalWeightDAO.setNewActiveGoal(createGoal());
+
+        // ACT
+        DashboardData data = DashboardData.load(weightEntryDAO, goalWeightDAO, testUserId);
+
+        // ASSERT
+        assertEquals(3, data.getEntries().size());
+        assertTrue("Entries should be most recent first",
+                data.getEntries().get(0).getWeightDate().isAfter(data.getEntries().get(1).getWeightDate()));
+        assertNotNull(data.getActiveGoal());
+        assertEquals(160.0, data.getActiveGoal().getGoalWeight(), 0.001);
+    }
+
+    @Test
+    public void test_load_newUser_returnsEmptyEntriesAndNoGoal() {
+        // ACT
+        DashboardData data = DashboardData.load(weightEntryDAO, goalWeightDAO, testUserId);
+
+        // ASSERT
+        assertTrue(data.getEntries().isEmpty());
+        assertNull(data.getActiveGoal());
+    }
+
+    @Test
+    public void test_load_refresh_staysWithinQueryBudget() {
+        // ARRANGE
+        insertEntries(50);
+        goalWeightDAO.setNewActiveGoal(createGoal());
+
+        // ACT + ASSERT
+        QueryBudget.of("MainActivity refresh")
+                .maxQueries(2)
+                .maxWrites(0)
+                .assertWithin(() -> DashboardData.load(weightEntryDAO, goalWeightDAO, testUserId));
+    }
+
+    @Test
+    public void test_weightIn_kgEntryWithLbsGoal_convertsBeforeComparing() {
+        // ARRANGE: latest entry logged in kg, goal set in lbs
+        WeightEntry latest = new WeightEntry();
+        latest.setWeightValue(75.0);
+        latest.setWeightUnit("kg");
+        GoalWeight goal = createGoal();
+
+        // ACT
+        double current = DashboardData.weightIn(latest, goal.getGoalUnit());
+
+        // ASSERT: 75 kg is 165.3 lbs, so 14.7 lbs lost and 5.3 lbs to go (not 105 and 85)
+        assertEquals(165.3, current, 0.001);
+        assertEquals(14.7, goal.getStartWeight() - current, 0.001);
+        assertEquals(5.3, Math.abs(current - goal.getGoalWeight()), 0.001);
+    }
+
+    @Test
+    public void test_weightIn_sameUnit_keepsValueAsEntered() {
+        // ARRANGE
+        WeightEntry latest = new WeightEntry();
+        latest.setWeightValue(172.4);
+        latest.setWeightUnit("lbs");
+
+        // ACT & ASSERT
+        assertEquals(172.4, DashboardData.weightIn(latest, "lbs"), 0.0);
+    }
+
+    private void insertEntries(int count) {
+        List<WeightEntry> entries = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < count; i++) {
+            WeightEntry entry = new WeightEntry();
+            entry.setUserId(testUserId);
+            entry.setWeightValue(175.0 - i * 0.1);
+            entry.setWeightUnit("lbs");
+            entry.setWeightDate(today.minusDays(i));
+            entry.setCreatedAt(LocalDateTime.now());
+            entry.setUpdatedAt(LocalDateTime.now());
+            entries.add(entry);
+        }
+        weightEntryDAO.insertWeightEntries(entries);
+    }
+
+    private GoalWeight createGoal() {
+        GoalWeight goal = new GoalWeight();
+        goal.setUserId(testUserId);
+        goal.setGoalWeight(160.0);
+        goal.setStartWeight(180.0);
+        goal.setGoalUnit("lbs");
+        goal.setActive(true);
+        goal.setCreatedAt(LocalDateTime.now());
+        goal.setUpdatedAt(LocalDateTime.now());
+        return goal;
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.weightogo.activities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.Context;
+import android.os.Looper;
+
+import com.example.weightogo.database.DatabaseException;
+import com.example.weightogo.database.GoalWeightDAO;
+import com.example.weightogo.database.QueryBudget;
+import com.example.weightogo.database.UserDAO;
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.BackgroundTask;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for DashboardPrefetch, the sign-in to dashboard handoff.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DashboardPrefetchTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    private WeightEntryDAO weightEntryDAO;
+    private GoalWeightDAO goalWeightDAO;
+    private UserDAO userDAO;
+    private User testUser;
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        WeighToGoDBHelper dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        goalWeightDAO = new GoalWeightDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+
+        testUser = new User();
+        testUser.setUsername("prefetch_" + System.nanoTime() % 100_000);
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+        testUser.setUserId(userDAO.insertUser(testUser));
+    }
+
+    @After
+    public void tearDown() {
+        DashboardPrefetch.take(testUser.getUserId());
+        DashboardPrefetch.cancel(testUser.getUserId());
+        if (testUser.getUserId() > 0) {
+            userDAO.deleteUser(testUser.getUserId());
+        }
+    }
+
+    @Test
+    public void test_take_finishedPrefetch_returnsDataAndUser() throws InterruptedException {
+        // ARRANGE
+        insertEntries(5);
+        DashboardPrefetch.start(weightEntryDAO, goalWeightDAO, testUser);
+        awaitReady();
+
+        // ACT
+        DashboardPrefetch.Handoff handoff = DashboardPrefetch.take(testUser.getUserId());
+
+        // ASSERT
+        assertNotNull(handoff);
+        assertEquals(5, handoff.getData().getEntries().size());
+        assertSame(testUser, handoff.getUser());
+    }
+
+    @Test
+    public void test_take_twice_handsOverOnlyOnce() throws InterruptedException {
+        // ARRANGE
+        DashboardPrefetch.start(weightEntryDAO, goalWeightDAO, testUser);
+        awaitReady();
+        assertNotNull(DashboardPrefetch.take(testUser.getUserId()));
+
+        // ACT
+        DashboardPrefetch.Handoff second = DashboardPrefetch.take(testUser.getUserId());
+
+        // ASSERT
+        assertNull(second);
+        assertFalse(DashboardPrefetch.takeWhenDone(testUser.getUserId(), new RecordingCallback()));
+    }
+
+    @Test
+    public void test_take_otherUser_returnsNullAndDropsPrefetch() {
+        // ARRANGE
+        DashboardPrefetch.start(weightEntryDAO, goalWeightDAO, testUser);
+
+        // ACT
+        DashboardPrefetch.Handoff handoff = DashboardPrefetch.take(testUser.getUserId() + 1);
+
+        // ASSERT
+        assertNull(handoff);
+        assertFalse(DashboardPrefetch.takeWhenDone(testUser.getUserId(), new RecordingCallback()));
+    }
+
+    @Test
+    public void test_cancel_failedVerification_dropsPrefetch() {
+        // ARRANGE
+        DashboardPrefetch.start(weightEntryDAO, goalWeightDAO, testUser);
+
+        // ACT
+        DashboardPrefetch.cancel(testUser.getUserId());
+
+        // ASSERT
+        assertNull(DashboardPrefetch.take(testUser.getUserId()));
+        assertFalse(DashboardPrefetch.takeWhenDone(testUser.getUserId(), new RecordingCallback()));
+    }
+
+    @Test
+    public void test_takeWhenDone_deliversOnMainThreadWithoutBlocking() throws InterruptedException {
+        // ARRANGE
+        insertEntries(5);
+        Thread mainThread = Looper.getMainLooper().getThread();
+        RecordingCallback callback = new RecordingCallback();
+        DashboardPrefetch.start(weightEntryDAO, goalWeightDAO, testUser);
+
+        // ACT
+        boolean taken = DashboardPrefetch.takeWhenDone(testUser.getUserId(), callback);
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (callback.handoff == null && callback.error == null && System.currentTimeMillis() < deadline) {
+            shadowOf(Looper.getMainLooper()).idle();
+            Thread.sleep(5);
+        }
+
+        // ASSERT
+        assertTrue(taken);
+        assertNull(callback.error);
+        assertNotNull(callback.handoff);
+        assertEquals(5, callback.handoff.getData().getEntries().size());
+        assertSame(mainThread, callback.thread);
+        assertNull("Handed over once", DashboardPrefetch.take(testUser.getUserId()));
+    }
+
+    @Test
+    public void test_take_readyPrefetch_runsNoQueriesOnCaller() throws InterruptedException {
+        // ARRANGE
+        insertEntries(50);
+        DashboardPrefetch.start(weightEntryDAO, goalWeightDAO, testUser);
+        awaitReady();
+
+        // ACT + ASSERT
+        QueryBudget.of("MainActivity first render after sign-in")
+                .maxQueries(0)
+                .assertWithin(() -> assertNotNull(DashboardPrefetch.take(testUser.getUserId())));
+    }
+
+    private void awaitReady() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!DashboardPrefetch.isReady(testUser.getUserId()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue("Prefetch should finish", DashboardPrefetch.isReady(testUser.getUserId()));
+    }
+
+    private static class RecordingCallback implements BackgroundTask.Callback<DashboardPrefetch.Handoff> {
+        DashboardPrefetch.Handoff handoff;
+        Exception error;
+        Thread thread;
+
+        @Override
+        public void onResult(DashboardPrefetch.Handoff result) {
+            handoff = result;
+            thread = Thread.currentThread();
+        }
+
+        @Override
+        public void onError(Exception e) {
+            error = e;
+            thread = Thread.currentThread();
+        }
+    }
+
+    private void insertEntries(int count) {
+        List<WeightEntry> entries = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < count; i++) {
+            WeightEntry entry = new WeightEntry();
+            entry.setUserId(testUser.getUserId());
+            entry.setWeightValue(175.0 - i * 0.1);
+            entry.setWeightUnit("lbs");
+            entry.setWeightDate(today.minusDays(i));
+            entry.setCreatedAt(LocalDateTime.now());
+            entry.setUpdatedAt(LocalDateTime.now());
+            entries.add(entry);
+        }
+        weightEntryDAO.insertWeightEntries(entries);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.weightogo.activities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import com.example.weightogo.models.GoalWeight;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.SessionManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for DashboardSnapshot, the persisted first paint of MainActivity.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DashboardSnapshotTest {
+
+    private static final long USER_ID = 42L;
+    private static final long WAIT_MILLIS = 5_000;
+
+    private Context context;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+        DashboardSnapshot.delete(context);
+    }
+
+    @After
+    public void tearDown() {
+        DashboardSnapshot.delete(context);
+    }
+
+    @Test
+    public void test_write_thenRead_roundTripsDashboard() throws IOException {
+        // ARRANGE
+        List<WeightEntry> entries = createEntries(3);
+        GoalWeight goal = createGoal();
+        new DashboardSnapshot(USER_ID, "Test User", entries, goal, 3).write(context);
+
+        // ACT
+        DashboardSnapshot snapshot = DashboardSnapshot.read(context, USER_ID);
+
+        // ASSERT
+        assertNotNull(snapshot);
+        assertEquals("Test User", snapshot.getDisplayName());
+        assertEquals(3, snapshot.getDayStreak());
+        DashboardData data = snapshot.getData();
+        assertEquals(3, data.getEntries().size());
+        for (int i = 0; i < entries.size(); i++) {
+            WeightEntry expected = entries.get(i);
+            WeightEntry actual = data.getEntries().get(i);
+            assertEquals(expected.getWeightId(), actual.getWeightId());
+            assertEquals(expected.getWeightValue(), actual.getWeightValue(), 0.0);
+            assertEquals(expected.getWeightUnit(), actual.getWeightUnit());
+            assertEquals(expected.getWeightDate(), actual.getWeightDate());
+            assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        }
+        assertEquals(goal, data.getActiveGoal());
+        assertEquals(goal.getStartWeight(), data.getActiveGoal().getStartWeight(), 0.0);
+        assertEquals(goal.getGoalWeight(), data.getActiveGoal().getGoalWeight(), 0.0);
+        assertEquals(goal.getTargetDate(), data.getActiveGoal().getTargetDate());
+    }
+
+    @Test
+    public void test_write_longHistory_keepsFirstScreenfulAndStreak() throws IOException {
+        // ARRANGE
+        new DashboardSnapshot(USER_ID, "Test User", createEntries(400), null, 400).write(context);
+
+        // ACT
+        DashboardSnapshot snapshot = DashboardSnapshot.read(context, USER_ID);
+
+        // ASSERT
+        assertNotNull(snapshot);
+        assertEquals(DashboardSnapshot.MAX_ENTRIES, snapshot.getData().getEntries().size());
+        assertEquals(400, snapshot.getDayStreak());
+        assertNull(snapshot.getData().getActiveGoal());
+        assertTrue("Snapshot should stay small, was " + snapshotFile().length() + " bytes",
+                snapshotFile().length() < 4_096);
+    }
+
+    @Test
+    public void test_read_otherUser_returnsNull() throws IOException {
+        // ARRANGE
+        new DashboardSnapshot(USER_ID, "Test User", createEntries(3), null, 3).write(context);
+
+        // ACT & ASSERT
+        assertNull(DashboardSnapshot.read(context, USER_ID + 1));
+    }
+
+    @Test
+    public void test_read_missingOrCorruptFile_returnsNull() throws IOException {
+        // ACT & ASSERT: missing
+        assertNull(DashboardSnapshot.read(context, USER_ID));
+
+        // ARRANGE: truncated write
+        try (FileOutputStream out = new FileOutputStream(snapshotFile())) {
+            out.write(new byte[] {0, 0, 0, 1, 0, 0});
+        }
+
+        // ACT & ASSERT: corrupt
+        assertNull(DashboardSnapshot.read(context, USER_ID));
+    }
+
+    @Test
+    public void test_saveInBackground_severalSaves_newestWins() throws InterruptedException {
+        // ACT
+        for (int streak = 1; streak <= 20; streak++) {
+            new DashboardSnapshot(USER_ID, "Test User", createEntries(streak), null, streak)
+                    .saveInBackground(context);
+        }
+
+        // ASSERT
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        DashboardSnapshot snapshot = DashboardSnapshot.read(context, USER_ID);
+        while ((snapshot == null || snapshot.getDayStreak() != 20) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+            snapshot = DashboardSnapshot.read(context, USER_ID);
+        }
+        assertNotNull(snapshot);
+        assertEquals(20, snapshot.getDayStreak());
+        assertEquals(DashboardSnapshot.MAX_ENTRIES, snapshot.getData().getEntries().size());
+    }
+
+    @Test
+    public void test_logout_deletesSnapshot() throws IOException {
+        // ARRANGE
+        new DashboardSnapshot(USER_ID, "Test User", createEntries(3), null, 3).write(context);
+        assertNotNull(DashboardSnapshot.read(context, USER_ID));
+
+        // ACT
+        SessionManager.getInstance(context).logout();
+
+        // ASSERT
+        assertNull(DashboardSnapshot.read(context, USER_ID));
+        assertFalse(snapshotFile().exists());
+    }
+
+    private File snapshotFile() {
+        return new File(context.getFilesDir(), DashboardSnapshot.FILE_NAME);
+    }
+
+    private List<WeightEntry> createEntries(int count) {
+        List<WeightEntry> entries = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < count; i++) {
+            WeightEntry entry = new WeightEntry();
+            entry.setWeightId(1_000 + i);
+            entry.setUserId(USER_ID);
+            entry.setWeightValue(175.0 - i * 0.1);
+            entry.setWeightUnit(i % 2 == 0 ? "lbs" : "kg");
+            entry.setWeightDate(today.minusDays(i));
+            entry.setCreatedAt(LocalDateTime.of(today.minusDays(i), LocalTime.of(7, 30, 15)));
+            entry.setUpdatedAt(LocalDateTime.of(today.minusDays(i), LocalTime.of(7, 30, 15)));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    private GoalWeight createGoal() {
+        GoalWeight goal = new GoalWeight();
+        goal.setGoalId(7L);
+        goal.setUserId(USER_ID);
+        goal.setGoalWeight(150.0);
+        goal.setGoalUnit("lbs");
+        goal.setStartWeight(180.0);
+        goal.setTargetDate(LocalDate.now().plusMonths(3));
+        goal.setCreatedAt(LocalDateTime.now());
+        goal.setUpdatedAt(LocalDateTime.now());
+        goal.setActive(true);
+        return goal;
+    }
+}
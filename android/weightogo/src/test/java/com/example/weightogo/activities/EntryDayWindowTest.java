@@ -0,0 +1,210 @@
+package com.example.weightogo.activities;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.Context;
+import android.os.Looper;
+
+import com.example.weightogo.database.DatabaseException;
+import com.example.weightogo.database.UserDAO;
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.MainThreadGuard;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Unit tests for EntryDayWindow, the date navigation cache of WeightEntryActivity.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class EntryDayWindowTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 31);
+
+    private WeightEntryDAO weightEntryDAO;
+    private UserDAO userDAO;
+    private long testUserId;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        WeighToGoDBHelper dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+
+        User testUser = new User();
+        testUser.setUsername("window_" + System.nanoTime() % 100_000);
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+        testUserId = userDAO.insertUser(testUser);
+    }
+
+    @After
+    public void tearDown() {
+        MainThreadGuard.setMode(MainThreadGuard.Mode.OFF);
+        MainThreadGuard.reset();
+        if (testUserId > 0) {
+            userDAO.deleteUser(testUserId);
+        }
+    }
+
+    @Test
+    public void test_start_loadsInitialDaysEndingAtDate() throws InterruptedException {
+        // ARRANGE: entries every other day for 60 days
+        insertEntriesEveryOtherDay(60);
+        EntryDayWindow window = newWindow();
+
+        // ACT
+        window.start(TODAY, TODAY);
+        awaitLoads(1);
+
+        // ASSERT
+        assertTrue(window.isLoaded(TODAY));
+        assertTrue(window.isLoaded(TODAY.minusDays(EntryDayWindow.INITIAL_DAYS - 1)));
+        assertFalse(window.isLoaded(TODAY.minusDays(EntryDayWindow.INITIAL_DAYS)));
+        assertFalse(window.isLoaded(TODAY.plusDays(1)));
+        assertEquals(TODAY, window.getLatestOnOrBefore(TODAY).getWeightDate());
+        assertEquals(TODAY.minusDays(2), window.getLatestOnOrBefore(TODAY.minusDays(1)).getWeightDate());
+    }
+
+    @Test
+    public void test_getLatestOnOrBefore_gapBeforeWindow_usesNewestEarlierEntry() throws InterruptedException {
+        // ARRANGE: one old entry, then nothing for months
+        weightEntryDAO.insertWeightEntry(createEntry(TODAY.minusDays(200), 190.0));
+        EntryDayWindow window = newWindow();
+
+        // ACT
+        window.start(TODAY, TODAY);
+        awaitLoads(1);
+
+        // ASSERT
+        WeightEntry latest = window.getLatestOnOrBefore(TODAY.minusDays(10));
+        assertNotNull(latest);
+        assertEquals(TODAY.minusDays(200), latest.getWeightDate());
+    }
+
+    @Test
+    public void test_getLatestOnOrBefore_noEntries_returnsNull() throws InterruptedException {
+        // ARRANGE
+        EntryDayWindow window = newWindow();
+
+        // ACT
+        window.start(TODAY, TODAY);
+        awaitLoads(1);
+
+        // ASSERT
+        assertNull(window.getLatestOnOrBefore(TODAY));
+    }
+
+    /**
+     * Test: Scrubbing back through two months, one day per step, never queries on the main
+     * thread; the window extends itself in the background ahead of the scrubbing
+     */
+    @Test
+    public void test_onNavigate_scrubBackTwoMonths_noMainThreadQueries() throws InterruptedException {
+        // ARRANGE
+        insertEntriesEveryOtherDay(120);
+        EntryDayWindow window = newWindow();
+        window.start(TODAY, TODAY);
+        awaitLoads(1);
+
+        MainThreadGuard.reset();
+        MainThreadGuard.setMode(MainThreadGuard.Mode.COUNT);
+
+        // ACT & ASSERT
+        for (int day = 1; day <= 60; day++) {
+            LocalDate date = TODAY.minusDays(day);
+            window.onNavigate(date, TODAY);
+            awaitCondition(() -> window.isLoaded(date));
+            WeightEntry latest = window.getLatestOnOrBefore(date);
+            assertNotNull(latest);
+            assertEquals(day % 2 == 0 ? date : date.minusDays(1), latest.getWeightDate());
+        }
+        assertTrue("Window should have extended backwards", window.isLoaded(TODAY.minusDays(60)));
+        assertEquals("Navigation should not open the database on the main thread",
+                0, MainThreadGuard.getViolationCount(MainThreadGuard.Kind.DATABASE));
+    }
+
+    @Test
+    public void test_onNavigate_forwardFromOldDate_extendsUpToToday() throws InterruptedException {
+        // ARRANGE
+        insertEntriesEveryOtherDay(120);
+        EntryDayWindow window = newWindow();
+        LocalDate start = TODAY.minusDays(90);
+        window.start(start, TODAY);
+        awaitLoads(1);
+        assertFalse(window.isLoaded(start.plusDays(1)));
+
+        // ACT
+        window.onNavigate(start, TODAY);
+        awaitLoads(2);
+
+        // ASSERT
+        assertTrue(window.isLoaded(start.plusDays(EntryDayWindow.EXTEND_DAYS)));
+        assertFalse(window.isLoaded(TODAY.plusDays(1)));
+    }
+
+    private EntryDayWindow newWindow() {
+        return new EntryDayWindow(weightEntryDAO, testUserId, loads::incrementAndGet);
+    }
+
+    private void awaitLoads(int count) throws InterruptedException {
+        awaitCondition(() -> loads.get() >= count);
+        assertTrue("Expected " + count + " loads, got " + loads.get(), loads.get() >= count);
+    }
+
+    /**
+     * Runs posted callbacks on the main looper until the condition holds or WAIT_MILLIS passes.
+     */
+    private void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            shadowOf(Looper.getMainLooper()).idle();
+            Thread.sleep(2);
+        }
+    }
+
+    private void insertEntriesEveryOtherDay(int days) {
+        List<WeightEntry> entries = new ArrayList<>();
+        for (int i = 0; i < days; i += 2) {
+            entries.add(createEntry(TODAY.minusDays(i), 180.0 - i * 0.1));
+        }
+        weightEntryDAO.insertWeightEntries(entries);
+    }
+
+    private WeightEntry createEntry(LocalDate date, double weight) {
+        WeightEntry entry = new WeightEntry();
+        entry.setUserId(testUserId);
+        entry.setWeightValue(weight);
+        entry.setWeightUnit("lbs");
+        entry.setWeightDate(date);
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        return entry;
+    }
+}
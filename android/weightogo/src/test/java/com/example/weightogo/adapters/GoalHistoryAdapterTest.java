@@ -1,6 +1,9 @@
 package com.example.weightogo.adapters;
 
 import android.content.Context;
+import android.os.Looper;
+
+import androidx.recyclerview.widget.RecyclerView;
 
 import com.example.weightogo.models.GoalWeight;
 
@@ -18,13 +21,15 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
 
 /**
  * Unit tests for GoalHistoryAdapter.
  * Tests RecyclerView adapter functionality for displaying past goals.
  *
  * Tests FR5.0 - Goal Weight Management (Goal History Display)
- * Coverage: 4 tests
+ * Coverage: 6 tests
  *
  * NOTE: Layout inflation tests are skipped due to Robolectric/Material3 complexity.
  * Adapter functionality will be validated through GoalsActivityEspressoTest integration tests.
@@ -117,6 +122,73 @@ public class GoalHistoryAdapterTest {
         assertEquals("Count should be 0 after null update", 0, adapter.getItemCount());
     }
 
+    /**
+     * Test 5: updateGoals with one additional goal dispatches a single insertion.
+     * Verifies the list is diffed instead of fully refreshed.
+     */
+    @Test
+    public void test_updateGoals_oneGoalAdded_insertsOneRow() {
+        // ARRANGE
+        createTestGoals(3);
+        adapter = new GoalHistoryAdapter(testGoals, Runnable::run);
+        int[] inserted = {0};
+        int[] changed = {0};
+        int[] fullRefreshes = {0};
+        adapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onChanged() {
+                fullRefreshes[0]++;
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount) {
+                changed[0] += itemCount;
+            }
+
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                inserted[0] += itemCount;
+            }
+        });
+
+        // Same list instance reused by the caller, as GoalsActivity does
+        GoalWeight newGoal = new GoalWeight();
+        newGoal.setGoalId(99);
+        newGoal.setUserId(1);
+        newGoal.setGoalWeight(140.0);
+        newGoal.setStartWeight(160.0);
+        newGoal.setGoalUnit("lbs");
+        newGoal.setCreatedAt(LocalDateTime.now().minusDays(10));
+        newGoal.setUpdatedAt(LocalDateTime.now());
+        testGoals.add(0, newGoal);
+
+        // ACT
+        adapter.updateGoals(testGoals);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // ASSERT
+        assertEquals("Count should be 4 after update", 4, adapter.getItemCount());
+        assertEquals("Only the new goal should be inserted", 1, inserted[0]);
+        assertEquals("Existing goals should not rebind", 0, changed[0]);
+        assertEquals("No full refresh", 0, fullRefreshes[0]);
+    }
+
+    /**
+     * Test 6: item ids are stable goal_ids.
+     */
+    @Test
+    public void test_getItemId_returnsGoalId() {
+        // ARRANGE
+        createTestGoals(2);
+
+        // ACT
+        adapter = new GoalHistoryAdapter(testGoals);
+
+        // ASSERT
+        assertTrue("Adapter should use stable ids", adapter.hasStableIds());
+        assertEquals(2L, adapter.getItemId(1));
+    }
+
     // ============================================================
     // HELPER METHODS
     // ============================================================
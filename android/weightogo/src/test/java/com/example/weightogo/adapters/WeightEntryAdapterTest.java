@@ -1,9 +1,17 @@
 package com.example.weightogo.adapters;
 
 import android.content.Context;
+import android.os.Looper;
+import android.view.View;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
+import android.widget.ImageButton;
+import android.widget.LinearLayout;
+import android.widget.TextView;
 
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.example.weightogo.R;
 import com.example.weightogo.models.WeightEntry;
 
 import org.junit.Before;
@@ -13,6 +21,7 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 import org.robolectric.annotation.Config;
 
+import java.lang.management.ManagementFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -21,6 +30,8 @@ import java.util.Locale;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
 
 /**
  * Unit tests for WeightEntryAdapter.
@@ -373,10 +384,295 @@ public class WeightEntryAdapterTest {
         assertEquals("Max entry should have correct weight", 700.0, testEntries.get(1).getWeightValue(), 0.01);
     }
 
+    // ============================================================
+    // INCREMENTAL UPDATE (DiffUtil) TESTS
+    // ============================================================
+
+    /**
+     * Test: Adding the newest entry to a 5,000-row list rebinds exactly one row
+     */
+    @Test
+    public void test_submitEntries_newestEntryAddedTo5000Rows_rebindsOneRow() {
+        // ARRANGE
+        createTestEntries(5000);
+        adapter = new WeightEntryAdapter(testEntries, testListener, Runnable::run);
+        RowUpdateCounter counter = new RowUpdateCounter();
+        adapter.registerAdapterDataObserver(counter);
+
+        List<WeightEntry> updated = copyEntries(testEntries);
+        updated.add(0, createEntry(5001, 169.0, LocalDate.now().plusDays(1)));
+
+        // ACT
+        adapter.submitEntries(updated, null);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // ASSERT
+        assertEquals("Adapter should show the new list", 5001, adapter.getItemCount());
+        assertEquals("Only the new row should be inserted", 1, counter.inserted);
+        assertEquals("No existing row should change", 0, counter.changed);
+        assertEquals("No full refresh", 0, counter.fullRefreshes);
+        assertEquals("Rebound rows", 1, counter.reboundRows());
+    }
+
+    /**
+     * Test: Backdated entry inserted mid-list also rebinds the row above (its trend changes)
+     */
+    @Test
+    public void test_submitEntries_backdatedEntryInserted_rebindsInsertedRowAndNewerNeighbour() {
+        // ARRANGE
+        createTestEntries(5000);
+        adapter = new WeightEntryAdapter(testEntries, testListener, Runnable::run);
+        RowUpdateCounter counter = new RowUpdateCounter();
+        adapter.registerAdapterDataObserver(counter);
+
+        List<WeightEntry> updated = copyEntries(testEntries);
+        updated.add(2500, createEntry(5001, 160.0, testEntries.get(2499).getWeightDate().minusDays(1)));
+
+        // ACT
+        adapter.submitEntries(updated, null);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // ASSERT
+        assertEquals(1, counter.inserted);
+        assertEquals("Row above the insertion should rebind for its trend badge", 1, counter.changed);
+        assertEquals(0, counter.fullRefreshes);
+    }
+
+    /**
+     * Test: Editing one entry rebinds it and the row above it only
+     */
+    @Test
+    public void test_submitEntries_entryEdited_rebindsEditedRowAndNewerNeighbour() {
+        // ARRANGE
+        createTestEntries(5000);
+        adapter = new WeightEntryAdapter(testEntries, testListener, Runnable::run);
+        RowUpdateCounter counter = new RowUpdateCounter();
+        adapter.registerAdapterDataObserver(counter);
+
+        List<WeightEntry> updated = copyEntries(testEntries);
+        updated.get(100).setWeightValue(150.0);
+
+        // ACT
+        adapter.submitEntries(updated, null);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // ASSERT
+        assertEquals(0, counter.inserted);
+        assertEquals(0, counter.removed);
+        assertEquals(2, counter.changed);
+        assertEquals(150.0, adapter.getCurrentRows().get(100).getEntry().getWeightValue(), 0.0);
+    }
+
+    /**
+     * Test: Deleting one entry removes one row and rebinds the row above it
+     */
+    @Test
+    public void test_submitEntries_entryDeleted_removesOneRow() {
+        // ARRANGE
+        createTestEntries(5000);
+        adapter = new WeightEntryAdapter(testEntries, testListener, Runnable::run);
+        RowUpdateCounter counter = new RowUpdateCounter();
+        adapter.registerAdapterDataObserver(counter);
+
+        List<WeightEntry> updated = copyEntries(testEntries);
+        updated.remove(10);
+
+        // ACT
+        adapter.submitEntries(updated, null);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // ASSERT
+        assertEquals(4999, adapter.getItemCount());
+        assertEquals(1, counter.removed);
+        assertEquals(1, counter.changed);
+        assertEquals(0, counter.fullRefreshes);
+    }
+
+    /**
+     * Test: Item ids are stable weight_ids
+     */
+    @Test
+    public void test_getItemId_returnsWeightId() {
+        // ARRANGE
+        createTestEntries(3);
+
+        // ACT
+        adapter = new WeightEntryAdapter(testEntries, testListener);
+
+        // ASSERT
+        assertTrue("Adapter should use stable ids", adapter.hasStableIds());
+        assertEquals(1L, adapter.getItemId(0));
+        assertEquals(3L, adapter.getItemId(2));
+    }
+
+    // ============================================================
+    // PRECOMPUTED ROW BINDING TESTS
+    // ============================================================
+
+    /**
+     * Test: Fast scroll over 5,000 rows allocates no more than setting the precomputed values
+     * directly (binding does no formatting, string building or listener allocation)
+     */
+    @Test
+    public void test_onBindViewHolder_fastScroll_allocatesNothingBeyondViewUpdates() {
+        // ARRANGE
+        createTestEntries(5000);
+        adapter = new WeightEntryAdapter(testEntries, testListener, Runnable::run);
+        List<WeightEntryRow> rows = adapter.getCurrentRows();
+        WeightEntryAdapter.ViewHolder[] holders = new WeightEntryAdapter.ViewHolder[12];
+        for (int i = 0; i < holders.length; i++) {
+            holders[i] = createViewHolder();
+        }
+        // Warm up both paths (class loading, JIT, TextView internals)
+        bindAll(holders, rows);
+        setAll(holders, rows);
+
+        // ACT
+        long before = allocatedBytes();
+        bindAll(holders, rows);
+        long bindBytes = allocatedBytes() - before;
+
+        before = allocatedBytes();
+        setAll(holders, rows);
+        long controlBytes = allocatedBytes() - before;
+
+        // ASSERT
+        long slack = 16L * rows.size();
+        assertTrue("Binding allocated " + bindBytes + " bytes vs " + controlBytes + " for plain view updates",
+                bindBytes <= controlBytes + slack);
+    }
+
     // ============================================================
     // HELPER METHODS
     // ============================================================
 
+    /**
+     * Counts rows affected by adapter notifications.
+     */
+    private static class RowUpdateCounter extends RecyclerView.AdapterDataObserver {
+        int inserted;
+        int removed;
+        int changed;
+        int moved;
+        int fullRefreshes;
+
+        @Override
+        public void onChanged() {
+            fullRefreshes++;
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            changed += itemCount;
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, Object payload) {
+            changed += itemCount;
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            inserted += itemCount;
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            removed += itemCount;
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            moved += itemCount;
+        }
+
+        int reboundRows() {
+            return inserted + changed + moved;
+        }
+    }
+
+    /**
+     * ViewHolder over hand-built views (item layout inflation needs Material3 themes).
+     */
+    private WeightEntryAdapter.ViewHolder createViewHolder() {
+        LinearLayout item = new LinearLayout(context);
+        int[] textIds = {R.id.dayNumber, R.id.monthName, R.id.weightValue, R.id.weightUnit,
+                R.id.entryTime, R.id.trendBadge};
+        for (int id : textIds) {
+            TextView view = new TextView(context);
+            view.setId(id);
+            item.addView(view);
+        }
+        for (int id : new int[]{R.id.editButton, R.id.deleteButton}) {
+            ImageButton button = new ImageButton(context);
+            button.setId(id);
+            item.addView(button);
+        }
+        return new WeightEntryAdapter.ViewHolder(item);
+    }
+
+    private void bindAll(WeightEntryAdapter.ViewHolder[] holders, List<WeightEntryRow> rows) {
+        for (int position = 0; position < rows.size(); position++) {
+            adapter.onBindViewHolder(holders[position % holders.length], position);
+        }
+    }
+
+    /**
+     * Control: the view updates a bind must make, with no adapter code involved.
+     */
+    private void setAll(WeightEntryAdapter.ViewHolder[] holders, List<WeightEntryRow> rows) {
+        for (int position = 0; position < rows.size(); position++) {
+            WeightEntryAdapter.ViewHolder holder = holders[position % holders.length];
+            WeightEntryRow row = rows.get(position);
+            holder.dayNumber.setText(row.getDayNumber());
+            holder.monthName.setText(row.getMonthName());
+            holder.weightValue.setText(row.getWeightValue());
+            holder.weightUnit.setText(row.getWeightUnit());
+            holder.entryTime.setText(row.getEntryTime());
+            if (row.getTrendText() == null) {
+                holder.trendBadge.setVisibility(View.GONE);
+            } else {
+                holder.trendBadge.setVisibility(View.VISIBLE);
+                holder.trendBadge.setText(row.getTrendText());
+                holder.trendBadge.setBackgroundResource(row.getTrendBackground());
+            }
+        }
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Deep-copies entries, as a fresh database query would return them.
+     */
+    private List<WeightEntry> copyEntries(List<WeightEntry> entries) {
+        List<WeightEntry> copies = new ArrayList<>();
+        for (WeightEntry entry : entries) {
+            WeightEntry copy = createEntry(entry.getWeightId(), entry.getWeightValue(), entry.getWeightDate());
+            copy.setWeightUnit(entry.getWeightUnit());
+            copy.setCreatedAt(entry.getCreatedAt());
+            copy.setUpdatedAt(entry.getUpdatedAt());
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private WeightEntry createEntry(long weightId, double weight, LocalDate date) {
+        WeightEntry entry = new WeightEntry();
+        entry.setWeightId(weightId);
+        entry.setUserId(1);
+        entry.setWeightValue(weight);
+        entry.setWeightUnit("lbs");
+        entry.setWeightDate(date);
+        entry.setCreatedAt(date.atTime(8, 0));
+        entry.setUpdatedAt(date.atTime(8, 0));
+        entry.setDeleted(false);
+        return entry;
+    }
+
     /**
      * Helper method to create test weight entries
      */
@@ -0,0 +1,140 @@
+package com.example.weightogo.adapters;
+
+import com.example.weightogo.R;
+import com.example.weightogo.models.WeightEntry;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Unit tests for WeightEntryRow.
+ * Tests that display strings and trend badges are precomputed correctly.
+ */
+public class WeightEntryRowTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 26);
+
+    /**
+     * Test 1: Date badge and weight are formatted once into the row
+     */
+    @Test
+    public void test_fromEntry_formatsDateBadgeAndWeight() {
+        // ARRANGE
+        WeightEntry entry = createEntry(1, 172.46, "lbs", LocalDate.of(2025, 11, 3));
+
+        // ACT
+        WeightEntryRow row = WeightEntryRow.fromEntry(entry, null, TODAY);
+
+        // ASSERT
+        assertEquals("3", row.getDayNumber());
+        assertEquals("NOV", row.getMonthName());
+        assertEquals("172.5", row.getWeightValue());
+        assertEquals("lbs", row.getWeightUnit());
+        assertEquals(1L, row.getWeightId());
+    }
+
+    /**
+     * Test 2: Entry time uses Today / Yesterday labels, otherwise the full date
+     */
+    @Test
+    public void test_fromEntry_entryTime_usesRelativeLabels() {
+        // ARRANGE
+        WeightEntry today = createEntry(1, 170.0, "lbs", TODAY);
+        WeightEntry yesterday = createEntry(2, 170.0, "lbs", TODAY.minusDays(1));
+        WeightEntry older = createEntry(3, 170.0, "lbs", TODAY.minusDays(5));
+
+        // ACT
+        WeightEntryRow todayRow = WeightEntryRow.fromEntry(today, null, TODAY);
+        WeightEntryRow yesterdayRow = WeightEntryRow.fromEntry(yesterday, null, TODAY);
+        WeightEntryRow olderRow = WeightEntryRow.fromEntry(older, null, TODAY);
+
+        // ASSERT
+        assertEquals("Today, 8:30 AM", todayRow.getEntryTime());
+        assertEquals("Yesterday, 8:30 AM", yesterdayRow.getEntryTime());
+        assertNotEquals("Older entries show the date", "", olderRow.getEntryTime());
+        assertNotEquals(todayRow.getEntryTime(), olderRow.getEntryTime());
+    }
+
+    /**
+     * Test 3: Trend badge reflects loss, gain and no change against the previous entry
+     */
+    @Test
+    public void test_fromEntries_computesTrendAgainstPreviousEntry() {
+        // ARRANGE (most recent first)
+        List<WeightEntry> entries = Arrays.asList(
+                createEntry(4, 171.0, "lbs", TODAY),
+                createEntry(3, 171.0, "lbs", TODAY.minusDays(1)),
+                createEntry(2, 170.0, "lbs", TODAY.minusDays(2)),
+                createEntry(1, 172.5, "lbs", TODAY.minusDays(3)));
+
+        // ACT
+        List<WeightEntryRow> rows = WeightEntryRow.fromEntries(entries, TODAY);
+
+        // ASSERT
+        assertEquals(4, rows.size());
+        assertEquals("− 0.0 lbs", rows.get(0).getTrendText());
+        assertEquals(R.drawable.bg_badge_trend_same, rows.get(0).getTrendBackground());
+        assertEquals("↑ 1.0 lbs", rows.get(1).getTrendText());
+        assertEquals(R.drawable.bg_badge_trend_up, rows.get(1).getTrendBackground());
+        assertEquals("↓ 2.5 lbs", rows.get(2).getTrendText());
+        assertEquals(R.drawable.bg_badge_trend_down, rows.get(2).getTrendBackground());
+        assertNull("Oldest entry has no trend badge", rows.get(3).getTrendText());
+    }
+
+    /**
+     * Test 4: Trend between entries in different units is shown in the current entry's unit
+     */
+    @Test
+    public void test_fromEntry_withMixedUnits_convertsPreviousWeight() {
+        // ARRANGE
+        WeightEntry previous = createEntry(1, 80.0, "kg", TODAY.minusDays(1));   // 176.4 lbs
+        WeightEntry current = createEntry(2, 175.0, "lbs", TODAY);
+
+        // ACT
+        WeightEntryRow row = WeightEntryRow.fromEntry(current, previous, TODAY);
+
+        // ASSERT
+        assertEquals("↓ 1.4 lbs", row.getTrendText());
+    }
+
+    /**
+     * Test 5: Rows are equal only if every displayed value is equal
+     */
+    @Test
+    public void test_equals_comparesDisplayedValues() {
+        // ARRANGE
+        WeightEntry entry = createEntry(1, 170.0, "lbs", TODAY);
+        WeightEntry sameEntryReloaded = createEntry(1, 170.0, "lbs", TODAY);
+        WeightEntry previous = createEntry(2, 171.0, "lbs", TODAY.minusDays(1));
+
+        // ACT
+        WeightEntryRow row = WeightEntryRow.fromEntry(entry, null, TODAY);
+        WeightEntryRow reloaded = WeightEntryRow.fromEntry(sameEntryReloaded, null, TODAY);
+        WeightEntryRow withTrend = WeightEntryRow.fromEntry(entry, previous, TODAY);
+
+        // ASSERT
+        assertEquals(row, reloaded);
+        assertEquals(row.hashCode(), reloaded.hashCode());
+        assertNotEquals("A new trend badge is a content change", row, withTrend);
+    }
+
+    private WeightEntry createEntry(long weightId, double weight, String unit, LocalDate date) {
+        WeightEntry entry = new WeightEntry();
+        entry.setWeightId(weightId);
+        entry.setUserId(1);
+        entry.setWeightValue(weight);
+        entry.setWeightUnit(unit);
+        entry.setWeightDate(date);
+        entry.setCreatedAt(date.atTime(8, 30));
+        entry.setUpdatedAt(date.atTime(8, 30));
+        entry.setDeleted(false);
+        return entry;
+    }
+}
@@ -20,7 +20,10 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Unit tests for AchievementDAO.
@@ -363,6 +366,55 @@ public class AchievementDAOTest {
     /**
      * Helper method to create a test achievement with common defaults.
      */
+    @Test
+    public void test_insertAchievements_withBatch_insertsAllInOneTransaction() {
+        // ARRANGE
+        List<Achievement> batch = Arrays.asList(
+                createTestAchievement("STREAK_7", "7-Day Streak!", false),
+                createTestAchievement("NEW_LOW", "New Low!", false));
+
+        // ACT
+        QueryCounter.Stats stats = QueryCounter.record(() -> assertEquals(2, achievementDAO.insertAchievements(batch)));
+
+        // ASSERT
+        assertTrue(batch.get(0).getAchievementId() > 0);
+        assertTrue(batch.get(1).getAchievementId() > 0);
+        assertEquals(2, achievementDAO.getAchievementsForUser(testUserId).size());
+        assertEquals(2, stats.getWrites());
+        assertEquals(1, stats.getWriteTransactions());
+    }
+
+    @Test
+    public void test_insertAchievements_withInvalidRow_skipsOnlyThatRow() {
+        // ARRANGE
+        Achievement invalid = createTestAchievement("STREAK_30", "30-Day Streak!", false);
+        invalid.setUserId(testUserId + 1000);
+        List<Achievement> batch = Arrays.asList(createTestAchievement("STREAK_7", "7-Day Streak!", false), invalid);
+
+        // ACT
+        int inserted = achievementDAO.insertAchievements(batch);
+
+        // ASSERT
+        assertEquals(1, inserted);
+        assertEquals(0, invalid.getAchievementId());
+        assertTrue(achievementDAO.hasAchievementType(testUserId, "STREAK_7"));
+    }
+
+    @Test
+    public void test_getAchievementTypes_returnsEachAwardedTypeOnce() {
+        // ARRANGE
+        achievementDAO.insertAchievement(createTestAchievement("FIRST_ENTRY", "First Entry!", true));
+        achievementDAO.insertAchievement(createTestAchievement("STREAK_7", "7-Day Streak!", true));
+        achievementDAO.insertAchievement(createTestAchievement("STREAK_7", "7-Day Streak!", false));
+
+        // ACT
+        Set<String> types = achievementDAO.getAchievementTypes(testUserId);
+
+        // ASSERT
+        assertEquals(new HashSet<>(Arrays.asList("FIRST_ENTRY", "STREAK_7")), types);
+        assertTrue(achievementDAO.getAchievementTypes(testUserId + 1000).isEmpty());
+    }
+
     private Achievement createTestAchievement(String type, String title, boolean isNotified) {
         Achievement achievement = new Achievement();
         achievement.setUserId(testUserId);
@@ -0,0 +1,266 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import com.example.weightogo.models.Achievement;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for DaoMetrics and the DAO instrumentation.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DaoMetricsTest {
+
+    private WeighToGoDBHelper dbHelper;
+    private WeightEntryDAO weightEntryDAO;
+    private UserDAO userDAO;
+    private long testUserId;
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+
+        User testUser = new User();
+        testUser.setUsername("dao_metrics_" + System.nanoTime() % 100_000);
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+        testUserId = userDAO.insertUser(testUser);
+
+        DaoMetrics.reset();
+    }
+
+    @After
+    public void tearDown() {
+        DaoMetrics.reset();
+        if (testUserId > 0) {
+            userDAO.deleteUser(testUserId);
+        }
+    }
+
+    @Test
+    public void test_daoRead_recordsLatencyAndRowsMapped() {
+        // ARRANGE
+        for (int i = 0; i < 5; i++) {
+            weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2025, 11, 1).plusDays(i)));
+        }
+
+        // ACT
+        List<WeightEntry> entries = weightEntryDAO.getWeightEntriesForUser(testUserId);
+        weightEntryDAO.getWeightEntriesForUser(testUserId);
+
+        // ASSERT
+        DaoMetrics.Method method = DaoMetrics.getMethod("WeightEntryDAO.getWeightEntriesForUser");
+        assertNotNull(method);
+        assertEquals(5, entries.size());
+        assertEquals(2, method.getLatency().getCount());
+        assertEquals(10, method.getRowsMapped());
+        assertEquals(0, method.getExceptionsSwallowed());
+    }
+
+    @Test
+    public void test_daoWrite_recordsLatencyWithoutRows() {
+        // ACT
+        weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2025, 11, 1)));
+
+        // ASSERT
+        DaoMetrics.Method method = DaoMetrics.getMethod("WeightEntryDAO.insertWeightEntry");
+        assertNotNull(method);
+        assertEquals(1, method.getLatency().getCount());
+        assertEquals(0, method.getRowsMapped());
+    }
+
+    @Test
+    public void test_swallowedException_isCounted() {
+        // ARRANGE - a null unit makes the batch insert throw inside the DAO
+        WeightEntry invalid = createEntry(LocalDate.of(2025, 11, 1));
+        invalid.setWeightUnit(null);
+
+        // ACT
+        int inserted = weightEntryDAO.insertWeightEntries(Collections.singletonList(invalid));
+
+        // ASSERT
+        DaoMetrics.Method method = DaoMetrics.getMethod("WeightEntryDAO.insertWeightEntries");
+        assertEquals(0, inserted);
+        assertNotNull(method);
+        assertEquals(1, method.getLatency().getCount());
+        assertEquals(1, method.getExceptionsSwallowed());
+    }
+
+    @Test
+    public void test_slowQueries_overThreshold_captureSqlAndArgs() {
+        // ARRANGE - every call counts as slow
+        DaoMetrics.setSlowQueryThresholdMillis(0);
+
+        // ACT
+        weightEntryDAO.getLatestWeightEntry(testUserId);
+
+        // ASSERT
+        List<DaoMetrics.SlowQuery> slow = DaoMetrics.getSlowQueries();
+        assertEquals(1, slow.size());
+        assertEquals("WeightEntryDAO.getLatestWeightEntry", slow.get(0).getMethod());
+        assertEquals("[" + testUserId + "]", slow.get(0).getArgs());
+        assertNotNull(slow.get(0).getSql());
+        assertTrue(slow.get(0).getSql(), slow.get(0).getSql().contains("daily_weights"));
+    }
+
+    @Test
+    public void test_slowQueries_usernameLookups_doNotCaptureUsername() {
+        // ARRANGE
+        DaoMetrics.setSlowQueryThresholdMillis(0);
+
+        // ACT
+        userDAO.getUserByUsername("jane.doe");
+        userDAO.usernameExists("jane.doe");
+
+        // ASSERT
+        List<DaoMetrics.SlowQuery> slow = DaoMetrics.getSlowQueries();
+        assertEquals(2, slow.size());
+        for (DaoMetrics.SlowQuery query : slow) {
+            assertEquals("[?]", query.getArgs());
+            assertFalse(query.toString(), query.toString().contains("jane.doe"));
+        }
+    }
+
+    @Test
+    public void test_slowQueries_underThreshold_notCaptured() {
+        // ARRANGE
+        DaoMetrics.setSlowQueryThresholdMillis(60_000);
+
+        // ACT
+        weightEntryDAO.getLatestWeightEntry(testUserId);
+
+        // ASSERT
+        assertTrue(DaoMetrics.getSlowQueries().isEmpty());
+    }
+
+    @Test
+    public void test_slowQueries_overCapacity_keepsMostRecent() {
+        // ARRANGE
+        DaoMetrics.setSlowQueryThresholdMillis(0);
+
+        // ACT
+        for (int i = 0; i < DaoMetrics.SLOW_QUERY_CAPACITY + 5; i++) {
+            weightEntryDAO.getWeightEntryById(i);
+        }
+
+        // ASSERT - oldest first, the first five overwritten
+        List<DaoMetrics.SlowQuery> slow = DaoMetrics.getSlowQueries();
+        assertEquals(DaoMetrics.SLOW_QUERY_CAPACITY, slow.size());
+        assertEquals("[5]", slow.get(0).getArgs());
+        assertEquals("[" + (DaoMetrics.SLOW_QUERY_CAPACITY + 4) + "]", slow.get(slow.size() - 1).getArgs());
+    }
+
+    @Test
+    public void test_slowQueries_primitiveAndObjectArgs_formatAlike() {
+        // ARRANGE
+        DaoMetrics.setSlowQueryThresholdMillis(0);
+        DaoMetrics.Group group = DaoMetrics.group("DaoMetricsTest");
+        LocalDate date = LocalDate.of(2025, 11, 1);
+
+        // ACT
+        group.open("none").close();
+        group.open("one", 7L).close();
+        group.open("two", 7L, 30).close();
+        group.open("mixed", 7L, date).close();
+
+        // ASSERT
+        List<DaoMetrics.SlowQuery> slow = DaoMetrics.getSlowQueries();
+        assertEquals(4, slow.size());
+        assertEquals("[]", slow.get(0).getArgs());
+        assertEquals("[7]", slow.get(1).getArgs());
+        assertEquals("[7, 30]", slow.get(2).getArgs());
+        assertEquals("[7, 2025-11-01]", slow.get(3).getArgs());
+    }
+
+    @Test
+    public void test_nestedCalls_recordEachMethod() {
+        // ARRANGE
+        List<Achievement> achievements = Arrays.asList(
+                createAchievement("FIRST_ENTRY"), createAchievement("NEW_LOW"));
+
+        // ACT - insertAchievements calls insertAchievement per item
+        new AchievementDAO(dbHelper).insertAchievements(achievements);
+
+        // ASSERT
+        DaoMetrics.Method batch = DaoMetrics.getMethod("AchievementDAO.insertAchievements");
+        DaoMetrics.Method single = DaoMetrics.getMethod("AchievementDAO.insertAchievement");
+        assertNotNull(batch);
+        assertNotNull(single);
+        assertEquals(1, batch.getLatency().getCount());
+        assertEquals(2, single.getLatency().getCount());
+        assertNull("Scopes must be closed after the call", DaoMetrics.currentScope());
+    }
+
+    @Test
+    public void test_toJson_containsMethodsAndSlowQueries() throws Exception {
+        // ARRANGE
+        DaoMetrics.setSlowQueryThresholdMillis(0);
+        weightEntryDAO.getWeightEntriesForUser(testUserId);
+
+        // ACT
+        JSONObject json = DaoMetrics.toJson();
+
+        // ASSERT
+        assertEquals(0, json.getLong("slowQueryThresholdMs"));
+        JSONArray methods = json.getJSONArray("methods");
+        JSONObject found = null;
+        for (int i = 0; i < methods.length(); i++) {
+            if ("WeightEntryDAO.getWeightEntriesForUser".equals(methods.getJSONObject(i).getString("method"))) {
+                found = methods.getJSONObject(i);
+            }
+        }
+        assertNotNull(found);
+        assertEquals(1, found.getLong("calls"));
+        assertTrue(found.getJSONObject("latencyMicros").has("p99"));
+        assertEquals(1, json.getJSONArray("slowQueries").length());
+    }
+
+    private Achievement createAchievement(String type) {
+        Achievement achievement = new Achievement();
+        achievement.setUserId(testUserId);
+        achievement.setAchievementType(type);
+        achievement.setTitle(type);
+        achievement.setAchievedAt(LocalDateTime.now());
+        return achievement;
+    }
+
+    private WeightEntry createEntry(LocalDate date) {
+        WeightEntry entry = new WeightEntry();
+        entry.setUserId(testUserId);
+        entry.setWeightValue(170.0);
+        entry.setWeightUnit("lbs");
+        entry.setWeightDate(date);
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        return entry;
+    }
+}
@@ -0,0 +1,388 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.AchievementManager;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.ParameterizedRobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Performance suite for the DAOs and the achievement check, over synthetic large histories.
+ *
+ * <p><strong>Data:</strong> Each run seeds a fresh database with {@code size} weight entries
+ * spread over several users by {@link SyntheticDataGenerator}, so histories have gaps, mixed
+ * units, goal histories and achievements. A user holds at most 3,650 entries (about 10 years),
+ * so larger sizes add users rather than impossibly long histories; the measured user always has
+ * the longest history.</p>
+ *
+ * <p><strong>Measurements:</strong> Every public DAO read, the common writes,
+ * {@link AchievementManager#checkAchievements} and one {@link DataMigrationRunner} batch of the
+ * weight_kg backfill are timed after a warm-up. p50/p99 latency and
+ * rows/sec (rows returned or written per second) are printed and written to
+ * {@code build/reports/dao-perf/dao-perf-<size>.json}.</p>
+ *
+ * <p><strong>Budgets:</strong> {@code dao_perf_budgets.properties} holds a query budget and a
+ * p99 budget per operation. Regular test runs seed 1k entries and only check the query budgets
+ * (SQL statements per call, counted by {@link QueryCounter}), which do not depend on the
+ * machine. Wall-clock p99 budgets are checked only when sizes are passed explicitly; the test
+ * then fails if any operation exceeds its budget times {@code -PperfBudgetScale} (default 1.0;
+ * raise it on slow CI machines):</p>
+ * <pre>
+ * ./gradlew :weightogo:testDebugUnitTest --tests '*DaoPerformanceTest' \
+ *     -PperfSizes=1000,10000,100000,1000000
+ * </pre>
+ */
+@RunWith(ParameterizedRobolectricTestRunner.class)
+public class DaoPerformanceTest {
+
+    private static final String SIZES_PROPERTY = "weightogo.perf.sizes";
+    private static final String BUDGET_SCALE_PROPERTY = "weightogo.perf.budgetScale";
+    private static final String BUDGETS_RESOURCE = "/dao_perf_budgets.properties";
+    private static final int DEFAULT_SIZE = 1000;
+
+    /**
+     * Latency budgets are only checked when sizes were passed explicitly (-PperfSizes)
+     */
+    private static final boolean TIMED = System.getProperty(SIZES_PROPERTY) != null;
+
+    private static final int MAX_DAYS_PER_USER = 3650;
+    private static final int MIN_USERS = 4;
+    private static final int WARMUP = 3;
+    private static final int SAMPLES = 100;
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final long SEED = 20251126L;
+
+    private final int size;
+
+    private WeighToGoDBHelper dbHelper;
+    private WeightEntryDAO weightEntryDAO;
+    private LoggedDaysDAO loggedDaysDAO;
+    private GoalWeightDAO goalWeightDAO;
+    private AchievementDAO achievementDAO;
+    private UserDAO userDAO;
+    private UserPreferenceDAO userPreferenceDAO;
+    private AchievementManager achievementManager;
+
+    private long measuredUserId;
+    private String measuredUsername;
+    private int measuredUserRows;
+    private final List<OperationStats> results = new ArrayList<>();
+
+    public DaoPerformanceTest(int size) {
+        this.size = size;
+    }
+
+    @ParameterizedRobolectricTestRunner.Parameters(name = "entries={0}")
+    public static Collection<Object[]> sizes() {
+        List<Object[]> sizes = new ArrayList<>();
+        for (String value : System.getProperty(SIZES_PROPERTY, String.valueOf(DEFAULT_SIZE)).split(",")) {
+            sizes.add(new Object[]{Integer.parseInt(value.trim())});
+        }
+        return sizes;
+    }
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        WeighToGoDBHelper.resetInstance();
+        context.deleteDatabase("dao_perf.db");
+        dbHelper = WeighToGoDBHelper.getTestInstance(context, "dao_perf.db");
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        loggedDaysDAO = new LoggedDaysDAO(dbHelper);
+        goalWeightDAO = new GoalWeightDAO(dbHelper);
+        achievementDAO = new AchievementDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+        userPreferenceDAO = new UserPreferenceDAO(dbHelper);
+        achievementManager = new AchievementManager(achievementDAO, goalWeightDAO, weightEntryDAO);
+
+        long start = System.nanoTime();
+        seed();
+        System.out.printf(Locale.US, "DaoPerformanceTest: seeded %,d entries in %d ms%n",
+                size, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @After
+    public void tearDown() {
+        WeighToGoDBHelper.resetInstance();
+        RuntimeEnvironment.getApplication().deleteDatabase("dao_perf.db");
+    }
+
+    @Test
+    public void test_daoOperations_withSyntheticHistory_stayWithinBudgets() throws IOException {
+        // ARRANGE
+        final long userId = measuredUserId;
+        final String username = measuredUsername;
+        final WeightEntry midEntry = weightEntryDAO.getWeightEntriesForUser(userId).get(measuredUserRows / 2);
+        final LocalDate midDate = midEntry.getWeightDate();
+        final long midWeightId = midEntry.getWeightId();
+        final long activeGoalId = goalWeightDAO.getActiveGoal(userId).getGoalId();
+        final LocalDate monthStart = midDate.withDayOfMonth(1);
+        final LocalDate monthEnd = midDate.withDayOfMonth(midDate.lengthOfMonth());
+
+        // ACT - reads
+        measure("WeightEntryDAO.getWeightEntriesForUser", () -> weightEntryDAO.getWeightEntriesForUser(userId).size());
+        measure("WeightEntryDAO.getRecentWeightEntriesForUser", () -> weightEntryDAO.getRecentWeightEntriesForUser(userId, 31).size());
+        measure("WeightEntryDAO.getWeightEntryById", () -> weightEntryDAO.getWeightEntryById(midWeightId) != null ? 1 : 0);
+        measure("WeightEntryDAO.getWeightEntryForDate", () -> weightEntryDAO.getWeightEntryForDate(userId, midDate) != null ? 1 : 0);
+        measure("WeightEntryDAO.getLatestWeightEntry", () -> weightEntryDAO.getLatestWeightEntry(userId) != null ? 1 : 0);
+        measure("WeightEntryDAO.getWeightStatsForUser", () -> weightEntryDAO.getWeightStatsForUser(userId).getEntryCount());
+        measure("WeightEntryDAO.getWeightEntriesBetween", () -> weightEntryDAO.getWeightEntriesBetween(userId, monthStart, monthEnd).size());
+        measure("WeightEntryDAO.getWeightSeries", () -> {
+            dbHelper.getWeightSeriesCache().invalidate(userId);  // Cold load of the full history
+            return weightEntryDAO.getWeightSeries(userId).size();
+        });
+        measure("LoggedDaysDAO.isLogged", () -> loggedDaysDAO.isLogged(userId, midDate) ? 1 : 0);
+        measure("LoggedDaysDAO.getLoggedDays", () -> loggedDaysDAO.getLoggedDays(userId, TODAY.minusYears(1), TODAY).getLoggedCount());
+        measure("GoalWeightDAO.getActiveGoal", () -> goalWeightDAO.getActiveGoal(userId) != null ? 1 : 0);
+        measure("GoalWeightDAO.getGoalById", () -> goalWeightDAO.getGoalById(activeGoalId) != null ? 1 : 0);
+        measure("GoalWeightDAO.getGoalHistory", () -> goalWeightDAO.getGoalHistory(userId).size());
+        measure("AchievementDAO.getAchievementsForUser", () -> achievementDAO.getAchievementsForUser(userId).size());
+        measure("AchievementDAO.getAchievementsByType", () -> achievementDAO.getAchievementsByType(userId, "STREAK_7").size());
+        measure("AchievementDAO.getUnnotifiedAchievements", () -> achievementDAO.getUnnotifiedAchievements(userId).size());
+        measure("AchievementDAO.hasAchievementType", () -> achievementDAO.hasAchievementType(userId, "MILESTONE_25") ? 1 : 0);
+        measure("AchievementDAO.getLatestAchievement", () -> achievementDAO.getLatestAchievement(userId) != null ? 1 : 0);
+        measure("UserDAO.getUserById", () -> userDAO.getUserById(userId) != null ? 1 : 0);
+        measure("UserDAO.getUserByUsername", () -> userDAO.getUserByUsername(username) != null ? 1 : 0);
+        measure("UserDAO.usernameExists", () -> userDAO.usernameExists(username) ? 1 : 0);
+        measure("UserPreferenceDAO.getWeightUnit", () -> userPreferenceDAO.getWeightUnit(userId).length() > 0 ? 1 : 0);
+
+        // ACT - full achievement check as run after saving an entry
+        measure("AchievementManager.checkAchievements", () -> {
+            achievementManager.checkAchievements(userId, 160.0, "lbs");
+            return 1;
+        });
+
+        // ACT - writes (each sample writes a new row on a future date)
+        final long[] inserted = new long[WARMUP + SAMPLES];
+        final int[] writeIndex = {0};
+        measure("WeightEntryDAO.insertWeightEntry", () -> {
+            int i = writeIndex[0]++;
+            inserted[i] = weightEntryDAO.insertWeightEntry(createEntry(userId, TODAY.plusDays(i + 1), 170.0));
+            return 1;
+        });
+        writeIndex[0] = 0;
+        measure("WeightEntryDAO.updateWeightEntry", () -> {
+            WeightEntry entry = createEntry(userId, TODAY.plusDays(writeIndex[0] + 1), 169.5);
+            entry.setWeightId(inserted[writeIndex[0]++]);
+            return weightEntryDAO.updateWeightEntry(entry);
+        });
+        writeIndex[0] = 0;
+        measure("WeightEntryDAO.deleteWeightEntry", () -> weightEntryDAO.deleteWeightEntry(inserted[writeIndex[0]++]));
+
+        // ACT - data migration: one batch of the weight_kg backfill over rows reset to pre-v5
+        DataMigrationRunner runner = new DataMigrationRunner(dbHelper,
+                Collections.singletonList(new WeightKgBackfillMigration()));
+        measure("DataMigrationRunner.runBatch", () -> {
+            SQLiteDatabase db = dbHelper.getWritableDatabase();
+            db.execSQL("UPDATE daily_weights SET weight_kg = NULL WHERE weight_id IN" +
+                    " (SELECT weight_id FROM daily_weights ORDER BY weight_id LIMIT ?)",
+                    new Object[]{DataMigrationRunner.DEFAULT_BATCH_SIZE});
+            db.delete(WeighToGoDBHelper.TABLE_DATA_MIGRATIONS, "migration_id = ?",
+                    new String[]{WeightKgBackfillMigration.ID});
+        }, () -> (int) runner.runPending(DataMigrationRunner.DEFAULT_BATCH_SIZE, () -> true).getRowsMigrated());
+
+        // ASSERT
+        printReport();
+        writeReport();
+        assertEquals("Measured user should have a full history", measuredUserRows,
+                weightEntryDAO.getWeightEntriesForUser(userId).size());
+        assertWithinBudgets();
+    }
+
+    // =============================================================================================
+    // MEASUREMENT
+    // =============================================================================================
+
+    /**
+     * An operation returning the number of rows it read or wrote.
+     */
+    private interface Operation {
+        int run();
+    }
+
+    /**
+     * Latency samples, row counts and SQL statements per call for one operation.
+     */
+    static final class OperationStats {
+        final String name;
+        final long[] samplesNanos;
+        final long rows;
+        final int queries;
+
+        OperationStats(String name, long[] samplesNanos, long rows, int queries) {
+            this.name = name;
+            this.samplesNanos = samplesNanos.clone();
+            this.rows = rows;
+            this.queries = queries;
+            Arrays.sort(this.samplesNanos);
+        }
+
+        /**
+         * Nearest-rank percentile in milliseconds.
+         */
+        double percentileMs(double percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * samplesNanos.length);
+            return samplesNanos[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+
+        double rowsPerSecond() {
+            long total = 0;
+            for (long sample : samplesNanos) {
+                total += sample;
+            }
+            return total == 0 ? 0 : rows * 1_000_000_000.0 / total;
+        }
+    }
+
+    private void measure(@NonNull String name, @NonNull Operation operation) {
+        measure(name, () -> { }, operation);
+    }
+
+    /**
+     * @param setup untimed work run before every sample (e.g. resetting the rows it rewrites)
+     */
+    private void measure(@NonNull String name, @NonNull Runnable setup, @NonNull Operation operation) {
+        for (int i = 0; i < WARMUP - 1; i++) {
+            setup.run();
+            operation.run();
+        }
+        setup.run();
+        QueryCounter.Stats counted = QueryCounter.record(operation::run);  // Last warm-up call
+        long[] samples = new long[SAMPLES];
+        long rows = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            setup.run();
+            long start = System.nanoTime();
+            rows += operation.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        results.add(new OperationStats(name, samples, rows, counted.getQueries()));
+    }
+
+    private void printReport() {
+        System.out.printf(Locale.US, "%nDaoPerformanceTest entries=%,d users=%d measured_user_rows=%,d%n",
+                size, userCount(), measuredUserRows);
+        System.out.printf(Locale.US, "%-48s %8s %10s %10s %14s%n", "operation", "queries", "p50 ms", "p99 ms", "rows/sec");
+        for (OperationStats stats : results) {
+            System.out.printf(Locale.US, "%-48s %8d %10.3f %10.3f %14.0f%n", stats.name, stats.queries,
+                    stats.percentileMs(50), stats.percentileMs(99), stats.rowsPerSecond());
+        }
+    }
+
+    private void writeReport() throws IOException {
+        File directory = new File("build/reports/dao-perf");
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.out.println("DaoPerformanceTest: cannot create " + directory.getAbsolutePath());
+            return;
+        }
+        try (Writer writer = new FileWriter(new File(directory, "dao-perf-" + size + ".json"))) {
+            writer.write(String.format(Locale.US, "{\"entries\": %d, \"users\": %d, \"operations\": [", size, userCount()));
+            for (int i = 0; i < results.size(); i++) {
+                OperationStats stats = results.get(i);
+                writer.write(String.format(Locale.US,
+                        "%s%n  {\"name\": \"%s\", \"queries\": %d, \"p50_ms\": %.4f, \"p99_ms\": %.4f, \"rows_per_sec\": %.1f}",
+                        i == 0 ? "" : ",", stats.name, stats.queries, stats.percentileMs(50), stats.percentileMs(99),
+                        stats.rowsPerSecond()));
+            }
+            writer.write(String.format("%n]}%n"));
+        }
+    }
+
+    private void assertWithinBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = DaoPerformanceTest.class.getResourceAsStream(BUDGETS_RESOURCE)) {
+            assertTrue("Missing " + BUDGETS_RESOURCE, in != null);
+            budgets.load(in);
+        }
+        double scale = Double.parseDouble(System.getProperty(BUDGET_SCALE_PROPERTY, "1.0"));
+
+        StringBuilder failures = new StringBuilder();
+        for (OperationStats stats : results) {
+            String maxQueries = budgets.getProperty(stats.name + ".maxQueries");
+            String budget = budgets.getProperty(stats.name + ".p99Ms");
+            if (maxQueries == null || budget == null) {
+                failures.append("\n  ").append(stats.name).append(": no budget in ").append(BUDGETS_RESOURCE);
+                continue;
+            }
+            if (stats.queries > Integer.parseInt(maxQueries)) {
+                failures.append(String.format(Locale.US, "\n  %s: %d queries > budget %s",
+                        stats.name, stats.queries, maxQueries));
+            }
+            double limit = Double.parseDouble(budget) * scale;
+            if (TIMED && stats.percentileMs(99) > limit) {
+                failures.append(String.format(Locale.US, "\n  %s: p99 %.3f ms > budget %.3f ms",
+                        stats.name, stats.percentileMs(99), limit));
+            }
+        }
+        if (failures.length() > 0) {
+            fail("DAO performance budgets exceeded at " + size + " entries:" + failures);
+        }
+    }
+
+    // =============================================================================================
+    // SEEDING
+    // =============================================================================================
+
+    private int userCount() {
+        return Math.max(MIN_USERS, (size + MAX_DAYS_PER_USER - 1) / MAX_DAYS_PER_USER);
+    }
+
+    /**
+     * Generate users, weights, goals, achievements and preferences with the synthetic data
+     * generator. Rows are spread evenly; the first user gets the remainder so it always has the
+     * most rows, and comes from its own seed so its history is the same at every size.
+     */
+    private void seed() throws DatabaseException {
+        int users = userCount();
+        int perUser = size / users;
+        int measuredRows = perUser + size % users;
+
+        SyntheticDataGenerator.Result measured = new SyntheticDataGenerator(dbHelper, SEED)
+                .generateUsers(1, measuredRows, TODAY);
+        new SyntheticDataGenerator(dbHelper, SEED + 1).generateUsers(users - 1, perUser, TODAY);
+
+        measuredUserId = measured.getUserIds().get(0);
+        measuredUsername = userDAO.getUserById(measuredUserId).getUsername();
+        measuredUserRows = measuredRows;
+        dbHelper.getWritableDatabase().execSQL("ANALYZE");
+    }
+
+    private WeightEntry createEntry(long userId, @NonNull LocalDate date, double weight) {
+        WeightEntry entry = new WeightEntry();
+        entry.setUserId(userId);
+        entry.setWeightValue(weight);
+        entry.setWeightUnit("lbs");
+        entry.setWeightDate(date);
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        return entry;
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for DataMigrationRunner.
+ *
+ * Uses a scratch table so the runner is tested independently of any production migration:
+ * - Rows are migrated in key-range batches and progress is persisted per batch
+ * - A run that stops early resumes from the persisted key on the next run
+ * - Completed migrations are not re-run
+ * - Large tables are migrated completely (batch throughput is measured by DaoPerformanceTest)
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DataMigrationRunnerTest {
+
+    private static final String TABLE = "migration_scratch";
+    private static final String MIGRATION_ID = "test_scratch_backfill";
+
+    private WeighToGoDBHelper dbHelper;
+    private SQLiteDatabase db;
+
+    @Before
+    public void setUp() {
+        Context context = RuntimeEnvironment.getApplication();
+        dbHelper = WeighToGoDBHelper.getInstance(context);
+        db = dbHelper.getWritableDatabase();
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE);
+        db.execSQL("CREATE TABLE " + TABLE + " (id INTEGER PRIMARY KEY, old_value REAL, new_value REAL)");
+        db.delete(WeighToGoDBHelper.TABLE_DATA_MIGRATIONS, null, null);
+    }
+
+    @After
+    public void tearDown() {
+        db.execSQL("DROP TABLE IF EXISTS " + TABLE);
+        db.delete(WeighToGoDBHelper.TABLE_DATA_MIGRATIONS, null, null);
+    }
+
+    @Test
+    public void test_runPending_multipleBatches_migratesAllRowsAndCompletes() {
+        // ARRANGE
+        insertRows(25);
+        ScratchMigration migration = new ScratchMigration();
+
+        // ACT
+        DataMigrationRunner.RunResult result = runner(migration).runPending(10, () -> false);
+
+        // ASSERT - 3 data batches plus the batch that finds no rows left
+        assertTrue(result.isComplete());
+        assertEquals(4, result.getBatches());
+        assertEquals(25, result.getRowsMigrated());
+        assertEquals(0, countUnmigrated());
+        assertTrue(runner(migration).isComplete(MIGRATION_ID));
+        assertEquals(25, readProgress("rows_migrated"));
+    }
+
+    @Test
+    public void test_runPending_stopped_resumesFromPersistedKey() {
+        // ARRANGE
+        insertRows(25);
+        ScratchMigration migration = new ScratchMigration();
+
+        // ACT - stop after the first batch
+        DataMigrationRunner.RunResult first = runner(migration).runPending(10, () -> true);
+
+        // ASSERT
+        assertFalse(first.isComplete());
+        assertEquals(1, first.getBatches());
+        assertEquals(15, countUnmigrated());
+        assertEquals(10, readProgress("last_key"));
+        assertFalse(runner(migration).isComplete(MIGRATION_ID));
+
+        // ACT - a new runner (as after process death) continues from key 10
+        DataMigrationRunner.RunResult second = runner(migration).runPending(10, () -> false);
+
+        // ASSERT - no row was migrated twice
+        assertTrue(second.isComplete());
+        assertEquals(15, second.getRowsMigrated());
+        assertEquals(25, migration.rowsSeen.get());
+        assertEquals(0, countUnmigrated());
+    }
+
+    @Test
+    public void test_runPending_alreadyComplete_doesNothing() {
+        // ARRANGE
+        insertRows(5);
+        runner(new ScratchMigration()).runPending(10, () -> false);
+        ScratchMigration rerun = new ScratchMigration();
+
+        // ACT
+        DataMigrationRunner.RunResult result = runner(rerun).runPending(10, () -> false);
+
+        // ASSERT
+        assertTrue(result.isComplete());
+        assertEquals(0, result.getBatches());
+        assertEquals(0, rerun.rowsSeen.get());
+    }
+
+    @Test
+    public void test_runPending_emptyTable_completesInOneBatch() {
+        // ACT
+        DataMigrationRunner.RunResult result = runner(new ScratchMigration()).runPending(10, () -> false);
+
+        // ASSERT
+        assertTrue(result.isComplete());
+        assertEquals(1, result.getBatches());
+        assertEquals(0, result.getRowsMigrated());
+    }
+
+    @Test
+    public void test_runPending_sparseKeys_batchesByRowCount() {
+        // ARRANGE - keys 100, 200, ..., 2000
+        for (int i = 1; i <= 20; i++) {
+            db.execSQL("INSERT INTO " + TABLE + " (id, old_value) VALUES (?, ?)", new Object[]{i * 100, i});
+        }
+
+        // ACT
+        DataMigrationRunner.RunResult result = runner(new ScratchMigration()).runPending(10, () -> false);
+
+        // ASSERT - 2 batches of 10 rows, not 20 batches of one key range each
+        assertEquals(3, result.getBatches());
+        assertEquals(0, countUnmigrated());
+    }
+
+    @Test
+    public void test_runPending_largeTable_migratesEveryRow() {
+        // ARRANGE
+        int rows = 20_000;
+        db.beginTransaction();
+        try {
+            for (int i = 1; i <= rows; i++) {
+                db.execSQL("INSERT INTO " + TABLE + " (id, old_value) VALUES (?, ?)", new Object[]{i, i * 0.5});
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+
+        // ACT
+        DataMigrationRunner.RunResult result = runner(new ScratchMigration())
+                .runPending(DataMigrationRunner.DEFAULT_BATCH_SIZE, () -> false);
+
+        // ASSERT
+        assertTrue(result.isComplete());
+        assertEquals(rows, result.getRowsMigrated());
+        assertEquals(0, countUnmigrated());
+    }
+
+    // =============================================================================================
+    // HELPERS
+    // =============================================================================================
+
+    private DataMigrationRunner runner(DataMigration migration) {
+        return new DataMigrationRunner(dbHelper, Collections.singletonList(migration));
+    }
+
+    private void insertRows(int count) {
+        for (int i = 1; i <= count; i++) {
+            db.execSQL("INSERT INTO " + TABLE + " (id, old_value) VALUES (?, ?)", new Object[]{i, i * 2.0});
+        }
+    }
+
+    private long countUnmigrated() {
+        try (Cursor cursor = db.rawQuery("SELECT COUNT(*) FROM " + TABLE + " WHERE new_value IS NULL", null)) {
+            cursor.moveToFirst();
+            return cursor.getLong(0);
+        }
+    }
+
+    private long readProgress(String column) {
+        try (Cursor cursor = db.rawQuery(
+                "SELECT " + column + " FROM " + WeighToGoDBHelper.TABLE_DATA_MIGRATIONS + " WHERE migration_id = ?",
+                new String[]{MIGRATION_ID})) {
+            assertTrue("Progress row should exist", cursor.moveToFirst());
+            return cursor.getLong(0);
+        }
+    }
+
+    /**
+     * Copies old_value * 10 into new_value and counts the rows it touched.
+     */
+    private static class ScratchMigration implements DataMigration {
+        final AtomicInteger rowsSeen = new AtomicInteger();
+
+        @NonNull
+        @Override
+        public String getId() {
+            return MIGRATION_ID;
+        }
+
+        @NonNull
+        @Override
+        public String getTable() {
+            return TABLE;
+        }
+
+        @NonNull
+        @Override
+        public String getKeyColumn() {
+            return "id";
+        }
+
+        @Override
+        public int migrateRange(@NonNull SQLiteDatabase db, long fromKeyExclusive, long toKeyInclusive) {
+            db.execSQL("UPDATE " + TABLE + " SET new_value = old_value * 10 WHERE id > ? AND id <= ?",
+                    new Object[]{fromKeyExclusive, toKeyInclusive});
+            int changed;
+            try (Cursor cursor = db.rawQuery("SELECT changes()", null)) {
+                cursor.moveToFirst();
+                changed = cursor.getInt(0);
+            }
+            rowsSeen.addAndGet(changed);
+            return changed;
+        }
+    }
+}
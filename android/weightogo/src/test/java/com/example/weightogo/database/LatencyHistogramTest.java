@@ -0,0 +1,98 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void test_getValueAtPercentile_empty_returnsZero() {
+        // ARRANGE
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // ACT + ASSERT
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0.0, histogram.getMean(), 0.0);
+    }
+
+    @Test
+    public void test_getValueAtPercentile_smallValues_areExact() {
+        // ARRANGE
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+
+        // ACT + ASSERT
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(5.5, histogram.getMean(), 0.001);
+    }
+
+    @Test
+    public void test_getValueAtPercentile_uniformValues_withinBucketPrecision() {
+        // ARRANGE
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.record(i);
+        }
+
+        // ACT
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+
+        // ASSERT - never below the true value, at most 1/16 above it
+        assertTrue("p50=" + p50, p50 >= 50_000 && p50 <= 50_000 * 17 / 16);
+        assertTrue("p99=" + p99, p99 >= 99_000 && p99 <= 99_000 * 17 / 16);
+        assertEquals(100_000, histogram.getValueAtPercentile(100));
+        assertEquals(100_000, histogram.getMax());
+    }
+
+    @Test
+    public void test_record_outOfRange_isClamped() {
+        // ARRANGE
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // ACT
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        // ASSERT
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_VALUE_MICROS, histogram.getMax());
+    }
+
+    @Test
+    public void test_bucketIndex_everyBucketBoundary_roundTrips() {
+        // ARRANGE + ACT + ASSERT - the highest value of each bucket maps back to that bucket
+        int last = LatencyHistogram.bucketIndex(LatencyHistogram.MAX_VALUE_MICROS);
+        for (int i = 0; i <= last; i++) {
+            long highest = LatencyHistogram.highestValueInBucket(i);
+            assertEquals(i, LatencyHistogram.bucketIndex(highest));
+            assertEquals(i + 1 <= last ? i + 1 : i, LatencyHistogram.bucketIndex(Math.min(highest + 1,
+                    LatencyHistogram.MAX_VALUE_MICROS)));
+        }
+    }
+
+    @Test
+    public void test_reset_clearsEverything() {
+        // ARRANGE
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1234);
+
+        // ACT
+        histogram.reset();
+
+        // ASSERT
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.DatabaseUtils;
+
+import com.example.weightogo.models.LoggedDays;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for LoggedDaysDAO and the logged_days maintenance done by WeightEntryDAO.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class LoggedDaysDAOTest {
+
+    private WeighToGoDBHelper dbHelper;
+    private WeightEntryDAO weightEntryDAO;
+    private LoggedDaysDAO loggedDaysDAO;
+    private UserDAO userDAO;
+    private long testUserId;
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        loggedDaysDAO = new LoggedDaysDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+
+        User testUser = new User();
+        testUser.setUsername("logged_" + System.nanoTime() % 100_000);
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+        testUserId = userDAO.insertUser(testUser);
+        assertTrue("Test user should be created", testUserId > 0);
+    }
+
+    @After
+    public void tearDown() {
+        if (testUserId > 0) {
+            userDAO.deleteUser(testUserId);
+        }
+    }
+
+    @Test
+    public void test_isLogged_unbuiltYear_buildsFromEntries() {
+        // ARRANGE: entries written, then the year's bitmap dropped (as for pre-v6 data)
+        weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2024, 1, 1), false));
+        weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2024, 12, 31), false));
+        weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2024, 6, 1), true));
+        dbHelper.getWritableDatabase().delete("logged_days", null, null);
+
+        // ACT & ASSERT: first and last day of a leap year, deleted entry not logged
+        assertTrue(loggedDaysDAO.isLogged(testUserId, LocalDate.of(2024, 1, 1)));
+        assertTrue(loggedDaysDAO.isLogged(testUserId, LocalDate.of(2024, 12, 31)));
+        assertFalse(loggedDaysDAO.isLogged(testUserId, LocalDate.of(2024, 6, 1)));
+        assertFalse(loggedDaysDAO.isLogged(testUserId, LocalDate.of(2024, 1, 2)));
+        assertEquals(1, countYearRows(2024));
+    }
+
+    @Test
+    public void test_insertWeightEntry_builtYear_setsBit() {
+        // ARRANGE: build the (empty) year first
+        LocalDate date = LocalDate.of(2025, 3, 15);
+        assertFalse(loggedDaysDAO.isLogged(testUserId, date));
+
+        // ACT
+        weightEntryDAO.insertWeightEntry(createEntry(date, false));
+
+        // ASSERT: maintained in place, not rebuilt
+        assertEquals(1, countYearRows(2025));
+        assertTrue(loggedDaysDAO.isLogged(testUserId, date));
+        assertFalse(loggedDaysDAO.isLogged(testUserId, date.plusDays(1)));
+    }
+
+    @Test
+    public void test_deleteWeightEntry_clearsBit() {
+        // ARRANGE
+        LocalDate date = LocalDate.of(2025, 3, 15);
+        long weightId = weightEntryDAO.insertWeightEntry(createEntry(date, false));
+        assertTrue(loggedDaysDAO.isLogged(testUserId, date));
+
+        // ACT
+        weightEntryDAO.deleteWeightEntry(weightId);
+
+        // ASSERT
+        assertFalse(loggedDaysDAO.isLogged(testUserId, date));
+    }
+
+    @Test
+    public void test_updateWeightEntry_dateChangedAcrossYears_movesBit() {
+        // ARRANGE
+        LocalDate oldDate = LocalDate.of(2025, 1, 1);
+        LocalDate newDate = LocalDate.of(2024, 12, 31);
+        WeightEntry entry = createEntry(oldDate, false);
+        entry.setWeightId(weightEntryDAO.insertWeightEntry(entry));
+        assertTrue(loggedDaysDAO.isLogged(testUserId, oldDate));
+        assertFalse(loggedDaysDAO.isLogged(testUserId, newDate));
+
+        // ACT
+        entry.setWeightDate(newDate);
+        weightEntryDAO.updateWeightEntry(entry);
+
+        // ASSERT
+        assertFalse(loggedDaysDAO.isLogged(testUserId, oldDate));
+        assertTrue(loggedDaysDAO.isLogged(testUserId, newDate));
+    }
+
+    @Test
+    public void test_insertWeightEntries_dropsTouchedYearsAndRebuilds() {
+        // ARRANGE
+        LocalDate start = LocalDate.of(2025, 12, 30);
+        assertFalse(loggedDaysDAO.isLogged(testUserId, start));
+        List<WeightEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            entries.add(createEntry(start.plusDays(i), false));
+        }
+
+        // ACT
+        weightEntryDAO.insertWeightEntries(entries);
+
+        // ASSERT
+        assertEquals(0, countYearRows(2025));
+        LoggedDays days = loggedDaysDAO.getLoggedDays(testUserId, start.minusDays(1), start.plusDays(4));
+        assertEquals(4, days.getLoggedCount());
+        assertArrayEquals(new LocalDate[]{start.minusDays(1), start.plusDays(4)},
+                days.getMissingDays().toArray(new LocalDate[0]));
+    }
+
+    @Test
+    public void test_getLoggedDays_multiYearRange_matchesEntries() {
+        // ARRANGE: every third day over two and a half years
+        LocalDate from = LocalDate.of(2023, 7, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        List<WeightEntry> entries = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(3)) {
+            entries.add(createEntry(date, false));
+        }
+        weightEntryDAO.insertWeightEntries(entries);
+
+        // ACT
+        LoggedDays days = loggedDaysDAO.getLoggedDays(testUserId, from.minusDays(10), to);
+
+        // ASSERT
+        assertEquals(entries.size(), days.getLoggedCount());
+        for (LocalDate date = from.minusDays(10); !date.isAfter(to); date = date.plusDays(1)) {
+            boolean expected = !date.isBefore(from) && (date.toEpochDay() - from.toEpochDay()) % 3 == 0;
+            assertEquals(date.toString(), expected, days.isLogged(date));
+        }
+        assertEquals(1, days.getStreakEndingOn(from.plusDays(3)));
+        assertEquals(0, days.getStreakEndingOn(from.plusDays(4)));
+    }
+
+    @Test
+    public void test_deleteUser_cascadesBitmap() {
+        // ARRANGE
+        weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2025, 5, 5), false));
+        assertTrue(loggedDaysDAO.isLogged(testUserId, LocalDate.of(2025, 5, 5)));
+
+        // ACT
+        userDAO.deleteUser(testUserId);
+
+        // ASSERT
+        assertEquals(0, countYearRows(2025));
+        testUserId = 0;
+    }
+
+    private long countYearRows(int year) {
+        return DatabaseUtils.queryNumEntries(dbHelper.getReadableDatabase(), "logged_days",
+                "user_id = ? AND year = ?", new String[]{String.valueOf(testUserId), String.valueOf(year)});
+    }
+
+    private WeightEntry createEntry(LocalDate date, boolean deleted) {
+        WeightEntry entry = new WeightEntry();
+        entry.setUserId(testUserId);
+        entry.setWeightValue(180.0);
+        entry.setWeightUnit("lbs");
+        entry.setWeightDate(date);
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        entry.setDeleted(deleted);
+        return entry;
+    }
+}
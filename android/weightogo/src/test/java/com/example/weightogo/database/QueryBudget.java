@@ -0,0 +1,85 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.fail;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Test helper declaring the SQL budget of one use case, checked with {@link QueryCounter}.
+ *
+ * <pre>
+ * QueryBudget.of("checkAchievements").maxQueries(3).maxWriteTransactions(1)
+ *         .assertWithin(() -&gt; achievementManager.checkAchievements(userId, 175.0, "lbs"));
+ * </pre>
+ *
+ * Limits that are not set are unbounded. A failure message lists every exceeded limit and the
+ * full counts.
+ */
+public final class QueryBudget {
+
+    private final String useCase;
+    private int maxQueries = Integer.MAX_VALUE;
+    private long maxRowsRead = Long.MAX_VALUE;
+    private int maxWrites = Integer.MAX_VALUE;
+    private int maxWriteTransactions = Integer.MAX_VALUE;
+
+    private QueryBudget(@NonNull String useCase) {
+        this.useCase = useCase;
+    }
+
+    @NonNull
+    public static QueryBudget of(@NonNull String useCase) {
+        return new QueryBudget(useCase);
+    }
+
+    @NonNull
+    public QueryBudget maxQueries(int max) {
+        maxQueries = max;
+        return this;
+    }
+
+    @NonNull
+    public QueryBudget maxRowsRead(long max) {
+        maxRowsRead = max;
+        return this;
+    }
+
+    @NonNull
+    public QueryBudget maxWrites(int max) {
+        maxWrites = max;
+        return this;
+    }
+
+    @NonNull
+    public QueryBudget maxWriteTransactions(int max) {
+        maxWriteTransactions = max;
+        return this;
+    }
+
+    /**
+     * Run the use case and fail if it exceeds the budget.
+     *
+     * @param operation the use case
+     * @return what the use case did, for further assertions
+     */
+    @NonNull
+    public QueryCounter.Stats assertWithin(@NonNull Runnable operation) {
+        QueryCounter.Stats stats = QueryCounter.record(operation);
+
+        StringBuilder exceeded = new StringBuilder();
+        check(exceeded, "queries", stats.getQueries(), maxQueries);
+        check(exceeded, "rowsRead", stats.getRowsRead(), maxRowsRead);
+        check(exceeded, "writes", stats.getWrites(), maxWrites);
+        check(exceeded, "writeTransactions", stats.getWriteTransactions(), maxWriteTransactions);
+        if (exceeded.length() > 0) {
+            fail(useCase + " exceeded its query budget:" + exceeded + " (" + stats + ")");
+        }
+        return stats;
+    }
+
+    private static void check(@NonNull StringBuilder exceeded, @NonNull String name, long actual, long max) {
+        if (actual > max) {
+            exceeded.append(' ').append(name).append(' ').append(actual).append(" > ").append(max);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.content.Context;
+
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for QueryCounter and the QueryBudget test helper.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class QueryCounterTest {
+
+    private WeighToGoDBHelper dbHelper;
+    private WeightEntryDAO weightEntryDAO;
+    private UserDAO userDAO;
+    private long testUserId;
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+
+        User testUser = new User();
+        testUser.setUsername("query_counter_" + System.nanoTime() % 100_000);
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+        testUserId = userDAO.insertUser(testUser);
+    }
+
+    @After
+    public void tearDown() {
+        if (testUserId > 0) {
+            userDAO.deleteUser(testUserId);
+        }
+    }
+
+    @Test
+    public void test_record_reads_countsQueriesAndRows() {
+        // ARRANGE
+        for (int i = 0; i < 12; i++) {
+            weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2025, 11, 1).plusDays(i)));
+        }
+
+        // ACT
+        QueryCounter.Stats stats = QueryCounter.record(() -> {
+            weightEntryDAO.getWeightEntriesForUser(testUserId);
+            weightEntryDAO.getLatestWeightEntry(testUserId);
+        });
+
+        // ASSERT
+        assertEquals(2, stats.getQueries());
+        assertEquals(13, stats.getRowsRead());
+        assertEquals(0, stats.getWrites());
+        assertEquals(0, stats.getWriteTransactions());
+    }
+
+    @Test
+    public void test_record_autocommitWrites_countOneTransactionEach() {
+        // ACT
+        QueryCounter.Stats stats = QueryCounter.record(() -> {
+            long id = weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2025, 11, 1)));
+            weightEntryDAO.deleteWeightEntry(id);
+        });
+
+        // ASSERT
+        assertEquals(2, stats.getWrites());
+        assertEquals(2, stats.getRowsWritten());
+        assertEquals(2, stats.getWriteTransactions());
+    }
+
+    @Test
+    public void test_record_batchInsert_countsOneTransaction() {
+        // ARRANGE
+        List<WeightEntry> batch = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            batch.add(createEntry(LocalDate.of(2025, 11, 1).plusDays(i)));
+        }
+
+        // ACT
+        QueryCounter.Stats stats = QueryCounter.record(() -> weightEntryDAO.insertWeightEntries(batch));
+
+        // ASSERT: 20 inserts plus one logged_days invalidation for the year (no row built yet)
+        assertEquals(21, stats.getWrites());
+        assertEquals(20, stats.getRowsWritten());
+        assertEquals(1, stats.getWriteTransactions());
+    }
+
+    @Test
+    public void test_hooks_withoutRecording_countNothing() {
+        // ARRANGE
+        weightEntryDAO.insertWeightEntry(createEntry(LocalDate.of(2025, 11, 1)));
+
+        // ACT
+        QueryCounter.Stats stats = QueryCounter.start().stop();
+
+        // ASSERT
+        assertEquals(0, stats.getQueries());
+        assertEquals(0, stats.getWrites());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_start_whileRecording_throws() {
+        // ARRANGE
+        QueryCounter.Recording recording = QueryCounter.start();
+        try {
+            // ACT
+            QueryCounter.start();
+        } finally {
+            recording.stop();
+        }
+    }
+
+    @Test
+    public void test_assertWithin_overBudget_failsWithCounts() {
+        // ACT
+        try {
+            QueryBudget.of("two reads").maxQueries(1).assertWithin(() -> {
+                weightEntryDAO.getWeightEntriesForUser(testUserId);
+                weightEntryDAO.getLatestWeightEntry(testUserId);
+            });
+            fail("Budget of 1 query should fail for 2 queries");
+        } catch (AssertionError e) {
+            // ASSERT
+            assertTrue(e.getMessage(), e.getMessage().contains("two reads exceeded its query budget: queries 2 > 1"));
+        }
+    }
+
+    private WeightEntry createEntry(LocalDate date) {
+        WeightEntry entry = new WeightEntry();
+        entry.setUserId(testUserId);
+        entry.setWeightValue(170.0);
+        entry.setWeightUnit("lbs");
+        entry.setWeightDate(date);
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        return entry;
+    }
+}
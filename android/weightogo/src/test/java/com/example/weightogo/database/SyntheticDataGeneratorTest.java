@@ -0,0 +1,265 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import com.example.weightogo.models.Achievement;
+import com.example.weightogo.models.GoalWeight;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.utils.PasswordUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit tests for SyntheticDataGenerator.
+ * Each test runs against its own database file so generated usernames never collide.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class SyntheticDataGeneratorTest {
+
+    private static final String DB_NAME = "synthetic_test.db";
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 10);
+
+    private Context context;
+    private WeighToGoDBHelper dbHelper;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+        openFreshDatabase();
+    }
+
+    @After
+    public void tearDown() {
+        WeighToGoDBHelper.resetInstance();
+        context.deleteDatabase(DB_NAME);
+    }
+
+    @Test
+    public void test_generateUsers_sameSeed_producesIdenticalData() throws DatabaseException {
+        // ARRANGE
+        new SyntheticDataGenerator(dbHelper, 42L).generateUsers(3, 200, TODAY);
+        List<String> first = dumpWeights();
+
+        // ACT
+        openFreshDatabase();
+        new SyntheticDataGenerator(dbHelper, 42L).generateUsers(3, 200, TODAY);
+        List<String> second = dumpWeights();
+
+        // ASSERT
+        assertEquals(600, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    public void test_generateUsers_differentSeed_producesDifferentData() throws DatabaseException {
+        // ARRANGE
+        new SyntheticDataGenerator(dbHelper, 1L).generateUsers(2, 100, TODAY);
+        List<String> first = dumpWeights();
+
+        // ACT
+        openFreshDatabase();
+        new SyntheticDataGenerator(dbHelper, 2L).generateUsers(2, 100, TODAY);
+
+        // ASSERT
+        assertNotEquals(first, dumpWeights());
+    }
+
+    @Test
+    public void test_generateUsers_returnsCountsMatchingDatabase() throws DatabaseException {
+        // ACT
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(dbHelper, 7L).generateUsers(5, 120, TODAY);
+
+        // ASSERT
+        assertEquals(5, result.getUserIds().size());
+        assertEquals(600, result.getEntryCount());
+        assertEquals(result.getGoalCount(), count(WeighToGoDBHelper.TABLE_GOAL_WEIGHTS));
+        assertEquals(result.getAchievementCount(), count(WeighToGoDBHelper.TABLE_ACHIEVEMENTS));
+        assertEquals(600, count(WeighToGoDBHelper.TABLE_DAILY_WEIGHTS));
+    }
+
+    @Test
+    public void test_generateUsers_histories_haveGapsStreaksAndRecentEntries() throws DatabaseException {
+        // ARRANGE
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(dbHelper, 11L).generateUsers(6, 365, TODAY);
+        WeightEntryDAO weightEntryDAO = new WeightEntryDAO(dbHelper);
+
+        // ACT & ASSERT
+        boolean anyRecent = false;
+        for (long userId : result.getUserIds()) {
+            List<WeightEntry> entries = weightEntryDAO.getWeightEntriesForUser(userId);
+            assertEquals(365, entries.size());
+
+            LocalDate newest = entries.get(0).getWeightDate();
+            LocalDate oldest = entries.get(entries.size() - 1).getWeightDate();
+            assertFalse("No entries in the future", newest.isAfter(TODAY));
+            assertTrue("Gaps should stretch the history", oldest.isBefore(newest.minusDays(364)));
+            anyRecent |= !newest.isBefore(TODAY.minusDays(1));
+
+            Set<LocalDate> dates = new HashSet<>();
+            for (WeightEntry entry : entries) {
+                assertTrue("One entry per date", dates.add(entry.getWeightDate()));
+            }
+        }
+        assertTrue("Most users should have logged today or yesterday", anyRecent);
+    }
+
+    @Test
+    public void test_generateUsers_acrossUsers_mixesUnitsAndSetsPreference() throws DatabaseException {
+        // ARRANGE
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(dbHelper, 3L).generateUsers(20, 60, TODAY);
+        WeightEntryDAO weightEntryDAO = new WeightEntryDAO(dbHelper);
+        UserPreferenceDAO userPreferenceDAO = new UserPreferenceDAO(dbHelper);
+
+        // ACT
+        Set<String> preferredUnits = new HashSet<>();
+        boolean anyMixedUser = false;
+        for (long userId : result.getUserIds()) {
+            Set<String> units = new HashSet<>();
+            for (WeightEntry entry : weightEntryDAO.getWeightEntriesForUser(userId)) {
+                units.add(entry.getWeightUnit());
+            }
+            anyMixedUser |= units.size() == 2;
+            preferredUnits.add(userPreferenceDAO.getWeightUnit(userId));
+        }
+
+        // ASSERT
+        assertTrue("Some users should log in both units", anyMixedUser);
+        assertTrue(preferredUnits.contains("lbs"));
+        assertTrue(preferredUnits.contains("kg"));
+    }
+
+    @Test
+    public void test_generateUsers_eachUser_hasOneActiveGoalAndAchievements() throws DatabaseException {
+        // ARRANGE
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(dbHelper, 5L).generateUsers(4, 400, TODAY);
+        GoalWeightDAO goalWeightDAO = new GoalWeightDAO(dbHelper);
+        AchievementDAO achievementDAO = new AchievementDAO(dbHelper);
+
+        // ACT & ASSERT
+        for (long userId : result.getUserIds()) {
+            int active = 0;
+            for (GoalWeight goal : goalWeightDAO.getGoalHistory(userId)) {
+                active += goal.isActive() ? 1 : 0;
+            }
+            assertEquals("Exactly one active goal", 1, active);
+            assertNotNull(goalWeightDAO.getActiveGoal(userId));
+
+            List<Achievement> achievements = achievementDAO.getAchievementsForUser(userId);
+            assertTrue(achievementDAO.hasAchievementType(userId, "FIRST_ENTRY"));
+            Set<String> types = new HashSet<>();
+            for (Achievement achievement : achievements) {
+                assertTrue("Each type is awarded once", types.add(achievement.getAchievementType()));
+            }
+        }
+    }
+
+    @Test
+    public void test_generateUsers_accounts_signInWithKnownPassword() throws DatabaseException {
+        // ARRANGE
+        long userId = new SyntheticDataGenerator(dbHelper, 9L).generateUsers(1, 10, TODAY).getUserIds().get(0);
+
+        // ACT
+        User user = new UserDAO(dbHelper).getUserById(userId);
+
+        // ASSERT
+        assertNotNull(user);
+        assertEquals("SHA256", user.getPasswordAlgorithm());
+        assertTrue(PasswordUtils.verifyPassword(SyntheticDataGenerator.PASSWORD, user.getSalt(), user.getPasswordHash()));
+    }
+
+    @Test(expected = DuplicateUsernameException.class)
+    public void test_generateUsers_sameSeedTwice_throwsDuplicateUsername() throws DatabaseException {
+        // ARRANGE
+        new SyntheticDataGenerator(dbHelper, 13L).generateUsers(1, 5, TODAY);
+
+        // ACT
+        new SyntheticDataGenerator(dbHelper, 13L).generateUsers(1, 5, TODAY);
+    }
+
+    @Test
+    public void test_generateForUser_existingUser_addsHistory() throws DatabaseException {
+        // ARRANGE
+        User user = new User();
+        user.setUsername("manual_tester");
+        user.setPasswordHash("hash123");
+        user.setSalt("salt123");
+        user.setPasswordAlgorithm("SHA256");
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        user.setActive(true);
+        long userId = new UserDAO(dbHelper).insertUser(user);
+
+        // ACT
+        SyntheticDataGenerator.Result result = new SyntheticDataGenerator(dbHelper, 21L).generateForUser(userId, 90, TODAY);
+
+        // ASSERT
+        assertEquals(90, result.getEntryCount());
+        assertEquals(90, new WeightEntryDAO(dbHelper).getWeightEntriesForUser(userId).size());
+        assertNotNull(new GoalWeightDAO(dbHelper).getActiveGoal(userId));
+    }
+
+    @Test
+    public void test_generateForUser_unknownUser_throwsAndWritesNothing() {
+        // ACT
+        boolean threw = false;
+        try {
+            new SyntheticDataGenerator(dbHelper, 21L).generateForUser(999_999L, 30, TODAY);
+        } catch (DatabaseException e) {
+            threw = true;
+        }
+
+        // ASSERT
+        assertTrue(threw);
+        assertEquals(0, count(WeighToGoDBHelper.TABLE_DAILY_WEIGHTS));
+        assertEquals(0, count(WeighToGoDBHelper.TABLE_USER_PREFERENCES));
+    }
+
+    private void openFreshDatabase() {
+        WeighToGoDBHelper.resetInstance();
+        context.deleteDatabase(DB_NAME);
+        dbHelper = WeighToGoDBHelper.getTestInstance(context, DB_NAME);
+    }
+
+    /**
+     * All weight rows as text, without ids, in insertion order.
+     */
+    private List<String> dumpWeights() {
+        List<String> rows = new ArrayList<>();
+        try (Cursor cursor = dbHelper.getReadableDatabase().rawQuery(
+                "SELECT u.username, w.weight_value, w.weight_unit, w.weight_date, w.notes, w.created_at" +
+                " FROM daily_weights w JOIN users u ON u.user_id = w.user_id ORDER BY w.weight_id", null)) {
+            while (cursor.moveToNext()) {
+                rows.add(cursor.getString(0) + "|" + cursor.getDouble(1) + "|" + cursor.getString(2) + "|" +
+                        cursor.getString(3) + "|" + cursor.getString(4) + "|" + cursor.getString(5));
+            }
+        }
+        return rows;
+    }
+
+    private int count(String table) {
+        try (Cursor cursor = dbHelper.getReadableDatabase().rawQuery("SELECT COUNT(*) FROM " + table, null)) {
+            cursor.moveToFirst();
+            return cursor.getInt(0);
+        }
+    }
+}
@@ -126,7 +126,7 @@ public class WeighToGoDBHelperTest {
         // ASSERT - Check table schema
         try (Cursor cursor = db.rawQuery("PRAGMA table_info(daily_weights)", null)) {
             int columnCount = cursor.getCount();
-            assertEquals("daily_weights table should have 9 columns", 9, columnCount);
+            assertEquals("daily_weights table should have 10 columns", 10, columnCount);
 
             // Verify required columns exist
             boolean hasWeightId = false;
@@ -134,6 +134,7 @@ public class WeighToGoDBHelperTest {
             boolean hasWeightValue = false;
             boolean hasWeightDate = false;
             boolean hasIsDeleted = false;
+            boolean hasWeightKg = false;
 
             while (cursor.moveToNext()) {
                 String columnName = cursor.getString(cursor.getColumnIndexOrThrow("name"));
@@ -142,6 +143,7 @@ public class WeighToGoDBHelperTest {
                 if (columnName.equals("weight_value")) hasWeightValue = true;
                 if (columnName.equals("weight_date")) hasWeightDate = true;
                 if (columnName.equals("is_deleted")) hasIsDeleted = true;
+                if (columnName.equals("weight_kg")) hasWeightKg = true;
             }
 
             assertTrue("daily_weights should have weight_id column", hasWeightId);
@@ -149,6 +151,7 @@ public class WeighToGoDBHelperTest {
             assertTrue("daily_weights should have weight_value column", hasWeightValue);
             assertTrue("daily_weights should have weight_date column", hasWeightDate);
             assertTrue("daily_weights should have is_deleted column", hasIsDeleted);
+            assertTrue("daily_weights should have weight_kg column", hasWeightKg);
         }
     }
 
@@ -700,4 +703,132 @@ public class WeighToGoDBHelperTest {
             assertTrue("user_preferences should have pref_value column", hasPrefValue);
         }
     }
+
+    /**
+     * Test 24: onCreate makes non-unique daily_weights indexes partial and adds tombstone index
+     * Soft-deleted rows should not bloat read indexes (schema v3)
+     */
+    @Test
+    public void test_onCreate_weightsIndexesArePartialAndTombstoneIndexExists() {
+        // ACT
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+
+        // ASSERT
+        assertTrue("idx_weights_date should be partial on live rows",
+            indexSql(db, "idx_weights_date").contains("WHERE is_deleted = 0"));
+        assertTrue("idx_weights_user_created should be partial on live rows",
+            indexSql(db, "idx_weights_user_created").contains("WHERE is_deleted = 0"));
+        assertTrue("idx_weights_tombstones should cover soft-deleted rows",
+            indexSql(db, "idx_weights_tombstones").contains("WHERE is_deleted = 1"));
+    }
+
+    /**
+     * Test 25: new databases are created with auto_vacuum=INCREMENTAL
+     */
+    @Test
+    public void test_onCreate_enablesIncrementalAutoVacuum() {
+        // ACT
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+
+        // ASSERT
+        try (Cursor cursor = db.rawQuery("PRAGMA auto_vacuum", null)) {
+            assertTrue(cursor.moveToFirst());
+            assertEquals("auto_vacuum should be INCREMENTAL (2)", 2, cursor.getInt(0));
+        }
+    }
+
+    /**
+     * Test 26: onUpgrade v2->v3 rebuilds daily_weights indexes as partial indexes
+     */
+    @Test
+    public void test_onUpgrade_v2ToV3_rebuildsWeightsIndexesAsPartial() {
+        // ARRANGE - recreate the v2 (full) indexes
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.execSQL("DROP INDEX idx_weights_date");
+        db.execSQL("DROP INDEX idx_weights_user_created");
+        db.execSQL("DROP INDEX idx_weights_tombstones");
+        db.execSQL("CREATE INDEX idx_weights_date ON daily_weights(weight_date)");
+        db.execSQL("CREATE INDEX idx_weights_user_created ON daily_weights(user_id, created_at DESC)");
+
+        // ACT
+        dbHelper.onUpgrade(db, 2, 3);
+
+        // ASSERT
+        assertTrue("idx_weights_date should be rebuilt as partial",
+            indexSql(db, "idx_weights_date").contains("WHERE is_deleted = 0"));
+        assertTrue("idx_weights_user_created should be rebuilt as partial",
+            indexSql(db, "idx_weights_user_created").contains("WHERE is_deleted = 0"));
+        assertNotNull("idx_weights_tombstones should be created", indexSql(db, "idx_weights_tombstones"));
+    }
+
+    /**
+     * Test 27: onUpgrade v3->v4 creates the data_migrations progress table
+     */
+    @Test
+    public void test_onUpgrade_v3ToV4_createsDataMigrationsTable() {
+        // ARRANGE
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.execSQL("DROP TABLE data_migrations");
+
+        // ACT
+        dbHelper.onUpgrade(db, 3, 4);
+
+        // ASSERT
+        try (Cursor cursor = db.rawQuery(
+            "SELECT name FROM sqlite_master WHERE type='table' AND name='data_migrations'", null)) {
+            assertTrue("data_migrations table should exist", cursor.moveToFirst());
+        }
+    }
+
+    /**
+     * Test 28: onUpgrade v4->v5 keeps weight_kg and can be re-run without failing
+     */
+    @Test
+    public void test_onUpgrade_v4ToV5_weightKgColumnPresentAndIdempotent() {
+        // ARRANGE
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+
+        // ACT - column already exists on a fresh v5 database; upgrade must not re-add it
+        dbHelper.onUpgrade(db, 4, 5);
+
+        // ASSERT
+        int weightKgColumns = 0;
+        try (Cursor cursor = db.rawQuery("PRAGMA table_info(daily_weights)", null)) {
+            while (cursor.moveToNext()) {
+                if ("weight_kg".equals(cursor.getString(cursor.getColumnIndexOrThrow("name")))) {
+                    weightKgColumns++;
+                }
+            }
+        }
+        assertEquals("daily_weights should have exactly one weight_kg column", 1, weightKgColumns);
+    }
+
+    /**
+     * Test 29: onUpgrade v5->v6 creates the logged_days table and can be re-run without failing
+     */
+    @Test
+    public void test_onUpgrade_v5ToV6_createsLoggedDaysTable() {
+        // ARRANGE
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.execSQL("DROP TABLE logged_days");
+
+        // ACT
+        dbHelper.onUpgrade(db, 5, 6);
+        dbHelper.onUpgrade(db, 5, 6);
+
+        // ASSERT
+        try (Cursor cursor = db.rawQuery(
+            "SELECT name FROM sqlite_master WHERE type='table' AND name='logged_days'", null)) {
+            assertTrue("logged_days table should exist", cursor.moveToFirst());
+        }
+    }
+
+    private String indexSql(SQLiteDatabase db, String indexName) {
+        try (Cursor cursor = db.rawQuery(
+            "SELECT sql FROM sqlite_master WHERE type='index' AND name=?",
+            new String[]{indexName}
+        )) {
+            return cursor.moveToFirst() ? cursor.getString(0) : null;
+        }
+    }
 }
@@ -1,14 +1,20 @@
 package com.example.weightogo.database;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import android.content.Context;
+import android.database.Cursor;
 
 import com.example.weightogo.models.User;
 import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.models.WeightPoints;
+import com.example.weightogo.models.WeightSeries;
+import com.example.weightogo.models.WeightStats;
+import com.example.weightogo.utils.WeightUtils;
 
 import org.junit.After;
 import org.junit.Before;
@@ -19,6 +25,7 @@ import org.robolectric.RuntimeEnvironment;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -463,6 +470,375 @@ public class WeightEntryDAOTest {
         assertEquals("Latest weight should be 171.0", 171.0, latest.getWeightValue(), 0.01);
     }
 
+    @Test
+    public void test_purgeDeletedEntries_removesOnlyTombstonesBeforeCutoff() {
+        // ARRANGE - tombstone deleted "now", tombstone deleted in 2025, and a live entry
+        long live = weightEntryDAO.insertWeightEntry(
+                createTestEntry(testUserId, 170.0, LocalDate.of(2025, 12, 8), false));
+        long recent = weightEntryDAO.insertWeightEntry(
+                createTestEntry(testUserId, 171.0, LocalDate.of(2025, 12, 9), false));
+        WeightEntry oldEntry = createTestEntry(testUserId, 172.0, LocalDate.of(2025, 12, 10), true);
+        oldEntry.setUpdatedAt(LocalDateTime.of(2025, 12, 10, 8, 0));
+        long old = weightEntryDAO.insertWeightEntry(oldEntry);
+        weightEntryDAO.deleteWeightEntry(recent);
+
+        // ACT
+        int purged = weightEntryDAO.purgeDeletedEntries(LocalDateTime.now().minusDays(1), 100);
+
+        // ASSERT
+        assertEquals("Should purge only the old tombstone", 1, purged);
+        assertNull("Old tombstone should be gone", weightEntryDAO.getWeightEntryById(old));
+        assertNotNull("Recent tombstone should remain", weightEntryDAO.getWeightEntryById(recent));
+        assertNotNull("Live entry should remain", weightEntryDAO.getWeightEntryById(live));
+    }
+
+    @Test
+    public void test_purgeDeletedEntries_respectsLimit() {
+        // ARRANGE - three old tombstones
+        for (int day = 1; day <= 3; day++) {
+            WeightEntry entry = createTestEntry(testUserId, 170.0, LocalDate.of(2025, 12, day), true);
+            entry.setUpdatedAt(LocalDateTime.of(2025, 12, day, 8, 0));
+            weightEntryDAO.insertWeightEntry(entry);
+        }
+
+        // ACT
+        int firstChunk = weightEntryDAO.purgeDeletedEntries(LocalDateTime.now(), 2);
+        int secondChunk = weightEntryDAO.purgeDeletedEntries(LocalDateTime.now(), 2);
+
+        // ASSERT
+        assertEquals("First chunk should be capped at limit", 2, firstChunk);
+        assertEquals("Second chunk should purge the remainder", 1, secondChunk);
+    }
+
+    @Test
+    public void test_insertWeightEntry_populatesWeightKg() {
+        // ARRANGE
+        WeightEntry entry = createTestEntry(testUserId, 200.0, LocalDate.of(2025, 12, 1), false);
+
+        // ACT
+        long weightId = weightEntryDAO.insertWeightEntry(entry);
+
+        // ASSERT
+        assertEquals("weight_kg should be 200 lbs in kg", 90.7184, readWeightKg(weightId), 0.0001);
+    }
+
+    @Test
+    public void test_updateWeightEntry_unitChanged_recomputesWeightKg() {
+        // ARRANGE
+        WeightEntry entry = createTestEntry(testUserId, 200.0, LocalDate.of(2025, 12, 1), false);
+        long weightId = weightEntryDAO.insertWeightEntry(entry);
+        entry.setWeightId(weightId);
+        entry.setWeightValue(80.0);
+        entry.setWeightUnit("kg");
+
+        // ACT
+        weightEntryDAO.updateWeightEntry(entry);
+
+        // ASSERT
+        assertEquals("weight_kg should follow the updated value", 80.0, readWeightKg(weightId), 0.0001);
+    }
+
+    @Test
+    public void test_getWeightSeries_mixedUnits_comparesInKilograms() {
+        // ARRANGE - 160 lbs (72.6 kg) is lighter than 75 kg although 75 < 160 numerically
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 160.0, LocalDate.of(2025, 12, 1), false));
+        WeightEntry kgEntry = createTestEntry(testUserId, 75.0, LocalDate.of(2025, 12, 2), false);
+        kgEntry.setWeightUnit("kg");
+        weightEntryDAO.insertWeightEntry(kgEntry);
+
+        // ACT
+        WeightStats stats = weightEntryDAO.getWeightStatsForUser(testUserId);
+
+        // ASSERT
+        assertNotNull(stats);
+        assertEquals("Min should be the 160 lbs entry", 72.57472, stats.getMinKg(), 0.0001);
+    }
+
+    @Test
+    public void test_getWeightSeries_legacyRowWithoutWeightKg_convertsInQuery() {
+        // ARRANGE - simulate a row written before schema v5
+        long weightId = weightEntryDAO.insertWeightEntry(
+                createTestEntry(testUserId, 100.0, LocalDate.of(2025, 12, 1), false));
+        dbHelper.getWritableDatabase().execSQL(
+                "UPDATE daily_weights SET weight_kg = NULL WHERE weight_id = ?", new Object[]{weightId});
+        dbHelper.getWeightSeriesCache().invalidate(testUserId);
+
+        // ACT
+        Double weightKg = weightEntryDAO.getWeightSeries(testUserId).getWeightKgOn(LocalDate.of(2025, 12, 1));
+
+        // ASSERT
+        assertNotNull(weightKg);
+        assertEquals(45.3592, weightKg, 0.0001);
+    }
+
+    @Test
+    public void test_getWeightStatsForUser_computesAggregatesAndTrend() {
+        // ARRANGE - 1 kg lost per day over three days, last entry logged in lbs, plus a tombstone
+        WeightEntry day1 = createTestEntry(testUserId, 82.0, LocalDate.of(2025, 12, 1), false);
+        day1.setWeightUnit("kg");
+        WeightEntry day2 = createTestEntry(testUserId, 81.0, LocalDate.of(2025, 12, 2), false);
+        day2.setWeightUnit("kg");
+        WeightEntry day3 = createTestEntry(testUserId, 80.0 / WeightUtils.LBS_TO_KG_CONVERSION,
+                LocalDate.of(2025, 12, 3), false);
+        weightEntryDAO.insertWeightEntry(day1);
+        weightEntryDAO.insertWeightEntry(day2);
+        weightEntryDAO.insertWeightEntry(day3);
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 50.0, LocalDate.of(2025, 12, 4), true));
+
+        // ACT
+        WeightStats stats = weightEntryDAO.getWeightStatsForUser(testUserId);
+
+        // ASSERT
+        assertNotNull(stats);
+        assertEquals(3, stats.getEntryCount());
+        assertEquals(80.0, stats.getMinKg(), 0.0001);
+        assertEquals(82.0, stats.getMaxKg(), 0.0001);
+        assertEquals(81.0, stats.getAverageKg(), 0.0001);
+        assertNotNull(stats.getTrendKgPerDay());
+        assertEquals(-1.0, stats.getTrendKgPerDay(), 0.0001);
+    }
+
+    @Test
+    public void test_getWeightStatsForUser_singleDate_hasNoTrend() {
+        // ARRANGE
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 170.0, LocalDate.of(2025, 12, 1), false));
+
+        // ACT
+        WeightStats stats = weightEntryDAO.getWeightSeries(testUserId).getStats();
+
+        // ASSERT
+        assertNotNull(stats);
+        assertEquals(1, stats.getEntryCount());
+        assertNull("Trend needs at least two dates", stats.getTrendKgPerDay());
+    }
+
+    @Test
+    public void test_getWeightStatsForUser_noEntries_returnsNull() {
+        // ACT & ASSERT
+        assertNull(weightEntryDAO.getWeightStatsForUser(testUserId));
+    }
+
+    @Test
+    public void test_insertWeightEntries_withBatch_insertsAllAndSetsIds() {
+        // ARRANGE
+        List<WeightEntry> batch = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            batch.add(createTestEntry(testUserId, 180.0 - i * 0.1, LocalDate.of(2025, 10, 1).plusDays(i), false));
+        }
+        WeightEntry kgEntry = createTestEntry(testUserId, 80.0, LocalDate.of(2025, 12, 1), false);
+        kgEntry.setWeightUnit("kg");
+        kgEntry.setNotes("Batch note");
+        batch.add(kgEntry);
+
+        // ACT
+        int inserted = weightEntryDAO.insertWeightEntries(batch);
+
+        // ASSERT
+        assertEquals(51, inserted);
+        assertEquals(51, weightEntryDAO.getWeightEntriesForUser(testUserId).size());
+        WeightEntry stored = weightEntryDAO.getWeightEntryById(kgEntry.getWeightId());
+        assertNotNull("Batch should set each entry's weight_id", stored);
+        assertEquals("kg", stored.getWeightUnit());
+        assertEquals("Batch note", stored.getNotes());
+        assertEquals(80.0, readWeightKg(kgEntry.getWeightId()), 0.001);
+        assertNull(weightEntryDAO.getWeightEntryById(batch.get(0).getWeightId()).getNotes());
+    }
+
+    @Test
+    public void test_insertWeightEntries_withInvalidRow_rollsBackWholeBatch() {
+        // ARRANGE
+        List<WeightEntry> batch = new ArrayList<>();
+        batch.add(createTestEntry(testUserId, 180.0, LocalDate.of(2025, 10, 1), false));
+        batch.add(createTestEntry(testUserId + 1000, 179.0, LocalDate.of(2025, 10, 2), false));
+
+        // ACT
+        int inserted = weightEntryDAO.insertWeightEntries(batch);
+
+        // ASSERT
+        assertEquals(0, inserted);
+        assertTrue(weightEntryDAO.getWeightEntriesForUser(testUserId).isEmpty());
+    }
+
+    @Test
+    public void test_insertWeightEntries_withEmptyList_returnsZero() {
+        // ACT & ASSERT
+        assertEquals(0, weightEntryDAO.insertWeightEntries(new ArrayList<>()));
+    }
+
+    @Test
+    public void test_getWeightEntriesBetween_returnsInclusiveRangeOldestFirst() {
+        // ARRANGE
+        LocalDate start = LocalDate.of(2025, 12, 1);
+        for (int i = 0; i < 10; i++) {
+            weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 180.0 - i, start.plusDays(i), i == 5));
+        }
+
+        // ACT
+        List<WeightEntry> entries = weightEntryDAO.getWeightEntriesBetween(testUserId,
+                start.plusDays(2), start.plusDays(7));
+
+        // ASSERT: days 2..7 without the deleted day 5
+        assertEquals(5, entries.size());
+        assertEquals(start.plusDays(2), entries.get(0).getWeightDate());
+        assertEquals(start.plusDays(7), entries.get(4).getWeightDate());
+        for (int i = 1; i < entries.size(); i++) {
+            assertTrue("Entries should be oldest first",
+                    entries.get(i - 1).getWeightDate().isBefore(entries.get(i).getWeightDate()));
+        }
+    }
+
+    @Test
+    public void test_getWeightEntriesBetween_emptyOrReversedRange_returnsEmpty() {
+        // ARRANGE
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 180.0, LocalDate.of(2025, 12, 1), false));
+
+        // ACT & ASSERT
+        assertTrue(weightEntryDAO.getWeightEntriesBetween(testUserId,
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30)).isEmpty());
+        assertTrue(weightEntryDAO.getWeightEntriesBetween(testUserId,
+                LocalDate.of(2025, 12, 2), LocalDate.of(2025, 12, 1)).isEmpty());
+    }
+
+    @Test
+    public void test_getLatestWeightEntryBefore_skipsDateAndDeletedEntries() {
+        // ARRANGE
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 170.0, LocalDate.of(2025, 12, 1), false));
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 171.0, LocalDate.of(2025, 12, 5), true));
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 172.0, LocalDate.of(2025, 12, 9), false));
+
+        // ACT
+        WeightEntry before = weightEntryDAO.getLatestWeightEntryBefore(testUserId, LocalDate.of(2025, 12, 9));
+
+        // ASSERT
+        assertNotNull(before);
+        assertEquals(LocalDate.of(2025, 12, 1), before.getWeightDate());
+        assertNull(weightEntryDAO.getLatestWeightEntryBefore(testUserId, LocalDate.of(2025, 12, 1)));
+    }
+
+    @Test
+    public void test_getWeightSeries_slice_matchesEntriesInKilograms() {
+        // ARRANGE: mixed units, one deleted day
+        LocalDate start = LocalDate.of(2024, 2, 27);
+        for (int i = 0; i < 6; i++) {
+            WeightEntry entry = createTestEntry(testUserId, 80.0 + i, start.plusDays(i), i == 3);
+            entry.setWeightUnit(i % 2 == 0 ? "kg" : "lbs");
+            weightEntryDAO.insertWeightEntry(entry);
+        }
+
+        // ACT
+        WeightPoints points = weightEntryDAO.getWeightSeries(testUserId).slice(start, start.plusDays(5));
+        List<WeightEntry> entries = weightEntryDAO.getWeightEntriesBetween(testUserId, start, start.plusDays(5));
+
+        // ASSERT: same rows as the full query, across the leap day
+        assertEquals(5, points.size());
+        assertEquals(entries.size(), points.size());
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(entries.get(i).getWeightDate(), points.getDate(i));
+            assertEquals(entries.get(i).getWeightKg(), points.getWeightKg(i), 0.0001);
+        }
+        assertEquals(LocalDate.of(2024, 2, 29), points.getDate(2));
+        assertNull(points.getWeightKgOn(start.plusDays(3)));
+        assertEquals(80.0, points.getWeightKgOn(start), 0.0);
+    }
+
+    @Test
+    public void test_getWeightSeries_keptInStepWithWrites() {
+        // ARRANGE: load the series, then write through the DAO
+        LocalDate day = LocalDate.of(2025, 12, 10);
+        WeightEntry first = createTestEntry(testUserId, 180.0, day, false);
+        first.setWeightId(weightEntryDAO.insertWeightEntry(first));
+        assertEquals(1, weightEntryDAO.getWeightSeries(testUserId).size());
+
+        // ACT
+        WeightEntry earlier = createTestEntry(testUserId, 182.0, day.minusDays(5), false);
+        earlier.setWeightId(weightEntryDAO.insertWeightEntry(earlier));
+        first.setWeightDate(day.plusDays(1));
+        first.setWeightValue(179.0);
+        weightEntryDAO.updateWeightEntry(first);
+        weightEntryDAO.deleteWeightEntry(earlier.getWeightId());
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 150.0, day, true));
+
+        // ASSERT: the cached series matches a fresh read of the table
+        WeightPoints actual = weightEntryDAO.getWeightSeries(testUserId).slice(day.minusYears(1), day.plusYears(1));
+        dbHelper.getWeightSeriesCache().invalidate(testUserId);
+        WeightPoints expected = weightEntryDAO.getWeightSeries(testUserId).slice(day.minusYears(1), day.plusYears(1));
+        assertArrayEquals(expected.getEpochDays(), actual.getEpochDays());
+        assertArrayEquals(expected.getWeightsKg(), actual.getWeightsKg(), 0.0);
+        assertEquals(1, actual.size());
+        assertEquals(day.plusDays(1), actual.getDate(0));
+    }
+
+    @Test
+    public void test_getWeightSeries_batchInsert_reloads() {
+        // ARRANGE
+        WeightSeries before = weightEntryDAO.getWeightSeries(testUserId);
+        assertTrue(before.isEmpty());
+        List<WeightEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entries.add(createTestEntry(testUserId, 180.0 - i, LocalDate.of(2025, 11, 1).plusDays(i), false));
+        }
+
+        // ACT
+        weightEntryDAO.insertWeightEntries(entries);
+        WeightSeries after = weightEntryDAO.getWeightSeries(testUserId);
+
+        // ASSERT
+        assertNotSame(before, after);
+        assertEquals(10, after.size());
+    }
+
+    @Test
+    public void test_getWeightSeries_modifyingResult_leavesCacheIntact() {
+        // ARRANGE
+        LocalDate day = LocalDate.of(2025, 12, 10);
+        weightEntryDAO.insertWeightEntry(createTestEntry(testUserId, 180.0, day, false));
+        WeightSeries series = weightEntryDAO.getWeightSeries(testUserId);
+
+        // ACT
+        series.put(day.plusDays(1), 1.0);
+        series.remove(day);
+
+        // ASSERT
+        WeightSeries again = weightEntryDAO.getWeightSeries(testUserId);
+        assertEquals(1, again.size());
+        assertNotNull(again.getWeightKgOn(day));
+        assertNull(again.getWeightKgOn(day.plusDays(1)));
+    }
+
+    @Test
+    public void test_getWeightSeries_getStats_matchesSqlAggregate() {
+        // ARRANGE: irregular days, mixed units
+        int[] offsets = {0, 1, 4, 9, 10, 30, 31, 60};
+        for (int i = 0; i < offsets.length; i++) {
+            WeightEntry entry = createTestEntry(testUserId, 190.0 - i * 0.7 + (i % 3),
+                    LocalDate.of(2025, 6, 1).plusDays(offsets[i]), false);
+            entry.setWeightUnit(i % 2 == 0 ? "lbs" : "kg");
+            weightEntryDAO.insertWeightEntry(entry);
+        }
+
+        // ACT
+        WeightStats sql = weightEntryDAO.getWeightStatsForUser(testUserId);
+        WeightStats series = weightEntryDAO.getWeightSeries(testUserId).getStats();
+
+        // ASSERT
+        assertNotNull(sql);
+        assertNotNull(series);
+        assertEquals(sql.getEntryCount(), series.getEntryCount());
+        assertEquals(sql.getMinKg(), series.getMinKg(), 1e-9);
+        assertEquals(sql.getMaxKg(), series.getMaxKg(), 1e-9);
+        assertEquals(sql.getAverageKg(), series.getAverageKg(), 1e-9);
+        assertEquals(sql.getTrendKgPerDay(), series.getTrendKgPerDay(), 1e-9);
+    }
+
+    private double readWeightKg(long weightId) {
+        try (Cursor cursor = dbHelper.getReadableDatabase().rawQuery(
+                "SELECT weight_kg FROM daily_weights WHERE weight_id = ?",
+                new String[]{String.valueOf(weightId)})) {
+            assertTrue("Row should exist", cursor.moveToFirst());
+            return cursor.getDouble(0);
+        }
+    }
+
     // Helper method to create test entries
     private WeightEntry createTestEntry(long userId, double weight, LocalDate date, boolean isDeleted) {
         WeightEntry entry = new WeightEntry();
@@ -0,0 +1,141 @@
+package com.example.weightogo.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+/**
+ * Unit tests for WeightKgBackfillMigration.
+ *
+ * Simulates rows written before schema v5 (weight_kg NULL) and verifies:
+ * - The backfill converts lbs and kg rows to canonical kilograms
+ * - Rows that already have weight_kg are left untouched
+ * - The migration is registered in DataMigrationRunner.create()
+ */
+@RunWith(RobolectricTestRunner.class)
+public class WeightKgBackfillMigrationTest {
+
+    private WeighToGoDBHelper dbHelper;
+    private WeightEntryDAO weightEntryDAO;
+    private UserDAO userDAO;
+    private SQLiteDatabase db;
+    private long testUserId;
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+        db = dbHelper.getWritableDatabase();
+        db.delete(WeighToGoDBHelper.TABLE_DATA_MIGRATIONS, null, null);
+
+        User testUser = new User();
+        testUser.setUsername("backfill_testuser");
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+
+        testUserId = userDAO.insertUser(testUser);
+        assertTrue("Test user should be created", testUserId > 0);
+    }
+
+    @After
+    public void tearDown() {
+        db.delete(WeighToGoDBHelper.TABLE_DATA_MIGRATIONS, null, null);
+        if (testUserId > 0) {
+            userDAO.deleteUser(testUserId);
+        }
+    }
+
+    @Test
+    public void test_runPending_legacyRows_backfillsWeightKg() {
+        // ARRANGE
+        long lbsId = insertEntry(200.0, "lbs", 1);
+        long kgId = insertEntry(80.0, "kg", 2);
+        db.execSQL("UPDATE daily_weights SET weight_kg = NULL");
+
+        // ACT
+        DataMigrationRunner.RunResult result = runner().runPending(1, () -> false);
+
+        // ASSERT
+        assertTrue(result.isComplete());
+        assertEquals(2, result.getRowsMigrated());
+        assertEquals(90.7184, readWeightKg(lbsId), 0.0001);
+        assertEquals(80.0, readWeightKg(kgId), 0.0001);
+    }
+
+    @Test
+    public void test_migrateRange_rowsAlreadyPopulated_areSkipped() {
+        // ARRANGE - one legacy row, one row written by the v5 DAO
+        long legacyId = insertEntry(150.0, "lbs", 1);
+        db.execSQL("UPDATE daily_weights SET weight_kg = NULL WHERE weight_id = ?", new Object[]{legacyId});
+        long currentId = insertEntry(151.0, "lbs", 2);
+
+        // ACT
+        int changed = new WeightKgBackfillMigration().migrateRange(db, 0, Math.max(legacyId, currentId));
+
+        // ASSERT
+        assertEquals("Only the legacy row should be rewritten", 1, changed);
+    }
+
+    @Test
+    public void test_create_registersWeightKgBackfill() {
+        // ACT
+        DataMigrationRunner.create(dbHelper).runPending(DataMigrationRunner.DEFAULT_BATCH_SIZE, () -> false);
+
+        // ASSERT
+        assertTrue(DataMigrationRunner.create(dbHelper).isComplete(WeightKgBackfillMigration.ID));
+    }
+
+    // =============================================================================================
+    // HELPERS
+    // =============================================================================================
+
+    private DataMigrationRunner runner() {
+        return new DataMigrationRunner(dbHelper,
+                Collections.singletonList(new WeightKgBackfillMigration()));
+    }
+
+    private long insertEntry(double value, String unit, int day) {
+        WeightEntry entry = new WeightEntry();
+        entry.setUserId(testUserId);
+        entry.setWeightValue(value);
+        entry.setWeightUnit(unit);
+        entry.setWeightDate(LocalDate.of(2025, 12, day));
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        long id = weightEntryDAO.insertWeightEntry(entry);
+        assertTrue("Entry should be inserted", id > 0);
+        return id;
+    }
+
+    private double readWeightKg(long weightId) {
+        try (Cursor cursor = db.rawQuery(
+                "SELECT weight_kg FROM daily_weights WHERE weight_id = ?",
+                new String[]{String.valueOf(weightId)})) {
+            assertTrue("Row should exist", cursor.moveToFirst());
+            return cursor.getDouble(0);
+        }
+    }
+}
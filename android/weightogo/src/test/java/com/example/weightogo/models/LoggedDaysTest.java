@@ -0,0 +1,75 @@
+package com.example.weightogo.models;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for LoggedDays model class.
+ * Verifies date lookups, gaps and streaks over the day bitmap.
+ */
+public class LoggedDaysTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 12, 1);
+
+    @Test
+    public void test_isLogged_insideAndOutsideRange() {
+        // ARRANGE: days 0, 1, 2 and 5 logged
+        LoggedDays days = new LoggedDays(FROM, 7, bits(0, 1, 2, 5));
+
+        // ACT & ASSERT
+        assertTrue(days.isLogged(FROM));
+        assertTrue(days.isLogged(FROM.plusDays(5)));
+        assertFalse(days.isLogged(FROM.plusDays(3)));
+        assertFalse(days.isLogged(FROM.minusDays(1)));
+        assertFalse(days.isLogged(FROM.plusDays(7)));
+        assertTrue(days.isLogged(2));
+        assertFalse(days.isLogged(-1));
+        assertEquals(FROM.plusDays(6), days.getTo());
+        assertEquals(4, days.getLoggedCount());
+    }
+
+    @Test
+    public void test_getMissingDays_returnsGapsOldestFirst() {
+        // ARRANGE
+        LoggedDays days = new LoggedDays(FROM, 7, bits(0, 1, 2, 5));
+
+        // ACT & ASSERT
+        assertEquals(Arrays.asList(FROM.plusDays(3), FROM.plusDays(4), FROM.plusDays(6)),
+                days.getMissingDays());
+    }
+
+    @Test
+    public void test_getStreakEndingOn_countsBackToGapOrRangeStart() {
+        // ARRANGE
+        LoggedDays days = new LoggedDays(FROM, 7, bits(0, 1, 2, 5));
+
+        // ACT & ASSERT
+        assertEquals(3, days.getStreakEndingOn(FROM.plusDays(2)));
+        assertEquals(1, days.getStreakEndingOn(FROM.plusDays(5)));
+        assertEquals(0, days.getStreakEndingOn(FROM.plusDays(4)));
+        assertEquals(0, days.getStreakEndingOn(FROM.plusDays(30)));
+    }
+
+    @Test
+    public void test_constructor_ignoresBitsPastLength() {
+        // ACT
+        LoggedDays days = new LoggedDays(FROM, 3, bits(0, 3, 10));
+
+        // ASSERT
+        assertEquals(1, days.getLoggedCount());
+        assertEquals(2, days.getMissingDays().size());
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int index : indexes) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -223,4 +223,29 @@ public class WeightEntryTest {
         // ACT & ASSERT
         assertNotEquals("Uninitialized entries (weightId=0) should not be equal", entry1, entry2);
     }
+
+    @Test
+    public void test_getWeightKg_withLbsEntry_returnsKilograms() {
+        // ARRANGE
+        WeightEntry entry = new WeightEntry();
+        entry.setWeightValue(200.0);
+        entry.setWeightUnit("lbs");
+
+        // ACT
+        double weightKg = entry.getWeightKg();
+
+        // ASSERT
+        assertEquals("200 lbs should be 90.7184 kg", 90.7184, weightKg, 0.0001);
+    }
+
+    @Test
+    public void test_getWeightKg_withKgEntry_returnsValue() {
+        // ARRANGE
+        WeightEntry entry = new WeightEntry();
+        entry.setWeightValue(80.5);
+        entry.setWeightUnit("kg");
+
+        // ACT & ASSERT
+        assertEquals("kg entries should be returned unchanged", 80.5, entry.getWeightKg(), 0.0);
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.weightogo.models;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WeightPoints model class.
+ * Verifies date lookups and unit conversion over the parallel arrays.
+ */
+public class WeightPointsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 12, 1);
+
+    @Test
+    public void test_indexOf_presentAndMissingDates() {
+        // ARRANGE
+        WeightPoints points = new WeightPoints(
+                new int[]{(int) DAY.toEpochDay(), (int) DAY.plusDays(2).toEpochDay()},
+                new double[]{80.0, 79.5});
+
+        // ACT & ASSERT
+        assertEquals(0, points.indexOf(DAY));
+        assertEquals(1, points.indexOf(DAY.plusDays(2)));
+        assertEquals(-1, points.indexOf(DAY.plusDays(1)));
+        assertEquals(-1, points.indexOf(DAY.minusDays(1)));
+        assertEquals(DAY.plusDays(2), points.getDate(1));
+        assertEquals(79.5, points.getWeightKgOn(DAY.plusDays(2)), 0.0);
+        assertNull(points.getWeightKgOn(DAY.plusDays(1)));
+    }
+
+    @Test
+    public void test_getWeight_withLbsUnit_convertsFromKilograms() {
+        // ARRANGE
+        WeightPoints points = new WeightPoints(new int[]{(int) DAY.toEpochDay()}, new double[]{68.0388});
+
+        // ACT & ASSERT
+        assertEquals(150.0, points.getWeight(0, "lbs"), 0.0);
+        assertEquals(68.0, points.getWeight(0, "kg"), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_constructor_mismatchedLengths_throws() {
+        new WeightPoints(new int[]{1, 2}, new double[]{80.0});
+    }
+
+    @Test
+    public void test_empty_hasNoPoints() {
+        // ACT & ASSERT
+        assertTrue(WeightPoints.empty().isEmpty());
+        assertEquals(0, WeightPoints.empty().size());
+        assertEquals(-1, WeightPoints.empty().indexOf(DAY));
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.weightogo.models;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WeightSeries model class.
+ * Verifies in-place updates, range slicing and statistics over the columns.
+ */
+public class WeightSeriesTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 12, 1);
+
+    @Test
+    public void test_put_appendReplaceAndInsert_keepsDatesOrdered() {
+        // ARRANGE
+        WeightSeries series = new WeightSeries();
+
+        // ACT: append past the initial capacity, then replace and insert out of order
+        for (int i = 0; i < 40; i += 2) {
+            series.put(DAY.plusDays(i), 80.0 + i);
+        }
+        series.put(DAY.plusDays(4), 70.0);
+        series.put(DAY.plusDays(5), 75.0);
+        series.put(DAY.minusDays(1), 90.0);
+
+        // ASSERT
+        assertEquals(22, series.size());
+        assertEquals(DAY.minusDays(1), series.getFirstDate());
+        assertEquals(DAY.plusDays(38), series.getLastDate());
+        assertEquals(70.0, series.getWeightKgOn(DAY.plusDays(4)), 0.0);
+        assertEquals(75.0, series.getWeightKgOn(DAY.plusDays(5)), 0.0);
+        assertNull(series.getWeightKgOn(DAY.plusDays(3)));
+        WeightPoints points = series.slice(DAY.minusDays(1), DAY.plusDays(38));
+        for (int i = 1; i < points.size(); i++) {
+            assertTrue(points.getDate(i - 1).isBefore(points.getDate(i)));
+        }
+    }
+
+    @Test
+    public void test_remove_presentAndMissingDates() {
+        // ARRANGE
+        WeightSeries series = seriesOf(0, 1, 2);
+
+        // ACT & ASSERT
+        assertTrue(series.remove(DAY.plusDays(1)));
+        assertFalse(series.remove(DAY.plusDays(1)));
+        assertEquals(2, series.size());
+        assertNull(series.getWeightKgOn(DAY.plusDays(1)));
+        assertEquals(82.0, series.getWeightKgOn(DAY.plusDays(2)), 0.0);
+    }
+
+    @Test
+    public void test_slice_boundsAreInclusive() {
+        // ARRANGE
+        WeightSeries series = seriesOf(0, 3, 6, 9);
+
+        // ACT & ASSERT
+        assertEquals(2, series.slice(DAY.plusDays(3), DAY.plusDays(6)).size());
+        assertEquals(2, series.slice(DAY.plusDays(1), DAY.plusDays(7)).size());
+        assertEquals(4, series.slice(DAY.minusDays(10), DAY.plusDays(10)).size());
+        assertTrue(series.slice(DAY.plusDays(4), DAY.plusDays(5)).isEmpty());
+        assertTrue(series.slice(DAY.plusDays(6), DAY.plusDays(3)).isEmpty());
+        assertEquals(DAY.plusDays(3), series.slice(DAY.plusDays(1), DAY.plusDays(7)).getDate(0));
+    }
+
+    @Test
+    public void test_slice_isACopy() {
+        // ARRANGE
+        WeightSeries series = seriesOf(0, 1);
+        WeightPoints points = series.slice(DAY, DAY.plusDays(1));
+
+        // ACT
+        series.put(DAY, 50.0);
+
+        // ASSERT
+        assertEquals(80.0, points.getWeightKg(0), 0.0);
+    }
+
+    @Test
+    public void test_getStats_computesAggregatesAndTrend() {
+        // ARRANGE: 0.5 kg lost per day, with a gap
+        WeightSeries series = new WeightSeries();
+        series.put(DAY, 80.0);
+        series.put(DAY.plusDays(2), 79.0);
+        series.put(DAY.plusDays(6), 77.0);
+
+        // ACT
+        WeightStats stats = series.getStats();
+
+        // ASSERT
+        assertNotNull(stats);
+        assertEquals(3, stats.getEntryCount());
+        assertEquals(77.0, stats.getMinKg(), 0.0);
+        assertEquals(80.0, stats.getMaxKg(), 0.0);
+        assertEquals(78.6667, stats.getAverageKg(), 0.0001);
+        assertEquals(-0.5, stats.getTrendKgPerDay(), 0.0001);
+    }
+
+    @Test
+    public void test_getStats_rangeAndEmptyCases() {
+        // ARRANGE
+        WeightSeries series = seriesOf(0, 1, 2, 3);
+
+        // ACT
+        WeightStats range = series.getStats(DAY.plusDays(1), DAY.plusDays(1));
+
+        // ASSERT
+        assertNotNull(range);
+        assertEquals(1, range.getEntryCount());
+        assertNull("Trend needs at least two dates", range.getTrendKgPerDay());
+        assertNull(series.getStats(DAY.plusDays(10), DAY.plusDays(20)));
+        assertNull(new WeightSeries().getStats());
+    }
+
+    @Test
+    public void test_getActiveStreak_countsConsecutiveDaysWhileCurrent() {
+        // ARRANGE: a gap at day 2, then days 3-6
+        WeightSeries series = seriesOf(0, 1, 3, 4, 5, 6);
+
+        // ACT & ASSERT
+        assertEquals(4, series.getActiveStreak(DAY.plusDays(6)));
+        assertEquals("Ending yesterday still counts", 4, series.getActiveStreak(DAY.plusDays(7)));
+        assertEquals("Older than yesterday is not active", 0, series.getActiveStreak(DAY.plusDays(8)));
+        assertEquals(0, new WeightSeries().getActiveStreak(DAY));
+    }
+
+    @Test
+    public void test_from_copiesPoints() {
+        // ARRANGE
+        WeightPoints points = new WeightPoints(
+                new int[]{(int) DAY.toEpochDay(), (int) DAY.plusDays(1).toEpochDay()},
+                new double[]{80.0, 79.0});
+
+        // ACT
+        WeightSeries series = WeightSeries.from(points);
+        series.put(DAY.plusDays(2), 78.0);
+        series.put(DAY, 60.0);
+
+        // ASSERT
+        assertEquals(3, series.size());
+        assertEquals(80.0, points.getWeightKg(0), 0.0);
+        assertEquals(2, points.size());
+    }
+
+    private static WeightSeries seriesOf(int... offsets) {
+        WeightSeries series = new WeightSeries();
+        for (int offset : offsets) {
+            series.put(DAY.plusDays(offset), 80.0 + offset);
+        }
+        return series;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.weightogo.models;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for WeightStats model class.
+ * Verifies kilogram values are converted once to the requested display unit.
+ */
+public class WeightStatsTest {
+
+    @Test
+    public void test_getters_withLbsUnit_convertFromKilograms() {
+        // ARRANGE
+        WeightStats stats = new WeightStats(3, 68.0388, 72.5747, 70.0, -0.5);
+
+        // ACT & ASSERT
+        assertEquals(150.0, stats.getMin("lbs"), 0.0);
+        assertEquals(160.0, stats.getMax("lbs"), 0.0);
+        assertEquals(70.0, stats.getAverage("kg"), 0.0);
+    }
+
+    @Test
+    public void test_getTrendPerWeek_losingWeight_returnsNegativeWeeklyValue() {
+        // ARRANGE
+        WeightStats stats = new WeightStats(10, 70.0, 75.0, 72.0, -0.1);
+
+        // ACT
+        Double trendKg = stats.getTrendPerWeek("kg");
+        Double trendLbs = stats.getTrendPerWeek("lbs");
+
+        // ASSERT
+        assertEquals(-0.7, trendKg, 0.0);
+        assertEquals(-1.5, trendLbs, 0.0);
+    }
+
+    @Test
+    public void test_getTrendPerWeek_noTrend_returnsNull() {
+        // ARRANGE
+        WeightStats stats = new WeightStats(1, 70.0, 70.0, 70.0, null);
+
+        // ACT & ASSERT
+        assertNull(stats.getTrendPerWeek("kg"));
+    }
+}
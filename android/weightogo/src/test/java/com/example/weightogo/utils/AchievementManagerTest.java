@@ -8,6 +8,8 @@ import android.database.sqlite.SQLiteDatabase;
 import com.example.weightogo.database.AchievementDAO;
 import com.example.weightogo.database.DatabaseException;
 import com.example.weightogo.database.GoalWeightDAO;
+import com.example.weightogo.database.QueryBudget;
+import com.example.weightogo.database.QueryCounter;
 import com.example.weightogo.database.UserDAO;
 import com.example.weightogo.database.WeighToGoDBHelper;
 import com.example.weightogo.database.WeightEntryDAO;
@@ -25,6 +27,7 @@ import org.robolectric.RuntimeEnvironment;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -105,7 +108,7 @@ public class AchievementManagerTest {
         goalWeightDAO.setNewActiveGoal(goal);
 
         // ACT
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 150.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 150.0, "lbs");
 
         // ASSERT
         assertNotNull("Should return list of achievements", achievements);
@@ -123,7 +126,7 @@ public class AchievementManagerTest {
         // ARRANGE - No existing weight entries
 
         // ACT
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 180.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 180.0, "lbs");
 
         // ASSERT
         boolean hasFirstEntry = achievements.stream()
@@ -153,7 +156,7 @@ public class AchievementManagerTest {
         }
 
         // ACT
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 180.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 180.0, "lbs");
 
         // ASSERT
         boolean hasStreak7 = achievements.stream()
@@ -183,7 +186,7 @@ public class AchievementManagerTest {
         }
 
         // ACT
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 180.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 180.0, "lbs");
 
         // ASSERT
         boolean hasStreak30 = achievements.stream()
@@ -210,7 +213,7 @@ public class AchievementManagerTest {
         goalWeightDAO.setNewActiveGoal(goal);
 
         // ACT - Lost 5 lbs (180 → 175)
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 175.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 175.0, "lbs");
 
         // ASSERT
         boolean hasMilestone5 = achievements.stream()
@@ -237,7 +240,7 @@ public class AchievementManagerTest {
         goalWeightDAO.setNewActiveGoal(goal);
 
         // ACT - Lost 10 lbs (180 → 170)
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 170.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 170.0, "lbs");
 
         // ASSERT
         boolean hasMilestone10 = achievements.stream()
@@ -264,7 +267,7 @@ public class AchievementManagerTest {
         goalWeightDAO.setNewActiveGoal(goal);
 
         // ACT - Lost 25 lbs (180 → 155)
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 155.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 155.0, "lbs");
 
         // ASSERT
         boolean hasMilestone25 = achievements.stream()
@@ -291,7 +294,7 @@ public class AchievementManagerTest {
         weightEntryDAO.insertWeightEntry(previousEntry);
 
         // ACT - New lower weight
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 175.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 175.0, "lbs");
 
         // ASSERT
         boolean hasNewLow = achievements.stream()
@@ -299,6 +302,61 @@ public class AchievementManagerTest {
         assertTrue("Should award NEW_LOW achievement", hasNewLow);
     }
 
+    /**
+     * Verify that NEW_LOW compares the saved entry in its own unit, not the unit of the
+     * latest-dated entry (a backdated lbs entry while the newest entry is in kg).
+     */
+    @Test
+    public void test_checkAchievements_backdatedEntryInOtherUnit_usesSavedEntryUnit() {
+        // ARRANGE - newest entry is 80 kg (176.4 lbs)
+        WeightEntry latestEntry = new WeightEntry();
+        latestEntry.setUserId(testUserId);
+        latestEntry.setWeightValue(80.0);
+        latestEntry.setWeightUnit("kg");
+        latestEntry.setWeightDate(LocalDate.now());
+        latestEntry.setCreatedAt(LocalDateTime.now());
+        latestEntry.setUpdatedAt(LocalDateTime.now());
+        weightEntryDAO.insertWeightEntry(latestEntry);
+
+        // ACT - 170 lbs (77.1 kg) logged for last week; read as kg it would be 170 kg
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 170.0, "lbs");
+
+        // ASSERT
+        Achievement newLow = achievements.stream()
+                .filter(a -> "NEW_LOW".equals(a.getAchievementType()))
+                .findFirst()
+                .orElse(null);
+        assertNotNull("Should award NEW_LOW achievement", newLow);
+        assertTrue(newLow.getDescription().contains("lbs"));
+    }
+
+    /**
+     * Verify that milestones compare an entry logged in kg with a goal set in lbs in the
+     * goal's unit (79 kg is 174.2 lbs, 5.8 lbs below the 180 lbs start).
+     */
+    @Test
+    public void test_checkAchievements_kgEntryWithLbsGoal_awardsMilestoneInGoalUnit() {
+        // ARRANGE
+        GoalWeight goal = new GoalWeight();
+        goal.setUserId(testUserId);
+        goal.setGoalWeight(160.0);
+        goal.setStartWeight(180.0);
+        goal.setGoalUnit("lbs");
+        goal.setActive(true);
+        goal.setCreatedAt(LocalDateTime.now());
+        goal.setUpdatedAt(LocalDateTime.now());
+        goalWeightDAO.setNewActiveGoal(goal);
+
+        // ACT
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 79.0, "kg");
+
+        // ASSERT
+        assertTrue("Should award MILESTONE_5", achievements.stream()
+                .anyMatch(a -> "MILESTONE_5".equals(a.getAchievementType())));
+        assertFalse("101 kg/lbs difference must not count as 10 lbs lost", achievements.stream()
+                .anyMatch(a -> "MILESTONE_10".equals(a.getAchievementType())));
+    }
+
     /**
      * Tests FR3.1.9 - Duplicate prevention for GOAL_REACHED
      * Verify that duplicate achievements are not awarded.
@@ -318,13 +376,13 @@ public class AchievementManagerTest {
         goalWeightDAO.setNewActiveGoal(goal);
 
         // First check - should award
-        List<Achievement> firstCheck = achievementManager.checkAchievements(testUserId, 150.0);
+        List<Achievement> firstCheck = achievementManager.checkAchievements(testUserId, 150.0, "lbs");
         long firstCount = firstCheck.stream()
                 .filter(a -> "GOAL_REACHED".equals(a.getAchievementType()))
                 .count();
 
         // ACT - Second check with same weight
-        List<Achievement> secondCheck = achievementManager.checkAchievements(testUserId, 150.0);
+        List<Achievement> secondCheck = achievementManager.checkAchievements(testUserId, 150.0, "lbs");
 
         // ASSERT
         long secondCount = secondCheck.stream()
@@ -357,13 +415,13 @@ public class AchievementManagerTest {
         }
 
         // First check - should award
-        List<Achievement> firstCheck = achievementManager.checkAchievements(testUserId, 180.0);
+        List<Achievement> firstCheck = achievementManager.checkAchievements(testUserId, 180.0, "lbs");
         long firstCount = firstCheck.stream()
                 .filter(a -> "STREAK_7".equals(a.getAchievementType()))
                 .count();
 
         // ACT - Second check on same day
-        List<Achievement> secondCheck = achievementManager.checkAchievements(testUserId, 179.0);
+        List<Achievement> secondCheck = achievementManager.checkAchievements(testUserId, 179.0, "lbs");
 
         // ASSERT
         long secondCount = secondCheck.stream()
@@ -393,13 +451,13 @@ public class AchievementManagerTest {
         goalWeightDAO.setNewActiveGoal(goal);
 
         // First check - should award
-        List<Achievement> firstCheck = achievementManager.checkAchievements(testUserId, 175.0);
+        List<Achievement> firstCheck = achievementManager.checkAchievements(testUserId, 175.0, "lbs");
         long firstCount = firstCheck.stream()
                 .filter(a -> "MILESTONE_5".equals(a.getAchievementType()))
                 .count();
 
         // ACT - Second check with same weight
-        List<Achievement> secondCheck = achievementManager.checkAchievements(testUserId, 175.0);
+        List<Achievement> secondCheck = achievementManager.checkAchievements(testUserId, 175.0, "lbs");
 
         // ASSERT
         long secondCount = secondCheck.stream()
@@ -431,7 +489,7 @@ public class AchievementManagerTest {
         // No existing entries = FIRST_ENTRY + MILESTONE_5 met (NEW_LOW not awarded on first entry)
 
         // ACT
-        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 175.0);
+        List<Achievement> achievements = achievementManager.checkAchievements(testUserId, 175.0, "lbs");
 
         // ASSERT
         assertTrue("Should award multiple achievements", achievements.size() >= 2);
@@ -444,4 +502,68 @@ public class AchievementManagerTest {
         assertTrue("Should award FIRST_ENTRY", hasFirstEntry);
         assertTrue("Should award MILESTONE_5", hasMilestone5);
     }
+
+    /**
+     * Query budget: a check that awards several achievements reads with 3 queries and writes
+     * them in one transaction.
+     */
+    @Test
+    public void test_checkAchievements_multipleAwards_staysWithinQueryBudget() {
+        // ARRANGE
+        GoalWeight goal = new GoalWeight();
+        goal.setUserId(testUserId);
+        goal.setGoalWeight(170.0);
+        goal.setStartWeight(180.0);
+        goal.setGoalUnit("lbs");
+        goal.setActive(true);
+        goal.setCreatedAt(LocalDateTime.now());
+        goal.setUpdatedAt(LocalDateTime.now());
+        goalWeightDAO.setNewActiveGoal(goal);
+
+        List<List<Achievement>> result = new ArrayList<>();
+
+        // ACT
+        QueryCounter.Stats stats = QueryBudget.of("checkAchievements")
+                .maxQueries(3)
+                .maxWriteTransactions(1)
+                .assertWithin(() -> result.add(achievementManager.checkAchievements(testUserId, 170.0, "lbs")));
+
+        // ASSERT - FIRST_ENTRY, GOAL_REACHED, MILESTONE_5 and MILESTONE_10 in one batch
+        assertEquals(4, result.get(0).size());
+        assertEquals(4, stats.getWrites());
+    }
+
+    /**
+     * Query budget: once the weight series is loaded, a check reads no weight rows, however
+     * long the history.
+     */
+    @Test
+    public void test_checkAchievements_longHistory_seriesLoaded_readsNoWeightRows() {
+        // ARRANGE - 400 consecutive days
+        LocalDate today = LocalDate.now();
+        List<WeightEntry> history = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            WeightEntry entry = new WeightEntry();
+            entry.setUserId(testUserId);
+            entry.setWeightValue(180.0 + (i % 7) * 0.1);
+            entry.setWeightUnit("lbs");
+            entry.setWeightDate(today.minusDays(i));
+            entry.setCreatedAt(LocalDateTime.now());
+            entry.setUpdatedAt(LocalDateTime.now());
+            history.add(entry);
+        }
+        weightEntryDAO.insertWeightEntries(history);
+        assertEquals(400, weightEntryDAO.getWeightSeries(testUserId).size());
+
+        // ACT
+        List<List<Achievement>> result = new ArrayList<>();
+        QueryBudget.of("checkAchievements")
+                .maxQueries(2)
+                .maxWriteTransactions(1)
+                .maxRowsRead(10)
+                .assertWithin(() -> result.add(achievementManager.checkAchievements(testUserId, 180.0, "lbs")));
+
+        // ASSERT - the 400-day streak still comes out of the series
+        assertTrue(result.get(0).stream().anyMatch(a -> "STREAK_30".equals(a.getAchievementType())));
+    }
 }
@@ -0,0 +1,135 @@
+package com.example.weightogo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.util.Log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLog;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Unit tests for AppLog.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class AppLogTest {
+
+    private static final String TAG = "AppLogTest";
+
+    @Before
+    public void setUp() {
+        ShadowLog.clear();
+    }
+
+    @After
+    public void tearDown() {
+        AppLog.setMinLevel(AppLog.DEFAULT_DEBUG_LEVEL);
+        ShadowLog.clear();
+    }
+
+    @Test
+    public void test_format_twoPlaceholders_replacesInOrder() {
+        // ACT
+        String message = AppLog.format("user_id={}, limit={} rows", "42", "7");
+
+        // ASSERT
+        assertEquals("user_id=42, limit=7 rows", message);
+    }
+
+    @Test
+    public void test_format_noPlaceholder_returnsFormat() {
+        // ACT
+        String message = AppLog.format("No entries found", "42", null);
+
+        // ASSERT
+        assertEquals("No entries found", message);
+    }
+
+    @Test
+    public void test_d_enabled_logsFormattedMessage() {
+        // ACT
+        AppLog.d(TAG, "getWeightEntryForDate: user_id={}, date={}", 42L, LocalDate.of(2025, 11, 1));
+        AppLog.i(TAG, "getMinWeightKgForUser: Found min weight = {} kg", 72.5);
+
+        // ASSERT
+        List<ShadowLog.LogItem> logs = ShadowLog.getLogsForTag(TAG);
+        assertEquals(2, logs.size());
+        assertEquals(Log.DEBUG, logs.get(0).type);
+        assertEquals("getWeightEntryForDate: user_id=42, date=2025-11-01", logs.get(0).msg);
+        assertEquals(Log.INFO, logs.get(1).type);
+        assertEquals("getMinWeightKgForUser: Found min weight = 72.5 kg", logs.get(1).msg);
+    }
+
+    @Test
+    public void test_setMinLevel_warn_dropsDebugAndInfo() {
+        // ARRANGE
+        AppLog.setMinLevel(Log.WARN);
+
+        // ACT
+        AppLog.d(TAG, "getWeightEntriesForUser: user_id={}", 42L);
+        AppLog.i(TAG, "getWeightEntriesForUser: Found {} entries", 12);
+
+        // ASSERT
+        assertFalse(AppLog.isDebugEnabled());
+        assertFalse(AppLog.isInfoEnabled());
+        assertTrue(ShadowLog.getLogsForTag(TAG).isEmpty());
+    }
+
+    /**
+     * Test: With debug logging off, the DAO read path's log calls (long ids, int counts, double
+     * weights, object arguments) allocate nothing - no boxing, concatenation or formatting
+     */
+    @Test
+    public void test_d_disabled_daoReadPathAllocatesNothing() {
+        // ARRANGE
+        AppLog.setMinLevel(Log.WARN);
+        long userId = 1_000_000L;
+        int count = 5_000;
+        double minWeightKg = 72.5;
+        String key = "weight_unit";
+        daoReadPathLogging(userId, count, minWeightKg, key, 1_000);
+
+        // ACT
+        long before = allocatedBytes();
+        daoReadPathLogging(userId, count, minWeightKg, key, 100_000);
+        long bytes = allocatedBytes() - before;
+
+        // ASSERT
+        assertTrue("Disabled logging allocated " + bytes + " bytes", bytes < 1_024);
+    }
+
+    @Test
+    public void test_maskPhone_matchesValidationUtils() {
+        // ACT & ASSERT
+        assertEquals(ValidationUtils.maskPhoneNumber("+12025551234"), AppLog.maskPhone("+12025551234"));
+        assertEquals("***1234", AppLog.maskPhone("+12025551234"));
+        assertEquals(ValidationUtils.maskPhoneNumber(null), AppLog.maskPhone(null));
+    }
+
+    private static void daoReadPathLogging(long userId, int count, double minWeightKg, String key, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            AppLog.d(TAG, "getWeightEntriesForUser: user_id={}", userId + i);
+            AppLog.i(TAG, "getWeightEntriesForUser: Found {} entries", count + i);
+            AppLog.d(TAG, "getRecentWeightEntriesForUser: user_id={}, limit={}", userId + i, count);
+            AppLog.d(TAG, "checkAchievements: Checking achievements for user_id={}, new_weight={}", userId, minWeightKg);
+            AppLog.i(TAG, "getMinWeightKgForUser: Found min weight = {} kg", minWeightKg);
+            AppLog.d(TAG, "getPreference: user_id={}, key={}", userId + i, key);
+            AppLog.i(TAG, "getAchievementsByType: Found {} {} achievements", count, key);
+        }
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
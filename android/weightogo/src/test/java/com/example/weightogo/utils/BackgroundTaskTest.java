@@ -0,0 +1,146 @@
+package com.example.weightogo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Looper;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for BackgroundTask. Under Robolectric the test thread is the main looper thread.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class BackgroundTaskTest {
+
+    private static final long WAIT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    /** Records the single delivery a task posts to the main thread */
+    private static final class RecordingCallback implements BackgroundTask.Callback<String> {
+        String result;
+        Exception error;
+        Thread thread;
+
+        @Override
+        public void onResult(String result) {
+            this.result = result;
+            this.thread = Thread.currentThread();
+        }
+
+        @Override
+        public void onError(Exception error) {
+            this.error = error;
+            this.thread = Thread.currentThread();
+        }
+
+        boolean isDelivered() {
+            return thread != null;
+        }
+    }
+
+    @Test
+    public void test_whenDone_successfulTask_postsResultToMainThread() throws InterruptedException {
+        // ARRANGE
+        RecordingCallback callback = new RecordingCallback();
+        BackgroundTask.Task<String> task = BackgroundTask.submit(() -> "done");
+
+        // ACT
+        task.whenDone(callback);
+        awaitDelivery(callback);
+
+        // ASSERT
+        assertEquals("done", callback.result);
+        assertNull(callback.error);
+        assertSame(Looper.getMainLooper().getThread(), callback.thread);
+    }
+
+    @Test
+    public void test_whenDone_failedTask_postsCauseToOnError() throws InterruptedException {
+        // ARRANGE
+        IllegalStateException failure = new IllegalStateException("boom");
+        RecordingCallback callback = new RecordingCallback();
+        BackgroundTask.Task<String> task = BackgroundTask.submit(() -> {
+            throw failure;
+        });
+
+        // ACT
+        task.whenDone(callback);
+        awaitDelivery(callback);
+
+        // ASSERT
+        assertNull(callback.result);
+        assertSame(failure, callback.error);
+    }
+
+    @Test
+    public void test_whenDone_pendingTask_holdsNoPoolThread() throws InterruptedException {
+        // ARRANGE
+        CountDownLatch release = new CountDownLatch(1);
+        BackgroundTask.Task<String> blocked = BackgroundTask.submit(() -> {
+            release.await();
+            return "released";
+        });
+        RecordingCallback[] callbacks = new RecordingCallback[8];
+        for (int i = 0; i < callbacks.length; i++) {
+            callbacks[i] = new RecordingCallback();
+            blocked.whenDone(callbacks[i]);
+        }
+
+        // ACT
+        BackgroundTask.Task<String> other = BackgroundTask.submit(() -> "ran");
+        RecordingCallback otherCallback = new RecordingCallback();
+        other.whenDone(otherCallback);
+        awaitDelivery(otherCallback);
+        release.countDown();
+        for (RecordingCallback callback : callbacks) {
+            awaitDelivery(callback);
+        }
+
+        // ASSERT
+        assertEquals("ran", otherCallback.result);
+        for (RecordingCallback callback : callbacks) {
+            assertEquals("released", callback.result);
+        }
+    }
+
+    @Test
+    public void test_submitAfter_failedPrerequisite_runsAfterItFinishes() throws InterruptedException {
+        // ARRANGE
+        CountDownLatch release = new CountDownLatch(1);
+        BackgroundTask.Task<String> prerequisite = BackgroundTask.submit(() -> {
+            release.await();
+            throw new IllegalStateException("boom");
+        });
+        RecordingCallback callback = new RecordingCallback();
+
+        // ACT
+        BackgroundTask.Task<String> dependent = BackgroundTask.submitAfter(prerequisite,
+                () -> prerequisite.isDone() ? "after" : "before");
+        boolean startedEarly = dependent.isDone();
+        release.countDown();
+        dependent.whenDone(callback);
+        awaitDelivery(callback);
+
+        // ASSERT
+        assertFalse(startedEarly);
+        assertEquals("after", callback.result);
+    }
+
+    private static void awaitDelivery(RecordingCallback callback) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!callback.isDelivered() && System.currentTimeMillis() < deadline) {
+            shadowOf(Looper.getMainLooper()).idle();
+            Thread.sleep(5);
+        }
+        assertTrue("Callback delivered", callback.isDelivered());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.weightogo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+/**
+ * Unit tests for BcryptCalibrator.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class BcryptCalibratorTest {
+
+    private Context context;
+    private int originalCost;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+        originalCost = PasswordUtilsV2.getBcryptCost();
+        BcryptCalibrator.clear(context);
+    }
+
+    @After
+    public void tearDown() {
+        BcryptCalibrator.clear(context);
+        PasswordUtilsV2.setBcryptCost(originalCost);
+    }
+
+    @Test
+    public void test_chooseCost_fastDevice_picksHighestCostUnderTarget() {
+        // ACT & ASSERT: 40ms at cost 10 -> 80, 160 (cost 12), 320 would exceed 300
+        assertEquals(12, BcryptCalibrator.chooseCost(40, 300));
+        // 70ms at cost 10 -> 140 (cost 11), 280 (cost 12)
+        assertEquals(12, BcryptCalibrator.chooseCost(70, 300));
+        // 80ms at cost 10 -> 160 (cost 11), 320 would exceed 300
+        assertEquals(11, BcryptCalibrator.chooseCost(80, 300));
+    }
+
+    @Test
+    public void test_chooseCost_slowDevice_neverBelowMinimum() {
+        // ACT & ASSERT
+        assertEquals(PasswordUtilsV2.MIN_BCRYPT_COST, BcryptCalibrator.chooseCost(900, 300));
+    }
+
+    @Test
+    public void test_chooseCost_veryFastDevice_neverAboveMaximum() {
+        // ACT & ASSERT
+        assertEquals(PasswordUtilsV2.MAX_BCRYPT_COST, BcryptCalibrator.chooseCost(0, 300));
+    }
+
+    @Test
+    public void test_calibrateIfNeeded_storesCostAndAppliesIt() {
+        // ACT
+        int cost = BcryptCalibrator.calibrateIfNeeded(context, 10_000);
+        int again = BcryptCalibrator.calibrateIfNeeded(context, 10_000);
+
+        // ASSERT
+        assertTrue(cost >= PasswordUtilsV2.MIN_BCRYPT_COST && cost <= PasswordUtilsV2.MAX_BCRYPT_COST);
+        assertEquals("Stored cost should be reused", cost, again);
+        assertEquals(cost, PasswordUtilsV2.getBcryptCost());
+    }
+
+    @Test
+    public void test_calibrateIfNeeded_targetChanged_recalibrates() {
+        // ARRANGE: a generous target, then one no device can meet
+        BcryptCalibrator.calibrateIfNeeded(context, 10_000);
+
+        // ACT
+        int cost = BcryptCalibrator.calibrateIfNeeded(context, 1);
+
+        // ASSERT
+        assertEquals(PasswordUtilsV2.MIN_BCRYPT_COST, cost);
+        assertEquals(PasswordUtilsV2.MIN_BCRYPT_COST, PasswordUtilsV2.getBcryptCost());
+    }
+}
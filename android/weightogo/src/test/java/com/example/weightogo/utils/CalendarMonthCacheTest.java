@@ -0,0 +1,200 @@
+package com.example.weightogo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.Context;
+import android.os.Looper;
+
+import com.example.weightogo.database.DatabaseException;
+import com.example.weightogo.database.UserDAO;
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+import com.example.weightogo.models.WeightPoints;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Unit tests for CalendarMonthCache.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class CalendarMonthCacheTest {
+
+    private static final long WAIT_MILLIS = 5_000;
+
+    private WeightEntryDAO weightEntryDAO;
+    private UserDAO userDAO;
+    private long testUserId;
+    private final YearMonth thisMonth = YearMonth.now();
+    private final List<YearMonth> delivered = new ArrayList<>();
+    private final List<WeightPoints> deliveredPoints = new ArrayList<>();
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        WeighToGoDBHelper dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+
+        User testUser = new User();
+        testUser.setUsername("calendar_" + System.nanoTime() % 100_000);
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+        testUserId = userDAO.insertUser(testUser);
+    }
+
+    @After
+    public void tearDown() {
+        if (testUserId > 0) {
+            userDAO.deleteUser(testUserId);
+        }
+    }
+
+    @Test
+    public void test_show_uncachedMonth_deliversAfterLoadAndPrefetchesNeighbours() throws InterruptedException {
+        // ARRANGE: daily entries for the past three years
+        insertDailyEntries(thisMonth.minusYears(3).atDay(1), thisMonth.atEndOfMonth());
+        CalendarMonthCache cache = new CalendarMonthCache(weightEntryDAO, testUserId);
+        YearMonth month = thisMonth.minusMonths(6);
+
+        // ACT
+        cache.show(month, this::onMonthLoaded);
+        awaitCondition(() -> !delivered.isEmpty()
+                && cache.getCachedMonth(month.minusMonths(1)) != null
+                && cache.getCachedMonth(month.plusMonths(1)) != null);
+
+        // ASSERT
+        assertEquals(1, delivered.size());
+        assertEquals(month, delivered.get(0));
+        assertEquals(month.lengthOfMonth(), deliveredPoints.get(0).size());
+        assertEquals(month.atDay(1), deliveredPoints.get(0).getDate(0));
+        assertNotNull(cache.getCachedMonth(month.minusMonths(1)));
+        assertNotNull(cache.getCachedMonth(month.plusMonths(1)));
+    }
+
+    @Test
+    public void test_show_prefetchedMonth_deliversBeforeReturning() throws InterruptedException {
+        // ARRANGE
+        insertDailyEntries(thisMonth.minusMonths(3).atDay(1), thisMonth.atEndOfMonth());
+        CalendarMonthCache cache = new CalendarMonthCache(weightEntryDAO, testUserId);
+        YearMonth month = thisMonth.minusMonths(1);
+        cache.show(month, this::onMonthLoaded);
+        awaitCondition(() -> cache.getCachedMonth(month.minusMonths(1)) != null);
+        delivered.clear();
+
+        // ACT: page back without idling the main looper
+        cache.show(month.minusMonths(1), this::onMonthLoaded);
+
+        // ASSERT
+        assertEquals(1, delivered.size());
+        assertEquals(month.minusMonths(1), delivered.get(0));
+    }
+
+    @Test
+    public void test_show_currentMonth_doesNotPrefetchFuture() throws InterruptedException {
+        // ARRANGE
+        CalendarMonthCache cache = new CalendarMonthCache(weightEntryDAO, testUserId);
+
+        // ACT
+        cache.show(thisMonth, this::onMonthLoaded);
+        awaitCondition(() -> !delivered.isEmpty() && cache.getCachedMonth(thisMonth.minusMonths(1)) != null);
+
+        // ASSERT
+        assertTrue(deliveredPoints.get(0).isEmpty());
+        assertNull(cache.getCachedMonth(thisMonth.plusMonths(1)));
+    }
+
+    @Test
+    public void test_invalidate_reloadsShownMonthWithNewEntry() throws InterruptedException {
+        // ARRANGE
+        CalendarMonthCache cache = new CalendarMonthCache(weightEntryDAO, testUserId);
+        YearMonth month = thisMonth.minusMonths(2);
+        cache.show(month, this::onMonthLoaded);
+        awaitCondition(() -> !delivered.isEmpty());
+        assertTrue(deliveredPoints.get(0).isEmpty());
+        weightEntryDAO.insertWeightEntry(createEntry(month.atDay(15), 80.0));
+
+        // ACT
+        cache.invalidate();
+        awaitCondition(() -> delivered.size() == 2);
+
+        // ASSERT
+        assertEquals(2, delivered.size());
+        assertEquals(80.0, deliveredPoints.get(1).getWeightKgOn(month.atDay(15)), 0.0);
+    }
+
+    @Test
+    public void test_show_pagingBackTwoYears_keepsAtMostMaxMonths() throws InterruptedException {
+        // ARRANGE
+        CalendarMonthCache cache = new CalendarMonthCache(weightEntryDAO, testUserId);
+
+        // ACT
+        for (int i = 0; i < 24; i++) {
+            YearMonth month = thisMonth.minusMonths(i);
+            cache.show(month, this::onMonthLoaded);
+            awaitCondition(() -> cache.getCachedMonth(month) != null);
+        }
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // ASSERT
+        assertTrue(cache.getCachedMonthCount() <= CalendarMonthCache.MAX_MONTHS);
+        assertNotNull(cache.getCachedMonth(thisMonth.minusMonths(23)));
+        assertNull(cache.getCachedMonth(thisMonth));
+    }
+
+    private void onMonthLoaded(YearMonth month, WeightPoints points) {
+        delivered.add(month);
+        deliveredPoints.add(points);
+    }
+
+    /**
+     * Runs posted callbacks on the main looper until the condition holds or WAIT_MILLIS passes.
+     */
+    private void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            shadowOf(Looper.getMainLooper()).idle();
+            Thread.sleep(2);
+        }
+    }
+
+    private void insertDailyEntries(LocalDate from, LocalDate to) {
+        List<WeightEntry> entries = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            entries.add(createEntry(date, 90.0 - entries.size() * 0.01));
+        }
+        weightEntryDAO.insertWeightEntries(entries);
+    }
+
+    private WeightEntry createEntry(LocalDate date, double weightKg) {
+        WeightEntry entry = new WeightEntry();
+        entry.setUserId(testUserId);
+        entry.setWeightValue(weightKg);
+        entry.setWeightUnit("kg");
+        entry.setWeightDate(date);
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        return entry;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.weightogo.utils;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for DateLabelCache.
+ * Tests cache hits, slot collisions and capacity validation.
+ */
+public class DateLabelCacheTest {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("d MMM", Locale.US);
+
+    /**
+     * Test 1: Repeated lookups return the same cached label
+     */
+    @Test
+    public void test_format_sameDay_returnsCachedLabel() {
+        // ARRANGE
+        DateLabelCache cache = new DateLabelCache(FORMAT, 64);
+        LocalDate date = LocalDate.of(2025, 11, 26);
+
+        // ACT
+        String first = cache.format(date);
+        String second = cache.format(LocalDate.of(2025, 11, 26));
+
+        // ASSERT
+        assertEquals("26 Nov", first);
+        assertSame("Second lookup should be a cache hit", first, second);
+    }
+
+    /**
+     * Test 2: Days mapping to the same slot still get their own labels
+     */
+    @Test
+    public void test_format_collidingDays_returnsCorrectLabels() {
+        // ARRANGE
+        DateLabelCache cache = new DateLabelCache(FORMAT, 64);
+        LocalDate date = LocalDate.of(2025, 11, 26);
+        LocalDate colliding = date.plusDays(64);
+
+        // ACT
+        String first = cache.format(date);
+        String other = cache.format(colliding);
+        String again = cache.format(date);
+
+        // ASSERT
+        assertEquals("29 Jan", other);
+        assertEquals("26 Nov", again);
+        assertNotSame("Evicted label is formatted again", first, again);
+    }
+
+    /**
+     * Test 3: clear() discards cached labels
+     */
+    @Test
+    public void test_clear_discardsLabels() {
+        // ARRANGE
+        DateLabelCache cache = new DateLabelCache(FORMAT, 64);
+        LocalDate date = LocalDate.of(2025, 11, 26);
+        String first = cache.format(date);
+
+        // ACT
+        cache.clear();
+        String second = cache.format(date);
+
+        // ASSERT
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    /**
+     * Test 4: Capacity must be a power of two
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void test_constructor_withNonPowerOfTwoCapacity_throwsException() {
+        // ACT
+        new DateLabelCache(FORMAT, 100);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.weightogo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.content.Context;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.database.WeightEntryDAO;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for MainThreadGuard. Under Robolectric the test thread is the main looper thread.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class MainThreadGuardTest {
+
+    private WeightEntryDAO weightEntryDAO;
+
+    @Before
+    public void setUp() {
+        Context context = RuntimeEnvironment.getApplication();
+        weightEntryDAO = new WeightEntryDAO(WeighToGoDBHelper.getInstance(context));
+        MainThreadGuard.reset();
+    }
+
+    @After
+    public void tearDown() {
+        MainThreadGuard.setMode(MainThreadGuard.Mode.OFF);
+        MainThreadGuard.reset();
+    }
+
+    @Test
+    public void test_check_offMode_recordsNothing() {
+        // ACT
+        weightEntryDAO.getLatestWeightEntry(1);
+
+        // ASSERT
+        assertEquals(0, MainThreadGuard.getViolationCount(MainThreadGuard.Kind.DATABASE));
+    }
+
+    @Test
+    public void test_check_countModeOnMainThread_recordsCallSite() {
+        // ARRANGE
+        MainThreadGuard.setMode(MainThreadGuard.Mode.COUNT);
+
+        // ACT
+        weightEntryDAO.getLatestWeightEntry(1);
+        weightEntryDAO.getLatestWeightEntry(1);
+
+        // ASSERT
+        List<MainThreadGuard.Violation> violations = MainThreadGuard.getViolations();
+        assertEquals(violations.toString(), 2, violations.size());
+        for (MainThreadGuard.Violation violation : violations) {
+            assertEquals(MainThreadGuard.Kind.DATABASE, violation.getKind());
+            assertEquals(1, violation.getCount());
+            assertTrue(violation.getCallSite(), violation.getCallSite().startsWith(
+                    "MainThreadGuardTest.test_check_countModeOnMainThread_recordsCallSite:"));
+        }
+    }
+
+    @Test
+    public void test_check_backgroundThread_recordsNothing() throws InterruptedException {
+        // ARRANGE
+        MainThreadGuard.setMode(MainThreadGuard.Mode.THROW);
+        Throwable[] failure = new Throwable[1];
+
+        // ACT
+        Thread worker = new Thread(() -> {
+            try {
+                weightEntryDAO.getLatestWeightEntry(1);
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        });
+        worker.start();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+
+        // ASSERT
+        assertNull(failure[0]);
+        assertEquals(0, MainThreadGuard.getViolationCount(MainThreadGuard.Kind.DATABASE));
+    }
+
+    @Test
+    public void test_check_throwModeOnMainThread_throwsFromDao() {
+        // ARRANGE
+        MainThreadGuard.setMode(MainThreadGuard.Mode.THROW);
+
+        // ACT
+        try {
+            weightEntryDAO.getLatestWeightEntry(1);
+            fail("DAO call on the main thread should throw in THROW mode");
+        } catch (MainThreadGuard.MainThreadAccessException e) {
+            // ASSERT
+            assertTrue(e.getMessage(), e.getMessage().startsWith("DATABASE access on the main thread from "));
+            assertEquals(1, MainThreadGuard.getViolationCount(MainThreadGuard.Kind.DATABASE));
+        }
+    }
+
+    @Test
+    public void test_enter_passwordVerificationOnMainThread_recordsHashViolation() {
+        // ARRANGE
+        MainThreadGuard.setMode(MainThreadGuard.Mode.COUNT);
+
+        // ACT
+        PasswordUtilsV2.verifyPassword("Password123", PasswordUtilsV2.ALGORITHM_SHA256, "not-a-hash", "salt");
+
+        // ASSERT
+        assertEquals(1, MainThreadGuard.getViolationCount(MainThreadGuard.Kind.PASSWORD_HASH));
+        assertEquals(0, MainThreadGuard.getViolationCount(MainThreadGuard.Kind.DATABASE));
+    }
+
+    @Test(expected = MainThreadGuard.MainThreadAccessException.class)
+    public void test_enter_throwModeHashing_isNotSwallowed() {
+        // ARRANGE
+        MainThreadGuard.setMode(MainThreadGuard.Mode.THROW);
+
+        // ACT
+        PasswordUtilsV2.hashPasswordBcrypt("Password123");
+    }
+
+    @Test
+    public void test_onMainThreadWork_afterViolation_addsElapsedToCallSite() {
+        // ARRANGE
+        MainThreadGuard.setMode(MainThreadGuard.Mode.COUNT);
+        MainThreadGuard.check(MainThreadGuard.Kind.DATABASE);
+
+        // ACT
+        MainThreadGuard.onMainThreadWork(MainThreadGuard.Kind.DATABASE, TimeUnit.MILLISECONDS.toNanos(30));
+        MainThreadGuard.onMainThreadWork(MainThreadGuard.Kind.DATABASE, TimeUnit.MILLISECONDS.toNanos(50));
+
+        // ASSERT
+        MainThreadGuard.Violation violation = MainThreadGuard.getViolations().get(0);
+        assertEquals(80, violation.getTotalMillis());
+        assertEquals(50, violation.getMaxMillis());
+    }
+
+    @Test
+    public void test_findCallSite_skipsDatabaseAndFrameworkFrames() {
+        // ARRANGE
+        StackTraceElement[] stack = {
+                new StackTraceElement("com.example.weightogo.utils.MainThreadGuard", "check", "MainThreadGuard.java", 10),
+                new StackTraceElement("com.example.weightogo.database.WeightEntryDAO", "getLatestWeightEntry", "WeightEntryDAO.java", 20),
+                new StackTraceElement("com.example.weightogo.activities.MainActivity", "refreshDashboard", "MainActivity.java", 412),
+                new StackTraceElement("android.app.Activity", "performResume", "Activity.java", 30)
+        };
+
+        // ACT
+        String site = MainThreadGuard.findCallSite(stack);
+
+        // ASSERT
+        assertEquals("MainActivity.refreshDashboard:412", site);
+    }
+}
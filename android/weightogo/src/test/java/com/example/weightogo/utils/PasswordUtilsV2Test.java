@@ -289,4 +289,76 @@ public class PasswordUtilsV2Test {
         assertFalse("Lowercase password should not verify", verifiedLower);
         assertFalse("Uppercase password should not verify", verifiedUpper);
     }
+
+    // =================================================================================
+    // Cost Factor and Rehash Tests
+    // =================================================================================
+
+    /**
+     * Test 17: Cost factor is read back from the hash
+     */
+    @Test
+    public void test_getCostFromHash_withBcryptHash_returnsEmbeddedCost() {
+        // ARRANGE
+        String hash = PasswordUtilsV2.hashPasswordBcrypt("Test123!", PasswordUtilsV2.MIN_BCRYPT_COST);
+
+        // ACT & ASSERT
+        assertEquals(PasswordUtilsV2.MIN_BCRYPT_COST, PasswordUtilsV2.getCostFromHash(hash));
+        assertEquals(12, PasswordUtilsV2.getCostFromHash("$2a$12$randomBcryptHashHereForTesting1234567890123456789012"));
+    }
+
+    /**
+     * Test 18: Non-bcrypt hashes have no cost
+     */
+    @Test
+    public void test_getCostFromHash_withInvalidHash_returnsMinusOne() {
+        // ACT & ASSERT
+        assertEquals(-1, PasswordUtilsV2.getCostFromHash(null));
+        assertEquals(-1, PasswordUtilsV2.getCostFromHash(""));
+        assertEquals(-1, PasswordUtilsV2.getCostFromHash("5e884898da28047151d0e56f8dc6292773603d0d6aabbdd62a11ef721d1542d8"));
+        assertEquals(-1, PasswordUtilsV2.getCostFromHash("$2a$x2$abc"));
+    }
+
+    /**
+     * Test 19: SHA256 hashes and bcrypt hashes with another cost need a rehash
+     */
+    @Test
+    public void test_needsRehash_afterCostChange_onlyForOtherCosts() {
+        // ARRANGE
+        int originalCost = PasswordUtilsV2.getBcryptCost();
+        try {
+            PasswordUtilsV2.setBcryptCost(11);
+
+            // ACT & ASSERT
+            assertTrue(PasswordUtilsV2.needsRehash(PasswordUtilsV2.ALGORITHM_SHA256, "abc"));
+            assertTrue(PasswordUtilsV2.needsRehash(PasswordUtilsV2.ALGORITHM_BCRYPT, "$2a$12$abc"));
+            assertFalse(PasswordUtilsV2.needsRehash(PasswordUtilsV2.ALGORITHM_BCRYPT, "$2a$11$abc"));
+            assertFalse(PasswordUtilsV2.needsRehash("UNKNOWN", "$2a$12$abc"));
+        } finally {
+            PasswordUtilsV2.setBcryptCost(originalCost);
+        }
+    }
+
+    /**
+     * Test 20: Cost is clamped and used for new hashes
+     */
+    @Test
+    public void test_setBcryptCost_outOfRange_isClampedAndUsedForNewHashes() {
+        // ARRANGE
+        int originalCost = PasswordUtilsV2.getBcryptCost();
+        try {
+            // ACT
+            PasswordUtilsV2.setBcryptCost(4);
+            String hash = PasswordUtilsV2.hashPasswordBcrypt("Test123!");
+
+            // ASSERT
+            assertEquals(PasswordUtilsV2.MIN_BCRYPT_COST, PasswordUtilsV2.getBcryptCost());
+            assertEquals(PasswordUtilsV2.MIN_BCRYPT_COST, PasswordUtilsV2.getCostFromHash(hash));
+
+            PasswordUtilsV2.setBcryptCost(31);
+            assertEquals(PasswordUtilsV2.MAX_BCRYPT_COST, PasswordUtilsV2.getBcryptCost());
+        } finally {
+            PasswordUtilsV2.setBcryptCost(originalCost);
+        }
+    }
 }
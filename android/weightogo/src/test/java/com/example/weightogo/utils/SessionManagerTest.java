@@ -1,7 +1,10 @@
 package com.example.weightogo.utils;
 
 import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
 
+import com.example.weightogo.database.LatencyHistogram;
 import com.example.weightogo.models.User;
 
 import org.junit.After;
@@ -12,6 +15,13 @@ import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -29,6 +39,9 @@ import static org.junit.Assert.assertTrue;
 @RunWith(RobolectricTestRunner.class)
 public class SessionManagerTest {
 
+    private static final int READER_THREADS = 4;
+    private static final int READS_PER_THREAD = 50_000;
+
     private Context context;
     private SessionManager sessionManager;
 
@@ -46,6 +59,7 @@ public class SessionManagerTest {
         if (sessionManager != null) {
             sessionManager.logout();
         }
+        AppLog.setMinLevel(AppLog.DEFAULT_DEBUG_LEVEL);
     }
 
     // =============================================================================================
@@ -218,10 +232,196 @@ public class SessionManagerTest {
         assertEquals("getCurrentUserId should return -1 after logout", -1L, sessionManager.getCurrentUserId());
     }
 
+    // =============================================================================================
+    // SNAPSHOT TESTS (2 tests)
+    // =============================================================================================
+
+    /**
+     * Tests that getCurrentUser() keeps the same placeholder timestamps across calls instead of
+     * building new ones with LocalDateTime.now().
+     */
+    @Test
+    public void test_getCurrentUser_calledTwice_returnsSameCreatedAt() {
+        // ARRANGE
+        sessionManager.createSession(createTestUser(1L, "testuser", "Test User"));
+
+        // ACT
+        User first = sessionManager.getCurrentUser();
+        User second = sessionManager.getCurrentUser();
+
+        // ASSERT
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(first.getCreatedAt(), second.getCreatedAt());
+    }
+
+    /**
+     * Tests that getSession() returns one immutable snapshot that a later logout does not change.
+     */
+    @Test
+    public void test_getSession_thenLogout_snapshotUnchanged() {
+        // ARRANGE
+        sessionManager.createSession(createTestUser(7L, "snapshot_user", "Snapshot User"));
+        SessionManager.Session session = sessionManager.getSession();
+
+        // ACT
+        sessionManager.logout();
+
+        // ASSERT
+        assertTrue(session.isLoggedIn());
+        assertEquals(7L, session.getUserId());
+        assertEquals("snapshot_user", session.getUsername());
+        assertFalse(sessionManager.getSession().isLoggedIn());
+        assertEquals(-1L, sessionManager.getSession().getUserId());
+    }
+
+    // =============================================================================================
+    // CONCURRENCY TESTS (2 tests)
+    // =============================================================================================
+
+    /**
+     * Tests that readers never see a torn session (one user's ID with another user's name, or a
+     * logged-out session with a user ID) while another thread logs users in and out.
+     */
+    @Test
+    public void test_getSession_concurrentLoginLogout_neverTorn() throws InterruptedException {
+        // ARRANGE
+        AppLog.setMinLevel(Log.WARN);
+        User alice = createTestUser(1L, "alice", "Alice");
+        User bob = createTestUser(2L, "bob", "Bob");
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> torn = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                if (i % 3 == 2) {
+                    sessionManager.logout();
+                } else {
+                    sessionManager.createSession(i % 3 == 0 ? alice : bob);
+                }
+            }
+        });
+
+        // ACT
+        writer.start();
+        runReaders(() -> {
+            SessionManager.Session session = sessionManager.getSession();
+            String expected = session.getUserId() == 1L ? "alice"
+                    : session.getUserId() == 2L ? "bob" : null;
+            if (session.isLoggedIn() == (expected == null) ||
+                    !Objects.equals(expected, session.getUsername())) {
+                torn.compareAndSet(null, session.getUserId() + "/" + session.getUsername());
+            }
+        }, new LatencyHistogram());
+        running.set(false);
+        writer.join();
+
+        // ASSERT
+        assertNull("Torn session read: " + torn.get(), torn.get());
+    }
+
+    /**
+     * Stress test: compares read latency of the lock-free snapshot with the previous design
+     * (synchronized SharedPreferences reads) while a writer logs in and out continuously.
+     * Prints p50/p99 in nanoseconds; only asserts the snapshot is not slower on average.
+     */
+    @Test
+    public void test_getSession_underContention_fasterThanLockedPreferences() throws InterruptedException {
+        // ARRANGE
+        AppLog.setMinLevel(Log.WARN);
+        User user = createTestUser(1L, "stress_user", "Stress User");
+        SharedPreferences prefs = context.getSharedPreferences("SessionManagerTestBaseline", Context.MODE_PRIVATE);
+        Object lock = new Object();
+        LatencyHistogram lockedNanos = new LatencyHistogram();
+        LatencyHistogram snapshotNanos = new LatencyHistogram();
+
+        // ACT
+        long lockedWallNanos = runWithWriter(
+                () -> {
+                    synchronized (lock) {
+                        prefs.edit().putLong("user_id", 1L).putBoolean("is_logged_in", true).apply();
+                    }
+                },
+                () -> {
+                    synchronized (lock) {
+                        if (prefs.getBoolean("is_logged_in", false)) {
+                            prefs.getLong("user_id", -1L);
+                        }
+                    }
+                }, lockedNanos);
+        long snapshotWallNanos = runWithWriter(
+                () -> sessionManager.createSession(user),
+                () -> {
+                    if (sessionManager.isLoggedIn()) {
+                        sessionManager.getCurrentUserId();
+                    }
+                }, snapshotNanos);
+
+        // ASSERT
+        System.out.println("SessionManager read latency under contention (" + READER_THREADS +
+                " readers, 1 writer): synchronized prefs p50=" + lockedNanos.getValueAtPercentile(50) +
+                "ns p99=" + lockedNanos.getValueAtPercentile(99) + "ns wall=" +
+                TimeUnit.NANOSECONDS.toMillis(lockedWallNanos) + "ms; snapshot p50=" +
+                snapshotNanos.getValueAtPercentile(50) + "ns p99=" + snapshotNanos.getValueAtPercentile(99) +
+                "ns wall=" + TimeUnit.NANOSECONDS.toMillis(snapshotWallNanos) + "ms");
+        assertEquals(READER_THREADS * (long) READS_PER_THREAD, snapshotNanos.getCount());
+        assertTrue("Snapshot reads should not be slower than locked preference reads",
+                snapshotNanos.getMean() <= lockedNanos.getMean());
+    }
+
     // =============================================================================================
     // HELPER METHODS
     // =============================================================================================
 
+    /**
+     * Runs the readers while a writer thread repeats {@code write} until they finish.
+     *
+     * @return wall time of the readers in nanoseconds
+     */
+    private long runWithWriter(Runnable write, Runnable read, LatencyHistogram nanos) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            while (running.get()) {
+                write.run();
+            }
+        });
+        writer.start();
+        long start = System.nanoTime();
+        runReaders(read, nanos);
+        long wall = System.nanoTime() - start;
+        running.set(false);
+        writer.join();
+        return wall;
+    }
+
+    /**
+     * Runs {@code read} READS_PER_THREAD times on each of READER_THREADS threads, recording each
+     * call's latency in nanoseconds.
+     */
+    private void runReaders(Runnable read, LatencyHistogram nanos) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < READER_THREADS; t++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < READS_PER_THREAD; i++) {
+                    long begin = System.nanoTime();
+                    read.run();
+                    nanos.record(System.nanoTime() - begin);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        start.countDown();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+    }
+
     /**
      * Creates a test User object with minimal required fields.
      * Does NOT include sensitive data (passwordHash, salt).
@@ -0,0 +1,138 @@
+package com.example.weightogo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.app.Application;
+import android.content.Context;
+import android.os.Looper;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for StartupPipeline.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class StartupPipelineTest {
+
+    private static final long WAIT_SECONDS = 10;
+
+    private Context context;
+    private int originalCost;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+        originalCost = PasswordUtilsV2.getBcryptCost();
+    }
+
+    @After
+    public void tearDown() {
+        StartupPipeline.reset();
+        BcryptCalibrator.clear(context);
+        PasswordUtilsV2.setBcryptCost(originalCost);
+    }
+
+    @Test
+    public void test_start_allStagesCompleteWithTimings() throws Exception {
+        // ACT
+        StartupPipeline.start(context);
+        for (StartupPipeline.Stage stage : StartupPipeline.Stage.values()) {
+            StartupPipeline.getReadiness(stage).get(WAIT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        // ASSERT
+        for (StartupPipeline.Stage stage : StartupPipeline.Stage.values()) {
+            assertTrue(StartupPipeline.isReady(stage));
+            StartupPipeline.StageTiming timing = StartupPipeline.getTiming(stage);
+            assertNotNull("Missing timing for " + stage, timing);
+            assertTrue(timing.getReadyAfterMillis() >= timing.getDurationMillis());
+        }
+        assertTrue(WeighToGoDBHelper.getInstance(context).getReadableDatabase().isOpen());
+    }
+
+    @Test
+    public void test_start_passwordHashingRunsAfterDatabase() throws Exception {
+        // ACT
+        StartupPipeline.start(context);
+        StartupPipeline.getReadiness(StartupPipeline.Stage.PASSWORD_HASHING).get(WAIT_SECONDS, TimeUnit.SECONDS);
+
+        // ASSERT
+        assertTrue(StartupPipeline.isReady(StartupPipeline.Stage.DATABASE));
+        StartupPipeline.StageTiming database = StartupPipeline.getTiming(StartupPipeline.Stage.DATABASE);
+        StartupPipeline.StageTiming hashing = StartupPipeline.getTiming(StartupPipeline.Stage.PASSWORD_HASHING);
+        assertTrue(hashing.getReadyAfterMillis() - hashing.getDurationMillis() >= database.getReadyAfterMillis());
+    }
+
+    @Test
+    public void test_testApplication_doesNotStartPipeline() {
+        // ASSERT - robolectric.properties swaps in a plain Application for WeighToGoApplication
+        assertSame(Application.class, RuntimeEnvironment.getApplication().getClass());
+        assertNull(StartupPipeline.getReadiness(StartupPipeline.Stage.PASSWORD_HASHING));
+    }
+
+    @Test
+    public void test_start_calledTwice_keepsFirstRun() {
+        // ARRANGE
+        StartupPipeline.start(context);
+        Future<?> database = StartupPipeline.getReadiness(StartupPipeline.Stage.DATABASE);
+
+        // ACT
+        StartupPipeline.start(context);
+
+        // ASSERT
+        assertSame(database, StartupPipeline.getReadiness(StartupPipeline.Stage.DATABASE));
+    }
+
+    @Test
+    public void test_runWhenReady_notStarted_runsImmediately() {
+        // ARRANGE
+        AtomicInteger runs = new AtomicInteger();
+
+        // ACT
+        StartupPipeline.runWhenReady(StartupPipeline.Stage.DATABASE, runs::incrementAndGet);
+
+        // ASSERT
+        assertNull(StartupPipeline.getReadiness(StartupPipeline.Stage.DATABASE));
+        assertTrue(StartupPipeline.isReady(StartupPipeline.Stage.DATABASE));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void test_runWhenReady_afterStart_runsOnceOnMainThread() throws Exception {
+        // ARRANGE
+        AtomicInteger runs = new AtomicInteger();
+        Thread mainThread = Looper.getMainLooper().getThread();
+        StartupPipeline.start(context);
+
+        // ACT
+        StartupPipeline.runWhenReady(StartupPipeline.Stage.DATABASE, () -> {
+            assertSame(mainThread, Thread.currentThread());
+            runs.incrementAndGet();
+        });
+        StartupPipeline.getReadiness(StartupPipeline.Stage.DATABASE).get(WAIT_SECONDS, TimeUnit.SECONDS);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(WAIT_SECONDS);
+        while (runs.get() == 0 && System.currentTimeMillis() < deadline) {
+            shadowOf(Looper.getMainLooper()).idle();
+            Thread.sleep(5);
+        }
+
+        // ASSERT
+        assertEquals(1, runs.get());
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.weightogo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.database.WeightEntryDAO;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for Tracer.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class TracerTest {
+
+    @Before
+    public void setUp() {
+        Tracer.clear();
+        Tracer.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        Tracer.setEnabled(false);
+        Tracer.clear();
+    }
+
+    @Test
+    public void test_begin_disabled_returnsSharedNoOpAndRecordsNothing() {
+        // ARRANGE
+        Tracer.setEnabled(false);
+
+        // ACT
+        Tracer.Span first = Tracer.begin(Tracer.CATEGORY_LOGIC, "first");
+        Tracer.Span second = Tracer.begin(Tracer.CATEGORY_LOGIC, "second");
+        first.close();
+        second.close();
+        Tracer.instant(Tracer.CATEGORY_LOGIC, "instant");
+
+        // ASSERT
+        assertSame("Disabled tracing should not allocate spans", first, second);
+        assertTrue(Tracer.getEvents().isEmpty());
+    }
+
+    @Test
+    public void test_nestedSpans_recordedInnerFirstWithinOuter() throws InterruptedException {
+        // ACT
+        try (Tracer.Span outer = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "outer")) {
+            try (Tracer.Span inner = Tracer.begin(Tracer.CATEGORY_LOGIC, "inner")) {
+                Thread.sleep(2);
+            }
+        }
+
+        // ASSERT
+        List<Tracer.Event> events = Tracer.getEvents();
+        assertEquals(2, events.size());
+        Tracer.Event inner = events.get(0);
+        Tracer.Event outer = events.get(1);
+        assertEquals("inner", inner.getName());
+        assertEquals("outer", outer.getName());
+        assertTrue(inner.getStartNanos() >= outer.getStartNanos());
+        assertTrue(inner.getStartNanos() + inner.getDurationNanos()
+                <= outer.getStartNanos() + outer.getDurationNanos());
+        assertTrue(inner.getDurationNanos() >= 2_000_000L);
+    }
+
+    @Test
+    public void test_close_twice_recordsOnce() {
+        // ACT
+        Tracer.Span span = Tracer.begin(Tracer.CATEGORY_LOGIC, "once");
+        span.close();
+        span.close();
+
+        // ASSERT
+        assertEquals(1, Tracer.getEvents().size());
+    }
+
+    @Test
+    public void test_ringBuffer_full_keepsMostRecent() {
+        // ACT
+        for (int i = 0; i < Tracer.DEFAULT_CAPACITY + 10; i++) {
+            Tracer.complete(Tracer.CATEGORY_LOGIC, "e" + i, i, 1);
+        }
+
+        // ASSERT
+        List<Tracer.Event> events = Tracer.getEvents();
+        assertEquals(Tracer.DEFAULT_CAPACITY, events.size());
+        assertEquals("e10", events.get(0).getName());
+        assertEquals("e" + (Tracer.DEFAULT_CAPACITY + 9), events.get(events.size() - 1).getName());
+    }
+
+    @Test
+    public void test_concurrentSpans_allRecorded() throws InterruptedException {
+        // ARRANGE
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_WORKER, "work")) {
+                        // empty span
+                    }
+                }
+            }, "tracer-test-" + t));
+        }
+
+        // ACT
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // ASSERT
+        assertEquals(2000, Tracer.getEvents().size());
+    }
+
+    @Test
+    public void test_daoCall_recordedAsDaoSpan() {
+        // ARRANGE
+        Context context = RuntimeEnvironment.getApplication();
+        WeightEntryDAO dao = new WeightEntryDAO(WeighToGoDBHelper.getInstance(context));
+
+        // ACT
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_ACTIVITY, "MainActivity.refreshDashboard")) {
+            dao.getWeightEntriesForUser(1);
+        }
+
+        // ASSERT
+        List<Tracer.Event> events = Tracer.getEvents();
+        assertEquals(2, events.size());
+        assertEquals(Tracer.CATEGORY_DAO, events.get(0).getCategory());
+        assertEquals("WeightEntryDAO.getWeightEntriesForUser", events.get(0).getName());
+    }
+
+    @Test
+    public void test_writeChromeTrace_producesTraceEventJson() throws Exception {
+        // ARRANGE
+        try (Tracer.Span span = Tracer.begin(Tracer.CATEGORY_HASH, "hash")) {
+            Tracer.instant(Tracer.CATEGORY_ACTIVITY, "navigate");
+        }
+        StringWriter out = new StringWriter();
+
+        // ACT
+        int written = Tracer.writeChromeTrace(out);
+
+        // ASSERT
+        assertEquals(2, written);
+        JSONArray traceEvents = new JSONObject(out.toString()).getJSONArray("traceEvents");
+        assertEquals(3, traceEvents.length());
+
+        JSONObject metadata = traceEvents.getJSONObject(0);
+        assertEquals("M", metadata.getString("ph"));
+        assertEquals(Thread.currentThread().getName(), metadata.getJSONObject("args").getString("name"));
+
+        JSONObject instant = traceEvents.getJSONObject(1);
+        assertEquals("i", instant.getString("ph"));
+        assertEquals("navigate", instant.getString("name"));
+
+        JSONObject complete = traceEvents.getJSONObject(2);
+        assertEquals("X", complete.getString("ph"));
+        assertEquals("hash", complete.getString("cat"));
+        assertTrue(complete.has("dur"));
+        assertEquals(Thread.currentThread().getId(), complete.getLong("tid"));
+    }
+
+    @Test
+    public void test_dumpToFile_writesJsonFile() throws Exception {
+        // ARRANGE
+        Tracer.instant(Tracer.CATEGORY_LOGIC, "event");
+        File directory = new File(RuntimeEnvironment.getApplication().getFilesDir(), "traces");
+
+        // ACT
+        File file = Tracer.dumpToFile(directory);
+
+        // ASSERT
+        assertNotNull(file);
+        assertTrue(file.getName().endsWith(".json"));
+        String json = new String(Files.readAllBytes(file.toPath()), "UTF-8");
+        assertTrue(json.contains("\"traceEvents\""));
+        assertFalse(json.isEmpty());
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.weightogo.utils;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for WeightFormatter.
+ * Tests fixed-point formatting against String.format("%.1f") and buffer reuse.
+ */
+public class WeightFormatterTest {
+
+    /**
+     * Test 1: format() rounds half-up to one decimal place
+     */
+    @Test
+    public void test_format_withTypicalWeights_roundsToOneDecimal() {
+        // ACT & ASSERT
+        assertEquals("150.0", WeightFormatter.format(150.0));
+        assertEquals("172.5", WeightFormatter.format(172.46));
+        assertEquals("0.1", WeightFormatter.format(0.05));
+        assertEquals("700.0", WeightFormatter.format(699.96));
+        assertEquals("-2.5", WeightFormatter.format(-2.45));
+    }
+
+    /**
+     * Test 2: format() matches String.format(Locale.US, "%.1f") across the weight range
+     */
+    @Test
+    public void test_format_acrossWeightRange_matchesStringFormat() {
+        for (int thousandths = -50_000; thousandths <= 800_000; thousandths++) {
+            // ARRANGE
+            double weight = thousandths / 1000.0;
+
+            // ACT
+            String actual = WeightFormatter.format(weight);
+
+            // ASSERT
+            assertEquals("Mismatch for " + weight, String.format(Locale.US, "%.1f", weight), actual);
+        }
+    }
+
+    /**
+     * Test 3: formatWithUnit() appends the unit after a space
+     */
+    @Test
+    public void test_formatWithUnit_appendsUnit() {
+        // ACT & ASSERT
+        assertEquals("150.0 lbs", WeightFormatter.formatWithUnit(150.0, "lbs"));
+        assertEquals("68.0 kg", WeightFormatter.formatWithUnit(68.04, "kg"));
+    }
+
+    /**
+     * Test 4: appendWeight() writes into the caller's buffer and returns it
+     */
+    @Test
+    public void test_appendWeight_appendsToExistingBuffer() {
+        // ARRANGE
+        StringBuilder buffer = new StringBuilder("↓ ");
+
+        // ACT
+        StringBuilder result = WeightFormatter.appendWeightWithUnit(buffer, 2.46, "lbs");
+
+        // ASSERT
+        assertSame(buffer, result);
+        assertEquals("↓ 2.5 lbs", buffer.toString());
+    }
+
+    /**
+     * Test 5: format() uses '.' regardless of the default locale
+     */
+    @Test
+    public void test_format_withGermanDefaultLocale_usesDecimalPoint() {
+        // ARRANGE
+        Locale original = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            // ACT
+            String actual = WeightFormatter.format(150.5);
+
+            // ASSERT
+            assertEquals("150.5", actual);
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    /**
+     * Test 6: Non-finite values fall back to Double.toString
+     */
+    @Test
+    public void test_format_withNonFiniteValues_doesNotThrow() {
+        // ACT & ASSERT
+        assertEquals("NaN", WeightFormatter.format(Double.NaN));
+        assertEquals("Infinity", WeightFormatter.format(Double.POSITIVE_INFINITY));
+    }
+}
@@ -260,4 +260,32 @@ public class WeightUtilsTest {
         assertEquals("68.0 kg should format to '68.0 kg'",
                 "68.0 kg", resultKg);
     }
+
+    /**
+     * Test 14: Canonical kilograms are not rounded
+     */
+    @Test
+    public void test_toKilograms_withLbsAndKg_returnsUnroundedKilograms() {
+        // ACT
+        double fromLbs = WeightUtils.toKilograms(150.0, "lbs");
+        double fromKg = WeightUtils.toKilograms(68.04, "kg");
+
+        // ASSERT
+        assertEquals("150 lbs should be 68.0388 kg (unrounded)", 68.0388, fromLbs, 0.00001);
+        assertEquals("kg values should pass through unchanged", 68.04, fromKg, 0.0);
+    }
+
+    /**
+     * Test 15: Display conversion from kilograms rounds once
+     */
+    @Test
+    public void test_fromKilograms_withLbsAndKg_returnsRoundedDisplayValue() {
+        // ACT
+        double lbs = WeightUtils.fromKilograms(WeightUtils.toKilograms(150.0, "lbs"), "lbs");
+        double kg = WeightUtils.fromKilograms(68.0388, "kg");
+
+        // ASSERT
+        assertEquals("Round trip through kg should return the logged value", 150.0, lbs, 0.0);
+        assertEquals("kg should be rounded to 1 decimal place", 68.0, kg, 0.0);
+    }
 }
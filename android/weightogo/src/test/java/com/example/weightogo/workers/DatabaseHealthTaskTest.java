@@ -0,0 +1,156 @@
+package com.example.weightogo.workers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit tests for DatabaseHealthTask and DatabaseHealthReport.
+ *
+ * Verifies:
+ * - First run analyzes, passes quick_check and persists a report
+ * - Subsequent runs without row churn only run PRAGMA optimize
+ * - Churn threshold logic
+ * - quick_check is skipped (PARTIAL) when the budget is exhausted
+ * - Report JSON round trip
+ */
+@RunWith(RobolectricTestRunner.class)
+public class DatabaseHealthTaskTest {
+
+    private Context context;
+    private WeighToGoDBHelper dbHelper;
+    private MaintenanceCheckpointStore checkpointStore;
+
+    @Before
+    public void setUp() {
+        context = RuntimeEnvironment.getApplication();
+        dbHelper = WeighToGoDBHelper.getInstance(context);
+        checkpointStore = new MaintenanceCheckpointStore(context);
+    }
+
+    @Test
+    public void test_run_firstRun_analyzesAndSavesReport() {
+        // ACT
+        MaintenancePipeline.TaskReport taskReport = runTask(new DatabaseHealthTask());
+        DatabaseHealthReport report = DatabaseHealthTask.getLastReport(context);
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.COMPLETED, taskReport.getStatus());
+        assertNotNull("Report should be persisted", report);
+        assertTrue("First run should ANALYZE", report.isAnalyzed());
+        assertTrue("Fresh database should pass quick_check", report.isQuickCheckPassed());
+        assertTrue("Should record page count", report.getPageCount() > 0);
+        assertTrue("Should count daily_weights rows", report.getRowCounts().containsKey("daily_weights"));
+        assertEquals(Long.valueOf(1), taskReport.getMetrics().get("quick_check_ok"));
+    }
+
+    @Test
+    public void test_run_noChurnSinceLastRun_skipsFullAnalyze() {
+        // ARRANGE
+        runTask(new DatabaseHealthTask());
+
+        // ACT
+        runTask(new DatabaseHealthTask());
+        DatabaseHealthReport report = DatabaseHealthTask.getLastReport(context);
+
+        // ASSERT
+        assertNotNull(report);
+        assertFalse("Second run without churn should not ANALYZE", report.isAnalyzed());
+    }
+
+    @Test
+    public void test_run_zeroBudget_skipsQuickCheckAndReportsPartial() {
+        // ACT
+        MaintenancePipeline.TaskReport taskReport = runTask(new DatabaseHealthTask(0));
+        DatabaseHealthReport report = DatabaseHealthTask.getLastReport(context);
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.PARTIAL, taskReport.getStatus());
+        assertNotNull(report);
+        assertEquals(DatabaseHealthReport.QUICK_CHECK_SKIPPED, report.getQuickCheckResult());
+    }
+
+    @Test
+    public void test_shouldAnalyze_churnAboveThreshold_returnsTrue() {
+        // ARRANGE - 10,000 rows previously; 10% churn threshold = 1,000
+        DatabaseHealthReport previous = reportWithRows(10_000);
+        Map<String, Long> small = Collections.singletonMap("daily_weights", 10_500L);
+        Map<String, Long> large = Collections.singletonMap("daily_weights", 11_000L);
+
+        // ACT + ASSERT
+        assertFalse("500 rows of churn is below threshold",
+                DatabaseHealthTask.shouldAnalyze(previous, small, true));
+        assertTrue("1,000 rows of churn meets threshold",
+                DatabaseHealthTask.shouldAnalyze(previous, large, true));
+        assertTrue("Missing statistics always analyze",
+                DatabaseHealthTask.shouldAnalyze(previous, small, false));
+        assertTrue("No previous report always analyzes",
+                DatabaseHealthTask.shouldAnalyze(null, small, true));
+    }
+
+    @Test
+    public void test_shouldAnalyze_smallDatabase_usesMinimumChurn() {
+        // ARRANGE - 10% of 100 rows is 10, but the floor is MIN_CHURN_ROWS
+        DatabaseHealthReport previous = reportWithRows(100);
+        Map<String, Long> current = Collections.singletonMap("daily_weights", 150L);
+
+        // ACT + ASSERT
+        assertFalse(DatabaseHealthTask.shouldAnalyze(previous, current, true));
+    }
+
+    @Test
+    public void test_reportJson_roundTrip_preservesFields() {
+        // ARRANGE
+        Map<String, Long> pages = new HashMap<>();
+        pages.put("idx_weights_date", 3L);
+        DatabaseHealthReport original = new DatabaseHealthReport(123L, 4096, 50, 2, true,
+                "ok", Collections.singletonMap("users", 7L), pages);
+
+        // ACT
+        DatabaseHealthReport parsed = DatabaseHealthReport.fromJson(original.toJson());
+
+        // ASSERT
+        assertNotNull(parsed);
+        assertEquals(123L, parsed.getCreatedAtMs());
+        assertEquals(50 * 4096L, parsed.getDatabaseSizeBytes());
+        assertEquals(2, parsed.getFreelistCount());
+        assertTrue(parsed.isAnalyzed());
+        assertEquals(Long.valueOf(7), parsed.getRowCounts().get("users"));
+        assertEquals(Long.valueOf(3), parsed.getObjectPages().get("idx_weights_date"));
+    }
+
+    @Test
+    public void test_reportFromJson_malformed_returnsNull() {
+        assertEquals(null, DatabaseHealthReport.fromJson("not json"));
+        assertEquals(null, DatabaseHealthReport.fromJson(null));
+    }
+
+    // =============================================================================================
+    // HELPERS
+    // =============================================================================================
+
+    private MaintenancePipeline.TaskReport runTask(DatabaseHealthTask task) {
+        return new MaintenancePipeline().addTask(task)
+                .run(dbHelper, checkpointStore, () -> false).get(0);
+    }
+
+    private DatabaseHealthReport reportWithRows(long rows) {
+        return new DatabaseHealthReport(0L, 4096, 10, 0, true, "ok",
+                Collections.singletonMap("daily_weights", rows), Collections.emptyMap());
+    }
+}
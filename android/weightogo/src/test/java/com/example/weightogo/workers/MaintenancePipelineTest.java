@@ -0,0 +1,218 @@
+package com.example.weightogo.workers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+
+import androidx.annotation.NonNull;
+
+import com.example.weightogo.database.WeighToGoDBHelper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for MaintenancePipeline.
+ *
+ * Verifies the consolidated maintenance run contract:
+ * - Tasks run in registration order against one shared database session
+ * - A failing task does not prevent later tasks from running
+ * - Tasks that exhaust their budget resume from their checkpoint on the next run
+ * - The stop signal skips tasks that have not started yet
+ */
+@RunWith(RobolectricTestRunner.class)
+public class MaintenancePipelineTest {
+
+    private WeighToGoDBHelper dbHelper;
+    private MaintenanceCheckpointStore checkpointStore;
+
+    @Before
+    public void setUp() {
+        Context context = RuntimeEnvironment.getApplication();
+        dbHelper = WeighToGoDBHelper.getInstance(context);
+        checkpointStore = new MaintenanceCheckpointStore(context);
+    }
+
+    /**
+     * Minimal configurable task for pipeline tests.
+     */
+    private static class FakeTask implements MaintenanceTask {
+        private final String name;
+        private final long budgetMs;
+        final List<SQLiteDatabase> seenDatabases = new ArrayList<>();
+        int runCount;
+
+        FakeTask(String name, long budgetMs) {
+            this.name = name;
+            this.budgetMs = budgetMs;
+        }
+
+        @NonNull
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public long getTimeBudgetMs() {
+            return budgetMs;
+        }
+
+        @Override
+        public boolean run(@NonNull MaintenanceSession session) throws Exception {
+            runCount++;
+            seenDatabases.add(session.getDatabase());
+            return true;
+        }
+    }
+
+    @Test
+    public void test_run_multipleTasks_runInOrderAndShareDatabase() {
+        // ARRANGE
+        List<String> order = new ArrayList<>();
+        FakeTask first = new FakeTask("first", 1000) {
+            @Override
+            public boolean run(@NonNull MaintenanceSession session) throws Exception {
+                order.add(getName());
+                return super.run(session);
+            }
+        };
+        FakeTask second = new FakeTask("second", 1000) {
+            @Override
+            public boolean run(@NonNull MaintenanceSession session) throws Exception {
+                order.add(getName());
+                return super.run(session);
+            }
+        };
+        MaintenancePipeline pipeline = new MaintenancePipeline().addTask(first).addTask(second);
+
+        // ACT
+        List<MaintenancePipeline.TaskReport> reports = pipeline.run(dbHelper, checkpointStore, () -> false);
+
+        // ASSERT
+        assertEquals("Tasks should run in registration order", List.of("first", "second"), order);
+        assertEquals("Should report every task", 2, reports.size());
+        assertEquals(MaintenancePipeline.Status.COMPLETED, reports.get(0).getStatus());
+        assertEquals(MaintenancePipeline.Status.COMPLETED, reports.get(1).getStatus());
+        assertSame("Tasks should share one database session",
+                first.seenDatabases.get(0), second.seenDatabases.get(0));
+        assertTrue("Durations should be non-negative", reports.get(0).getDurationMs() >= 0);
+    }
+
+    @Test
+    public void test_run_taskThrows_reportsFailedAndContinues() {
+        // ARRANGE
+        FakeTask failing = new FakeTask("failing", 1000) {
+            @Override
+            public boolean run(@NonNull MaintenanceSession session) throws Exception {
+                throw new IllegalStateException("boom");
+            }
+        };
+        FakeTask after = new FakeTask("after", 1000);
+        MaintenancePipeline pipeline = new MaintenancePipeline().addTask(failing).addTask(after);
+
+        // ACT
+        List<MaintenancePipeline.TaskReport> reports = pipeline.run(dbHelper, checkpointStore, () -> false);
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.FAILED, reports.get(0).getStatus());
+        assertEquals("Task after a failure should still run", 1, after.runCount);
+        assertEquals(MaintenancePipeline.Status.COMPLETED, reports.get(1).getStatus());
+    }
+
+    @Test
+    public void test_run_budgetExhausted_resumesFromCheckpoint() {
+        // ARRANGE - task processes items 0..9 one per chunk, zero budget allows one chunk per run
+        List<Integer> processed = new ArrayList<>();
+        FakeTask chunked = new FakeTask("chunked", 0) {
+            @Override
+            public boolean run(@NonNull MaintenanceSession session) {
+                String checkpoint = session.getCheckpoint();
+                int next = checkpoint == null ? 0 : Integer.parseInt(checkpoint);
+                do {
+                    processed.add(next++);
+                    if (next == 10) {
+                        session.clearCheckpoint();
+                        return true;
+                    }
+                    session.saveCheckpoint(String.valueOf(next));
+                } while (session.hasTimeRemaining());
+                return false;
+            }
+        };
+        MaintenancePipeline pipeline = new MaintenancePipeline().addTask(chunked);
+        checkpointStore.clearCheckpoint("chunked");
+
+        // ACT
+        List<MaintenancePipeline.TaskReport> firstRun = pipeline.run(dbHelper, checkpointStore, () -> false);
+        List<MaintenancePipeline.TaskReport> secondRun = pipeline.run(dbHelper, checkpointStore, () -> false);
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.PARTIAL, firstRun.get(0).getStatus());
+        assertEquals(MaintenancePipeline.Status.PARTIAL, secondRun.get(0).getStatus());
+        assertEquals("Second run should resume after the first", List.of(0, 1), processed);
+        assertEquals("2", checkpointStore.getCheckpoint("chunked"));
+    }
+
+    @Test
+    public void test_run_completedTask_recordsLastRunAndClearsCheckpoint() {
+        // ARRANGE
+        FakeTask task = new FakeTask("recorded", 1000) {
+            @Override
+            public boolean run(@NonNull MaintenanceSession session) {
+                session.clearCheckpoint();
+                return true;
+            }
+        };
+        checkpointStore.saveCheckpoint("recorded", "42");
+        long before = System.currentTimeMillis();
+
+        // ACT
+        new MaintenancePipeline().addTask(task).run(dbHelper, checkpointStore, () -> false);
+
+        // ASSERT
+        assertNull("Checkpoint should be cleared", checkpointStore.getCheckpoint("recorded"));
+        assertTrue("Last completed run should be recorded",
+                checkpointStore.getLastCompletedRun("recorded") >= before);
+    }
+
+    @Test
+    public void test_run_stopSignal_skipsRemainingTasks() {
+        // ARRANGE
+        boolean[] stopped = {false};
+        FakeTask first = new FakeTask("first", 1000) {
+            @Override
+            public boolean run(@NonNull MaintenanceSession session) throws Exception {
+                stopped[0] = true;
+                return super.run(session);
+            }
+        };
+        FakeTask second = new FakeTask("second", 1000);
+        MaintenancePipeline pipeline = new MaintenancePipeline().addTask(first).addTask(second);
+
+        // ACT
+        List<MaintenancePipeline.TaskReport> reports = pipeline.run(dbHelper, checkpointStore, () -> stopped[0]);
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.COMPLETED, reports.get(0).getStatus());
+        assertEquals(MaintenancePipeline.Status.SKIPPED, reports.get(1).getStatus());
+        assertEquals("Skipped task should not run", 0, second.runCount);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_addTask_duplicateName_throwsException() {
+        new MaintenancePipeline()
+                .addTask(new FakeTask("same", 1000))
+                .addTask(new FakeTask("same", 1000));
+    }
+}
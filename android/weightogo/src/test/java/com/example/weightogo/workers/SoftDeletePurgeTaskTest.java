@@ -0,0 +1,246 @@
+package com.example.weightogo.workers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.example.weightogo.database.DatabaseException;
+import com.example.weightogo.database.UserDAO;
+import com.example.weightogo.database.WeighToGoDBHelper;
+import com.example.weightogo.database.WeightEntryDAO;
+import com.example.weightogo.models.User;
+import com.example.weightogo.models.WeightEntry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for SoftDeletePurgeTask.
+ *
+ * Verifies the tombstone retention policy:
+ * - Only entries soft-deleted before the retention cutoff are hard-deleted
+ * - Live entries and recent tombstones are untouched
+ * - Purging is chunked and stops when the time budget is exhausted
+ * - Freed pages are returned to the filesystem and reported as bytes_reclaimed
+ * - The one-time auto_vacuum conversion only runs when it fits the time budget
+ */
+@RunWith(RobolectricTestRunner.class)
+public class SoftDeletePurgeTaskTest {
+
+    private WeighToGoDBHelper dbHelper;
+    private WeightEntryDAO weightEntryDAO;
+    private UserDAO userDAO;
+    private MaintenanceCheckpointStore checkpointStore;
+    private long testUserId;
+
+    @Before
+    public void setUp() throws DatabaseException {
+        Context context = RuntimeEnvironment.getApplication();
+        dbHelper = WeighToGoDBHelper.getInstance(context);
+        weightEntryDAO = new WeightEntryDAO(dbHelper);
+        userDAO = new UserDAO(dbHelper);
+        checkpointStore = new MaintenanceCheckpointStore(context);
+
+        User testUser = new User();
+        testUser.setUsername("purge_testuser");
+        testUser.setPasswordHash("hash123");
+        testUser.setSalt("salt123");
+        testUser.setPasswordAlgorithm("SHA256");
+        testUser.setCreatedAt(LocalDateTime.now());
+        testUser.setUpdatedAt(LocalDateTime.now());
+        testUser.setActive(true);
+
+        testUserId = userDAO.insertUser(testUser);
+        assertTrue("Test user should be created", testUserId > 0);
+    }
+
+    @After
+    public void tearDown() {
+        if (testUserId > 0) {
+            userDAO.deleteUser(testUserId);
+        }
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        if (MaintenanceSession.queryPragma(db, "auto_vacuum") != 2) {
+            db.execSQL("PRAGMA auto_vacuum = INCREMENTAL");
+            db.execSQL("VACUUM");
+        }
+    }
+
+    @Test
+    public void test_run_oldTombstones_areHardDeleted() {
+        // ARRANGE
+        long live = insertEntry(0, null);
+        long recentTombstone = insertEntry(1, null);
+        long oldTombstone = insertEntry(2, null);
+        weightEntryDAO.deleteWeightEntry(recentTombstone);
+        weightEntryDAO.deleteWeightEntry(oldTombstone);
+        backdateDeletion(oldTombstone, 45);
+
+        // ACT
+        MaintenancePipeline.TaskReport report = runTask(new SoftDeletePurgeTask());
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.COMPLETED, report.getStatus());
+        assertEquals(Long.valueOf(1), report.getMetrics().get(SoftDeletePurgeTask.METRIC_ROWS_PURGED));
+        assertNull("Old tombstone should be removed", weightEntryDAO.getWeightEntryById(oldTombstone));
+        assertNotNull("Recent tombstone should be kept", weightEntryDAO.getWeightEntryById(recentTombstone));
+        assertNotNull("Live entry should be kept", weightEntryDAO.getWeightEntryById(live));
+    }
+
+    @Test
+    public void test_run_multipleChunks_purgesAllTombstones() {
+        // ARRANGE - 25 tombstones with a chunk size of 10
+        List<Long> ids = insertDeletedEntries(25, null);
+
+        // ACT
+        MaintenancePipeline.TaskReport report = runTask(new SoftDeletePurgeTask(30, 10, 10_000));
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.COMPLETED, report.getStatus());
+        assertEquals(Long.valueOf(25), report.getMetrics().get(SoftDeletePurgeTask.METRIC_ROWS_PURGED));
+        for (long id : ids) {
+            assertNull("Tombstone " + id + " should be purged", weightEntryDAO.getWeightEntryById(id));
+        }
+    }
+
+    @Test
+    public void test_run_budgetExhausted_purgesOneChunkAndReportsPartial() {
+        // ARRANGE - zero budget allows exactly one chunk
+        insertDeletedEntries(25, null);
+
+        // ACT
+        MaintenancePipeline.TaskReport first = runTask(new SoftDeletePurgeTask(30, 10, 0));
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.PARTIAL, first.getStatus());
+        assertEquals(Long.valueOf(10), first.getMetrics().get(SoftDeletePurgeTask.METRIC_ROWS_PURGED));
+
+        // ACT - next run continues where the previous one stopped
+        MaintenancePipeline.TaskReport second = runTask(new SoftDeletePurgeTask(30, 10, 0));
+
+        // ASSERT
+        assertEquals(Long.valueOf(10), second.getMetrics().get(SoftDeletePurgeTask.METRIC_ROWS_PURGED));
+    }
+
+    @Test
+    public void test_run_largePurge_reclaimsBytesAndLeavesIncrementalAutoVacuum() {
+        // ARRANGE - ~2 MB of tombstones
+        String padding = new String(new char[1024]).replace('\0', 'x');
+        insertDeletedEntries(2000, padding);
+
+        // ACT
+        MaintenancePipeline.TaskReport report = runTask(new SoftDeletePurgeTask());
+
+        // ASSERT
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        assertEquals(MaintenancePipeline.Status.COMPLETED, report.getStatus());
+        assertTrue("Should report reclaimed bytes",
+                report.getMetrics().get(SoftDeletePurgeTask.METRIC_BYTES_RECLAIMED) > 0);
+        assertEquals("Freelist should be empty after vacuum",
+                0, MaintenanceSession.queryPragma(db, "freelist_count"));
+        assertEquals("auto_vacuum should be INCREMENTAL",
+                2, MaintenanceSession.queryPragma(db, "auto_vacuum"));
+    }
+
+    @Test
+    public void test_run_preV3Database_convertsToIncrementalAutoVacuum() {
+        // ARRANGE - a database created before auto_vacuum was enabled
+        insertDeletedEntries(10, null);
+        disableAutoVacuum();
+
+        // ACT
+        MaintenancePipeline.TaskReport report = runTask(new SoftDeletePurgeTask());
+
+        // ASSERT
+        assertEquals(MaintenancePipeline.Status.COMPLETED, report.getStatus());
+        assertEquals("auto_vacuum should be INCREMENTAL",
+                2, MaintenanceSession.queryPragma(dbHelper.getWritableDatabase(), "auto_vacuum"));
+    }
+
+    @Test
+    public void test_run_conversionExceedsBudget_skipsVacuumAndReportsPartial() {
+        // ARRANGE - ~1 MB database (~250 ms estimated VACUUM) and a 50 ms budget
+        String padding = new String(new char[1024]).replace('\0', 'x');
+        for (int i = 0; i < 1000; i++) {
+            insertEntry(i, padding);
+        }
+        disableAutoVacuum();
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        long databaseBytes = MaintenanceSession.queryPragma(db, "page_count")
+                * MaintenanceSession.queryPragma(db, "page_size");
+        assertTrue(databaseBytes / SoftDeletePurgeTask.VACUUM_BYTES_PER_MS > 50);
+
+        // ACT
+        MaintenancePipeline.TaskReport report = runTask(new SoftDeletePurgeTask(30, 500, 50));
+
+        // ASSERT - left for the next window
+        assertEquals(MaintenancePipeline.Status.PARTIAL, report.getStatus());
+        assertEquals("auto_vacuum should be unchanged",
+                0, MaintenanceSession.queryPragma(db, "auto_vacuum"));
+    }
+
+    // =============================================================================================
+    // HELPERS
+    // =============================================================================================
+
+    private MaintenancePipeline.TaskReport runTask(SoftDeletePurgeTask task) {
+        return new MaintenancePipeline().addTask(task)
+                .run(dbHelper, checkpointStore, () -> false).get(0);
+    }
+
+    private long insertEntry(int daysAgo, String notes) {
+        WeightEntry entry = new WeightEntry();
+        entry.setUserId(testUserId);
+        entry.setWeightValue(170.0 + daysAgo % 10);
+        entry.setWeightUnit("lbs");
+        entry.setWeightDate(LocalDate.now().minusDays(daysAgo));
+        entry.setNotes(notes);
+        entry.setCreatedAt(LocalDateTime.now());
+        entry.setUpdatedAt(LocalDateTime.now());
+        entry.setDeleted(false);
+        long id = weightEntryDAO.insertWeightEntry(entry);
+        assertTrue("Entry should be inserted", id > 0);
+        return id;
+    }
+
+    private List<Long> insertDeletedEntries(int count, String notes) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long id = insertEntry(i, notes);
+            weightEntryDAO.deleteWeightEntry(id);
+            backdateDeletion(id, 60);
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private void disableAutoVacuum() {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        db.execSQL("PRAGMA auto_vacuum = NONE");
+        db.execSQL("VACUUM");
+        assertEquals(0, MaintenanceSession.queryPragma(db, "auto_vacuum"));
+    }
+
+    private void backdateDeletion(long weightId, int daysAgo) {
+        dbHelper.getWritableDatabase().execSQL(
+                "UPDATE daily_weights SET updated_at = ? WHERE weight_id = ?",
+                new Object[]{
+                        LocalDateTime.now().minusDays(daysAgo).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                        weightId
+                });
+    }
+}
@@ -0,0 +1,110 @@
+#!/usr/bin/env python3
+"""
+Compare two JMH JSON result files (e.g. from two commits) and flag regressions.
+
+Usage:
+    # On the base commit
+    ./gradlew :benchmark:jmh && cp benchmark/build/results/jmh/results.json /tmp/base.json
+
+    # On the change under test
+    ./gradlew :benchmark:jmh
+    python3 ../scripts/compare_jmh_results.py /tmp/base.json benchmark/build/results/jmh/results.json
+
+Arguments:
+    base                Baseline results.json
+    head                Results to compare against the baseline
+    --threshold NUM     Percent slowdown (or allocation growth) counted as a regression (default: 10)
+
+Exit status is 1 if any benchmark regressed beyond the threshold, so this can gate CI.
+"""
+
+import argparse
+import json
+import sys
+
+ALLOC_METRIC = 'gc.alloc.rate.norm'
+
+
+def load_results(path):
+    """
+    Load a JMH JSON file into {key: result}, keyed by benchmark name and parameters.
+    """
+    with open(path) as f:
+        runs = json.load(f)
+
+    results = {}
+    for run in runs:
+        params = run.get('params') or {}
+        key = run['benchmark'].split('.', 4)[-1]
+        if params:
+            key += ' [' + ', '.join(f'{k}={v}' for k, v in sorted(params.items())) + ']'
+        metric = run['primaryMetric']
+        alloc = (run.get('secondaryMetrics') or {}).get(ALLOC_METRIC)
+        results[key] = {
+            'mode': run['mode'],
+            'score': metric['score'],
+            'unit': metric['scoreUnit'],
+            'alloc': alloc['score'] if alloc else None,
+        }
+    return results
+
+
+def percent_change(base, head):
+    if base == 0:
+        return 0.0 if head == 0 else float('inf')
+    return (head - base) / base * 100.0
+
+
+def compare(base, head, threshold):
+    """
+    Print a comparison table and return the number of regressions.
+    """
+    regressions = 0
+    print(f'{"Benchmark":<70} {"Base":>12} {"Head":>12} {"Change":>9}  Alloc B/op')
+
+    for key in sorted(set(base) | set(head)):
+        if key not in base or key not in head:
+            print(f'{key:<70} {"(only in " + ("base" if key in base else "head") + ")":>36}')
+            continue
+
+        b, h = base[key], head[key]
+        change = percent_change(b['score'], h['score'])
+        # Throughput: higher is better, so a drop is a slowdown
+        slowdown = -change if b['mode'] == 'thrpt' else change
+
+        alloc_text = ''
+        alloc_regressed = False
+        if b['alloc'] is not None and h['alloc'] is not None:
+            alloc_text = f'{b["alloc"]:.0f} -> {h["alloc"]:.0f}'
+            # Ignore sub-byte noise on allocation-free benchmarks
+            alloc_regressed = h['alloc'] - b['alloc'] >= 1 and percent_change(b['alloc'], h['alloc']) > threshold
+
+        flag = ''
+        if slowdown > threshold or alloc_regressed:
+            flag = '  REGRESSION'
+            regressions += 1
+
+        print(f'{key:<70} {b["score"]:>12.3f} {h["score"]:>12.3f} {change:>+8.1f}%  {alloc_text}{flag}')
+
+    return regressions
+
+
+def main():
+    parser = argparse.ArgumentParser(
+        description='Compare two JMH JSON result files and flag regressions',
+        formatter_class=argparse.RawDescriptionHelpFormatter,
+    )
+    parser.add_argument('base', help='Baseline results.json')
+    parser.add_argument('head', help='Results to compare against the baseline')
+    parser.add_argument('--threshold', type=float, default=10.0,
+                        help='Percent slowdown counted as a regression (default: 10)')
+    args = parser.parse_args()
+
+    regressions = compare(load_results(args.base), load_results(args.head), args.threshold)
+    print()
+    print(f'{regressions} regression(s) beyond {args.threshold:g}%')
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())